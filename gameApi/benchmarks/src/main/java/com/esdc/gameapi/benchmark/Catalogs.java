@@ -0,0 +1,93 @@
+package com.esdc.gameapi.benchmark;
+
+import com.esdc.gameapi.domain.AchievementConditionType;
+import com.esdc.gameapi.domain.entity.Level;
+import com.esdc.gameapi.domain.entity.Progress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic generators of realistic achievement catalogs and progress histories.
+ *
+ * <p>Fixed seeds keep inputs identical between runs, so results stay comparable.
+ */
+public final class Catalogs {
+
+  private static final long SEED = 20_240_601L;
+  private static final int MAX_STARS_ON_LEVEL = 3;
+  private static final int MAX_ENEMIES = 60;
+  private static final int MAX_PUZZLES = 12;
+  private static final int MAX_LEVEL_SECONDS = 900;
+  private static final int SECONDS_PER_MINUTE = 60;
+  private static final int SECONDS_PER_HOUR = 3600;
+
+  private Catalogs() {
+  }
+
+  /**
+   * Achievement descriptions covering every condition type in equal shares.
+   */
+  public static List<String> achievementDescriptions(int size) {
+    Random random = new Random(SEED);
+    AchievementConditionType[] types = AchievementConditionType.values();
+    List<String> descriptions = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      AchievementConditionType type = types[i % types.length];
+      String description = type == AchievementConditionType.DEFEAT_BOSS
+          ? type.getPattern()
+          : String.format(type.getPattern(), 1 + random.nextInt(500));
+      // Catalogs are authored by hand, so capitalisation varies
+      descriptions.add(i % 2 == 0 ? capitalize(description) : description);
+    }
+    return descriptions;
+  }
+
+  /**
+   * Levels with one to three stars each.
+   */
+  public static List<Level> levels(int count) {
+    Random random = new Random(SEED);
+    List<Level> levels = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      levels.add(Level.builder()
+          .id((long) i + 1)
+          .levelName("Level " + (i + 1))
+          .starsOnLevel(1 + random.nextInt(MAX_STARS_ON_LEVEL))
+          .bossOnLevel(i % 10 == 9)
+          .build());
+    }
+    return levels;
+  }
+
+  /**
+   * Progress rows of one player spread over the given levels, with repeated attempts.
+   */
+  public static List<Progress> progress(int rows, List<Level> levels) {
+    Random random = new Random(SEED);
+    List<Progress> progress = new ArrayList<>(rows);
+    for (int i = 0; i < rows; i++) {
+      Level level = levels.get(random.nextInt(levels.size()));
+      Progress attempt = new Progress();
+      attempt.setLevel(level);
+      attempt.setKilledEnemiesNumber(random.nextInt(MAX_ENEMIES));
+      attempt.setSolvedPuzzlesNumber(random.nextInt(MAX_PUZZLES));
+      attempt.setTimeSpent(formatSeconds(1 + random.nextInt(MAX_LEVEL_SECONDS)));
+      attempt.setStars(random.nextInt(level.getStarsOnLevel() + 1));
+      progress.add(attempt);
+    }
+    return progress;
+  }
+
+  /**
+   * Formats seconds as {@code HH:MM:SS}.
+   */
+  public static String formatSeconds(int totalSeconds) {
+    return String.format("%02d:%02d:%02d", totalSeconds / SECONDS_PER_HOUR,
+        totalSeconds % SECONDS_PER_HOUR / SECONDS_PER_MINUTE, totalSeconds % SECONDS_PER_MINUTE);
+  }
+
+  private static String capitalize(String text) {
+    return Character.toUpperCase(text.charAt(0)) + text.substring(1);
+  }
+}
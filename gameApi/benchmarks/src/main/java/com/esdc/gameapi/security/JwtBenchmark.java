@@ -0,0 +1,67 @@
+package com.esdc.gameapi.security;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Token generation on login and validation on every authenticated request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+  private static final String SECRET = "benchmarkSecretKeyThatIsLongEnoughForHmacSha256Signing";
+  private static final long EXPIRATION_MILLIS = 3_600_000L;
+  private static final String NICKNAME = "speedrunner";
+  private static final Long USER_ID = 42L;
+
+  private JwtUtil jwtUtil;
+  private String token;
+
+  /**
+   * Configures the utility as Spring would inject it and issues one token.
+   */
+  @Setup
+  public void setUp() throws ReflectiveOperationException {
+    jwtUtil = new JwtUtil();
+    inject("secret", SECRET);
+    inject("expiration", EXPIRATION_MILLIS);
+    token = jwtUtil.generateToken(NICKNAME, USER_ID);
+  }
+
+  /**
+   * Issues token as on login.
+   */
+  @Benchmark
+  public String generateToken() {
+    return jwtUtil.generateToken(NICKNAME, USER_ID);
+  }
+
+  /**
+   * Validates token as the authentication filter does.
+   */
+  @Benchmark
+  public Boolean validateToken() {
+    return jwtUtil.validateToken(token, NICKNAME);
+  }
+
+  private void inject(String fieldName, Object value) throws ReflectiveOperationException {
+    Field field = JwtUtil.class.getDeclaredField(fieldName);
+    field.setAccessible(true);
+    field.set(jwtUtil, value);
+  }
+}
@@ -0,0 +1,112 @@
+package com.esdc.gameapi.service;
+
+import com.esdc.gameapi.benchmark.Catalogs;
+import com.esdc.gameapi.domain.AchievementConditionType;
+import com.esdc.gameapi.domain.entity.Progress;
+import com.esdc.gameapi.domain.entity.UserStatistics;
+import com.esdc.gameapi.util.AchievementConditionParser;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Parsing and evaluating achievement conditions of a whole catalog, as done for every saved
+ * progress.
+ *
+ * <p>Boss conditions are parsed but not evaluated, since evaluating them loads the level.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AchievementConditionBenchmark {
+
+  @Param({"10", "100", "1000", "10000"})
+  private int catalogSize;
+
+  private List<String> descriptions;
+  private List<AchievementConditionParser> conditions;
+  private AchievementService achievementService;
+  private UserStatistics statistics;
+  private Progress progress;
+
+  /**
+   * Generates catalog and the player state it is evaluated against.
+   */
+  @Setup
+  public void setUp() {
+    descriptions = Catalogs.achievementDescriptions(catalogSize);
+    conditions = descriptions.stream()
+        .map(AchievementConditionParser::parse)
+        .filter(Objects::nonNull)
+        .filter(condition -> condition.getType() != AchievementConditionType.DEFEAT_BOSS)
+        .toList();
+    achievementService = new AchievementService(null, null, null, null, null, null);
+    statistics = UserStatistics.builder()
+        .totalStars(140)
+        .totalLevelsCompleted(48)
+        .totalKilledEnemies(2_300)
+        .totalSolvedPuzzles(410)
+        .totalTimePlayed("12:41:07")
+        .build();
+    progress = new Progress();
+    progress.setKilledEnemiesNumber(37);
+    progress.setSolvedPuzzlesNumber(6);
+    progress.setTimeSpent("00:04:12");
+    progress.setStars(2);
+  }
+
+  /**
+   * Parses every description of the catalog.
+   */
+  @Benchmark
+  public void parseCatalog(Blackhole blackhole) {
+    for (String description : descriptions) {
+      blackhole.consume(AchievementConditionParser.parse(description));
+    }
+  }
+
+  /**
+   * Evaluates every parsed condition of the catalog.
+   */
+  @Benchmark
+  public int checkCatalog() {
+    int met = 0;
+    for (AchievementConditionParser condition : conditions) {
+      if (achievementService.checkCondition(condition, statistics, progress, 5L)) {
+        met++;
+      }
+    }
+    return met;
+  }
+
+  /**
+   * Converts played time to minutes, as for total time conditions.
+   */
+  @Benchmark
+  public int convertTimeToMinutes() {
+    return achievementService.convertTimeToMinutes(statistics.getTotalTimePlayed());
+  }
+
+  /**
+   * Converts attempt time to seconds, as for level time conditions.
+   */
+  @Benchmark
+  public int convertTimeToSeconds() {
+    return achievementService.convertTimeToSeconds(progress.getTimeSpent());
+  }
+}
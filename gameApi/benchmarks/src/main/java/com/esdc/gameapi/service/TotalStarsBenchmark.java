@@ -0,0 +1,64 @@
+package com.esdc.gameapi.service;
+
+import com.esdc.gameapi.benchmark.Catalogs;
+import com.esdc.gameapi.domain.entity.Level;
+import com.esdc.gameapi.domain.entity.Progress;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Total stars of a player computed from the full progress history, as done on every
+ * statistics recalculation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TotalStarsBenchmark {
+
+  private static final Long USER_ID = 1L;
+
+  @Param({"100", "1000", "10000", "100000"})
+  private int progressRows;
+
+  @Param({"50"})
+  private int levelCount;
+
+  private List<Progress> progress;
+  private UserStatisticsService userStatisticsService;
+
+  /**
+   * Generates progress history.
+   */
+  @Setup
+  public void setUp() {
+    List<Level> levels = Catalogs.levels(levelCount);
+    progress = Catalogs.progress(progressRows, levels);
+    PipelineMetrics pipelineMetrics = new PipelineMetrics(levelCount);
+    pipelineMetrics.bindTo(new SimpleMeterRegistry());
+    userStatisticsService = new UserStatisticsService(null, null, null, null, null, null,
+        pipelineMetrics);
+  }
+
+  /**
+   * Sums the best capped stars per level.
+   */
+  @Benchmark
+  public int calculateTotalStars() {
+    return userStatisticsService.calculateTotalStars(USER_ID, progress);
+  }
+}
@@ -0,0 +1,99 @@
+package com.esdc.gameapi.util;
+
+import com.esdc.gameapi.benchmark.Catalogs;
+import com.esdc.gameapi.domain.dto.AchievementDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.CollectionType;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Serialization and parsing cost of the achievement catalog in each negotiated wire format.
+ *
+ * <p>Payload sizes are printed once per trial, since JMH only reports time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WireFormatBenchmark {
+
+  /**
+   * Negotiable formats.
+   */
+  public enum Format {
+    JSON,
+    CBOR,
+    SMILE
+  }
+
+  @Param({"JSON", "CBOR", "SMILE"})
+  private Format format;
+
+  @Param({"100", "10000"})
+  private int catalogSize;
+
+  private ObjectMapper mapper;
+  private CollectionType catalogType;
+  private List<AchievementDto> catalog;
+  private byte[] encoded;
+
+  /**
+   * Generates catalog and its encoding in the format under test.
+   */
+  @Setup
+  public void setUp() throws JsonProcessingException {
+    mapper = switch (format) {
+      case JSON -> new ObjectMapper();
+      case CBOR -> new ObjectMapper(new CBORFactory());
+      case SMILE -> new ObjectMapper(new SmileFactory());
+    };
+    catalogType = mapper.getTypeFactory().constructCollectionType(List.class,
+        AchievementDto.class);
+    List<String> descriptions = Catalogs.achievementDescriptions(catalogSize);
+    catalog = new ArrayList<>(catalogSize);
+    for (int i = 0; i < catalogSize; i++) {
+      catalog.add(AchievementDto.builder()
+          .id((long) i + 1)
+          .achievementName("Achievement " + (i + 1))
+          .achievementDescription(descriptions.get(i))
+          .build());
+    }
+    encoded = mapper.writeValueAsBytes(catalog);
+    System.out.printf("%n%s catalog of %d: %d bytes%n", format, catalogSize, encoded.length);
+  }
+
+  /**
+   * Renders catalog as the catalog cache does.
+   */
+  @Benchmark
+  public byte[] serialize() throws JsonProcessingException {
+    return mapper.writeValueAsBytes(catalog);
+  }
+
+  /**
+   * Parses catalog as a client would.
+   */
+  @Benchmark
+  public List<AchievementDto> deserialize() throws IOException {
+    return mapper.readValue(encoded, catalogType);
+  }
+}
@@ -0,0 +1,72 @@
+package com.esdc.gameapi.loadtest;
+
+import com.esdc.gameapi.BackendApplication;
+import java.net.URI;
+import java.util.Map;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * The application started in-process on a random port and an in-memory H2 database.
+ *
+ * <p>H2 runs in PostgreSQL mode, as in the integration tests, so the real schema and queries
+ * are exercised without a database server. Absolute numbers are therefore only comparable
+ * between runs of this harness, not with a deployment on PostgreSQL.
+ */
+public final class EmbeddedApplication implements AutoCloseable {
+
+  private static final String JWT_SECRET =
+      "loadTestSecretKeyThatIsOnlyUsedInProcessAndIsLongerThan256Bits";
+
+  private final ConfigurableApplicationContext context;
+  private final URI baseUri;
+
+  private EmbeddedApplication(ConfigurableApplicationContext context) {
+    this.context = context;
+    this.baseUri = URI.create("http://localhost:"
+        + context.getEnvironment().getProperty("local.server.port") + "/");
+  }
+
+  /**
+   * Starts the application and waits until it accepts requests.
+   */
+  public static EmbeddedApplication start(String adminPassword) {
+    Map<String, String> properties = Map.ofEntries(
+        Map.entry("server.port", "0"),
+        Map.entry("spring.datasource.url",
+            "jdbc:h2:mem:loadtest;MODE=PostgreSQL;DB_CLOSE_DELAY=-1"),
+        Map.entry("spring.datasource.driver-class-name", "org.h2.Driver"),
+        Map.entry("spring.datasource.username", "sa"),
+        Map.entry("spring.datasource.password", ""),
+        Map.entry("spring.jpa.properties.hibernate.dialect",
+            "org.hibernate.dialect.H2Dialect"),
+        Map.entry("spring.jpa.hibernate.ddl-auto", "create-drop"),
+        Map.entry("jwt.secret", JWT_SECRET),
+        Map.entry("jwt.expiration", "3600000"),
+        Map.entry("admin.password", adminPassword),
+        Map.entry("logging.file.name", ""),
+        Map.entry("logging.level.com.esdc.gameapi", "WARN"),
+        Map.entry("logging.level.com.esdc.gameapi.loadtest", "INFO"),
+        Map.entry("logging.level.org.hibernate.SQL", "WARN"),
+        Map.entry("logging.level.org.hibernate.type.descriptor.sql.BasicBinder", "WARN"));
+    // Passed as command line arguments, which take precedence over application.properties
+    String[] args = properties.entrySet().stream()
+        .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+        .toArray(String[]::new);
+    ConfigurableApplicationContext context = new SpringApplicationBuilder(BackendApplication.class)
+        .run(args);
+    return new EmbeddedApplication(context);
+  }
+
+  /**
+   * Base URL of the running application.
+   */
+  public URI baseUri() {
+    return baseUri;
+  }
+
+  @Override
+  public void close() {
+    context.close();
+  }
+}
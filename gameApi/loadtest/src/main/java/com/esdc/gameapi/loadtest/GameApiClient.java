@@ -0,0 +1,219 @@
+package com.esdc.gameapi.loadtest;
+
+import com.esdc.gameapi.domain.dto.AchievementDto;
+import com.esdc.gameapi.domain.dto.AuthResponse;
+import com.esdc.gameapi.domain.dto.LevelDto;
+import com.esdc.gameapi.domain.dto.ProgressDto;
+import com.esdc.gameapi.domain.dto.UserLoginDto;
+import com.esdc.gameapi.domain.dto.UserRegistrationDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Blocking client for the endpoints exercised by the load test.
+ *
+ * <p>Every call is timed and recorded under its path template. A response with an unexpected
+ * status ends the session with {@link UnexpectedResponseException}, after it is recorded.
+ */
+public class GameApiClient {
+
+  private static final String JSON = "application/json";
+  private static final String ADMIN_PASSWORD_HEADER = "Admin-Password";
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+  private static final TypeReference<List<LevelDto>> LEVEL_LIST = new TypeReference<>() {
+  };
+
+  private final URI baseUri;
+  private final HttpClient http;
+  private final ObjectMapper mapper;
+  private final LatencyRecorder recorder;
+
+  /**
+   * Creates client for the server at the base URI.
+   */
+  public GameApiClient(URI baseUri, HttpClient http, LatencyRecorder recorder) {
+    this.baseUri = baseUri;
+    this.http = http;
+    this.recorder = recorder;
+    this.mapper = new ObjectMapper()
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+  }
+
+  /**
+   * Registers new player.
+   */
+  public AuthResponse register(String nickname, String password, int age) {
+    UserRegistrationDto body = UserRegistrationDto.builder()
+        .nickname(nickname).password(password).age(age).build();
+    return read(send("POST /api/users/register", post("/api/users/register", body), 201),
+        AuthResponse.class);
+  }
+
+  /**
+   * Logs existing player in.
+   */
+  public AuthResponse login(String nickname, String password) {
+    UserLoginDto body = UserLoginDto.builder().nickname(nickname).password(password).build();
+    return read(send("POST /api/users/login", post("/api/users/login", body), 200),
+        AuthResponse.class);
+  }
+
+  /**
+   * Lists levels.
+   */
+  public List<LevelDto> levels(String token) {
+    HttpResponse<byte[]> response = send("GET /api/levels", get("/api/levels", token), 200);
+    try {
+      return mapper.readValue(response.body(), LEVEL_LIST);
+    } catch (IOException e) {
+      throw new UnexpectedResponseException("Unreadable level list: " + e.getMessage());
+    }
+  }
+
+  /**
+   * Submits level result.
+   */
+  public void submitProgress(String token, Long userId, ProgressDto progress) {
+    send("POST /api/progress", postBuilder("/api/progress?userId=" + userId, progress)
+        .header("Authorization", "Bearer " + token).build(), 201);
+  }
+
+  /**
+   * Reads player statistics.
+   */
+  public void statistics(String token, Long userId) {
+    send("GET /api/statistics/{userId}", get("/api/statistics/" + userId, token), 200);
+  }
+
+  /**
+   * Reads unlocked achievements of the player.
+   */
+  public void achievements(String token, Long userId) {
+    send("GET /api/achievements/user/{userId}",
+        get("/api/achievements/user/" + userId, token), 200);
+  }
+
+  /**
+   * Reads boot snapshot of the player.
+   */
+  public void snapshot(String token, Long userId) {
+    send("GET /api/players/{userId}/snapshot",
+        get("/api/players/" + userId + "/snapshot", token), 200);
+  }
+
+  /**
+   * Reads stars leaderboard.
+   */
+  public void leaderboard(String token) {
+    send("GET /api/leaderboard/stars", get("/api/leaderboard/stars", token), 200);
+  }
+
+  /**
+   * Creates level; not recorded, used for seeding only.
+   */
+  public LevelDto createLevel(String adminPassword, LevelDto level) {
+    return read(sendUnrecorded(postBuilder("/api/levels/create", level)
+        .header(ADMIN_PASSWORD_HEADER, adminPassword).build(), 201), LevelDto.class);
+  }
+
+  /**
+   * Creates achievement; not recorded, used for seeding only.
+   */
+  public void createAchievement(String adminPassword, AchievementDto achievement) {
+    sendUnrecorded(postBuilder("/api/achievements/create", achievement)
+        .header(ADMIN_PASSWORD_HEADER, adminPassword).build(), 201);
+  }
+
+  private HttpRequest get(String path, String token) {
+    return HttpRequest.newBuilder(baseUri.resolve(path))
+        .timeout(REQUEST_TIMEOUT)
+        .header("Accept", JSON)
+        .header("Authorization", "Bearer " + token)
+        .GET()
+        .build();
+  }
+
+  private HttpRequest post(String path, Object body) {
+    return postBuilder(path, body).build();
+  }
+
+  private HttpRequest.Builder postBuilder(String path, Object body) {
+    try {
+      return HttpRequest.newBuilder(baseUri.resolve(path))
+          .timeout(REQUEST_TIMEOUT)
+          .header("Accept", JSON)
+          .header("Content-Type", JSON)
+          .POST(HttpRequest.BodyPublishers.ofByteArray(mapper.writeValueAsBytes(body)));
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("Cannot serialize request body", e);
+    }
+  }
+
+  private HttpResponse<byte[]> send(String endpoint, HttpRequest request, int expectedStatus) {
+    long start = System.nanoTime();
+    HttpResponse<byte[]> response;
+    try {
+      response = http.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    } catch (IOException e) {
+      recorder.record(endpoint, System.nanoTime() - start, 0);
+      throw new UnexpectedResponseException(endpoint + " failed: " + e.getMessage());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new UnexpectedResponseException(endpoint + " interrupted");
+    }
+    recorder.record(endpoint, System.nanoTime() - start, response.statusCode());
+    return expect(endpoint, response, expectedStatus);
+  }
+
+  private HttpResponse<byte[]> sendUnrecorded(HttpRequest request, int expectedStatus) {
+    try {
+      return expect(request.uri().getPath(),
+          http.send(request, HttpResponse.BodyHandlers.ofByteArray()), expectedStatus);
+    } catch (IOException e) {
+      throw new UnexpectedResponseException(request.uri() + " failed: " + e.getMessage());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new UnexpectedResponseException(request.uri() + " interrupted");
+    }
+  }
+
+  private HttpResponse<byte[]> expect(String endpoint, HttpResponse<byte[]> response,
+                                      int expectedStatus) {
+    if (response.statusCode() != expectedStatus) {
+      throw new UnexpectedResponseException(String.format("%s returned %d: %s", endpoint,
+          response.statusCode(), new String(response.body())));
+    }
+    return response;
+  }
+
+  private <T> T read(HttpResponse<byte[]> response, Class<T> type) {
+    try {
+      return mapper.readValue(response.body(), type);
+    } catch (IOException e) {
+      throw new UnexpectedResponseException("Unreadable " + type.getSimpleName() + ": "
+          + e.getMessage());
+    }
+  }
+
+  /**
+   * Response that ends the session.
+   */
+  public static class UnexpectedResponseException extends RuntimeException {
+
+    /**
+     * Creates exception with custom message.
+     */
+    public UnexpectedResponseException(String message) {
+      super(message);
+    }
+  }
+}
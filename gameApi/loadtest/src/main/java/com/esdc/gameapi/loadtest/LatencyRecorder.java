@@ -0,0 +1,157 @@
+package com.esdc.gameapi.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records latency and outcome of every request, per endpoint.
+ *
+ * <p>Latencies are kept exactly rather than bucketed; a run of a few minutes produces at
+ * most a few million samples. Nothing is recorded until {@link #startMeasuring()}, so warmup
+ * traffic does not skew the report.
+ */
+public class LatencyRecorder {
+
+  private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+  private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+  private final Map<String, Samples> samplesByEndpoint = new ConcurrentHashMap<>();
+  private final AtomicLong droppedSessions = new AtomicLong();
+  private final AtomicLong failedSessions = new AtomicLong();
+  private volatile boolean measuring;
+  private volatile long measuringSince;
+  private volatile long measuringUntil;
+
+  /**
+   * Starts recording.
+   */
+  public void startMeasuring() {
+    measuringSince = System.nanoTime();
+    measuring = true;
+  }
+
+  /**
+   * Stops recording; requests still in flight when the measured period ends are not counted.
+   */
+  public void stopMeasuring() {
+    measuring = false;
+    measuringUntil = System.nanoTime();
+  }
+
+  /**
+   * Records request outcome.
+   *
+   * @param endpoint method and path template, e.g. {@code GET /api/statistics/{userId}}
+   * @param nanos time from sending the request to reading the whole response
+   * @param status HTTP status, or 0 if the request failed without a response
+   */
+  public void record(String endpoint, long nanos, int status) {
+    if (measuring) {
+      samplesByEndpoint.computeIfAbsent(endpoint, key -> new Samples()).add(nanos, status);
+    }
+  }
+
+  /**
+   * Counts session that could not start because too many were in flight.
+   */
+  public void sessionDropped() {
+    if (measuring) {
+      droppedSessions.incrementAndGet();
+    }
+  }
+
+  /**
+   * Counts session aborted by an unexpected response.
+   */
+  public void sessionFailed() {
+    if (measuring) {
+      failedSessions.incrementAndGet();
+    }
+  }
+
+  /**
+   * Summarizes the measured period.
+   */
+  public Report report() {
+    long until = measuring ? System.nanoTime() : measuringUntil;
+    double seconds = Duration.ofNanos(until - measuringSince).toMillis() / 1000.0;
+    List<EndpointReport> endpoints = new TreeMap<>(samplesByEndpoint).entrySet().stream()
+        .map(entry -> entry.getValue().summarize(entry.getKey(), seconds))
+        .toList();
+    return new Report(seconds, droppedSessions.get(), failedSessions.get(), endpoints);
+  }
+
+  /**
+   * Run summary.
+   *
+   * @param measuredSeconds length of the measured period
+   * @param droppedSessions arrivals rejected because too many sessions were in flight
+   * @param failedSessions sessions aborted by an unexpected response
+   * @param endpoints per-endpoint summaries, sorted by endpoint
+   */
+  public record Report(double measuredSeconds, long droppedSessions, long failedSessions,
+                       List<EndpointReport> endpoints) {
+  }
+
+  /**
+   * Endpoint summary; latencies in milliseconds.
+   *
+   * @param endpoint method and path template
+   * @param requests completed requests
+   * @param errors requests without a response or with status 400 or higher
+   * @param throughput completed requests per second
+   * @param statuses request count per HTTP status, 0 for no response
+   */
+  public record EndpointReport(String endpoint, long requests, long errors, double throughput,
+                               double p50, double p90, double p99, double p999, double max,
+                               Map<Integer, Long> statuses) {
+  }
+
+  private static final class Samples {
+
+    private final Map<Integer, Long> statuses = new TreeMap<>();
+    private long[] nanos = new long[1024];
+    private int size;
+    private long errors;
+
+    synchronized void add(long latency, int status) {
+      if (size == nanos.length) {
+        nanos = Arrays.copyOf(nanos, size * 2);
+      }
+      nanos[size++] = latency;
+      statuses.merge(status, 1L, Long::sum);
+      if (status == 0 || status >= 400) {
+        errors++;
+      }
+    }
+
+    synchronized EndpointReport summarize(String endpoint, double seconds) {
+      long[] sorted = Arrays.copyOf(nanos, size);
+      Arrays.sort(sorted);
+      double[] values = new double[PERCENTILES.length];
+      for (int i = 0; i < PERCENTILES.length; i++) {
+        values[i] = millis(percentile(sorted, PERCENTILES[i]));
+      }
+      return new EndpointReport(endpoint, size, errors, seconds > 0 ? size / seconds : 0,
+          values[0], values[1], values[2], values[3],
+          millis(size > 0 ? sorted[size - 1] : 0), new TreeMap<>(statuses));
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+      if (sorted.length == 0) {
+        return 0;
+      }
+      int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+      return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static double millis(long nanos) {
+      return nanos / NANOS_PER_MILLI;
+    }
+  }
+}
@@ -0,0 +1,266 @@
+package com.esdc.gameapi.loadtest;
+
+import com.esdc.gameapi.domain.AchievementConditionType;
+import com.esdc.gameapi.domain.dto.AchievementDto;
+import com.esdc.gameapi.domain.dto.AuthResponse;
+import com.esdc.gameapi.domain.dto.LevelDto;
+import com.esdc.gameapi.domain.dto.ProgressDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Replays client sessions against the HTTP API and reports latency per endpoint.
+ *
+ * <p>Sessions arrive as an open model: arrival times are drawn from a Poisson process at the
+ * configured rate, independent of how fast the server answers, so a slow server faces a
+ * growing backlog as real clients would cause, instead of the load easing off as it does with
+ * a fixed pool of looping clients. Each session runs on its own virtual thread.
+ */
+public final class LoadTest {
+
+  private static final Logger log = LoggerFactory.getLogger(LoadTest.class);
+
+  private static final String PASSWORD = "loadtest";
+  private static final int AGE = 18;
+  private static final int MAX_STARS_ON_LEVEL = 3;
+  private static final int MAX_ENEMIES = 60;
+  private static final int MAX_PUZZLES = 12;
+  private static final int MAX_LEVEL_SECONDS = 900;
+  private static final int SECONDS_PER_MINUTE = 60;
+  private static final int SECONDS_PER_HOUR = 3600;
+  private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+  private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  private final LoadTestOptions options;
+  private final GameApiClient client;
+  private final LatencyRecorder recorder;
+  private final AtomicLong nicknames = new AtomicLong();
+  private final List<Player> seedPlayers = new ArrayList<>();
+  private List<LevelDto> levels = List.of();
+
+  private LoadTest(LoadTestOptions options, GameApiClient client, LatencyRecorder recorder) {
+    this.options = options;
+    this.client = client;
+    this.recorder = recorder;
+  }
+
+  /**
+   * Runs the load test.
+   */
+  public static void main(String[] args) throws IOException, InterruptedException {
+    LoadTestOptions options = LoadTestOptions.parse(args);
+    EmbeddedApplication application = options.embedded()
+        ? EmbeddedApplication.start(options.adminPassword()) : null;
+    URI target = application != null ? application.baseUri() : options.target();
+
+    LatencyRecorder recorder = new LatencyRecorder();
+    try (ExecutorService sessions = Executors.newVirtualThreadPerTaskExecutor()) {
+      HttpClient http = HttpClient.newBuilder()
+          .version(HttpClient.Version.HTTP_1_1)
+          .connectTimeout(Duration.ofSeconds(5))
+          .executor(sessions)
+          .build();
+      LoadTest loadTest = new LoadTest(options, new GameApiClient(target, http, recorder),
+          recorder);
+      log.info("Seeding {} levels and {} players at {}", options.levels(),
+          options.seedPlayers(), target);
+      loadTest.seed();
+      log.info("Running {} sessions/s, mix {}: warmup {}, measuring {}", options.arrivalRate(),
+          options.mix(), options.warmup(), options.duration());
+      loadTest.run(sessions);
+    } finally {
+      if (application != null) {
+        application.close();
+      }
+    }
+
+    LatencyRecorder.Report report = recorder.report();
+    print(report);
+    new ObjectMapper()
+        .findAndRegisterModules()
+        .disable(SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS)
+        .writerWithDefaultPrettyPrinter()
+        .writeValue(options.report().toFile(), Map.of("options", options, "results", report));
+    log.info("Report written to {}", options.report().toAbsolutePath());
+  }
+
+  private void seed() {
+    Random random = new Random(options.seed());
+    List<LevelDto> created = new ArrayList<>(options.levels());
+    for (int i = 1; i <= options.levels(); i++) {
+      created.add(client.createLevel(options.adminPassword(), LevelDto.builder()
+          .levelName("Load level " + i)
+          .starsOnLevel(1 + random.nextInt(MAX_STARS_ON_LEVEL))
+          .bossOnLevel(i % 10 == 0)
+          .build()));
+    }
+    levels = List.copyOf(created);
+
+    for (AchievementConditionType type : AchievementConditionType.values()) {
+      String description = type == AchievementConditionType.DEFEAT_BOSS
+          ? type.getPattern() : String.format(type.getPattern(), 1 + random.nextInt(20));
+      client.createAchievement(options.adminPassword(), AchievementDto.builder()
+          .achievementName("Load " + type.name().toLowerCase())
+          .achievementDescription(description)
+          .build());
+    }
+
+    for (int i = 0; i < options.seedPlayers(); i++) {
+      String nickname = "seed-" + i + "-" + options.seed();
+      AuthResponse auth = client.register(nickname, PASSWORD, AGE);
+      Player player = new Player(nickname, auth.getUser().getId());
+      client.submitProgress(auth.getToken(), player.id(), progress(random));
+      seedPlayers.add(player);
+    }
+  }
+
+  private void run(ExecutorService sessions) throws InterruptedException {
+    Random arrivals = new Random(options.seed());
+    Semaphore inFlight = new Semaphore(options.maxSessions());
+    long start = System.nanoTime();
+    long measureFrom = start + options.warmup().toNanos();
+    long end = measureFrom + options.duration().toNanos();
+    double meanGapNanos = NANOS_PER_SECOND / options.arrivalRate();
+
+    long next = start;
+    boolean measuring = false;
+    while (next < end) {
+      LockSupport.parkNanos(next - System.nanoTime());
+      if (!measuring && next >= measureFrom) {
+        recorder.startMeasuring();
+        measuring = true;
+      }
+      if (inFlight.tryAcquire()) {
+        SessionType type = pick(arrivals);
+        Random random = new Random(arrivals.nextLong());
+        sessions.execute(() -> {
+          try {
+            runSession(type, random);
+          } finally {
+            inFlight.release();
+          }
+        });
+      } else {
+        recorder.sessionDropped();
+      }
+      // Exponential gaps between arrivals make a Poisson process
+      next += (long) (-Math.log(1 - arrivals.nextDouble()) * meanGapNanos);
+    }
+    LockSupport.parkNanos(end - System.nanoTime());
+    recorder.stopMeasuring();
+
+    log.info("Measured period over, waiting for {} sessions in flight",
+        options.maxSessions() - inFlight.availablePermits());
+    if (!inFlight.tryAcquire(options.maxSessions(), DRAIN_TIMEOUT.toSeconds(),
+        TimeUnit.SECONDS)) {
+      log.warn("Sessions still running after {}", DRAIN_TIMEOUT);
+    }
+  }
+
+  private SessionType pick(Random random) {
+    int total = options.mix().values().stream().mapToInt(Integer::intValue).sum();
+    int roll = random.nextInt(total);
+    for (Map.Entry<SessionType, Integer> weight : options.mix().entrySet()) {
+      roll -= weight.getValue();
+      if (roll < 0) {
+        return weight.getKey();
+      }
+    }
+    throw new IllegalStateException("Session mix is empty");
+  }
+
+  private void runSession(SessionType type, Random random) {
+    try {
+      switch (type) {
+        case NEW -> {
+          AuthResponse auth = client.register(
+              "player-" + nicknames.incrementAndGet() + "-" + options.seed(), PASSWORD, AGE);
+          play(auth.getToken(), auth.getUser().getId(), random);
+        }
+        case RETURNING -> {
+          Player player = seedPlayers.get(random.nextInt(seedPlayers.size()));
+          play(client.login(player.nickname(), PASSWORD).getToken(), player.id(), random);
+        }
+        case SPECTATOR -> {
+          Player viewer = seedPlayers.get(random.nextInt(seedPlayers.size()));
+          Player viewed = seedPlayers.get(random.nextInt(seedPlayers.size()));
+          String token = client.login(viewer.nickname(), PASSWORD).getToken();
+          think();
+          client.leaderboard(token);
+          think();
+          client.snapshot(token, viewed.id());
+          think();
+          client.statistics(token, viewed.id());
+          client.achievements(token, viewed.id());
+        }
+        default -> throw new IllegalStateException("Unknown session type: " + type);
+      }
+    } catch (GameApiClient.UnexpectedResponseException e) {
+      log.debug("{} session aborted: {}", type, e.getMessage());
+      recorder.sessionFailed();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void play(String token, Long userId, Random random) throws InterruptedException {
+    client.levels(token);
+    for (int i = 0; i < options.progressBurst(); i++) {
+      think();
+      client.submitProgress(token, userId, progress(random));
+    }
+    think();
+    client.statistics(token, userId);
+    client.achievements(token, userId);
+  }
+
+  private ProgressDto progress(Random random) {
+    LevelDto level = levels.get(random.nextInt(levels.size()));
+    int seconds = 1 + random.nextInt(MAX_LEVEL_SECONDS);
+    return ProgressDto.builder()
+        .levelId(level.getId())
+        .killedEnemiesNumber(random.nextInt(MAX_ENEMIES + 1))
+        .solvedPuzzlesNumber(random.nextInt(MAX_PUZZLES + 1))
+        .timeSpent(String.format("%02d:%02d:%02d", seconds / SECONDS_PER_HOUR,
+            seconds % SECONDS_PER_HOUR / SECONDS_PER_MINUTE, seconds % SECONDS_PER_MINUTE))
+        .stars(random.nextInt(level.getStarsOnLevel() + 1))
+        .build();
+  }
+
+  private void think() throws InterruptedException {
+    if (!options.thinkTime().isZero()) {
+      Thread.sleep(options.thinkTime());
+    }
+  }
+
+  private static void print(LatencyRecorder.Report report) {
+    System.out.printf("%nMeasured %.1f s, %d sessions dropped, %d sessions failed%n%n",
+        report.measuredSeconds(), report.droppedSessions(), report.failedSessions());
+    System.out.printf("%-36s %8s %7s %9s %9s %9s %9s %9s %9s%n", "endpoint", "requests",
+        "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+    for (LatencyRecorder.EndpointReport endpoint : report.endpoints()) {
+      System.out.printf("%-36s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+          endpoint.endpoint(), endpoint.requests(), endpoint.errors(), endpoint.throughput(),
+          endpoint.p50(), endpoint.p90(), endpoint.p99(), endpoint.p999(), endpoint.max());
+    }
+  }
+
+  private record Player(String nickname, Long id) {
+  }
+}
@@ -0,0 +1,107 @@
+package com.esdc.gameapi.loadtest;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Load test settings, parsed from {@code --name=value} arguments.
+ *
+ * @param target base URL of a running server, or null to start the application in-process
+ * @param arrivalRate new sessions per second, arriving as a Poisson process
+ * @param duration measured period
+ * @param warmup period before measuring, with the same arrival rate
+ * @param mix relative weights of session types
+ * @param progressBurst progress submissions per playing session
+ * @param thinkTime pause between requests of a session
+ * @param levels levels seeded before the run
+ * @param seedPlayers registered players available to returning and spectator sessions
+ * @param maxSessions sessions allowed in flight; arrivals beyond it are counted as dropped
+ * @param adminPassword admin password for seeding levels and achievements; kept out of the
+ *     report
+ * @param report JSON report file
+ * @param seed random seed, so session sequences are reproducible
+ */
+public record LoadTestOptions(
+    URI target,
+    double arrivalRate,
+    Duration duration,
+    Duration warmup,
+    Map<SessionType, Integer> mix,
+    int progressBurst,
+    Duration thinkTime,
+    int levels,
+    int seedPlayers,
+    int maxSessions,
+    @JsonIgnore String adminPassword,
+    Path report,
+    long seed) {
+
+  private static final String PREFIX = "--";
+  private static final String DEFAULT_MIX = "new=10,returning=60,spectator=30";
+  private static final String EMBEDDED_ADMIN_PASSWORD = "loadtestAdminPassword";
+
+  /**
+   * Parses arguments; unknown names are rejected so typos do not silently use defaults.
+   *
+   * @throws IllegalArgumentException if an argument is malformed or unknown
+   */
+  public static LoadTestOptions parse(String[] args) {
+    Map<String, String> values = new HashMap<>();
+    for (String arg : args) {
+      int separator = arg.indexOf('=');
+      if (!arg.startsWith(PREFIX) || separator < 0) {
+        throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+      }
+      values.put(arg.substring(PREFIX.length(), separator), arg.substring(separator + 1));
+    }
+
+    String target = values.remove("target");
+    LoadTestOptions options = new LoadTestOptions(
+        target != null ? URI.create(target) : null,
+        Double.parseDouble(take(values, "rate", "20")),
+        Duration.parse(take(values, "duration", "PT60S")),
+        Duration.parse(take(values, "warmup", "PT10S")),
+        parseMix(take(values, "mix", DEFAULT_MIX)),
+        Integer.parseInt(take(values, "burst", "5")),
+        Duration.parse(take(values, "think-time", "PT0.1S")),
+        Integer.parseInt(take(values, "levels", "20")),
+        Integer.parseInt(take(values, "seed-players", "50")),
+        Integer.parseInt(take(values, "max-sessions", "5000")),
+        take(values, "admin-password", EMBEDDED_ADMIN_PASSWORD),
+        Path.of(take(values, "report", "loadtest-report.json")),
+        Long.parseLong(take(values, "seed", "42")));
+    if (!values.isEmpty()) {
+      throw new IllegalArgumentException("Unknown options: " + values.keySet());
+    }
+    return options;
+  }
+
+  /**
+   * Whether the application is started in-process.
+   */
+  public boolean embedded() {
+    return target == null;
+  }
+
+  private static String take(Map<String, String> values, String name, String defaultValue) {
+    String value = values.remove(name);
+    return value != null ? value : defaultValue;
+  }
+
+  private static Map<SessionType, Integer> parseMix(String mix) {
+    Map<SessionType, Integer> weights = new EnumMap<>(SessionType.class);
+    for (String entry : mix.split(",")) {
+      String[] parts = entry.split("=");
+      if (parts.length != 2) {
+        throw new IllegalArgumentException("Expected type=weight in mix but got: " + entry);
+      }
+      weights.put(SessionType.fromName(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+    }
+    return weights;
+  }
+}
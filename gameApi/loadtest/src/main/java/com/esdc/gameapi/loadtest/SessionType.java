@@ -0,0 +1,34 @@
+package com.esdc.gameapi.loadtest;
+
+import java.util.Locale;
+
+/**
+ * Kind of simulated client session.
+ */
+public enum SessionType {
+
+  /**
+   * Registers, loads levels, submits a burst of progress, then reads statistics and
+   * achievements.
+   */
+  NEW,
+
+  /**
+   * Logs in as a seeded player and plays like a new one.
+   */
+  RETURNING,
+
+  /**
+   * Views another player's statistics, achievements and snapshot, and the leaderboard.
+   */
+  SPECTATOR;
+
+  /**
+   * Resolves type by its lower-case name.
+   *
+   * @throws IllegalArgumentException if there is no such type
+   */
+  public static SessionType fromName(String name) {
+    return valueOf(name.toUpperCase(Locale.ROOT));
+  }
+}
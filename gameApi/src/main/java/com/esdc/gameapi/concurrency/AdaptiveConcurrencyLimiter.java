@@ -0,0 +1,229 @@
+package com.esdc.gameapi.concurrency;
+
+import com.esdc.gameapi.config.DbAdmissionControl;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limit on requests handled at once that adapts to latency and database wait.
+ *
+ * <p>The limit is adjusted once per window, AIMD style. A window is congested when its average
+ * latency exceeds the baseline by more than the tolerance, when database callers of any pool
+ * waited over the threshold for a permit or gave up waiting, or when no request completed while the
+ * limit was fully in use, i.e. requests stall for longer than a window; the limit is then
+ * cut by the backoff
+ * factor. Otherwise it grows by its square root, as long as requests came close to it. The
+ * baseline is a moving average of window latencies that follows congested windows only
+ * slowly, so overload does not raise it but a lasting change of the workload eventually does.
+ *
+ * <p>Low and normal priority requests may only use their share of the limit, so they are
+ * rejected while high priority ones still get in. After a number of congested windows in a
+ * row the limiter is overloaded, until a window is not congested.
+ */
+public class AdaptiveConcurrencyLimiter implements MeterBinder {
+
+  private static final double BASELINE_SMOOTHING = 0.05;
+  private static final double CONGESTED_BASELINE_SMOOTHING = 0.005;
+
+  private final Settings settings;
+  private final List<DbAdmissionControl> dbAdmissions;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final AtomicInteger peakInFlight = new AtomicInteger();
+  private final LongAdder windowSamples = new LongAdder();
+  private final LongAdder windowLatencyNanos = new LongAdder();
+  private final LongAdder windowRejections = new LongAdder();
+  private final Map<Priority, LongAdder> rejections = new EnumMap<>(Priority.class);
+
+  private volatile double limit;
+  private volatile boolean overloaded;
+  private double baselineNanos;
+  private int congestedWindows;
+  private final DbAdmissionControl.WaitTotals[] lastDbWaits;
+
+  /**
+   * Creates limiter, also watching the given database admission controls.
+   *
+   * @param settings limits and thresholds
+   * @param dbAdmissions admission controls of the connection pools, empty when disabled
+   */
+  public AdaptiveConcurrencyLimiter(Settings settings, List<DbAdmissionControl> dbAdmissions) {
+    if (settings.minLimit() < 1 || settings.maxLimit() < settings.minLimit()) {
+      throw new IllegalArgumentException("Concurrency limits need 1 <= min <= max");
+    }
+    this.settings = settings;
+    this.dbAdmissions = List.copyOf(dbAdmissions);
+    this.limit = Math.clamp(settings.initialLimit(), settings.minLimit(), settings.maxLimit());
+    this.lastDbWaits = this.dbAdmissions.stream()
+        .map(DbAdmissionControl::waitTotals)
+        .toArray(DbAdmissionControl.WaitTotals[]::new);
+    for (Priority priority : Priority.values()) {
+      rejections.put(priority, new LongAdder());
+    }
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("concurrency.limit", this, AdaptiveConcurrencyLimiter::limit)
+        .description("Requests allowed to be handled at once")
+        .register(registry);
+    Gauge.builder("concurrency.in.flight", inFlight, AtomicInteger::get)
+        .description("Requests currently handled")
+        .register(registry);
+    Gauge.builder("concurrency.overloaded", this, limiter -> limiter.isOverloaded() ? 1 : 0)
+        .description("Whether the limiter is overloaded and readiness refuses traffic")
+        .register(registry);
+    rejections.forEach((priority, count) ->
+        FunctionCounter.builder("concurrency.rejected", count, LongAdder::sum)
+            .description("Requests rejected over the concurrency limit")
+            .tag("priority", priority.name().toLowerCase())
+            .register(registry));
+  }
+
+  /**
+   * Takes a slot for a request of the given priority.
+   *
+   * @return whether the request may proceed; if so, it must be released
+   */
+  public boolean tryAcquire(Priority priority) {
+    int allowed = allowed(priority);
+    int current;
+    do {
+      current = inFlight.get();
+      if (current >= allowed) {
+        rejections.get(priority).increment();
+        windowRejections.increment();
+        return false;
+      }
+    } while (!inFlight.compareAndSet(current, current + 1));
+    peakInFlight.accumulateAndGet(current + 1, Math::max);
+    return true;
+  }
+
+  /**
+   * Releases slot of a request whose latency is not representative, such as a stream.
+   */
+  public void release() {
+    inFlight.decrementAndGet();
+  }
+
+  /**
+   * Releases slot of a request that completed in the given time.
+   */
+  public void release(long latencyNanos) {
+    inFlight.decrementAndGet();
+    windowSamples.increment();
+    windowLatencyNanos.add(latencyNanos);
+  }
+
+  /**
+   * Ends the current window and adjusts the limit to it.
+   */
+  public synchronized void adjust() {
+    long samples = windowSamples.sumThenReset();
+    long latencyNanos = windowLatencyNanos.sumThenReset();
+    long rejected = windowRejections.sumThenReset();
+    int peak = peakInFlight.getAndSet(inFlight.get());
+
+    boolean congested = dbCongested();
+    if (samples > 0) {
+      congested |= latencyCongested((double) latencyNanos / samples, congested);
+    } else {
+      congested |= inFlight.get() >= limit();
+    }
+    double current = limit;
+    if (congested) {
+      congestedWindows++;
+      limit = Math.max(settings.minLimit(), current * settings.backoff());
+    } else {
+      congestedWindows = 0;
+      if (rejected > 0 || peak >= current / 2) {
+        limit = Math.min(settings.maxLimit(), current + Math.sqrt(current));
+      }
+    }
+    overloaded = congestedWindows >= settings.overloadWindows();
+  }
+
+  /**
+   * Current limit, rounded down.
+   */
+  public int limit() {
+    return (int) limit;
+  }
+
+  /**
+   * Requests currently handled.
+   */
+  public int inFlight() {
+    return inFlight.get();
+  }
+
+  /**
+   * Whether the last windows were all congested.
+   */
+  public boolean isOverloaded() {
+    return overloaded;
+  }
+
+  private int allowed(Priority priority) {
+    double share = switch (priority) {
+      case LOW -> settings.lowPriorityShare();
+      case NORMAL -> settings.normalPriorityShare();
+      case HIGH -> 1.0;
+    };
+    return Math.max(1, (int) (limit * share));
+  }
+
+  private boolean latencyCongested(double averageNanos, boolean dbCongested) {
+    double baseline = baselineNanos;
+    if (baseline == 0) {
+      baselineNanos = averageNanos;
+      return false;
+    }
+    boolean congested = averageNanos > baseline * settings.latencyTolerance();
+    double smoothing = congested || dbCongested
+        ? CONGESTED_BASELINE_SMOOTHING : BASELINE_SMOOTHING;
+    baselineNanos = baseline + (averageNanos - baseline) * smoothing;
+    return congested;
+  }
+
+  private boolean dbCongested() {
+    boolean congested = false;
+    for (int i = 0; i < lastDbWaits.length; i++) {
+      DbAdmissionControl.WaitTotals current = dbAdmissions.get(i).waitTotals();
+      DbAdmissionControl.WaitTotals previous = lastDbWaits[i];
+      lastDbWaits[i] = current;
+      long rejected = current.rejected() - previous.rejected();
+      long callers = current.admitted() - previous.admitted() + rejected;
+      long waitNanos = current.waitNanos() - previous.waitNanos();
+      congested |= rejected > 0
+          || callers > 0 && waitNanos / callers > settings.dbWaitThreshold().toNanos();
+    }
+    return congested;
+  }
+
+  /**
+   * Limits and thresholds of the limiter.
+   *
+   * @param initialLimit limit before the first adjustment
+   * @param minLimit lowest limit backoff goes to
+   * @param maxLimit highest limit growth goes to
+   * @param latencyTolerance ratio of window to baseline latency from which it is congested
+   * @param backoff factor the limit is multiplied with in a congested window
+   * @param dbWaitThreshold average database permit wait from which a window is congested
+   * @param overloadWindows congested windows in a row after which the limiter is overloaded
+   * @param lowPriorityShare share of the limit low priority requests may use
+   * @param normalPriorityShare share of the limit normal priority requests may use
+   */
+  public record Settings(int initialLimit, int minLimit, int maxLimit, double latencyTolerance,
+                         double backoff, Duration dbWaitThreshold, int overloadWindows,
+                         double lowPriorityShare, double normalPriorityShare) {
+  }
+}
@@ -0,0 +1,75 @@
+package com.esdc.gameapi.concurrency;
+
+import com.esdc.gameapi.exception.ServiceUnavailableException;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Admits controller requests through the {@link AdaptiveConcurrencyLimiter}.
+ *
+ * <p>Rejected requests fail with {@link ServiceUnavailableException} and a
+ * {@code Retry-After} header. Requests that continue asynchronously, such as event streams,
+ * give their slot back once the handler returns and are not counted as latency samples.
+ */
+public class ConcurrencyLimitInterceptor implements AsyncHandlerInterceptor {
+
+  private static final String START_ATTRIBUTE =
+      ConcurrencyLimitInterceptor.class.getName() + ".START";
+  private static final String RETRY_AFTER_SECONDS = "1";
+
+  private final AdaptiveConcurrencyLimiter limiter;
+
+  /**
+   * Creates interceptor admitting requests through the given limiter.
+   */
+  public ConcurrencyLimitInterceptor(AdaptiveConcurrencyLimiter limiter) {
+    this.limiter = limiter;
+  }
+
+  @Override
+  public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
+                           Object handler) {
+    if (!(handler instanceof HandlerMethod method)
+        || request.getDispatcherType() != DispatcherType.REQUEST) {
+      return true;
+    }
+    if (!limiter.tryAcquire(priorityOf(method))) {
+      response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+      throw new ServiceUnavailableException("Server is overloaded, please retry later");
+    }
+    request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+    return true;
+  }
+
+  @Override
+  public void afterConcurrentHandlingStarted(HttpServletRequest request,
+                                             HttpServletResponse response, Object handler) {
+    if (request.getAttribute(START_ATTRIBUTE) != null) {
+      request.removeAttribute(START_ATTRIBUTE);
+      limiter.release();
+    }
+  }
+
+  @Override
+  public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                              Object handler, Exception ex) {
+    if (request.getAttribute(START_ATTRIBUTE) instanceof Long start) {
+      request.removeAttribute(START_ATTRIBUTE);
+      limiter.release(System.nanoTime() - start);
+    }
+  }
+
+  static Priority priorityOf(HandlerMethod method) {
+    RequestPriority priority = method.getMethodAnnotation(RequestPriority.class);
+    if (priority == null) {
+      priority = AnnotatedElementUtils.findMergedAnnotation(method.getBeanType(),
+          RequestPriority.class);
+    }
+    return priority != null ? priority.value() : Priority.NORMAL;
+  }
+}
@@ -0,0 +1,66 @@
+package com.esdc.gameapi.concurrency;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Adjusts the limiter every window and refuses traffic on readiness while it is overloaded.
+ *
+ * <p>The readiness probe then reports {@code OUT_OF_SERVICE}, so the load balancer moves
+ * traffic elsewhere until the node recovers. Once anything else refuses traffic, such as a
+ * graceful shutdown, readiness is left alone.
+ */
+@Slf4j
+public class OverloadReadiness {
+
+  private final AdaptiveConcurrencyLimiter limiter;
+  private final ApplicationEventPublisher publisher;
+
+  private boolean refusing;
+  private boolean yielded;
+
+  /**
+   * Creates readiness publisher for the given limiter.
+   */
+  public OverloadReadiness(AdaptiveConcurrencyLimiter limiter,
+                           ApplicationEventPublisher publisher) {
+    this.limiter = limiter;
+    this.publisher = publisher;
+  }
+
+  /**
+   * Ends the limiter's window and updates readiness to its state.
+   */
+  @Scheduled(fixedDelayString = "${app.concurrency-limit.window:PT1S}")
+  public synchronized void adjust() {
+    limiter.adjust();
+    if (yielded || limiter.isOverloaded() == refusing) {
+      return;
+    }
+    refusing = limiter.isOverloaded();
+    if (refusing) {
+      log.warn("Overloaded at concurrency limit {} with {} requests in flight, refusing traffic",
+          limiter.limit(), limiter.inFlight());
+      AvailabilityChangeEvent.publish(publisher, this, ReadinessState.REFUSING_TRAFFIC);
+    } else {
+      log.info("Load back to normal at concurrency limit {}, accepting traffic",
+          limiter.limit());
+      AvailabilityChangeEvent.publish(publisher, this, ReadinessState.ACCEPTING_TRAFFIC);
+    }
+  }
+
+  /**
+   * Tracks readiness changes published by others.
+   */
+  @EventListener
+  public synchronized void onReadinessChanged(AvailabilityChangeEvent<ReadinessState> event) {
+    if (event.getSource() != this) {
+      refusing = false;
+      yielded = event.getState() == ReadinessState.REFUSING_TRAFFIC;
+    }
+  }
+}
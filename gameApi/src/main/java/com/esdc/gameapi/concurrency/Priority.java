@@ -0,0 +1,10 @@
+package com.esdc.gameapi.concurrency;
+
+/**
+ * Priority of a request under load; lower priorities are shed first.
+ */
+public enum Priority {
+  LOW,
+  NORMAL,
+  HIGH
+}
@@ -0,0 +1,26 @@
+package com.esdc.gameapi.concurrency;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Sets the priority of a controller's requests, or of a single handler method.
+ *
+ * <p>Requests without it have {@link Priority#NORMAL} priority. A method annotation takes
+ * precedence over the one on its controller.
+ *
+ * @see AdaptiveConcurrencyLimiter
+ */
+@Documented
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RequestPriority {
+
+  /**
+   * Priority of the annotated requests.
+   */
+  Priority value();
+}
@@ -0,0 +1,89 @@
+package com.esdc.gameapi.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Data source that takes a {@link DbAdmissionControl} permit for every open connection.
+ *
+ * <p>The permit is returned when the connection is closed, i.e. handed back to the pool.
+ * Closing the data source closes the target, so wrapped pools still shut down with the
+ * application context.
+ */
+public class AdmissionControlDataSource extends DelegatingDataSource implements AutoCloseable {
+
+  private static final String CLOSE_METHOD = "close";
+  private static final String EQUALS_METHOD = "equals";
+  private static final String HASH_CODE_METHOD = "hashCode";
+
+  private final DbAdmissionControl admissionControl;
+
+  /**
+   * Wraps target data source.
+   */
+  public AdmissionControlDataSource(DataSource targetDataSource,
+                                    DbAdmissionControl admissionControl) {
+    super(targetDataSource);
+    this.admissionControl = admissionControl;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    admissionControl.acquire();
+    try {
+      return admitted(obtainTargetDataSource().getConnection());
+    } catch (SQLException | RuntimeException e) {
+      admissionControl.release();
+      throw e;
+    }
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    admissionControl.acquire();
+    try {
+      return admitted(obtainTargetDataSource().getConnection(username, password));
+    } catch (SQLException | RuntimeException e) {
+      admissionControl.release();
+      throw e;
+    }
+  }
+
+  @Override
+  public void close() throws Exception {
+    if (obtainTargetDataSource() instanceof AutoCloseable closeable) {
+      closeable.close();
+    }
+  }
+
+  private Connection admitted(Connection target) {
+    AtomicBoolean released = new AtomicBoolean();
+    return (Connection) Proxy.newProxyInstance(
+        Connection.class.getClassLoader(),
+        new Class<?>[] {Connection.class},
+        (proxy, method, args) -> {
+          if (EQUALS_METHOD.equals(method.getName()) && method.getParameterCount() == 1) {
+            return proxy == args[0];
+          }
+          if (HASH_CODE_METHOD.equals(method.getName()) && method.getParameterCount() == 0) {
+            return System.identityHashCode(proxy);
+          }
+          boolean closing = CLOSE_METHOD.equals(method.getName())
+              && method.getParameterCount() == 0;
+          try {
+            return method.invoke(target, args);
+          } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+          } finally {
+            if (closing && released.compareAndSet(false, true)) {
+              admissionControl.release();
+            }
+          }
+        });
+  }
+}
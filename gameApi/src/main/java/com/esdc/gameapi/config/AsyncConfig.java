@@ -0,0 +1,68 @@
+package com.esdc.gameapi.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Configuration of thread pools used by background jobs and request fan-out.
+ */
+@Configuration
+public class AsyncConfig {
+
+  private static final int AWAIT_TERMINATION_SECONDS = 10;
+
+  /**
+   * Creates job driver, worker, snapshot reader and event dispatch pools.
+   *
+   * <p>The snapshot pool is fixed-size, so together player snapshots never hold more than
+   * {@code app.snapshot.parallelism} database connections; extra reads wait in its queue.
+   * The event pool drains per-subscriber buffers, at most one task per subscriber.
+   * With virtual threads enabled the pools keep their sizes and queues, so they still bound
+   * concurrency, but their workers no longer reserve platform thread stacks. Snapshot reads
+   * inherit the caller's {@link ReadRouting}.
+   */
+  @Bean
+  public AsyncExecutors asyncExecutors(
+      @Value("${app.jobs.max-concurrent-jobs:2}") int maxConcurrentJobs,
+      @Value("${app.jobs.parallelism:4}") int parallelism,
+      @Value("${app.snapshot.parallelism:4}") int snapshotParallelism,
+      @Value("${app.events.dispatch-threads:2}") int eventDispatchThreads,
+      @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+    return new AsyncExecutors(
+        createPool("job-", maxConcurrentJobs, virtualThreads),
+        createPool("job-worker-", parallelism, virtualThreads),
+        createPool("snapshot-", snapshotParallelism, virtualThreads, ReadRouting::propagate),
+        createPool("player-events-", eventDispatchThreads, virtualThreads));
+  }
+
+  /**
+   * Creates budget of database connections shared by all job workers.
+   */
+  @Bean
+  public DbConcurrencyBudget jobDbConcurrencyBudget(
+      @Value("${app.jobs.db-concurrency:3}") int dbConcurrency) {
+    return new DbConcurrencyBudget(dbConcurrency);
+  }
+
+  private ThreadPoolTaskExecutor createPool(String threadNamePrefix, int size,
+                                            boolean virtualThreads) {
+    return createPool(threadNamePrefix, size, virtualThreads, null);
+  }
+
+  private ThreadPoolTaskExecutor createPool(String threadNamePrefix, int size,
+                                            boolean virtualThreads, TaskDecorator taskDecorator) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setThreadNamePrefix(threadNamePrefix);
+    executor.setVirtualThreads(virtualThreads);
+    executor.setTaskDecorator(taskDecorator);
+    executor.setCorePoolSize(size);
+    executor.setMaxPoolSize(size);
+    executor.setWaitForTasksToCompleteOnShutdown(false);
+    executor.setAwaitTerminationSeconds(AWAIT_TERMINATION_SECONDS);
+    executor.initialize();
+    return executor;
+  }
+}
@@ -0,0 +1,66 @@
+package com.esdc.gameapi.config;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Holder for the application's internal thread pools.
+ *
+ * <p>The pools are deliberately not exposed as {@link java.util.concurrent.Executor} beans,
+ * so Spring Boot keeps auto-configuring its own {@code applicationTaskExecutor}.
+ */
+public class AsyncExecutors implements DisposableBean {
+
+  private final ThreadPoolTaskExecutor jobs;
+  private final ThreadPoolTaskExecutor workers;
+  private final ThreadPoolTaskExecutor snapshots;
+  private final ThreadPoolTaskExecutor events;
+
+  /**
+   * Creates holder for job driver, chunk worker, snapshot reader and event dispatch pools.
+   */
+  public AsyncExecutors(ThreadPoolTaskExecutor jobs, ThreadPoolTaskExecutor workers,
+                        ThreadPoolTaskExecutor snapshots, ThreadPoolTaskExecutor events) {
+    this.jobs = jobs;
+    this.workers = workers;
+    this.snapshots = snapshots;
+    this.events = events;
+  }
+
+  /**
+   * Executor running background job drivers, one thread per running job.
+   */
+  public TaskExecutor jobs() {
+    return jobs;
+  }
+
+  /**
+   * Executor running chunks of parallel job work.
+   */
+  public TaskExecutor workers() {
+    return workers;
+  }
+
+  /**
+   * Executor running the independent reads of a player snapshot.
+   */
+  public TaskExecutor snapshots() {
+    return snapshots;
+  }
+
+  /**
+   * Executor writing buffered player events to their streams.
+   */
+  public TaskExecutor events() {
+    return events;
+  }
+
+  @Override
+  public void destroy() {
+    jobs.shutdown();
+    workers.shutdown();
+    snapshots.shutdown();
+    events.shutdown();
+  }
+}
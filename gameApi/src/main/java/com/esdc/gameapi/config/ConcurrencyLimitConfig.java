@@ -0,0 +1,67 @@
+package com.esdc.gameapi.config;
+
+import com.esdc.gameapi.concurrency.AdaptiveConcurrencyLimiter;
+import com.esdc.gameapi.concurrency.ConcurrencyLimitInterceptor;
+import com.esdc.gameapi.concurrency.OverloadReadiness;
+import java.time.Duration;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Configuration of the adaptive concurrency limit in front of the API controllers.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.concurrency-limit.enabled", havingValue = "true",
+    matchIfMissing = true)
+public class ConcurrencyLimitConfig {
+
+  /**
+   * Creates limiter, watching admission control of each connection pool when it is enabled.
+   */
+  @Bean
+  public AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter(
+      @Value("${app.concurrency-limit.initial-limit:50}") int initialLimit,
+      @Value("${app.concurrency-limit.min-limit:10}") int minLimit,
+      @Value("${app.concurrency-limit.max-limit:200}") int maxLimit,
+      @Value("${app.concurrency-limit.latency-tolerance:2.0}") double latencyTolerance,
+      @Value("${app.concurrency-limit.backoff:0.9}") double backoff,
+      @Value("${app.concurrency-limit.db-wait-threshold:PT0.1S}") Duration dbWaitThreshold,
+      @Value("${app.concurrency-limit.overload-windows:5}") int overloadWindows,
+      @Value("${app.concurrency-limit.low-priority-share:0.5}") double lowPriorityShare,
+      @Value("${app.concurrency-limit.normal-priority-share:0.8}") double normalPriorityShare,
+      ObjectProvider<DbAdmissionControl> dbAdmissionControls) {
+    return new AdaptiveConcurrencyLimiter(new AdaptiveConcurrencyLimiter.Settings(
+        initialLimit, minLimit, maxLimit, latencyTolerance, backoff, dbWaitThreshold,
+        overloadWindows, lowPriorityShare, normalPriorityShare),
+        dbAdmissionControls.orderedStream().toList());
+  }
+
+  /**
+   * Creates the scheduled adjustment of the limiter, which also drives readiness.
+   */
+  @Bean
+  public OverloadReadiness overloadReadiness(AdaptiveConcurrencyLimiter limiter,
+                                             ApplicationEventPublisher publisher) {
+    return new OverloadReadiness(limiter, publisher);
+  }
+
+  /**
+   * Registers the limiter's interceptor for the API; actuator endpoints are not limited.
+   */
+  @Bean
+  public WebMvcConfigurer concurrencyLimitWebMvcConfigurer(AdaptiveConcurrencyLimiter limiter) {
+    return new WebMvcConfigurer() {
+      @Override
+      public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ConcurrencyLimitInterceptor(limiter))
+            .addPathPatterns("/api/**");
+      }
+    };
+  }
+}
@@ -0,0 +1,68 @@
+package com.esdc.gameapi.config;
+
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Configuration of database admission control in front of the connection pools.
+ *
+ * <p>With a read replica each pool gets its own control sized to it, so replica reads never
+ * wait for primary permits; {@link ReplicaDataSourceConfig} wraps the pools and the routing
+ * data source is left alone.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.db.admission.enabled", havingValue = "true",
+    matchIfMissing = true)
+public class DbAdmissionConfig {
+
+  /**
+   * Creates admission control sized to the primary connection pool by default.
+   */
+  @Bean
+  @Primary
+  public DbAdmissionControl dbAdmissionControl(
+      @Value("${app.db.admission.max-concurrent:${spring.datasource.hikari.maximum-pool-size:10}}")
+      int maxConcurrent,
+      @Value("${app.db.admission.timeout:PT2S}") Duration timeout) {
+    return new DbAdmissionControl(maxConcurrent, timeout);
+  }
+
+  /**
+   * Creates admission control sized to the replica connection pool by default.
+   */
+  @Bean
+  @ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+  public DbAdmissionControl replicaDbAdmissionControl(
+      @Value("${app.db.admission.replica-max-concurrent:"
+          + "${app.datasource.replica.hikari.maximum-pool-size:10}}") int maxConcurrent,
+      @Value("${app.db.admission.timeout:PT2S}") Duration timeout) {
+    return new DbAdmissionControl(DbAdmissionControl.REPLICA_POOL, maxConcurrent, timeout);
+  }
+
+  /**
+   * Wraps the application data source so that every connection passes admission control,
+   * unless it routes to pools that are wrapped already.
+   */
+  @Bean
+  public static BeanPostProcessor dbAdmissionDataSourcePostProcessor(
+      ObjectProvider<DbAdmissionControl> admissionControl) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource
+            && !(bean instanceof AdmissionControlDataSource)
+            && !(bean instanceof ReplicaRoutingDataSource)) {
+          return new AdmissionControlDataSource(dataSource, admissionControl.getObject());
+        }
+        return bean;
+      }
+    };
+  }
+}
@@ -0,0 +1,139 @@
+package com.esdc.gameapi.config;
+
+import com.esdc.gameapi.exception.DatabaseBusyException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Admits callers to a connection pool, at most one per pooled connection.
+ *
+ * <p>Waiting here instead of inside the connection pool keeps the wait short and measurable:
+ * callers that cannot get a permit within the timeout fail with
+ * {@link DatabaseBusyException} rather than queueing behind the pool's connection timeout.
+ */
+public class DbAdmissionControl implements MeterBinder {
+
+  static final String PRIMARY_POOL = "primary";
+  static final String REPLICA_POOL = "replica";
+
+  private final String pool;
+  private final Semaphore permits;
+  private final int maxConcurrent;
+  private final Duration timeout;
+  private final LongAdder admittedCount = new LongAdder();
+  private final LongAdder rejectedCount = new LongAdder();
+  private final LongAdder waitNanos = new LongAdder();
+
+  private volatile Timer admittedWait;
+  private volatile Timer rejectedWait;
+
+  /**
+   * Creates admission control of the primary pool with the given number of permits and wait
+   * timeout.
+   */
+  public DbAdmissionControl(int maxConcurrent, Duration timeout) {
+    this(PRIMARY_POOL, maxConcurrent, timeout);
+  }
+
+  /**
+   * Creates admission control of the named pool, which tags its metrics.
+   */
+  public DbAdmissionControl(String pool, int maxConcurrent, Duration timeout) {
+    this.pool = pool;
+    this.permits = new Semaphore(maxConcurrent, true);
+    this.maxConcurrent = maxConcurrent;
+    this.timeout = timeout;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    admittedWait = waitTimer(registry, "admitted");
+    rejectedWait = waitTimer(registry, "rejected");
+    Gauge.builder("db.admission.available", permits, Semaphore::availablePermits)
+        .description("Database permits currently free")
+        .tag("pool", pool)
+        .register(registry);
+    Gauge.builder("db.admission.queued", permits, Semaphore::getQueueLength)
+        .description("Callers waiting for a database permit")
+        .tag("pool", pool)
+        .register(registry);
+  }
+
+  /**
+   * Waits for a permit.
+   *
+   * @throws DatabaseBusyException if no permit became free within the timeout
+   */
+  public void acquire() throws DatabaseBusyException {
+    long start = System.nanoTime();
+    boolean admitted;
+    try {
+      admitted = permits.tryAcquire(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new DatabaseBusyException("Interrupted while waiting for database admission");
+    }
+    long nanos = System.nanoTime() - start;
+    waitNanos.add(nanos);
+    (admitted ? admittedCount : rejectedCount).increment();
+    record(admitted ? admittedWait : rejectedWait, nanos);
+    if (!admitted) {
+      throw new DatabaseBusyException(String.format(
+          "All %d database permits of the %s pool busy for %d ms", maxConcurrent, pool,
+          timeout.toMillis()));
+    }
+  }
+
+  /**
+   * Returns a permit taken by {@link #acquire()}.
+   */
+  public void release() {
+    permits.release();
+  }
+
+  /**
+   * Number of permits currently free.
+   */
+  public int availablePermits() {
+    return permits.availablePermits();
+  }
+
+  /**
+   * Totals of the waits so far, for callers that track them over their own intervals.
+   */
+  public WaitTotals waitTotals() {
+    return new WaitTotals(admittedCount.sum(), rejectedCount.sum(), waitNanos.sum(),
+        permits.getQueueLength());
+  }
+
+  /**
+   * Admission waits since creation.
+   *
+   * @param admitted callers that got a permit
+   * @param rejected callers that timed out
+   * @param waitNanos total time all callers waited
+   * @param queued callers waiting right now
+   */
+  public record WaitTotals(long admitted, long rejected, long waitNanos, int queued) {
+  }
+
+  private Timer waitTimer(MeterRegistry registry, String outcome) {
+    return Timer.builder("db.admission.wait")
+        .description("Time spent waiting for a database permit")
+        .tag("pool", pool)
+        .tag("outcome", outcome)
+        .register(registry);
+  }
+
+  private void record(Timer timer, long nanos) {
+    if (timer != null) {
+      timer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+  }
+}
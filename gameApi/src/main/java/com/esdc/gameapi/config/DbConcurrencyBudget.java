@@ -0,0 +1,46 @@
+package com.esdc.gameapi.config;
+
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Caps how many database connections background work may hold at the same time.
+ *
+ * <p>Job chunks run on their own pool, but every chunk also takes a pooled connection; the
+ * budget keeps enough connections free for request handling.
+ */
+public class DbConcurrencyBudget {
+
+  private final Semaphore permits;
+
+  /**
+   * Creates budget with the given number of concurrent database users.
+   */
+  public DbConcurrencyBudget(int maxConcurrent) {
+    this.permits = new Semaphore(maxConcurrent, true);
+  }
+
+  /**
+   * Runs the work while holding a permit, waiting for one if the budget is exhausted.
+   */
+  public <T> T call(Supplier<T> work) {
+    try {
+      permits.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for database budget", e);
+    }
+    try {
+      return work.get();
+    } finally {
+      permits.release();
+    }
+  }
+
+  /**
+   * Number of permits currently free.
+   */
+  public int availablePermits() {
+    return permits.availablePermits();
+  }
+}
@@ -0,0 +1,147 @@
+package com.esdc.gameapi.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Exports Hibernate statistics, collected when {@code hibernate.generate_statistics} is on.
+ *
+ * <p>Entity operations are tagged by entity, query executions by query string and second-level
+ * cache requests by region. Queries show up in the statistics as they first run, so new ones
+ * are registered periodically, up to a maximum; entities and cache regions are fixed at
+ * startup.
+ */
+@Slf4j
+@Component
+public class HibernateStatisticsMetrics implements MeterBinder {
+
+  private static final String ENTITY_OPERATIONS = "hibernate.entity.operations";
+  private static final String QUERY_EXECUTIONS = "hibernate.query.executions";
+
+  private final Statistics statistics;
+  private final int maxQueries;
+  private final Set<String> registeredQueries = ConcurrentHashMap.newKeySet();
+
+  private volatile MeterRegistry registry;
+
+  /**
+   * Creates metrics of the application's session factory.
+   */
+  public HibernateStatisticsMetrics(EntityManagerFactory entityManagerFactory,
+                                    @Value("${app.hibernate.metrics.max-queries:200}")
+                                    int maxQueries) {
+    this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    this.maxQueries = maxQueries;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    if (!statistics.isStatisticsEnabled()) {
+      log.info("Hibernate statistics disabled, set HIBERNATE_STATS=true to export them");
+      return;
+    }
+    this.registry = registry;
+
+    counter(registry, "hibernate.sessions.open", "Sessions opened",
+        Statistics::getSessionOpenCount);
+    counter(registry, "hibernate.transactions", "Transactions completed",
+        Statistics::getTransactionCount);
+    counter(registry, "hibernate.flushes", "Session flushes", Statistics::getFlushCount);
+    counter(registry, "hibernate.statements.prepared", "JDBC statements prepared",
+        Statistics::getPrepareStatementCount);
+    FunctionCounter.builder("hibernate.query.plan.cache", statistics,
+            Statistics::getQueryPlanCacheHitCount)
+        .description("Query plan cache lookups")
+        .tag("result", "hit")
+        .register(registry);
+    FunctionCounter.builder("hibernate.query.plan.cache", statistics,
+            Statistics::getQueryPlanCacheMissCount)
+        .description("Query plan cache lookups")
+        .tag("result", "miss")
+        .register(registry);
+
+    for (String entity : statistics.getEntityNames()) {
+      entityCounter(registry, entity, "load", EntityStatistics::getLoadCount);
+      entityCounter(registry, entity, "fetch", EntityStatistics::getFetchCount);
+      entityCounter(registry, entity, "insert", EntityStatistics::getInsertCount);
+      entityCounter(registry, entity, "update", EntityStatistics::getUpdateCount);
+      entityCounter(registry, entity, "delete", EntityStatistics::getDeleteCount);
+    }
+
+    for (String region : statistics.getSecondLevelCacheRegionNames()) {
+      regionCounter(registry, region, "hit", CacheRegionStatistics::getHitCount);
+      regionCounter(registry, region, "miss", CacheRegionStatistics::getMissCount);
+      regionCounter(registry, region, "put", CacheRegionStatistics::getPutCount);
+    }
+
+    registerNewQueries();
+  }
+
+  /**
+   * Registers executions of queries that ran for the first time since the last scan.
+   */
+  @Scheduled(fixedDelayString = "${app.hibernate.metrics.query-scan-interval:PT1M}")
+  public void registerNewQueries() {
+    MeterRegistry current = registry;
+    if (current == null) {
+      return;
+    }
+    for (String query : statistics.getQueries()) {
+      if (registeredQueries.size() >= maxQueries) {
+        log.debug("Hibernate query metrics capped at {} queries", maxQueries);
+        return;
+      }
+      if (registeredQueries.add(query)) {
+        FunctionTimer.builder(QUERY_EXECUTIONS, statistics,
+                stats -> stats.getQueryStatistics(query).getExecutionCount(),
+                stats -> stats.getQueryStatistics(query).getExecutionTotalTime(),
+                TimeUnit.MILLISECONDS)
+            .description("Executions of a query and their total time")
+            .tag("query", query)
+            .register(current);
+      }
+    }
+  }
+
+  private void counter(MeterRegistry registry, String name, String description,
+                       ToLongFunction<Statistics> count) {
+    FunctionCounter.builder(name, statistics, count::applyAsLong)
+        .description(description)
+        .register(registry);
+  }
+
+  private void entityCounter(MeterRegistry registry, String entity, String operation,
+                             ToLongFunction<EntityStatistics> count) {
+    FunctionCounter.builder(ENTITY_OPERATIONS, statistics,
+            stats -> count.applyAsLong(stats.getEntityStatistics(entity)))
+        .description("Entity operations")
+        .tag("entity", entity.substring(entity.lastIndexOf('.') + 1))
+        .tag("operation", operation)
+        .register(registry);
+  }
+
+  private void regionCounter(MeterRegistry registry, String region, String result,
+                             ToLongFunction<CacheRegionStatistics> count) {
+    FunctionCounter.builder("hibernate.second.level.cache.requests", statistics,
+            stats -> count.applyAsLong(stats.getDomainDataRegionStatistics(region)))
+        .description("Second-level cache requests")
+        .tag("region", region)
+        .tag("result", result)
+        .register(registry);
+  }
+}
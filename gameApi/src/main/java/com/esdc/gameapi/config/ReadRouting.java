@@ -0,0 +1,64 @@
+package com.esdc.gameapi.config;
+
+import java.util.function.Supplier;
+
+/**
+ * Per-thread override that sends read-only transactions to the primary database.
+ *
+ * <p>Set for requests that must see their own recent writes; has no effect when no replica
+ * is configured.
+ */
+public final class ReadRouting {
+
+  private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = new ThreadLocal<>();
+
+  private ReadRouting() {
+  }
+
+  /**
+   * Returns true if reads on this thread must go to the primary.
+   */
+  public static boolean isPinnedToPrimary() {
+    return Boolean.TRUE.equals(PINNED_TO_PRIMARY.get());
+  }
+
+  /**
+   * Pins or unpins reads on this thread to the primary.
+   */
+  public static void setPinnedToPrimary(boolean pinned) {
+    if (pinned) {
+      PINNED_TO_PRIMARY.set(Boolean.TRUE);
+    } else {
+      PINNED_TO_PRIMARY.remove();
+    }
+  }
+
+  /**
+   * Runs read with this thread pinned to the primary.
+   */
+  public static <T> T onPrimary(Supplier<T> read) {
+    boolean previous = isPinnedToPrimary();
+    setPinnedToPrimary(true);
+    try {
+      return read.get();
+    } finally {
+      setPinnedToPrimary(previous);
+    }
+  }
+
+  /**
+   * Wraps task so that it runs with the caller's routing.
+   */
+  public static Runnable propagate(Runnable task) {
+    boolean pinned = isPinnedToPrimary();
+    return () -> {
+      boolean previous = isPinnedToPrimary();
+      setPinnedToPrimary(pinned);
+      try {
+        task.run();
+      } finally {
+        setPinnedToPrimary(previous);
+      }
+    };
+  }
+}
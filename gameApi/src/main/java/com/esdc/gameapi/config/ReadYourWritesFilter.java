@@ -0,0 +1,103 @@
+package com.esdc.gameapi.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Pins reads to the primary for requests that must see their own writes.
+ *
+ * <p>A request is pinned when it carries {@value #HEADER}{@code : true}, or when the same
+ * principal made a successful write on this instance within the read-your-writes window.
+ * Writes are recorded as they start, since a client may send its next read as soon as the
+ * response is committed, before this filter regains control; the record is withdrawn if the
+ * write fails and refreshed once it succeeds.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+  public static final String HEADER = "X-Read-Your-Writes";
+
+  private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+  private static final int MAX_TRACKED_PRINCIPALS = 10_000;
+  private static final int FIRST_ERROR_STATUS = 400;
+
+  private final Map<String, Long> lastWriteNanos = new ConcurrentHashMap<>();
+  private final long windowNanos;
+
+  /**
+   * Creates filter with the given read-your-writes window.
+   */
+  public ReadYourWritesFilter(Duration window) {
+    this.windowNanos = window.toNanos();
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request,
+                                  HttpServletResponse response,
+                                  FilterChain chain) throws ServletException, IOException {
+    String principal = currentPrincipal();
+    long now = System.nanoTime();
+    boolean pinned = Boolean.parseBoolean(request.getHeader(HEADER))
+        || wroteRecently(principal, now);
+    boolean write = principal != null && !READ_METHODS.contains(request.getMethod());
+    Long previousWrite = write ? recordWrite(principal, now) : null;
+
+    boolean succeeded = false;
+    ReadRouting.setPinnedToPrimary(pinned);
+    try {
+      chain.doFilter(request, response);
+      succeeded = response.getStatus() < FIRST_ERROR_STATUS;
+    } finally {
+      ReadRouting.setPinnedToPrimary(false);
+      if (write && succeeded) {
+        recordWrite(principal, System.nanoTime());
+      } else if (write) {
+        withdrawWrite(principal, now, previousWrite);
+      }
+    }
+  }
+
+  private boolean wroteRecently(String principal, long now) {
+    if (principal == null) {
+      return false;
+    }
+    Long writtenAt = lastWriteNanos.get(principal);
+    return writtenAt != null && now - writtenAt < windowNanos;
+  }
+
+  private Long recordWrite(String principal, long now) {
+    Long previous = lastWriteNanos.put(principal, now);
+    if (lastWriteNanos.size() > MAX_TRACKED_PRINCIPALS) {
+      lastWriteNanos.values().removeIf(writtenAt -> now - writtenAt >= windowNanos);
+    }
+    return previous;
+  }
+
+  private void withdrawWrite(String principal, long recordedAt, Long previous) {
+    // Leaves the record alone if a concurrent write of the principal replaced it
+    if (previous != null) {
+      lastWriteNanos.replace(principal, recordedAt, previous);
+    } else {
+      lastWriteNanos.remove(principal, recordedAt);
+    }
+  }
+
+  private String currentPrincipal() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication == null || !authentication.isAuthenticated()
+        || authentication instanceof AnonymousAuthenticationToken) {
+      return null;
+    }
+    return authentication.getName();
+  }
+}
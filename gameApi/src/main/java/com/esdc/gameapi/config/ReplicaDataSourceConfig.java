@@ -0,0 +1,99 @@
+package com.esdc.gameapi.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.util.StringUtils;
+
+/**
+ * Configuration of read-only routing to a database replica.
+ *
+ * <p>Replaces the auto-configured data source with {@link ReplicaRoutingDataSource}; the
+ * primary pool keeps its {@code spring.datasource.*} settings, the replica pool is
+ * configured under {@code app.datasource.replica.*}. When database admission control is
+ * enabled, each pool is wrapped in its own control before routing.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+  private static final String POSTGRES_LAG_QUERY = "SELECT CASE "
+      + "WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() "
+      + "THEN 0 "
+      + "ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END";
+
+  /**
+   * Creates replica pool and its lag monitor.
+   */
+  @Bean
+  public ReplicaLagMonitor replicaLagMonitor(
+      DataSourceProperties properties,
+      Environment environment,
+      @Value("${app.datasource.replica.url}") String url,
+      @Value("${app.datasource.replica.username}") String username,
+      @Value("${app.datasource.replica.password}") String password,
+      @Value("${app.datasource.replica.lag-query:}") String lagQuery,
+      @Value("${app.datasource.replica.max-lag:PT5S}") Duration maxLag) {
+    HikariDataSource replica = DataSourceBuilder.create()
+        .type(HikariDataSource.class)
+        .driverClassName(properties.determineDriverClassName())
+        .url(url)
+        .username(username)
+        .password(password)
+        .build();
+    Binder.get(environment).bind("app.datasource.replica.hikari", Bindable.ofInstance(replica));
+    replica.setPoolName("replica");
+    replica.setReadOnly(true);
+
+    return new ReplicaLagMonitor(replica,
+        StringUtils.hasText(lagQuery) ? lagQuery : POSTGRES_LAG_QUERY, maxLag);
+  }
+
+  /**
+   * Creates application data source routing between primary and replica pools.
+   */
+  @Bean
+  public DataSource dataSource(
+      DataSourceProperties properties,
+      Environment environment,
+      ReplicaLagMonitor replicaLagMonitor,
+      ObjectProvider<DbAdmissionControl> primaryAdmission,
+      @Qualifier("replicaDbAdmissionControl") ObjectProvider<DbAdmissionControl> replicaAdmission) {
+    HikariDataSource primary = properties.initializeDataSourceBuilder()
+        .type(HikariDataSource.class)
+        .build();
+    Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+    if (!StringUtils.hasText(primary.getPoolName())) {
+      primary.setPoolName("primary");
+    }
+
+    return new ReplicaRoutingDataSource(
+        admitted(primary, primaryAdmission.getIfAvailable()),
+        admitted(replicaLagMonitor.replicaDataSource(), replicaAdmission.getIfAvailable()),
+        replicaLagMonitor);
+  }
+
+  /**
+   * Creates filter pinning reads of recent writers to the primary.
+   */
+  @Bean
+  public ReadYourWritesFilter readYourWritesFilter(
+      @Value("${app.datasource.replica.read-your-writes-window:PT10S}") Duration window) {
+    return new ReadYourWritesFilter(window);
+  }
+
+  private static DataSource admitted(DataSource pool, DbAdmissionControl admissionControl) {
+    return admissionControl != null ? new AdmissionControlDataSource(pool, admissionControl) : pool;
+  }
+}
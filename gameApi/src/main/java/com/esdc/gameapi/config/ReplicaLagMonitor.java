@@ -0,0 +1,96 @@
+package com.esdc.gameapi.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Periodically measures replication lag and decides whether the replica may serve reads.
+ *
+ * <p>The replica starts as unusable and becomes usable after the first check that reports
+ * lag within the tolerance; a failing check takes it out of rotation again.
+ */
+@Slf4j
+public class ReplicaLagMonitor implements MeterBinder {
+
+  private static final int QUERY_TIMEOUT_SECONDS = 2;
+  private static final double MILLIS_PER_SECOND = 1000.0;
+
+  private final HikariDataSource replicaDataSource;
+  private final JdbcTemplate jdbcTemplate;
+  private final String lagQuery;
+  private final double maxLagSeconds;
+
+  private volatile boolean replicaUsable;
+  private volatile double lagSeconds = Double.NaN;
+
+  /**
+   * Creates monitor of the given replica.
+   *
+   * @param lagQuery query returning replication lag in seconds
+   */
+  public ReplicaLagMonitor(HikariDataSource replicaDataSource, String lagQuery,
+                           Duration maxLag) {
+    this.replicaDataSource = replicaDataSource;
+    this.jdbcTemplate = new JdbcTemplate(replicaDataSource);
+    this.jdbcTemplate.setQueryTimeout(QUERY_TIMEOUT_SECONDS);
+    this.lagQuery = lagQuery;
+    this.maxLagSeconds = maxLag.toMillis() / MILLIS_PER_SECOND;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("db.replica.lag", this, monitor -> monitor.lagSeconds)
+        .description("Replication lag of the read replica")
+        .baseUnit("seconds")
+        .register(registry);
+    Gauge.builder("db.replica.usable", this, monitor -> monitor.replicaUsable ? 1 : 0)
+        .description("Whether read-only transactions are routed to the replica")
+        .register(registry);
+  }
+
+  /**
+   * Measures lag and updates replica availability.
+   */
+  @Scheduled(fixedDelayString = "${app.datasource.replica.check-interval:PT5S}")
+  public void check() {
+    boolean usable;
+    try {
+      Double lag = jdbcTemplate.queryForObject(lagQuery, Double.class);
+      lagSeconds = lag != null ? lag : Double.NaN;
+      usable = lag != null && lag <= maxLagSeconds;
+    } catch (DataAccessException e) {
+      lagSeconds = Double.NaN;
+      usable = false;
+      if (replicaUsable) {
+        log.warn("Replica check failed: {}", e.getMessage());
+      }
+    }
+
+    if (usable != replicaUsable) {
+      log.info("Replica {} for reads (lag {}s, tolerance {}s)",
+          usable ? "enabled" : "disabled", lagSeconds, maxLagSeconds);
+    }
+    replicaUsable = usable;
+  }
+
+  /**
+   * Returns true if the replica was healthy and within tolerance at the last check.
+   */
+  public boolean isReplicaUsable() {
+    return replicaUsable;
+  }
+
+  /**
+   * Replica connection pool.
+   */
+  public HikariDataSource replicaDataSource() {
+    return replicaDataSource;
+  }
+}
@@ -0,0 +1,67 @@
+package com.esdc.gameapi.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Data source sending read-only transactions to a replica and everything else to the primary.
+ *
+ * <p>Connections are fetched lazily, after the transaction has marked them read-only, so
+ * {@code @Transactional(readOnly = true)} alone decides the target. Reads fall back to the
+ * primary while the replica is unhealthy or lagging, and on threads pinned by
+ * {@link ReadRouting}. Each pool may be wrapped in its own {@link AdmissionControlDataSource}.
+ */
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy
+    implements AutoCloseable {
+
+  private final DataSource primary;
+  private final DataSource replica;
+  private final ReplicaLagMonitor lagMonitor;
+
+  /**
+   * Creates routing over primary and replica pools.
+   */
+  public ReplicaRoutingDataSource(DataSource primary, DataSource replica,
+                                  ReplicaLagMonitor lagMonitor) {
+    super(primary);
+    this.primary = primary;
+    this.replica = replica;
+    this.lagMonitor = lagMonitor;
+    setReadOnlyDataSource(new ReadOnlyRouter());
+  }
+
+  @Override
+  public void close() throws Exception {
+    try {
+      closePool(replica);
+    } finally {
+      closePool(primary);
+    }
+  }
+
+  private DataSource readTarget() {
+    return lagMonitor.isReplicaUsable() && !ReadRouting.isPinnedToPrimary() ? replica : primary;
+  }
+
+  private static void closePool(DataSource dataSource) throws Exception {
+    if (dataSource instanceof AutoCloseable closeable) {
+      closeable.close();
+    }
+  }
+
+  private class ReadOnlyRouter extends AbstractDataSource {
+
+    @Override
+    public Connection getConnection() throws SQLException {
+      return readTarget().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+      return readTarget().getConnection(username, password);
+    }
+  }
+}
@@ -0,0 +1,171 @@
+package com.esdc.gameapi.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times every repository method and logs the slow calls.
+ *
+ * <p>Calls are recorded per repository interface and method, e.g.
+ * {@code ProgressRepository.findByUserId}, together with the SQL statements they executed, so
+ * the methods that dominate database time stand out. Calls over the threshold are logged with
+ * their arguments; with redaction on, arguments are replaced by their types so player data does
+ * not reach the logs.
+ */
+@Slf4j
+@Aspect
+@Component
+public class RepositoryTimingAspect implements MeterBinder {
+
+  private static final String SPRING_PACKAGE = "org.springframework.";
+  private static final int MAX_ARGUMENT_LENGTH = 100;
+  private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+  private final Duration slowThreshold;
+  private final boolean redactParameters;
+  private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+  private final Map<String, Meters> metersByOperation = new ConcurrentHashMap<>();
+
+  private volatile MeterRegistry registry;
+
+  /**
+   * Creates aspect.
+   *
+   * @param slowThreshold duration from which calls are logged
+   * @param redactParameters whether logged arguments are replaced by their types
+   */
+  public RepositoryTimingAspect(
+      @Value("${app.sql.slow-query.threshold:PT0.2S}") Duration slowThreshold,
+      @Value("${app.sql.slow-query.redact-parameters:true}") boolean redactParameters) {
+    this.slowThreshold = slowThreshold;
+    this.redactParameters = redactParameters;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    this.registry = registry;
+  }
+
+  /**
+   * Times repository call and the SQL statements it executed.
+   */
+  @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+  public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+    long start = System.nanoTime();
+    try (SqlStatementCounter.Scope sql = SqlStatementCounter.open()) {
+      try {
+        return joinPoint.proceed();
+      } finally {
+        long nanos = System.nanoTime() - start;
+        String operation = operation(joinPoint);
+        record(operation, nanos, sql);
+        if (nanos >= slowThreshold.toNanos()) {
+          log.warn("Slow repository call {}({}) took {} ms, {} SQL statements in {} ms",
+              operation, describeArguments(joinPoint.getArgs(), redactParameters),
+              String.format("%.1f", nanos / NANOS_PER_MILLI), sql.statements(),
+              String.format("%.1f", sql.time().toNanos() / NANOS_PER_MILLI));
+        }
+      }
+    }
+  }
+
+  /**
+   * Renders arguments for the log, as types only when redacting.
+   */
+  static String describeArguments(Object[] args, boolean redact) {
+    return Arrays.stream(args)
+        .map(arg -> redact ? describeType(arg) : describeValue(arg))
+        .collect(Collectors.joining(", "));
+  }
+
+  private static String describeType(Object arg) {
+    if (arg == null) {
+      return "null";
+    }
+    if (arg instanceof Collection<?> collection) {
+      return arg.getClass().getSimpleName() + "[" + collection.size() + "]";
+    }
+    return arg.getClass().getSimpleName();
+  }
+
+  private static String describeValue(Object arg) {
+    String value = String.valueOf(arg);
+    return value.length() > MAX_ARGUMENT_LENGTH
+        ? value.substring(0, MAX_ARGUMENT_LENGTH) + "..." : value;
+  }
+
+  private String operation(ProceedingJoinPoint joinPoint) {
+    Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+    String repository = repositoryNames.computeIfAbsent(joinPoint.getTarget().getClass(),
+        type -> repositoryName(type, method));
+    return repository + "." + method.getName();
+  }
+
+  private static String repositoryName(Class<?> type, Method method) {
+    // Inherited methods such as findAll are declared by Spring Data interfaces
+    for (Class<?> candidate : type.getInterfaces()) {
+      if (Repository.class.isAssignableFrom(candidate)
+          && !candidate.getName().startsWith(SPRING_PACKAGE)) {
+        return candidate.getSimpleName();
+      }
+    }
+    return method.getDeclaringClass().getSimpleName();
+  }
+
+  private void record(String operation, long nanos, SqlStatementCounter.Scope sql) {
+    MeterRegistry meters = registry;
+    if (meters == null) {
+      return;
+    }
+    Meters recorded = metersByOperation.computeIfAbsent(operation,
+        key -> new Meters(meters, key));
+    recorded.calls.record(nanos, TimeUnit.NANOSECONDS);
+    recorded.statements.record(sql.statements());
+    recorded.sqlTime.record(sql.time());
+  }
+
+  private static final class Meters {
+
+    private final Timer calls;
+    private final DistributionSummary statements;
+    private final Timer sqlTime;
+
+    private Meters(MeterRegistry registry, String operation) {
+      String repository = operation.substring(0, operation.indexOf('.'));
+      String method = operation.substring(operation.indexOf('.') + 1);
+      calls = Timer.builder("repository.invocations")
+          .description("Repository method calls")
+          .tag("repository", repository)
+          .tag("method", method)
+          .register(registry);
+      statements = DistributionSummary.builder("repository.sql.statements")
+          .description("SQL statements executed per repository call")
+          .tag("repository", repository)
+          .tag("method", method)
+          .register(registry);
+      sqlTime = Timer.builder("repository.sql.time")
+          .description("Time spent executing SQL statements per repository call")
+          .tag("repository", repository)
+          .tag("method", method)
+          .register(registry);
+    }
+  }
+}
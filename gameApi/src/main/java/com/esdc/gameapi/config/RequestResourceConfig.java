@@ -0,0 +1,36 @@
+package com.esdc.gameapi.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of per-request CPU time and allocation accounting.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.metrics.request-resources.enabled", havingValue = "true",
+    matchIfMissing = true)
+public class RequestResourceConfig {
+
+  /**
+   * Creates filter recording CPU time and allocation per handler method.
+   */
+  @Bean
+  public RequestResourceFilter requestResourceFilter() {
+    return new RequestResourceFilter();
+  }
+
+  /**
+   * Registers the filter outermost, so authentication and the other filters are included.
+   */
+  @Bean
+  public FilterRegistrationBean<RequestResourceFilter> requestResourceFilterRegistration(
+      RequestResourceFilter requestResourceFilter) {
+    FilterRegistrationBean<RequestResourceFilter> registration =
+        new FilterRegistrationBean<>(requestResourceFilter);
+    registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 2);
+    return registration;
+  }
+}
@@ -0,0 +1,116 @@
+package com.esdc.gameapi.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Records CPU time and heap allocation of each request, per handler method.
+ *
+ * <p>Both are read from the JVM's per-thread counters before and after the request, so only
+ * work on the request thread is attributed; work handed to executors and async dispatches
+ * is not. Counters the JVM does not support are skipped.
+ */
+@Slf4j
+public class RequestResourceFilter extends OncePerRequestFilter implements MeterBinder {
+
+  private static final String UNKNOWN_HANDLER = "UNKNOWN";
+  private static final long UNAVAILABLE = -1;
+
+  private final com.sun.management.ThreadMXBean threads;
+  private final boolean cpuTimeSupported;
+  private final boolean allocationSupported;
+
+  private volatile MeterRegistry registry;
+
+  /**
+   * Creates filter reading the platform thread counters.
+   */
+  public RequestResourceFilter() {
+    this(ManagementFactory.getThreadMXBean());
+  }
+
+  RequestResourceFilter(ThreadMXBean threadMxBean) {
+    com.sun.management.ThreadMXBean extended =
+        threadMxBean instanceof com.sun.management.ThreadMXBean bean ? bean : null;
+    this.threads = extended;
+    this.cpuTimeSupported = extended != null && extended.isCurrentThreadCpuTimeSupported()
+        && extended.isThreadCpuTimeEnabled();
+    this.allocationSupported = extended != null && extended.isThreadAllocatedMemorySupported()
+        && extended.isThreadAllocatedMemoryEnabled();
+    if (!cpuTimeSupported || !allocationSupported) {
+      log.info("Request accounting: CPU time {}, allocation {}",
+          cpuTimeSupported ? "on" : "unsupported", allocationSupported ? "on" : "unsupported");
+    }
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    this.registry = registry;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request,
+                                  HttpServletResponse response,
+                                  FilterChain chain) throws ServletException, IOException {
+    long cpuBefore = cpuTime();
+    long allocatedBefore = allocatedBytes();
+    try {
+      chain.doFilter(request, response);
+    } finally {
+      long cpuAfter = cpuTime();
+      long allocatedAfter = allocatedBytes();
+      MeterRegistry meters = registry;
+      if (meters != null) {
+        String handler = handlerName(request);
+        if (cpuBefore != UNAVAILABLE && cpuAfter != UNAVAILABLE) {
+          DistributionSummary.builder("http.server.requests.cpu")
+              .description("CPU time of the request thread")
+              .baseUnit("nanoseconds")
+              .tag("handler", handler)
+              .register(meters)
+              .record(cpuAfter - cpuBefore);
+        }
+        if (allocatedBefore != UNAVAILABLE && allocatedAfter != UNAVAILABLE) {
+          DistributionSummary.builder("http.server.requests.allocated")
+              .description("Heap allocated by the request thread")
+              .baseUnit(BaseUnits.BYTES)
+              .tag("handler", handler)
+              .register(meters)
+              .record(allocatedAfter - allocatedBefore);
+        }
+      }
+    }
+  }
+
+  private long cpuTime() {
+    return cpuTimeSupported ? threads.getCurrentThreadCpuTime() : UNAVAILABLE;
+  }
+
+  private long allocatedBytes() {
+    return allocationSupported ? threads.getCurrentThreadAllocatedBytes() : UNAVAILABLE;
+  }
+
+  /**
+   * Handler of the request as {@code Controller#method}, or {@code UNKNOWN} if none matched.
+   */
+  public static String handlerName(HttpServletRequest request) {
+    Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+    if (handler instanceof HandlerMethod method) {
+      return method.getBeanType().getSimpleName() + "#" + method.getMethod().getName();
+    }
+    return handler != null ? handler.getClass().getSimpleName() : UNKNOWN_HANDLER;
+  }
+}
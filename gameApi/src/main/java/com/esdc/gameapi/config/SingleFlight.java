@@ -0,0 +1,21 @@
+package com.esdc.gameapi.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks read method whose concurrent calls with equal arguments share one execution.
+ *
+ * <p>Only calls that overlap are coalesced; nothing is kept after the shared execution
+ * returns. Intended for side-effect-free reads whose result callers do not modify.
+ *
+ * @see SingleFlightAspect
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SingleFlight {
+}
@@ -0,0 +1,150 @@
+package com.esdc.gameapi.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Coalesces concurrent identical calls of {@link SingleFlight} methods.
+ *
+ * <p>The first caller for a key runs the method on its own thread; callers arriving while it
+ * runs wait for and share its result or exception. The key is the method, its arguments and
+ * the caller's {@link ReadRouting} pin, so primary-pinned reads never share a replica load,
+ * plus the data version the caller observed, if it ran the read {@link #atVersion at one}. A
+ * caller that saw a newer version than a running execution never joins it, so a body loaded
+ * before a commit is not served under the ETag of that commit.
+ * Callers already inside a transaction bypass coalescing, since they may see their own
+ * uncommitted writes. Runs outside the transaction interceptor, so the shared execution opens
+ * one transaction for all callers.
+ *
+ * <p>Calls are counted by outcome: {@code miss} ran the method, {@code hit} was served by
+ * another caller's execution, {@code bypass} ran inside a transaction. Executions that served
+ * at least one hit are also counted as {@code shared}.
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(SingleFlightAspect.ORDER)
+public class SingleFlightAspect implements MeterBinder {
+
+  /**
+   * Precedence just above the default transaction interceptor.
+   */
+  public static final int ORDER = Ordered.LOWEST_PRECEDENCE - 1;
+
+  private static final String CALLS_METRIC = "singleflight.calls";
+
+  private static final ThreadLocal<String> VERSION = new ThreadLocal<>();
+
+  private final Map<Key, Flight> inFlight = new ConcurrentHashMap<>();
+
+  private volatile MeterRegistry registry;
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    this.registry = registry;
+    Gauge.builder("singleflight.inflight", inFlight, Map::size)
+        .description("Coalesced loads currently running")
+        .register(registry);
+  }
+
+  /**
+   * Runs read on this thread as seen at the given data version, such as the ETag it is
+   * answered under; only executions started at the same version are joined.
+   */
+  public static <T> T atVersion(String version, Supplier<T> read) {
+    String previous = VERSION.get();
+    VERSION.set(version);
+    try {
+      return read.get();
+    } finally {
+      if (previous != null) {
+        VERSION.set(previous);
+      } else {
+        VERSION.remove();
+      }
+    }
+  }
+
+  /**
+   * Runs or joins the execution for the call's key.
+   */
+  @Around("@annotation(com.esdc.gameapi.config.SingleFlight)")
+  public Object coalesce(ProceedingJoinPoint joinPoint) throws Throwable {
+    Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+    String operation = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+
+    if (TransactionSynchronizationManager.isActualTransactionActive()) {
+      count(operation, "bypass");
+      return joinPoint.proceed();
+    }
+
+    Key key = new Key(method, Arrays.asList(joinPoint.getArgs()),
+        ReadRouting.isPinnedToPrimary(), VERSION.get());
+    Flight flight = new Flight();
+    Flight existing = inFlight.putIfAbsent(key, flight);
+    if (existing != null) {
+      existing.followers.incrementAndGet();
+      count(operation, "hit");
+      return join(existing.result);
+    }
+
+    count(operation, "miss");
+    try {
+      Object result = joinPoint.proceed();
+      flight.result.complete(result);
+      return result;
+    } catch (Throwable e) {
+      flight.result.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, flight);
+      if (flight.followers.get() > 0) {
+        count(operation, "shared");
+      }
+    }
+  }
+
+  private Object join(CompletableFuture<Object> result) throws Throwable {
+    try {
+      return result.join();
+    } catch (CompletionException e) {
+      throw e.getCause();
+    }
+  }
+
+  private void count(String operation, String outcome) {
+    MeterRegistry meterRegistry = registry;
+    if (meterRegistry != null) {
+      meterRegistry.counter(CALLS_METRIC, "operation", operation, "outcome", outcome)
+          .increment();
+    }
+  }
+
+  private static final class Flight {
+
+    private final CompletableFuture<Object> result = new CompletableFuture<>();
+    private final AtomicInteger followers = new AtomicInteger();
+  }
+
+  private record Key(Method method, List<Object> args, boolean primary, String version) {
+  }
+}
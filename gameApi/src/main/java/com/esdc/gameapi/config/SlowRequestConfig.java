@@ -0,0 +1,63 @@
+package com.esdc.gameapi.config;
+
+import com.esdc.gameapi.service.AdminAuthService;
+import com.esdc.gameapi.slowrequest.SlowRequestEndpoint;
+import com.esdc.gameapi.slowrequest.SlowRequestFilter;
+import com.esdc.gameapi.slowrequest.SlowRequestLog;
+import java.time.Clock;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of the slow request log and its actuator endpoint.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.slow-requests.enabled", havingValue = "true",
+    matchIfMissing = true)
+public class SlowRequestConfig {
+
+  /**
+   * Creates log keeping the slowest requests of each window within the retention.
+   */
+  @Bean
+  public SlowRequestLog slowRequestLog(
+      @Value("${app.slow-requests.per-window:10}") int perWindow,
+      @Value("${app.slow-requests.window:PT1M}") Duration window,
+      @Value("${app.slow-requests.retention:PT1H}") Duration retention) {
+    return new SlowRequestLog(perWindow, window, retention, Clock.systemUTC());
+  }
+
+  /**
+   * Creates endpoint exposing the log to admins as {@code /actuator/slowrequests}.
+   */
+  @Bean
+  public SlowRequestEndpoint slowRequestEndpoint(SlowRequestLog slowRequestLog,
+                                                 AdminAuthService adminAuthService) {
+    return new SlowRequestEndpoint(slowRequestLog, adminAuthService);
+  }
+
+  /**
+   * Creates filter offering every request to the log.
+   */
+  @Bean
+  public SlowRequestFilter slowRequestFilter(SlowRequestLog slowRequestLog) {
+    return new SlowRequestFilter(slowRequestLog);
+  }
+
+  /**
+   * Registers the filter outermost, so the measured time includes all other filters.
+   */
+  @Bean
+  public FilterRegistrationBean<SlowRequestFilter> slowRequestFilterRegistration(
+      SlowRequestFilter slowRequestFilter) {
+    FilterRegistrationBean<SlowRequestFilter> registration =
+        new FilterRegistrationBean<>(slowRequestFilter);
+    registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 3);
+    return registration;
+  }
+}
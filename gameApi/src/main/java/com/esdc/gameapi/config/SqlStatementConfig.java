@@ -0,0 +1,58 @@
+package com.esdc.gameapi.config;
+
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of per-request SQL statement counting.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.sql.statements.enabled", havingValue = "true",
+    matchIfMissing = true)
+public class SqlStatementConfig {
+
+  /**
+   * Wraps the application data source so that every executed statement is counted.
+   */
+  @Bean
+  public static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource
+            && !(bean instanceof StatementCountingDataSource)) {
+          return new StatementCountingDataSource(dataSource);
+        }
+        return bean;
+      }
+    };
+  }
+
+  /**
+   * Creates filter counting statements per request; headers are exposed in debug mode.
+   */
+  @Bean
+  public SqlStatementFilter sqlStatementFilter(
+      @Value("${app.sql.statements.headers:${app.debug:false}}") boolean exposeHeaders,
+      @Value("${app.sql.statements.budget:50}") int budget) {
+    return new SqlStatementFilter(exposeHeaders, budget);
+  }
+
+  /**
+   * Registers the filter in front of Spring Security, so authentication queries are counted.
+   */
+  @Bean
+  public FilterRegistrationBean<SqlStatementFilter> sqlStatementFilterRegistration(
+      SqlStatementFilter sqlStatementFilter) {
+    FilterRegistrationBean<SqlStatementFilter> registration =
+        new FilterRegistrationBean<>(sqlStatementFilter);
+    registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+    return registration;
+  }
+}
@@ -0,0 +1,85 @@
+package com.esdc.gameapi.config;
+
+import java.time.Duration;
+
+/**
+ * Per-thread count of SQL statements executed through {@link StatementCountingDataSource}.
+ *
+ * <p>Statements are attributed to every scope open on the executing thread, so a request scope
+ * and a nested scope around one service call both see the call's statements. Work handed to
+ * other threads is not counted.
+ */
+public final class SqlStatementCounter {
+
+  private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+  private SqlStatementCounter() {
+  }
+
+  /**
+   * Starts counting statements on this thread until the returned scope is closed.
+   */
+  public static Scope open() {
+    Scope scope = new Scope(CURRENT.get());
+    CURRENT.set(scope);
+    return scope;
+  }
+
+  /**
+   * Runs action and returns the statements it executed, e.g. to assert a statement budget in
+   * tests.
+   */
+  public static Scope count(Runnable action) {
+    try (Scope scope = open()) {
+      action.run();
+      return scope;
+    }
+  }
+
+  static void record(long nanos) {
+    for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+      scope.statements++;
+      scope.nanos += nanos;
+    }
+  }
+
+  /**
+   * Statements counted since the scope was opened.
+   */
+  public static final class Scope implements AutoCloseable {
+
+    private final Scope parent;
+    private long statements;
+    private long nanos;
+
+    private Scope(Scope parent) {
+      this.parent = parent;
+    }
+
+    /**
+     * Number of executed statements; a JDBC batch counts once.
+     */
+    public long statements() {
+      return statements;
+    }
+
+    /**
+     * Time spent executing statements, excluding reading result sets.
+     */
+    public Duration time() {
+      return Duration.ofNanos(nanos);
+    }
+
+    @Override
+    public void close() {
+      if (CURRENT.get() != this) {
+        return;
+      }
+      if (parent != null) {
+        CURRENT.set(parent);
+      } else {
+        CURRENT.remove();
+      }
+    }
+  }
+}
@@ -0,0 +1,113 @@
+package com.esdc.gameapi.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Counts SQL statements executed while handling each request.
+ *
+ * <p>Counts and statement time are recorded per endpoint, and requests over the statement
+ * budget are logged so N+1 query patterns surface before they hurt. With headers enabled the
+ * totals up to the moment the response is committed are also returned as
+ * {@value #STATEMENTS_HEADER} and {@value #TIME_HEADER}.
+ */
+@Slf4j
+public class SqlStatementFilter extends OncePerRequestFilter implements MeterBinder {
+
+  public static final String STATEMENTS_HEADER = "X-SQL-Statements";
+  public static final String TIME_HEADER = "X-SQL-Time-Ms";
+
+  private static final String UNKNOWN_URI = "UNKNOWN";
+  private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+  private final boolean exposeHeaders;
+  private final int budget;
+
+  private volatile MeterRegistry registry;
+  private volatile Counter overBudget;
+
+  /**
+   * Creates filter.
+   *
+   * @param exposeHeaders whether counts are returned as response headers
+   * @param budget statements per request above which the request is logged
+   */
+  public SqlStatementFilter(boolean exposeHeaders, int budget) {
+    this.exposeHeaders = exposeHeaders;
+    this.budget = budget;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    this.registry = registry;
+    overBudget = Counter.builder("http.server.requests.sql.over.budget")
+        .description("Requests that executed more SQL statements than the budget")
+        .register(registry);
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request,
+                                  HttpServletResponse response,
+                                  FilterChain chain) throws ServletException, IOException {
+    try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+      chain.doFilter(request, exposeHeaders ? new OnCommittedResponseWrapper(response) {
+        @Override
+        protected void onResponseCommitted() {
+          writeHeaders(response, scope);
+        }
+      } : response);
+      if (exposeHeaders && !response.isCommitted()) {
+        writeHeaders(response, scope);
+      }
+      record(request, scope);
+    }
+  }
+
+  private void writeHeaders(HttpServletResponse response, SqlStatementCounter.Scope scope) {
+    response.setHeader(STATEMENTS_HEADER, String.valueOf(scope.statements()));
+    response.setHeader(TIME_HEADER,
+        String.format("%.3f", scope.time().toNanos() / NANOS_PER_MILLI));
+  }
+
+  private void record(HttpServletRequest request, SqlStatementCounter.Scope scope) {
+    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    String uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+
+    if (scope.statements() > budget) {
+      log.warn("{} {} executed {} SQL statements, budget is {}",
+          request.getMethod(), uri, scope.statements(), budget);
+      if (overBudget != null) {
+        overBudget.increment();
+      }
+    }
+
+    MeterRegistry meters = registry;
+    if (meters == null) {
+      return;
+    }
+    DistributionSummary.builder("http.server.requests.sql.statements")
+        .description("SQL statements executed per request")
+        .tag("method", request.getMethod())
+        .tag("uri", uri)
+        .register(meters)
+        .record(scope.statements());
+    Timer.builder("http.server.requests.sql.time")
+        .description("Time spent executing SQL statements per request")
+        .tag("method", request.getMethod())
+        .tag("uri", uri)
+        .register(meters)
+        .record(scope.time());
+  }
+}
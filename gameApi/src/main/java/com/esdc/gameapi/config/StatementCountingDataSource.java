@@ -0,0 +1,108 @@
+package com.esdc.gameapi.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Data source that reports every executed statement to {@link SqlStatementCounter}.
+ *
+ * <p>Statements created by its connections are proxied; each {@code execute*} call is timed
+ * and counted once. Closing the data source closes the target, so wrapped pools still shut
+ * down with the application context.
+ */
+public class StatementCountingDataSource extends DelegatingDataSource implements AutoCloseable {
+
+  private static final Set<String> STATEMENT_FACTORY_METHODS =
+      Set.of("createStatement", "prepareStatement", "prepareCall");
+  private static final String EXECUTE_PREFIX = "execute";
+  private static final String EQUALS_METHOD = "equals";
+  private static final String HASH_CODE_METHOD = "hashCode";
+
+  /**
+   * Wraps target data source.
+   */
+  public StatementCountingDataSource(DataSource targetDataSource) {
+    super(targetDataSource);
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return counting(obtainTargetDataSource().getConnection());
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    return counting(obtainTargetDataSource().getConnection(username, password));
+  }
+
+  @Override
+  public void close() throws Exception {
+    if (obtainTargetDataSource() instanceof AutoCloseable closeable) {
+      closeable.close();
+    }
+  }
+
+  private Connection counting(Connection target) {
+    return (Connection) Proxy.newProxyInstance(
+        Connection.class.getClassLoader(),
+        new Class<?>[] {Connection.class},
+        (proxy, method, args) -> {
+          Object identity = identity(proxy, method, args);
+          if (identity != null) {
+            return identity;
+          }
+          Object result = invoke(target, method, args);
+          if (result instanceof Statement statement
+              && STATEMENT_FACTORY_METHODS.contains(method.getName())) {
+            return counting(statement, method.getReturnType());
+          }
+          return result;
+        });
+  }
+
+  private static Object counting(Statement target, Class<?> type) {
+    return Proxy.newProxyInstance(
+        Statement.class.getClassLoader(),
+        new Class<?>[] {type},
+        (proxy, method, args) -> {
+          Object identity = identity(proxy, method, args);
+          if (identity != null) {
+            return identity;
+          }
+          if (!method.getName().startsWith(EXECUTE_PREFIX)) {
+            return invoke(target, method, args);
+          }
+          long start = System.nanoTime();
+          try {
+            return invoke(target, method, args);
+          } finally {
+            SqlStatementCounter.record(System.nanoTime() - start);
+          }
+        });
+  }
+
+  private static Object identity(Object proxy, Method method, Object[] args) {
+    if (EQUALS_METHOD.equals(method.getName()) && method.getParameterCount() == 1) {
+      return proxy == args[0];
+    }
+    if (HASH_CODE_METHOD.equals(method.getName()) && method.getParameterCount() == 0) {
+      return System.identityHashCode(proxy);
+    }
+    return null;
+  }
+
+  private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      throw e.getTargetException();
+    }
+  }
+}
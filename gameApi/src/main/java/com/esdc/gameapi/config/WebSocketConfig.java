@@ -0,0 +1,32 @@
+package com.esdc.gameapi.config;
+
+import com.esdc.gameapi.controller.ProgressSocketHandler;
+import com.esdc.gameapi.security.JwtHandshakeInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+/**
+ * WebSocket endpoints.
+ */
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketConfigurer {
+
+  private final ProgressSocketHandler progressSocketHandler;
+  private final JwtHandshakeInterceptor jwtHandshakeInterceptor;
+
+  @Value("${app.websocket.allowed-origins:*}")
+  private String[] allowedOrigins;
+
+  @Override
+  public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+    registry.addHandler(progressSocketHandler, "/ws/progress")
+        .addInterceptors(jwtHandshakeInterceptor)
+        .setAllowedOriginPatterns(allowedOrigins);
+  }
+}
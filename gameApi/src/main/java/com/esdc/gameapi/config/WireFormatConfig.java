@@ -0,0 +1,42 @@
+package com.esdc.gameapi.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Binary wire formats negotiated alongside JSON on every controller.
+ *
+ * <p>Clients opt in with {@code Accept: application/cbor} or
+ * {@code Accept: application/x-jackson-smile}, and may send request bodies in the same format.
+ * JSON stays the default. The mappers are built from the application's Jackson builder, so
+ * binary responses use the same property names, inclusion and date handling as JSON; Spring's
+ * own fallback converters for these formats would not.
+ */
+@Configuration
+public class WireFormatConfig {
+
+  /**
+   * Creates CBOR converter.
+   */
+  @Bean
+  public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(
+      Jackson2ObjectMapperBuilder builder) {
+    return new MappingJackson2CborHttpMessageConverter(
+        builder.factory(new CBORFactory()).build());
+  }
+
+  /**
+   * Creates Smile converter.
+   */
+  @Bean
+  public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(
+      Jackson2ObjectMapperBuilder builder) {
+    return new MappingJackson2SmileHttpMessageConverter(
+        builder.factory(new SmileFactory()).build());
+  }
+}
@@ -1,13 +1,22 @@
 package com.esdc.gameapi.controller;
 
+import com.esdc.gameapi.config.ReadRouting;
+import com.esdc.gameapi.config.SingleFlightAspect;
 import com.esdc.gameapi.domain.dto.AchievementDto;
 import com.esdc.gameapi.domain.dto.UserAchievementDto;
 import com.esdc.gameapi.service.AchievementService;
 import com.esdc.gameapi.service.AdminAuthService;
+import com.esdc.gameapi.service.CatalogResponseCache;
+import com.esdc.gameapi.service.UserDataVersions;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -19,6 +28,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * REST controller for achievement CRUD operations with admin authentication.
@@ -32,26 +42,40 @@ public class AchievementController {
 
   private final AchievementService achievementService;
   private final AdminAuthService adminAuthService;
+  private final CatalogResponseCache catalogResponseCache;
+  private final UserDataVersions userDataVersions;
 
   @Value("${admin.password}")
   private String adminPassword;
 
   /**
-   * Gets all achievements.
+   * Gets all achievements, served from the pre-rendered catalog with ETag support.
    */
   @GetMapping
-  public ResponseEntity<List<AchievementDto>> getAllAchievements() {
+  @ApiResponse(responseCode = "200", description = "Achievements retrieved", content = @Content(
+      mediaType = "application/json",
+      array = @ArraySchema(schema = @Schema(implementation = AchievementDto.class))))
+  public ResponseEntity<byte[]> getAllAchievements(
+      @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+      @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false)
+      String acceptEncoding) {
     log.debug("Request to get all achievements");
-    return ResponseEntity.ok(achievementService.getAllAchievements());
+    return catalogResponseCache.getAchievements(accept).toResponse(acceptEncoding);
   }
 
   /**
-   * Gets user achievements by ID.
+   * Gets user achievements by ID, answering a matching {@code If-None-Match} with 304.
    */
   @GetMapping("/user/{userId}")
-  public ResponseEntity<List<UserAchievementDto>> getUserAchievements(@PathVariable Long userId) {
+  public ResponseEntity<List<UserAchievementDto>> getUserAchievements(@PathVariable Long userId,
+                                                                      WebRequest request) {
     log.debug("Request to get achievements for user: {}", userId);
-    return ResponseEntity.ok(achievementService.getAchievementsByUserId(userId));
+    String etag = userDataVersions.achievementsEtag(userId);
+    if (request.checkNotModified(etag)) {
+      return null;
+    }
+    return ResponseEntity.ok(SingleFlightAspect.atVersion(etag, () ->
+        ReadRouting.onPrimary(() -> achievementService.getAchievementsByUserId(userId))));
   }
 
   /**
@@ -0,0 +1,51 @@
+package com.esdc.gameapi.controller;
+
+import com.esdc.gameapi.domain.dto.BackgroundJobDto;
+import com.esdc.gameapi.service.AdminAuthService;
+import com.esdc.gameapi.service.BackgroundJobService;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for monitoring background jobs (admin only).
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/jobs")
+@RequiredArgsConstructor
+public class AdminJobController {
+  private static final String ADMIN_PASSWORD_HEADER = "Admin-Password";
+
+  private final BackgroundJobService backgroundJobService;
+  private final AdminAuthService adminAuthService;
+
+  /**
+   * Gets most recent background jobs (admin only).
+   */
+  @GetMapping
+  public ResponseEntity<List<BackgroundJobDto>> getRecentJobs(
+      @RequestHeader(ADMIN_PASSWORD_HEADER) String password) {
+    adminAuthService.validateAdminPassword(password);
+    log.debug("Admin request to get recent jobs");
+    return ResponseEntity.ok(backgroundJobService.getRecentJobs());
+  }
+
+  /**
+   * Gets background job status by ID (admin only).
+   */
+  @GetMapping("/{id}")
+  public ResponseEntity<BackgroundJobDto> getJob(
+      @RequestHeader(ADMIN_PASSWORD_HEADER) String password,
+      @PathVariable Long id) {
+    adminAuthService.validateAdminPassword(password);
+    log.debug("Admin request to get job: {}", id);
+    return ResponseEntity.ok(backgroundJobService.getJob(id));
+  }
+}
@@ -0,0 +1,70 @@
+package com.esdc.gameapi.controller;
+
+import com.esdc.gameapi.concurrency.Priority;
+import com.esdc.gameapi.concurrency.RequestPriority;
+import com.esdc.gameapi.domain.dto.LeaderboardEntryDto;
+import com.esdc.gameapi.service.StarsLeaderboardService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for player leaderboards.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/leaderboard")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearerAuth")
+@Tag(name = "Leaderboard", description = "Player rankings")
+@RequestPriority(Priority.LOW)
+public class LeaderboardController {
+
+  private final StarsLeaderboardService starsLeaderboardService;
+
+  /**
+   * Gets best players by total stars.
+   */
+  @GetMapping("/stars")
+  @Operation(summary = "Get top players by stars",
+      description = "Returns best players ordered by total stars; equal scores share a rank")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Leaderboard retrieved"),
+      @ApiResponse(responseCode = "400", description = "Limit out of range")
+  })
+  public ResponseEntity<List<LeaderboardEntryDto>> getTopPlayers(
+      @Parameter(description = "Number of players to return")
+      @RequestParam(defaultValue = "100") int limit) {
+    log.debug("Request to get top {} players by stars", limit);
+    return ResponseEntity.ok(starsLeaderboardService.getTopPlayers(limit));
+  }
+
+  /**
+   * Gets stars rank of a player.
+   */
+  @GetMapping("/stars/{userId}")
+  @Operation(summary = "Get player rank by stars",
+      description = "Returns rank of the player among all players by total stars")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Rank retrieved"),
+      @ApiResponse(responseCode = "404", description = "Player has no statistics")
+  })
+  public ResponseEntity<LeaderboardEntryDto> getPlayerRank(
+      @Parameter(description = "User ID")
+      @PathVariable Long userId) {
+    log.debug("Request to get stars rank of user: {}", userId);
+    return ResponseEntity.ok(starsLeaderboardService.getPlayerRank(userId));
+  }
+}
@@ -1,12 +1,22 @@
 package com.esdc.gameapi.controller;
 
+import com.esdc.gameapi.concurrency.Priority;
+import com.esdc.gameapi.concurrency.RequestPriority;
 import com.esdc.gameapi.domain.dto.LevelDto;
+import com.esdc.gameapi.domain.dto.SpeedrunEntryDto;
 import com.esdc.gameapi.service.AdminAuthService;
+import com.esdc.gameapi.service.CatalogResponseCache;
 import com.esdc.gameapi.service.LevelService;
+import com.esdc.gameapi.service.SpeedrunLeaderboardService;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -31,18 +41,26 @@ public class LevelController {
 
   private final LevelService levelService;
   private final AdminAuthService adminAuthService;
+  private final SpeedrunLeaderboardService speedrunLeaderboardService;
+  private final CatalogResponseCache catalogResponseCache;
 
 
   @Value("${admin.password}")
   private String adminPassword;
 
   /**
-   * Gets all levels.
+   * Gets all levels, served from the pre-rendered catalog with ETag support.
    */
   @GetMapping
-  public ResponseEntity<List<LevelDto>> getAllLevels() {
+  @ApiResponse(responseCode = "200", description = "Levels retrieved", content = @Content(
+      mediaType = "application/json",
+      array = @ArraySchema(schema = @Schema(implementation = LevelDto.class))))
+  public ResponseEntity<byte[]> getAllLevels(
+      @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+      @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false)
+      String acceptEncoding) {
     log.debug("Request to get all levels");
-    return ResponseEntity.ok(levelService.getAllLevels());
+    return catalogResponseCache.getLevels(accept).toResponse(acceptEncoding);
   }
 
   /**
@@ -54,6 +72,16 @@ public class LevelController {
     return ResponseEntity.ok(levelService.getLevelById(id));
   }
 
+  /**
+   * Gets fastest personal bests on a level.
+   */
+  @GetMapping("/{id}/leaderboard")
+  @RequestPriority(Priority.LOW)
+  public ResponseEntity<List<SpeedrunEntryDto>> getLevelLeaderboard(@PathVariable Long id) {
+    log.debug("Request to get speedrun leaderboard of level: {}", id);
+    return ResponseEntity.ok(speedrunLeaderboardService.getLeaderboard(id));
+  }
+
   /**
    * Creates new level (admin only).
    */
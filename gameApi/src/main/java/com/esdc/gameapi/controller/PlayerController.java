@@ -0,0 +1,66 @@
+package com.esdc.gameapi.controller;
+
+import com.esdc.gameapi.domain.dto.PlayerSnapshotDto;
+import com.esdc.gameapi.service.PlayerEventBroadcaster;
+import com.esdc.gameapi.service.PlayerSnapshotService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * REST controller for aggregated player data.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/players")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearerAuth")
+@Tag(name = "Players", description = "Aggregated player data")
+public class PlayerController {
+
+  private final PlayerSnapshotService playerSnapshotService;
+  private final PlayerEventBroadcaster playerEventBroadcaster;
+
+  /**
+   * Gets everything the game client needs on boot in one response.
+   */
+  @GetMapping("/{userId}/snapshot")
+  @Operation(summary = "Get player snapshot",
+      description = "Returns user, statistics, stars progress, unlocked achievements "
+          + "and best result on every level")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Snapshot retrieved"),
+      @ApiResponse(responseCode = "404", description = "User not found")
+  })
+  public ResponseEntity<PlayerSnapshotDto> getSnapshot(@PathVariable Long userId) {
+    log.debug("Request to get snapshot for user: {}", userId);
+    return ResponseEntity.ok(playerSnapshotService.getSnapshot(userId));
+  }
+
+  /**
+   * Streams statistics changes and achievement unlocks of the player as Server-Sent Events.
+   */
+  @GetMapping(value = "/{userId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  @Operation(summary = "Stream player events",
+      description = "Server-Sent Events stream with 'statistics' events carrying the new "
+          + "totals and 'achievement-unlocked' events carrying the unlocked achievement")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Stream opened"),
+      @ApiResponse(responseCode = "503", description = "Too many open streams")
+  })
+  public SseEmitter streamEvents(@PathVariable Long userId) {
+    log.debug("Request to stream events for user: {}", userId);
+    return playerEventBroadcaster.subscribe(userId);
+  }
+}
@@ -1,5 +1,7 @@
 package com.esdc.gameapi.controller;
 
+import com.esdc.gameapi.concurrency.Priority;
+import com.esdc.gameapi.concurrency.RequestPriority;
 import com.esdc.gameapi.domain.dto.ProgressDto;
 import com.esdc.gameapi.service.ProgressService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -39,6 +41,7 @@ public class ProgressController {
    * Gets all user progress across levels.
    */
   @GetMapping("/{userId}")
+  @RequestPriority(Priority.LOW)
   @Operation(summary = "Get user progress",
       description = "Returns all user progress across all levels")
   @ApiResponse(responseCode = "200", description = "Successfully retrieved progress")
@@ -98,6 +101,7 @@ public class ProgressController {
    * Creates new progress record for user on level.
    */
   @PostMapping
+  @RequestPriority(Priority.HIGH)
   @Operation(summary = "Create new progress",
       description = "Creates a progress record for a user on a level")
   @ApiResponses(value = {
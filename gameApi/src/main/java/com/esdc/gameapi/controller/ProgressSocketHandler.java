@@ -0,0 +1,191 @@
+package com.esdc.gameapi.controller;
+
+import com.esdc.gameapi.domain.dto.AchievementDto;
+import com.esdc.gameapi.domain.dto.ProgressDto;
+import com.esdc.gameapi.domain.dto.ProgressFrameDto;
+import com.esdc.gameapi.domain.dto.ProgressSocketMessageDto;
+import com.esdc.gameapi.domain.event.AchievementUnlockedEvent;
+import com.esdc.gameapi.exception.ApplicationException;
+import com.esdc.gameapi.security.JwtHandshakeInterceptor;
+import com.esdc.gameapi.service.ProgressStream;
+import com.esdc.gameapi.service.ProgressStreamService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+/**
+ * WebSocket handler for streaming progress of level attempts.
+ *
+ * <p>The connection is authenticated once during the handshake; every frame is attributed to
+ * that user. Clients send {@code CHECKPOINT} frames while playing and get
+ * {@code achievement-reached} messages back, then a {@code FINISH} frame that is saved and
+ * answered with {@code saved}. Unlocks committed for the user are pushed as
+ * {@code achievement-unlocked}. An attempt that is abandoned or whose connection closes is
+ * discarded.
+ */
+@Slf4j
+@Component
+public class ProgressSocketHandler extends TextWebSocketHandler {
+
+  private static final String STREAM_ATTRIBUTE = "progressStream";
+  private static final String OUTBOUND_ATTRIBUTE = "progressOutbound";
+
+  private final ProgressStreamService progressStreamService;
+  private final ObjectMapper objectMapper;
+  private final int sendTimeLimit;
+  private final int sendBufferSize;
+  private final int maxTextMessageSize;
+
+  private final Map<Long, Set<WebSocketSession>> sessionsByUser = new ConcurrentHashMap<>();
+
+  /**
+   * Creates handler.
+   */
+  public ProgressSocketHandler(ProgressStreamService progressStreamService,
+                               ObjectMapper objectMapper,
+                               @Value("${app.websocket.send-time-limit:PT10S}")
+                               Duration sendTimeLimit,
+                               @Value("${app.websocket.send-buffer-size:65536}")
+                               int sendBufferSize,
+                               @Value("${app.websocket.max-text-message-size:8192}")
+                               int maxTextMessageSize) {
+    this.progressStreamService = progressStreamService;
+    this.objectMapper = objectMapper;
+    this.sendTimeLimit = (int) sendTimeLimit.toMillis();
+    this.sendBufferSize = sendBufferSize;
+    this.maxTextMessageSize = maxTextMessageSize;
+  }
+
+  @Override
+  public void afterConnectionEstablished(WebSocketSession session) {
+    Long userId = (Long) session.getAttributes().get(JwtHandshakeInterceptor.USER_ID_ATTRIBUTE);
+    session.setTextMessageSizeLimit(maxTextMessageSize);
+    // Replies and pushed unlocks may be sent from different threads, so all sends go through
+    // one decorator that serializes them and drops clients that stop reading
+    WebSocketSession outbound =
+        new ConcurrentWebSocketSessionDecorator(session, sendTimeLimit, sendBufferSize);
+    session.getAttributes().put(STREAM_ATTRIBUTE, progressStreamService.open(userId));
+    session.getAttributes().put(OUTBOUND_ATTRIBUTE, outbound);
+    sessionsByUser.computeIfAbsent(userId, key -> ConcurrentHashMap.newKeySet()).add(outbound);
+    log.debug("Progress socket opened for user: {}", userId);
+  }
+
+  @Override
+  protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+    ProgressStream stream = (ProgressStream) session.getAttributes().get(STREAM_ATTRIBUTE);
+    WebSocketSession out = (WebSocketSession) session.getAttributes().get(OUTBOUND_ATTRIBUTE);
+    try {
+      ProgressFrameDto frame = objectMapper.readValue(message.getPayload(),
+          ProgressFrameDto.class);
+      if (frame.getType() == null) {
+        throw new IllegalArgumentException("type is required");
+      }
+      switch (frame.getType()) {
+        case CHECKPOINT -> {
+          for (AchievementDto achievement : progressStreamService.checkpoint(stream, frame)) {
+            send(out, ProgressSocketMessageDto.builder()
+                .type(ProgressSocketMessageDto.ACHIEVEMENT_REACHED)
+                .achievement(achievement)
+                .build());
+          }
+        }
+        case FINISH -> {
+          ProgressDto saved = progressStreamService.finish(stream, frame);
+          send(out, ProgressSocketMessageDto.builder()
+              .type(ProgressSocketMessageDto.SAVED)
+              .progress(saved)
+              .build());
+        }
+        case ABANDON -> progressStreamService.abandon(stream);
+        default -> throw new IllegalArgumentException("Unsupported frame type");
+      }
+    } catch (JsonProcessingException e) {
+      log.debug("Malformed progress frame from user {}: {}", stream.getUserId(),
+          e.getOriginalMessage());
+      sendError(out, "Malformed frame");
+    } catch (ApplicationException | IllegalArgumentException e) {
+      log.debug("Rejected progress frame from user {}: {}", stream.getUserId(), e.getMessage());
+      sendError(out, e.getMessage());
+    }
+  }
+
+  @Override
+  public void handleTransportError(WebSocketSession session, Throwable exception) {
+    log.debug("Progress socket transport error: {}", exception.getMessage());
+  }
+
+  @Override
+  public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+    ProgressStream stream = (ProgressStream) session.getAttributes().get(STREAM_ATTRIBUTE);
+    if (stream == null) {
+      return;
+    }
+    Object outbound = session.getAttributes().get(OUTBOUND_ATTRIBUTE);
+    sessionsByUser.computeIfPresent(stream.getUserId(), (key, sessions) -> {
+      sessions.remove(outbound);
+      return sessions.isEmpty() ? null : sessions;
+    });
+    log.debug("Progress socket closed for user {}: {}", stream.getUserId(), status);
+  }
+
+  /**
+   * Pushes committed achievement unlock to the user's open connections.
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onAchievementUnlocked(AchievementUnlockedEvent event) {
+    Set<WebSocketSession> sessions = sessionsByUser.get(event.userId());
+    if (sessions == null) {
+      return;
+    }
+    ProgressSocketMessageDto message = ProgressSocketMessageDto.builder()
+        .type(ProgressSocketMessageDto.ACHIEVEMENT_UNLOCKED)
+        .achievement(AchievementDto.builder()
+            .id(event.achievementId())
+            .achievementName(event.achievementName())
+            .achievementDescription(event.achievementDescription())
+            .build())
+        .build();
+    sessions.forEach(session -> {
+      ProgressStream stream = (ProgressStream) session.getAttributes().get(STREAM_ATTRIBUTE);
+      if (stream != null) {
+        progressStreamService.unlocked(stream, event.achievementId());
+      }
+      send(session, message);
+    });
+  }
+
+  /**
+   * Number of open connections.
+   */
+  public int sessionCount() {
+    return sessionsByUser.values().stream().mapToInt(Set::size).sum();
+  }
+
+  private void sendError(WebSocketSession session, String message) {
+    send(session, ProgressSocketMessageDto.builder()
+        .type(ProgressSocketMessageDto.ERROR)
+        .message(message)
+        .build());
+  }
+
+  private void send(WebSocketSession session, ProgressSocketMessageDto message) {
+    try {
+      session.sendMessage(new TextMessage(objectMapper.writeValueAsString(message)));
+    } catch (IOException | IllegalStateException e) {
+      log.debug("Could not send progress socket message: {}", e.getMessage());
+    }
+  }
+}
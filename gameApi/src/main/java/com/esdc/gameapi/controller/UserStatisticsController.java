@@ -1,7 +1,14 @@
 package com.esdc.gameapi.controller;
 
+import com.esdc.gameapi.concurrency.Priority;
+import com.esdc.gameapi.concurrency.RequestPriority;
+import com.esdc.gameapi.config.ReadRouting;
+import com.esdc.gameapi.config.SingleFlightAspect;
 import com.esdc.gameapi.domain.dto.StarsProgressDto;
+import com.esdc.gameapi.domain.dto.StatisticsPercentilesDto;
 import com.esdc.gameapi.domain.dto.UserStatisticsDto;
+import com.esdc.gameapi.service.StatisticsPercentileService;
+import com.esdc.gameapi.service.UserDataVersions;
 import com.esdc.gameapi.service.UserStatisticsService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -19,6 +26,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * REST controller for user statistics operations.
@@ -32,9 +40,14 @@ import org.springframework.web.bind.annotation.RestController;
 public class UserStatisticsController {
 
   private final UserStatisticsService statisticsService;
+  private final StatisticsPercentileService percentileService;
+  private final UserDataVersions userDataVersions;
 
   /**
    * Gets user statistics by ID.
+   *
+   * <p>Answers a matching {@code If-None-Match} with 304 before touching the database. Reads go
+   * to the primary so a lagging replica can never be stored under the current version.
    */
   @GetMapping("/{userId}")
   @Operation(summary = "Get user statistics",
@@ -42,13 +55,21 @@ public class UserStatisticsController {
           + "completed levels, play time, enemies, puzzles, stars")
   @ApiResponses(value = {
       @ApiResponse(responseCode = "200", description = "Successfully retrieved statistics"),
+      @ApiResponse(responseCode = "304", description = "Statistics not modified"),
       @ApiResponse(responseCode = "404", description = "Statistics not found")
   })
   public ResponseEntity<UserStatisticsDto> getUserStatistics(
       @Parameter(description = "User ID")
-      @PathVariable Long userId) {
+      @PathVariable Long userId,
+      WebRequest request) {
     log.debug("Request to get statistics for user: {}", userId);
-    return statisticsService.getStatisticsByUserId(userId)
+    String etag = userDataVersions.statisticsEtag(userId);
+    if (request.checkNotModified(etag)) {
+      log.debug("Statistics not modified for user: {}", userId);
+      return null;
+    }
+    return SingleFlightAspect.atVersion(etag, () ->
+            ReadRouting.onPrimary(() -> statisticsService.getStatisticsByUserId(userId)))
         .map(stats -> {
           log.debug("Statistics found for user: {}", userId);
           return ResponseEntity.ok(stats);
@@ -116,4 +137,23 @@ public class UserStatisticsController {
       return ResponseEntity.notFound().build();
     }
   }
+
+  /**
+   * Gets approximate percentile ranks of user statistics.
+   */
+  @GetMapping("/{userId}/percentiles")
+  @RequestPriority(Priority.LOW)
+  @Operation(summary = "Get statistics percentiles",
+      description = "Returns approximate share of players below the user and the top percent "
+          + "the user is in for stars, completed levels, killed enemies and play time")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Percentiles retrieved"),
+      @ApiResponse(responseCode = "404", description = "Statistics not found")
+  })
+  public ResponseEntity<StatisticsPercentilesDto> getPercentiles(
+      @Parameter(description = "User ID")
+      @PathVariable Long userId) {
+    log.debug("Request to get statistics percentiles for user: {}", userId);
+    return ResponseEntity.ok(percentileService.getPercentiles(userId));
+  }
 }
@@ -0,0 +1,19 @@
+package com.esdc.gameapi.domain;
+
+/**
+ * Lifecycle states of a background job.
+ */
+public enum JobStatus {
+  PENDING,
+  RUNNING,
+  COMPLETED,
+  FAILED,
+  CANCELLED;
+
+  /**
+   * Whether the job still has work to do and should be resumed after a restart.
+   */
+  public boolean isActive() {
+    return this == PENDING || this == RUNNING;
+  }
+}
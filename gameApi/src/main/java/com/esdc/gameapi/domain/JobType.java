@@ -0,0 +1,9 @@
+package com.esdc.gameapi.domain;
+
+/**
+ * Types of asynchronous background jobs.
+ */
+public enum JobType {
+  ACHIEVEMENT_BACKFILL,
+  STATISTICS_RECOMPUTE
+}
@@ -0,0 +1,27 @@
+package com.esdc.gameapi.domain;
+
+import com.esdc.gameapi.domain.event.UserStatisticsChangedEvent;
+import java.util.function.ToIntFunction;
+
+/**
+ * Player statistics that percentiles are tracked for.
+ */
+public enum StatisticsMetric {
+  STARS(UserStatisticsChangedEvent.Snapshot::totalStars),
+  LEVELS_COMPLETED(UserStatisticsChangedEvent.Snapshot::totalLevelsCompleted),
+  KILLED_ENEMIES(UserStatisticsChangedEvent.Snapshot::totalKilledEnemies),
+  TIME_PLAYED(UserStatisticsChangedEvent.Snapshot::totalTimeSeconds);
+
+  private final ToIntFunction<UserStatisticsChangedEvent.Snapshot> extractor;
+
+  StatisticsMetric(ToIntFunction<UserStatisticsChangedEvent.Snapshot> extractor) {
+    this.extractor = extractor;
+  }
+
+  /**
+   * Returns value of this metric in a snapshot.
+   */
+  public int valueOf(UserStatisticsChangedEvent.Snapshot snapshot) {
+    return extractor.applyAsInt(snapshot);
+  }
+}
@@ -0,0 +1,28 @@
+package com.esdc.gameapi.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for background job status and progress.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BackgroundJobDto {
+  private Long id;
+  private String jobType;
+  private Long targetId;
+  private String status;
+  private Long totalItems;
+  private Long processedItems;
+  private Long affectedItems;
+  private Double progressPercentage;
+  private String errorMessage;
+  private String createdAt;
+  private String startedAt;
+  private String finishedAt;
+}
@@ -0,0 +1,20 @@
+package com.esdc.gameapi.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for player position in the stars leaderboard.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaderboardEntryDto {
+  private long rank;
+  private Long userId;
+  private String nickname;
+  private int totalStars;
+}
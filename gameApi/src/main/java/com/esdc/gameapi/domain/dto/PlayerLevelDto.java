@@ -0,0 +1,23 @@
+package com.esdc.gameapi.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for a level together with the player's best result on it.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlayerLevelDto {
+  private Long levelId;
+  private String levelName;
+  private Boolean bossOnLevel;
+  private Integer starsOnLevel;
+  private Integer bestStars;
+  private String bestTime;
+  private long attempts;
+}
@@ -0,0 +1,22 @@
+package com.esdc.gameapi.domain.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO with everything the game client loads on boot for one player.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlayerSnapshotDto {
+  private UserResponseDto user;
+  private UserStatisticsDto statistics;
+  private StarsProgressDto starsProgress;
+  private List<UserAchievementDto> achievements;
+  private List<PlayerLevelDto> levels;
+}
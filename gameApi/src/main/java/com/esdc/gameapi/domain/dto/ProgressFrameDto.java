@@ -0,0 +1,35 @@
+package com.esdc.gameapi.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for a frame sent by the client over the progress WebSocket.
+ *
+ * <p>{@code CHECKPOINT} frames carry running totals of the current attempt, {@code FINISH}
+ * completes it with time and stars, {@code ABANDON} discards it.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProgressFrameDto {
+
+  /**
+   * Kind of client frame.
+   */
+  public enum Type {
+    CHECKPOINT,
+    FINISH,
+    ABANDON
+  }
+
+  private Type type;
+  private Long levelId;
+  private Integer killedEnemiesNumber;
+  private Integer solvedPuzzlesNumber;
+  private String timeSpent;
+  private Integer stars;
+}
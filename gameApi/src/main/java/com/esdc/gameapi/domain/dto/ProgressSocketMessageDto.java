@@ -0,0 +1,26 @@
+package com.esdc.gameapi.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for a message sent to the client over the progress WebSocket.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProgressSocketMessageDto {
+
+  public static final String ACHIEVEMENT_REACHED = "achievement-reached";
+  public static final String ACHIEVEMENT_UNLOCKED = "achievement-unlocked";
+  public static final String SAVED = "saved";
+  public static final String ERROR = "error";
+
+  private String type;
+  private AchievementDto achievement;
+  private ProgressDto progress;
+  private String message;
+}
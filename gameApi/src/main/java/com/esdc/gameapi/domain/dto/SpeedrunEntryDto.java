@@ -0,0 +1,21 @@
+package com.esdc.gameapi.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for player personal best in a level speedrun leaderboard.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SpeedrunEntryDto {
+  private int rank;
+  private Long userId;
+  private String nickname;
+  private String timeSpent;
+  private String achievedAt;
+}
@@ -0,0 +1,34 @@
+package com.esdc.gameapi.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for approximate percentile ranks of a player's statistics.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatisticsPercentilesDto {
+  private long totalPlayers;
+  private MetricPercentileDto stars;
+  private MetricPercentileDto levelsCompleted;
+  private MetricPercentileDto killedEnemies;
+  private MetricPercentileDto timePlayed;
+
+  /**
+   * Percentile rank of a single statistic.
+   */
+  @Data
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class MetricPercentileDto {
+    private int value;
+    private double percentile;
+    private double topPercent;
+  }
+}
@@ -0,0 +1,131 @@
+package com.esdc.gameapi.domain.entity;
+
+import com.esdc.gameapi.domain.JobStatus;
+import com.esdc.gameapi.domain.JobType;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Converter;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Persistent state of an asynchronous background job.
+ *
+ * <p>The cursor holds the last fully processed user ID, so a job interrupted by a crash
+ * resumes right after the last committed chunk.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(
+    name = "background_jobs",
+    indexes = {
+        @Index(name = "idx_background_jobs_status", columnList = "status"),
+        @Index(name = "idx_background_jobs_type_target", columnList = "job_type, target_id")
+    }
+)
+public class BackgroundJob {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "job_id")
+  private Long id;
+
+  // Converted rather than @Enumerated, so no check constraint pins the set of job types
+  @Convert(converter = JobTypeConverter.class)
+  @Column(name = "job_type", nullable = false, length = 40)
+  private JobType jobType;
+
+  @Column(name = "target_id", nullable = false)
+  private Long targetId;
+
+  @Convert(converter = JobStatusConverter.class)
+  @Column(name = "status", nullable = false, length = 20)
+  private JobStatus status;
+
+  @Column(name = "cursor_id", nullable = false)
+  private Long cursorId;
+
+  @Column(name = "total_items")
+  private Long totalItems;
+
+  @Column(name = "processed_items", nullable = false)
+  private Long processedItems;
+
+  @Column(name = "affected_items", nullable = false)
+  private Long affectedItems;
+
+  @Column(name = "error_message", length = 1000)
+  private String errorMessage;
+
+  @Column(name = "started_at")
+  private LocalDateTime startedAt;
+
+  @Column(name = "finished_at")
+  private LocalDateTime finishedAt;
+
+  @Column(name = "created_at", nullable = false, updatable = false)
+  private LocalDateTime createdAt;
+
+  @Column(name = "updated_at", nullable = false)
+  private LocalDateTime updatedAt;
+
+  @PrePersist
+  protected void onCreate() {
+    this.createdAt = LocalDateTime.now();
+    this.updatedAt = LocalDateTime.now();
+  }
+
+  @PreUpdate
+  protected void onUpdate() {
+    this.updatedAt = LocalDateTime.now();
+  }
+
+  /**
+   * Stores job type by name.
+   */
+  @Converter
+  public static class JobTypeConverter implements AttributeConverter<JobType, String> {
+    @Override
+    public String convertToDatabaseColumn(JobType jobType) {
+      return jobType != null ? jobType.name() : null;
+    }
+
+    @Override
+    public JobType convertToEntityAttribute(String value) {
+      return value != null ? JobType.valueOf(value) : null;
+    }
+  }
+
+  /**
+   * Stores job status by name.
+   */
+  @Converter
+  public static class JobStatusConverter implements AttributeConverter<JobStatus, String> {
+    @Override
+    public String convertToDatabaseColumn(JobStatus status) {
+      return status != null ? status.name() : null;
+    }
+
+    @Override
+    public JobStatus convertToEntityAttribute(String value) {
+      return value != null ? JobStatus.valueOf(value) : null;
+    }
+  }
+}
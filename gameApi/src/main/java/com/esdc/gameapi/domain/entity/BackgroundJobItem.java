@@ -0,0 +1,47 @@
+package com.esdc.gameapi.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Item ID snapshotted for a background job when it is created.
+ *
+ * <p>The primary key {@code (job_id, item_id)} serves the job's cursor scan directly.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@IdClass(BackgroundJobItem.Key.class)
+@Table(name = "background_job_items")
+public class BackgroundJobItem {
+
+  @Id
+  @Column(name = "job_id")
+  private Long jobId;
+
+  @Id
+  @Column(name = "item_id")
+  private Long itemId;
+
+  /**
+   * Composite primary key.
+   */
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Key implements Serializable {
+    private Long jobId;
+    private Long itemId;
+  }
+}
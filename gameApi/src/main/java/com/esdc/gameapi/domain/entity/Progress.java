@@ -29,7 +29,8 @@ import lombok.Setter;
 @Table(
     name = "progress",
     indexes = {
-        @Index(name = "idx_progress_user_level", columnList = "user_id, level_id")
+        @Index(name = "idx_progress_user_level", columnList = "user_id, level_id"),
+        @Index(name = "idx_progress_level_user", columnList = "level_id, user_id")
     }
 )
 public class Progress {
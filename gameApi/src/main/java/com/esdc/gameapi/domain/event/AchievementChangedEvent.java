@@ -0,0 +1,10 @@
+package com.esdc.gameapi.domain.event;
+
+/**
+ * Published when an achievement is created, updated or deleted.
+ *
+ * @param achievementId changed achievement ID
+ * @param changeType kind of change
+ */
+public record AchievementChangedEvent(Long achievementId, ChangeType changeType) {
+}
@@ -0,0 +1,16 @@
+package com.esdc.gameapi.domain.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published when a player unlocks an achievement through progress.
+ *
+ * @param userId player ID
+ * @param achievementId unlocked achievement ID
+ * @param achievementName achievement name
+ * @param achievementDescription achievement description
+ * @param unlockedAt when the achievement was unlocked
+ */
+public record AchievementUnlockedEvent(Long userId, Long achievementId, String achievementName,
+                                       String achievementDescription, LocalDateTime unlockedAt) {
+}
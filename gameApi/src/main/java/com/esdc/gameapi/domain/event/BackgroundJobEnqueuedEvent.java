@@ -0,0 +1,9 @@
+package com.esdc.gameapi.domain.event;
+
+/**
+ * Published when a background job is created inside a caller's transaction.
+ *
+ * @param jobId created job ID
+ */
+public record BackgroundJobEnqueuedEvent(Long jobId) {
+}
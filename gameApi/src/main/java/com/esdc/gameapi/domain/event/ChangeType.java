@@ -0,0 +1,10 @@
+package com.esdc.gameapi.domain.event;
+
+/**
+ * Kind of change applied to a catalog entity.
+ */
+public enum ChangeType {
+  CREATED,
+  UPDATED,
+  DELETED
+}
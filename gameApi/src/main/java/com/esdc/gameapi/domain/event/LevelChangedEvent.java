@@ -0,0 +1,21 @@
+package com.esdc.gameapi.domain.event;
+
+/**
+ * Published inside the transaction that creates, updates or deletes a level.
+ *
+ * <p>For deletions the event is published before the level and its progress are removed,
+ * so listeners can still see who played it.
+ *
+ * @param levelId changed level ID
+ * @param changeType kind of change
+ * @param starsChanged whether the number of stars on the level changed
+ */
+public record LevelChangedEvent(Long levelId, ChangeType changeType, boolean starsChanged) {
+
+  /**
+   * Whether stored statistics of players who played the level may be stale.
+   */
+  public boolean affectsPlayerStatistics() {
+    return changeType == ChangeType.DELETED || starsChanged;
+  }
+}
@@ -0,0 +1,16 @@
+package com.esdc.gameapi.domain.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published when a level run is recorded.
+ *
+ * @param userId player ID
+ * @param nickname player nickname at the time of the run
+ * @param levelId level ID
+ * @param timeSpent run time in HH:MM:SS format
+ * @param createdAt when the run was recorded
+ */
+public record ProgressCreatedEvent(Long userId, String nickname, Long levelId,
+                                   String timeSpent, LocalDateTime createdAt) {
+}
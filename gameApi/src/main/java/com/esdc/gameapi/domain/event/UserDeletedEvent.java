@@ -0,0 +1,10 @@
+package com.esdc.gameapi.domain.event;
+
+/**
+ * Published when a user is deleted.
+ *
+ * @param userId deleted user ID
+ * @param statistics last saved statistics values, or null if the user had no statistics
+ */
+public record UserDeletedEvent(Long userId, UserStatisticsChangedEvent.Snapshot statistics) {
+}
@@ -0,0 +1,9 @@
+package com.esdc.gameapi.domain.event;
+
+/**
+ * Published inside the transaction that registers a user.
+ *
+ * @param userId registered user ID
+ */
+public record UserRegisteredEvent(Long userId) {
+}
@@ -0,0 +1,10 @@
+package com.esdc.gameapi.domain.event;
+
+/**
+ * Published inside the transaction that changes a user's nickname.
+ *
+ * @param userId renamed user ID
+ * @param nickname new nickname
+ */
+public record UserRenamedEvent(Long userId, String nickname) {
+}
@@ -0,0 +1,34 @@
+package com.esdc.gameapi.domain.event;
+
+import com.esdc.gameapi.domain.dto.UserStatisticsDto;
+
+/**
+ * Published when statistics of a user are saved.
+ *
+ * @param userId user whose statistics changed
+ * @param previous values before the change, or null if the user had no statistics
+ * @param current saved values
+ * @param statistics saved statistics as the API returns them
+ */
+public record UserStatisticsChangedEvent(Long userId, Snapshot previous, Snapshot current,
+                                         UserStatisticsDto statistics) {
+
+  /**
+   * Returns saved total stars.
+   */
+  public int totalStars() {
+    return current.totalStars();
+  }
+
+  /**
+   * Statistics values at one point in time.
+   *
+   * @param totalStars total stars
+   * @param totalLevelsCompleted number of distinct completed levels
+   * @param totalKilledEnemies total killed enemies
+   * @param totalTimeSeconds total time played in seconds
+   */
+  public record Snapshot(int totalStars, int totalLevelsCompleted, int totalKilledEnemies,
+                         int totalTimeSeconds) {
+  }
+}
@@ -32,4 +32,18 @@ public abstract class ApplicationException extends RuntimeException {
     this.errorCode = errorCode;
   }
 
+  /**
+   * Creates exception with message, status and error code, optionally without stack trace.
+   *
+   * <p>For expected outcomes such as missing resources, where the stack trace is never read
+   * and capturing it dominates the cost of the error response.
+   */
+  protected ApplicationException(
+      String message, HttpStatus status, String errorCode, boolean writableStackTrace
+  ) {
+    super(message, null, false, writableStackTrace);
+    this.status = status;
+    this.errorCode = errorCode;
+  }
+
 }
@@ -0,0 +1,21 @@
+package com.esdc.gameapi.exception;
+
+import java.sql.SQLTransientConnectionException;
+
+/**
+ * Exception for connection requests rejected by database admission control.
+ *
+ * <p>Thrown from {@code DataSource#getConnection()}, so it reaches the web tier wrapped in the
+ * data access exception of whichever layer asked for the connection.
+ */
+public class DatabaseBusyException extends SQLTransientConnectionException {
+
+  private static final String SQL_STATE_CONNECTION_FAILURE = "08001";
+
+  /**
+   * Creates exception with custom message.
+   */
+  public DatabaseBusyException(String message) {
+    super(message, SQL_STATE_CONNECTION_FAILURE);
+  }
+}
@@ -10,12 +10,16 @@ import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.AuthenticationException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -34,6 +38,7 @@ import org.springframework.web.servlet.NoHandlerFoundException;
 public class GlobalExceptionHandler {
 
   private static final int MAX_STACKTRACE_LENGTH = 2000;
+  private static final String RETRY_AFTER_SECONDS = "1";
 
   @Value("${app.debug:false}")
   private boolean debugMode;
@@ -340,6 +345,35 @@ public class GlobalExceptionHandler {
     return ResponseEntity.status(HttpStatus.METHOD_NOT_ALLOWED).body(error);
   }
 
+  /**
+   * Connection failures (503 when rejected by database admission control, 500 otherwise).
+   */
+  @ExceptionHandler({
+      CannotCreateTransactionException.class,
+      DataAccessResourceFailureException.class
+  })
+  public ResponseEntity<ErrorResponse> handleConnectionFailure(
+      Exception ex,
+      HttpServletRequest request) {
+
+    if (!(NestedExceptionUtils.getMostSpecificCause(ex) instanceof DatabaseBusyException busy)) {
+      return handleGlobalException(ex, request);
+    }
+    log.warn("Database busy at {}: {}", request.getRequestURI(), busy.getMessage());
+
+    ErrorResponse error = buildErrorResponse(
+        HttpStatus.SERVICE_UNAVAILABLE,
+        "Service is busy, please retry",
+        "DATABASE_BUSY",
+        request.getRequestURI(),
+        ex
+    );
+
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+        .body(error);
+  }
+
   /**
    * All other exceptions (500).
    */
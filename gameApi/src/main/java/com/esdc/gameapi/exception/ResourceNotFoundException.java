@@ -4,6 +4,8 @@ import org.springframework.http.HttpStatus;
 
 /**
  * Exception for missing resources.
+ *
+ * <p>Stackless: it is thrown for every lookup of a nonexistent ID, including floods of them.
  */
 public class ResourceNotFoundException extends ApplicationException {
 
@@ -13,13 +15,14 @@ public class ResourceNotFoundException extends ApplicationException {
   public ResourceNotFoundException(String resource, String field, Object value) {
     super(String.format("%s not found with %s: '%s'", resource, field, value),
         HttpStatus.NOT_FOUND,
-        "RESOURCE_NOT_FOUND");
+        "RESOURCE_NOT_FOUND",
+        false);
   }
 
   /**
    * Creates exception with custom message.
    */
   public ResourceNotFoundException(String message) {
-    super(message, HttpStatus.NOT_FOUND, "RESOURCE_NOT_FOUND");
+    super(message, HttpStatus.NOT_FOUND, "RESOURCE_NOT_FOUND", false);
   }
 }
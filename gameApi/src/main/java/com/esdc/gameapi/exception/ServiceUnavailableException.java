@@ -0,0 +1,16 @@
+package com.esdc.gameapi.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Exception for requests rejected because a server-side capacity limit is reached.
+ */
+public class ServiceUnavailableException extends ApplicationException {
+
+  /**
+   * Creates exception with custom message.
+   */
+  public ServiceUnavailableException(String message) {
+    super(message, HttpStatus.SERVICE_UNAVAILABLE, "SERVICE_UNAVAILABLE");
+  }
+}
@@ -0,0 +1,32 @@
+package com.esdc.gameapi.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for checking achievement conditions after a level result.
+ */
+@Name("com.esdc.gameapi.AchievementEvaluation")
+@Label("Achievement Evaluation")
+@Description("Achievement conditions checked for a player after a level result")
+@Category({"Game API", "Progress"})
+@StackTrace(false)
+public class AchievementEvaluationEvent extends Event {
+
+  @Label("User ID")
+  public long userId;
+
+  @Label("Level ID")
+  public long levelId;
+
+  @Label("Rules Tested")
+  @Description("Conditions of achievements the player did not have yet")
+  public int rulesTested;
+
+  @Label("Unlocked")
+  public int unlocked;
+}
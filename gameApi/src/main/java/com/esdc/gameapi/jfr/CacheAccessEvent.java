@@ -0,0 +1,25 @@
+package com.esdc.gameapi.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for a lookup in one of the in-process caches.
+ */
+@Name("com.esdc.gameapi.CacheAccess")
+@Label("Cache Access")
+@Description("Lookup in an in-process cache; a miss includes loading the value")
+@Category({"Game API", "Cache"})
+@StackTrace(false)
+public class CacheAccessEvent extends Event {
+
+  @Label("Cache")
+  public String cache;
+
+  @Label("Hit")
+  public boolean hit;
+}
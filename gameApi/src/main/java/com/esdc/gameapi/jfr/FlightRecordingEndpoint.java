@@ -0,0 +1,157 @@
+package com.esdc.gameapi.jfr;
+
+import com.esdc.gameapi.exception.BadRequestException;
+import com.esdc.gameapi.exception.ResourceNotFoundException;
+import com.esdc.gameapi.service.AdminAuthService;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Actuator endpoint that starts and dumps a bounded Flight Recorder recording.
+ *
+ * <p>Recordings use the JDK's low-overhead {@code default} settings plus the application's
+ * own events, and are bounded by {@code app.jfr.max-duration} and {@code app.jfr.max-size}.
+ * One recording exists at a time; starting a new one discards the previous one. Starting and
+ * dumping require the admin password.
+ */
+@Slf4j
+@Component
+@Endpoint(id = "flightrecording")
+public class FlightRecordingEndpoint {
+
+  private static final String SETTINGS = "default";
+  private static final String NAME_PREFIX = "gameapi-";
+  private static final String NO_RECORDING = "NONE";
+
+  private final AdminAuthService adminAuthService;
+  private final Duration maxDuration;
+  private final DataSize maxSize;
+
+  private Recording recording;
+
+  /**
+   * Creates endpoint with the given recording bounds.
+   */
+  public FlightRecordingEndpoint(AdminAuthService adminAuthService,
+                                 @Value("${app.jfr.max-duration:PT10M}") Duration maxDuration,
+                                 @Value("${app.jfr.max-size:64MB}") DataSize maxSize) {
+    this.adminAuthService = adminAuthService;
+    this.maxDuration = maxDuration;
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * Describes the current recording.
+   */
+  @ReadOperation
+  public synchronized RecordingStatus status() {
+    if (recording == null) {
+      return new RecordingStatus(null, NO_RECORDING, null, null, 0);
+    }
+    return new RecordingStatus(recording.getName(), recording.getState().name(),
+        recording.getStartTime(), recording.getDuration(), recording.getSize());
+  }
+
+  /**
+   * Starts recording that stops by itself after the duration, capped at the maximum.
+   *
+   * @throws BadRequestException if the duration is not positive
+   */
+  @WriteOperation
+  public synchronized RecordingStatus start(String adminPassword, @Nullable Duration duration) {
+    adminAuthService.validateAdminPassword(adminPassword);
+    Duration length = duration != null ? duration : maxDuration;
+    if (length.isNegative() || length.isZero()) {
+      throw new BadRequestException("Recording duration must be positive");
+    }
+    if (length.compareTo(maxDuration) > 0) {
+      length = maxDuration;
+    }
+
+    Recording started;
+    try {
+      started = new Recording(Configuration.getConfiguration(SETTINGS));
+    } catch (IOException | ParseException e) {
+      throw new IllegalStateException("Flight Recorder settings unavailable", e);
+    }
+    started.setName(NAME_PREFIX + Instant.now().toEpochMilli());
+    started.setToDisk(true);
+    started.setMaxSize(maxSize.toBytes());
+    started.setDuration(length);
+    started.start();
+
+    if (recording != null) {
+      recording.close();
+    }
+    recording = started;
+    log.info("Flight recording {} started for {}", started.getName(), length);
+    return status();
+  }
+
+  /**
+   * Returns the data recorded so far; the recording keeps running.
+   *
+   * @throws ResourceNotFoundException if there is no recording with this name
+   */
+  @WriteOperation
+  public synchronized Resource dump(@Selector String name, String adminPassword) {
+    adminAuthService.validateAdminPassword(adminPassword);
+    if (recording == null || !recording.getName().equals(name)) {
+      throw new ResourceNotFoundException("Recording", "name", name);
+    }
+    try {
+      Path file = Files.createTempFile(name, ".jfr");
+      try {
+        recording.dump(file);
+        return new ByteArrayResource(Files.readAllBytes(file));
+      } finally {
+        Files.deleteIfExists(file);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Discards the recording on shutdown.
+   */
+  @PreDestroy
+  public synchronized void close() {
+    if (recording != null) {
+      recording.close();
+      recording = null;
+    }
+  }
+
+  /**
+   * State of the current recording.
+   *
+   * @param name recording name, used to dump it
+   * @param state NEW, RUNNING, STOPPED or CLOSED, or NONE if nothing was recorded yet
+   * @param startTime when recording started
+   * @param duration time after which recording stops
+   * @param size bytes recorded so far
+   */
+  public record RecordingStatus(String name, String state, Instant startTime, Duration duration,
+                                long size) {
+  }
+}
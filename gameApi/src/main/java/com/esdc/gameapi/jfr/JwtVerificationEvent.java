@@ -0,0 +1,22 @@
+package com.esdc.gameapi.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for authenticating a request by its bearer token.
+ */
+@Name("com.esdc.gameapi.JwtVerification")
+@Label("JWT Verification")
+@Description("Bearer token parsed, its user loaded and the token validated")
+@Category({"Game API", "Security"})
+@StackTrace(false)
+public class JwtVerificationEvent extends Event {
+
+  @Label("Valid")
+  public boolean valid;
+}
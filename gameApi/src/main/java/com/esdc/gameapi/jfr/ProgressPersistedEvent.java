@@ -0,0 +1,28 @@
+package com.esdc.gameapi.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for saving a level result.
+ */
+@Name("com.esdc.gameapi.ProgressPersisted")
+@Label("Progress Persisted")
+@Description("Level result saved by the progress pipeline")
+@Category({"Game API", "Progress"})
+@StackTrace(false)
+public class ProgressPersistedEvent extends Event {
+
+  @Label("User ID")
+  public long userId;
+
+  @Label("Level ID")
+  public long levelId;
+
+  @Label("Stars")
+  public int stars;
+}
@@ -0,0 +1,26 @@
+package com.esdc.gameapi.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for recalculating player statistics from their progress.
+ */
+@Name("com.esdc.gameapi.StatisticsRecomputed")
+@Label("Statistics Recomputed")
+@Description("Player statistics recalculated from all of their progress records")
+@Category({"Game API", "Progress"})
+@StackTrace(false)
+public class StatisticsRecomputedEvent extends Event {
+
+  @Label("Users")
+  public int users;
+
+  @Label("Progress Rows")
+  @Description("Progress records read for the recalculation")
+  public int progressRows;
+}
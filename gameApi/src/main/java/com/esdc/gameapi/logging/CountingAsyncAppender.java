@@ -0,0 +1,51 @@
+package com.esdc.gameapi.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Async appender that counts the events it drops.
+ *
+ * <p>Events are dropped for two reasons: below-WARN events are discarded once the queue is
+ * over the discarding threshold, and with {@code neverBlock} any event arriving at a full
+ * queue is dropped instead of blocking the logging thread. The latter is checked on arrival,
+ * so an event lost to a concurrent producer filling the last slot is not counted.
+ */
+public class CountingAsyncAppender extends AsyncAppender {
+
+  private final LongAdder discarded = new LongAdder();
+  private final LongAdder overflowed = new LongAdder();
+
+  @Override
+  protected void append(ILoggingEvent event) {
+    if (isNeverBlock() && getRemainingCapacity() == 0) {
+      overflowed.increment();
+      return;
+    }
+    super.append(event);
+  }
+
+  @Override
+  protected boolean isDiscardable(ILoggingEvent event) {
+    boolean discardable = super.isDiscardable(event);
+    if (discardable) {
+      discarded.increment();
+    }
+    return discardable;
+  }
+
+  /**
+   * Below-WARN events discarded because the queue was nearly full.
+   */
+  public long getDiscardedCount() {
+    return discarded.sum();
+  }
+
+  /**
+   * Events dropped because the queue was full and blocking is disabled.
+   */
+  public long getOverflowCount() {
+    return overflowed.sum();
+  }
+}
@@ -0,0 +1,81 @@
+package com.esdc.gameapi.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Iterator;
+import org.slf4j.ILoggerFactory;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Exports drops of the async appenders and events denied by sampling.
+ *
+ * <p>Appenders and filters are looked up when the registry is bound, i.e. after Spring Boot
+ * has applied {@code logback-spring.xml}.
+ */
+@Component
+public class LoggingMetrics implements MeterBinder {
+
+  private final ILoggerFactory loggerFactory;
+
+  /**
+   * Creates metrics of the SLF4J logger context.
+   */
+  public LoggingMetrics() {
+    this(LoggerFactory.getILoggerFactory());
+  }
+
+  LoggingMetrics(ILoggerFactory loggerFactory) {
+    this.loggerFactory = loggerFactory;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    if (!(loggerFactory instanceof LoggerContext context)) {
+      return;
+    }
+    Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+    for (Iterator<Appender<ILoggingEvent>> it = root.iteratorForAppenders(); it.hasNext(); ) {
+      if (it.next() instanceof CountingAsyncAppender appender) {
+        bindAppender(registry, appender);
+      }
+    }
+    for (TurboFilter filter : context.getTurboFilterList()) {
+      if (filter instanceof SamplingTurboFilter sampling) {
+        sampling.getSampledLoggers().forEach(logger -> FunctionCounter
+            .builder("logging.events.sampled.out", sampling,
+                filterRef -> filterRef.getSampledOutCount(logger))
+            .description("Debug and trace events denied by log sampling")
+            .tag("logger", logger)
+            .register(registry));
+      }
+    }
+  }
+
+  private void bindAppender(MeterRegistry registry, CountingAsyncAppender appender) {
+    FunctionCounter.builder("logging.events.dropped", appender,
+            CountingAsyncAppender::getDiscardedCount)
+        .description("Log events dropped by an async appender")
+        .tag("appender", appender.getName())
+        .tag("reason", "discarded")
+        .register(registry);
+    FunctionCounter.builder("logging.events.dropped", appender,
+            CountingAsyncAppender::getOverflowCount)
+        .description("Log events dropped by an async appender")
+        .tag("appender", appender.getName())
+        .tag("reason", "queue-full")
+        .register(registry);
+    Gauge.builder("logging.queue.size", appender,
+            CountingAsyncAppender::getNumberOfElementsInQueue)
+        .description("Log events waiting in an async appender queue")
+        .tag("appender", appender.getName())
+        .register(registry);
+  }
+}
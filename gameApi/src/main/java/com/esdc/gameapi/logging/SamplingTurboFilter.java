@@ -0,0 +1,132 @@
+package com.esdc.gameapi.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Marker;
+
+/**
+ * Passes at most {@code eventsPerSecond} DEBUG and TRACE events per second for each configured
+ * logger, including its child loggers, and denies the rest.
+ *
+ * <p>Meant for debug lines on hot paths, which stay useful as a sample under load. INFO and
+ * above, level checks such as {@code isDebugEnabled()} and loggers not configured are left
+ * alone. Each configured logger has its own budget, shared by its children.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+  private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+  private static final Sampler UNSAMPLED = new Sampler(Integer.MAX_VALUE);
+
+  private volatile Map<String, Sampler> samplersByName = Map.of();
+  private final Map<String, Sampler> samplersByLogger = new ConcurrentHashMap<>();
+  private String loggers = "";
+  private int eventsPerSecond = 100;
+
+  /**
+   * Comma-separated names of the sampled loggers.
+   */
+  public void setLoggers(String loggers) {
+    this.loggers = loggers;
+  }
+
+  /**
+   * Events passed per logger per second.
+   */
+  public void setEventsPerSecond(int eventsPerSecond) {
+    this.eventsPerSecond = eventsPerSecond;
+  }
+
+  @Override
+  public void start() {
+    Map<String, Sampler> samplers = new LinkedHashMap<>();
+    Arrays.stream(loggers.split(","))
+        .map(String::trim)
+        .filter(name -> !name.isEmpty())
+        .forEach(name -> samplers.put(name, new Sampler(eventsPerSecond)));
+    samplersByName = Collections.unmodifiableMap(samplers);
+    samplersByLogger.clear();
+    super.start();
+  }
+
+  @Override
+  public FilterReply decide(Marker marker, Logger logger, Level level, String format,
+                            Object[] params, Throwable t) {
+    if (!isStarted() || format == null || level.isGreaterOrEqual(Level.INFO)
+        || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+      return FilterReply.NEUTRAL;
+    }
+    Sampler sampler = samplersByLogger.computeIfAbsent(logger.getName(), this::samplerFor);
+    return sampler.tryAcquire() ? FilterReply.NEUTRAL : FilterReply.DENY;
+  }
+
+  /**
+   * Configured logger names.
+   */
+  public Set<String> getSampledLoggers() {
+    return samplersByName.keySet();
+  }
+
+  /**
+   * Events of the configured logger and its children denied so far.
+   */
+  public long getSampledOutCount(String logger) {
+    Sampler sampler = samplersByName.get(logger);
+    return sampler != null ? sampler.sampledOut.sum() : 0;
+  }
+
+  private Sampler samplerFor(String loggerName) {
+    // Most specific configured ancestor wins
+    for (String name = loggerName; ; name = name.substring(0, name.lastIndexOf('.'))) {
+      Sampler sampler = samplersByName.get(name);
+      if (sampler != null) {
+        return sampler;
+      }
+      if (name.lastIndexOf('.') < 0) {
+        return UNSAMPLED;
+      }
+    }
+  }
+
+  private static final class Sampler {
+
+    private final int limit;
+    private final AtomicInteger passed = new AtomicInteger();
+    private final LongAdder sampledOut = new LongAdder();
+    private volatile long windowStart = System.nanoTime();
+
+    private Sampler(int limit) {
+      this.limit = limit;
+    }
+
+    boolean tryAcquire() {
+      if (limit == Integer.MAX_VALUE) {
+        return true;
+      }
+      long now = System.nanoTime();
+      if (now - windowStart >= WINDOW_NANOS) {
+        synchronized (this) {
+          if (now - windowStart >= WINDOW_NANOS) {
+            passed.set(0);
+            windowStart = now;
+          }
+        }
+      }
+      if (passed.incrementAndGet() <= limit) {
+        return true;
+      }
+      sampledOut.increment();
+      return false;
+    }
+  }
+}
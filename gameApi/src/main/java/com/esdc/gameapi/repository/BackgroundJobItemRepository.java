@@ -0,0 +1,37 @@
+package com.esdc.gameapi.repository;
+
+import com.esdc.gameapi.domain.entity.BackgroundJobItem;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * Repository for item IDs snapshotted for background jobs.
+ */
+public interface BackgroundJobItemRepository
+    extends JpaRepository<BackgroundJobItem, BackgroundJobItem.Key> {
+
+  long countByJobId(Long jobId);
+
+  @Query("SELECT i.itemId FROM BackgroundJobItem i "
+      + "WHERE i.jobId = :jobId AND i.itemId > :afterId ORDER BY i.itemId")
+  List<Long> findItemIdsAfter(
+      @Param("jobId") Long jobId,
+      @Param("afterId") Long afterId,
+      Pageable pageable);
+
+  @Modifying
+  @Query(value = "INSERT INTO background_job_items (job_id, item_id) "
+      + "SELECT DISTINCT CAST(:jobId AS BIGINT), p.user_id FROM progress p "
+      + "WHERE p.level_id = :levelId", nativeQuery = true)
+  int snapshotUsersWithProgressOnLevel(
+      @Param("jobId") Long jobId,
+      @Param("levelId") Long levelId);
+
+  @Modifying
+  @Query("DELETE FROM BackgroundJobItem i WHERE i.jobId = :jobId")
+  int deleteByJobId(@Param("jobId") Long jobId);
+}
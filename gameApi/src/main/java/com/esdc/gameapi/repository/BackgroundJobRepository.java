@@ -0,0 +1,38 @@
+package com.esdc.gameapi.repository;
+
+import com.esdc.gameapi.domain.JobStatus;
+import com.esdc.gameapi.domain.JobType;
+import com.esdc.gameapi.domain.entity.BackgroundJob;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * Repository for background job entities.
+ */
+public interface BackgroundJobRepository extends JpaRepository<BackgroundJob, Long> {
+
+  List<BackgroundJob> findByStatusInOrderByIdAsc(Collection<JobStatus> statuses);
+
+  List<BackgroundJob> findByJobTypeAndTargetIdAndStatusIn(
+      JobType jobType, Long targetId, Collection<JobStatus> statuses);
+
+  List<BackgroundJob> findTop50ByOrderByIdDesc();
+
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("UPDATE BackgroundJob j "
+      + "SET j.cursorId = :cursorId, "
+      + "j.processedItems = j.processedItems + :processed, "
+      + "j.affectedItems = j.affectedItems + :affected, "
+      + "j.updatedAt = CURRENT_TIMESTAMP "
+      + "WHERE j.id = :jobId AND j.status = :status")
+  int advanceCursor(
+      @Param("jobId") Long jobId,
+      @Param("status") JobStatus status,
+      @Param("cursorId") Long cursorId,
+      @Param("processed") long processed,
+      @Param("affected") long affected);
+}
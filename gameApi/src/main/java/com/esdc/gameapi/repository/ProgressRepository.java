@@ -1,9 +1,17 @@
 package com.esdc.gameapi.repository;
 
 import com.esdc.gameapi.domain.entity.Progress;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 /**
@@ -11,6 +19,8 @@ import org.springframework.data.repository.query.Param;
  */
 public interface ProgressRepository extends JpaRepository<Progress, Long> {
 
+  // Callers read the level of every record, which would otherwise load one level at a time
+  @EntityGraph(attributePaths = "level")
   List<Progress> findByUserId(Long userId);
 
   List<Progress> findByUserIdAndLevelId(Long userId, Long levelId);
@@ -21,4 +31,54 @@ public interface ProgressRepository extends JpaRepository<Progress, Long> {
   Integer getTotalStarsByUserIdAndLevelId(
       @Param("userId") Long userId,
       @Param("levelId") Long levelId);
+
+  @Query("SELECT p FROM Progress p JOIN FETCH p.level WHERE p.user.id IN :userIds")
+  List<Progress> findByUserIdInWithLevel(@Param("userIds") Collection<Long> userIds);
+
+  @Modifying
+  @Query("DELETE FROM Progress p WHERE p.level.id = :levelId")
+  int deleteByLevelId(@Param("levelId") Long levelId);
+
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+  @Query("SELECT p.level.id AS levelId, p.user.id AS userId, p.user.nickname AS nickname, "
+      + "p.timeSpent AS timeSpent, p.createdAt AS createdAt FROM Progress p")
+  Stream<RunTime> streamRunTimes();
+
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+  @Query("SELECT p.level.id AS levelId, p.user.id AS userId, p.user.nickname AS nickname, "
+      + "p.timeSpent AS timeSpent, p.createdAt AS createdAt FROM Progress p "
+      + "WHERE p.level.id = :levelId")
+  Stream<RunTime> streamRunTimesByLevelId(@Param("levelId") Long levelId);
+
+  @Query("SELECT p.level.id AS levelId, MAX(p.stars) AS bestStars, MIN(p.timeSpent) AS bestTime, "
+      + "COUNT(p) AS attempts FROM Progress p WHERE p.user.id = :userId GROUP BY p.level.id")
+  List<LevelBest> findLevelBestsByUserId(@Param("userId") Long userId);
+
+  /**
+   * Time of a single level run.
+   */
+  interface RunTime {
+    Long getLevelId();
+
+    Long getUserId();
+
+    String getNickname();
+
+    String getTimeSpent();
+
+    LocalDateTime getCreatedAt();
+  }
+
+  /**
+   * Best result of a user on one level.
+   */
+  interface LevelBest {
+    Long getLevelId();
+
+    Integer getBestStars();
+
+    String getBestTime();
+
+    Long getAttempts();
+  }
 }
@@ -2,11 +2,16 @@ package com.esdc.gameapi.repository;
 
 import com.esdc.gameapi.domain.entity.UserAchievement;
 import java.util.List;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 /**
  * Repository for user achievements entities.
  */
-public interface UserAchievementRepository extends JpaRepository<UserAchievement, Long> {
+public interface UserAchievementRepository extends JpaRepository<UserAchievement, Long>,
+    UserAchievementRepositoryCustom {
+
+  // Callers read the achievement of every unlock, which would otherwise load one at a time
+  @EntityGraph(attributePaths = "achievement")
   List<UserAchievement> findByUserId(Long userId);
-}
\ No newline at end of file
+}
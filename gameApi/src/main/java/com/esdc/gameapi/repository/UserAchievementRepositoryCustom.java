@@ -0,0 +1,31 @@
+package com.esdc.gameapi.repository;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Set-based bulk operations on user achievements.
+ */
+public interface UserAchievementRepositoryCustom {
+
+  /**
+   * Grants an achievement to every user returned by the eligibility query.
+   *
+   * <p>The query must select a single {@code user_id} column and may reference the
+   * {@code :fromUserId} and {@code :toUserId} parameters to restrict the chunk.
+   * Users who already have the achievement are skipped.
+   *
+   * @param achievementId achievement to grant
+   * @param eligibleUsersSql native SQL selecting eligible user IDs
+   * @param params additional named parameters used by the eligibility query
+   * @return number of inserted rows
+   */
+  int grantToEligibleUsers(Long achievementId, String eligibleUsersSql, Map<String, ?> params);
+
+  /**
+   * Grants an achievement to the given users, skipping those who already have it.
+   *
+   * @return number of inserted rows
+   */
+  int grantToUsers(Long achievementId, Collection<Long> userIds);
+}
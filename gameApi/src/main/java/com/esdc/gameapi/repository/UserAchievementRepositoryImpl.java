@@ -0,0 +1,67 @@
+package com.esdc.gameapi.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import java.util.Collection;
+import java.util.Map;
+import org.hibernate.Session;
+
+/**
+ * Native SQL implementation of {@link UserAchievementRepositoryCustom}.
+ *
+ * <p>On PostgreSQL the insert additionally uses {@code ON CONFLICT DO NOTHING}, so a
+ * concurrent unlock from the progress pipeline never aborts a backfill chunk.
+ */
+public class UserAchievementRepositoryImpl implements UserAchievementRepositoryCustom {
+
+  private static final String INSERT_SQL = "INSERT INTO users_achievements "
+      + "(user_id, achievement_id, created_at) "
+      + "SELECT e.user_id, :achievementId, CURRENT_TIMESTAMP FROM (%s) e "
+      + "WHERE NOT EXISTS (SELECT 1 FROM users_achievements ua "
+      + "WHERE ua.user_id = e.user_id AND ua.achievement_id = :achievementId)";
+
+  private static final String ON_CONFLICT_SQL =
+      " ON CONFLICT (user_id, achievement_id) DO NOTHING";
+
+  private static final String USERS_BY_ID_SQL =
+      "SELECT u.user_id FROM users u WHERE u.user_id IN (:userIds)";
+
+  private static final String POSTGRESQL = "PostgreSQL";
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  private Boolean postgres;
+
+  @Override
+  public int grantToEligibleUsers(
+      Long achievementId, String eligibleUsersSql, Map<String, ?> params) {
+    Query query = entityManager.createNativeQuery(buildInsert(eligibleUsersSql));
+    query.setParameter("achievementId", achievementId);
+    params.forEach(query::setParameter);
+    return query.executeUpdate();
+  }
+
+  @Override
+  public int grantToUsers(Long achievementId, Collection<Long> userIds) {
+    if (userIds.isEmpty()) {
+      return 0;
+    }
+    return grantToEligibleUsers(achievementId, USERS_BY_ID_SQL, Map.of("userIds", userIds));
+  }
+
+  private String buildInsert(String eligibleUsersSql) {
+    String sql = String.format(INSERT_SQL, eligibleUsersSql);
+    return isPostgres() ? sql + ON_CONFLICT_SQL : sql;
+  }
+
+  // Checks the actual database rather than the configured dialect, which tests override
+  private boolean isPostgres() {
+    if (postgres == null) {
+      postgres = entityManager.unwrap(Session.class).doReturningWork(connection ->
+          POSTGRESQL.equals(connection.getMetaData().getDatabaseProductName()));
+    }
+    return postgres;
+  }
+}
@@ -1,8 +1,12 @@
 package com.esdc.gameapi.repository;
 
 import com.esdc.gameapi.domain.entity.User;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /**
  * Repository for user entities.
@@ -11,4 +15,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
   Optional<User> findByNickname(String nickname);
 
   boolean existsByNickname(String nickname);
+
+  @Query("SELECT u.id FROM User u WHERE u.id > :afterId ORDER BY u.id")
+  List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
 }
@@ -1,12 +1,59 @@
 package com.esdc.gameapi.repository;
 
 import com.esdc.gameapi.domain.entity.UserStatistics;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /**
  * Repository for user statistics entities.
  */
 public interface UserStatisticsRepository extends JpaRepository<UserStatistics, Long> {
   Optional<UserStatistics> findByUserId(Long userId);
+
+  List<UserStatistics> findByUserIdIn(Collection<Long> userIds);
+
+  @Query("SELECT s FROM UserStatistics s "
+      + "WHERE s.user.id > :fromUserId AND s.user.id <= :toUserId")
+  List<UserStatistics> findByUserIdRange(
+      @Param("fromUserId") Long fromUserId,
+      @Param("toUserId") Long toUserId);
+
+  @Query("SELECT s.user.id AS userId, s.totalStars AS totalStars FROM UserStatistics s "
+      + "WHERE s.user.id > :afterUserId ORDER BY s.user.id")
+  List<UserStars> findStarsAfter(@Param("afterUserId") Long afterUserId, Pageable pageable);
+
+  @Query("SELECT s.user.id AS userId, s.totalStars AS totalStars, "
+      + "s.totalLevelsCompleted AS totalLevelsCompleted, "
+      + "s.totalKilledEnemies AS totalKilledEnemies, s.totalTimePlayed AS totalTimePlayed "
+      + "FROM UserStatistics s WHERE s.user.id > :afterUserId ORDER BY s.user.id")
+  List<UserMetrics> findMetricsAfter(@Param("afterUserId") Long afterUserId, Pageable pageable);
+
+  /**
+   * Total stars of a user.
+   */
+  interface UserStars {
+    Long getUserId();
+
+    Integer getTotalStars();
+  }
+
+  /**
+   * Statistics of a user tracked by percentiles.
+   */
+  interface UserMetrics {
+    Long getUserId();
+
+    Integer getTotalStars();
+
+    Integer getTotalLevelsCompleted();
+
+    Integer getTotalKilledEnemies();
+
+    String getTotalTimePlayed();
+  }
 }
@@ -1,5 +1,7 @@
 package com.esdc.gameapi.security;
 
+import com.esdc.gameapi.jfr.JwtVerificationEvent;
+import com.esdc.gameapi.slowrequest.RequestTrace;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -41,6 +43,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
       return;
     }
 
+    JwtVerificationEvent verification = new JwtVerificationEvent();
+    verification.begin();
+    boolean verified = false;
     try {
       final String jwt = authHeader.substring(BEARER_PREFIX_LENGTH);
       final String username = jwtUtil.extractUsername(jwt);
@@ -48,7 +53,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
       if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
         UserDetails userDetails = userDetailsService.loadUserByUsername(username);
 
-        if (jwtUtil.validateToken(jwt, userDetails.getUsername())) {
+        verification.valid = jwtUtil.validateToken(jwt, userDetails.getUsername());
+        if (verification.valid) {
           UsernamePasswordAuthenticationToken authToken =
               new UsernamePasswordAuthenticationToken(
                   userDetails,
@@ -57,6 +63,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
               );
           authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
           SecurityContextHolder.getContext().setAuthentication(authToken);
+          if (userDetails instanceof CustomUserDetails customUserDetails) {
+            RequestTrace.recordUser(customUserDetails.getUserId());
+          }
           log.debug("User authenticated successfully: {}", username);
         } else {
           log.warn("JWT token validation failed for user: {}", username);
@@ -64,8 +73,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
       }
 
+      verification.commit();
+      verified = true;
       chain.doFilter(request, response);
     } catch (Exception ex) {
+      if (!verified) {
+        verification.commit();
+      }
       log.error("JWT authentication error: {}", ex.getMessage());
       handlerExceptionResolver.resolveException(request, response, null, ex);
     }
@@ -0,0 +1,79 @@
+package com.esdc.gameapi.security;
+
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Authenticates WebSocket handshakes with a JWT.
+ *
+ * <p>The token is taken from the {@code Authorization} header or, for browser clients that
+ * cannot set headers on a WebSocket, from the {@code access_token} query parameter. It is
+ * verified once here; frames on the open connection are attributed to the stored user ID.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JwtHandshakeInterceptor implements HandshakeInterceptor {
+
+  public static final String USER_ID_ATTRIBUTE = "userId";
+
+  private static final String TOKEN_PARAMETER = "access_token";
+  private static final String BEARER_PREFIX = "Bearer ";
+
+  private final JwtUtil jwtUtil;
+  private final UserDetailsService userDetailsService;
+
+  @Override
+  public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                 WebSocketHandler wsHandler, Map<String, Object> attributes) {
+    String token = extractToken(request);
+    if (token == null) {
+      log.debug("WebSocket handshake without token rejected");
+      response.setStatusCode(HttpStatus.UNAUTHORIZED);
+      return false;
+    }
+
+    try {
+      String username = jwtUtil.extractUsername(token);
+      UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+      if (!jwtUtil.validateToken(token, userDetails.getUsername())
+          || !(userDetails instanceof CustomUserDetails customUserDetails)) {
+        log.warn("WebSocket handshake token validation failed for user: {}", username);
+        response.setStatusCode(HttpStatus.UNAUTHORIZED);
+        return false;
+      }
+      attributes.put(USER_ID_ATTRIBUTE, customUserDetails.getUserId());
+      log.debug("WebSocket handshake authenticated for user: {}", username);
+      return true;
+    } catch (Exception e) {
+      log.warn("WebSocket handshake authentication error: {}", e.getMessage());
+      response.setStatusCode(HttpStatus.UNAUTHORIZED);
+      return false;
+    }
+  }
+
+  @Override
+  public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                             WebSocketHandler wsHandler, Exception exception) {
+  }
+
+  private String extractToken(ServerHttpRequest request) {
+    String authHeader = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+    if (authHeader != null && authHeader.startsWith(BEARER_PREFIX)) {
+      return authHeader.substring(BEARER_PREFIX.length());
+    }
+    return UriComponentsBuilder.fromUri(request.getURI()).build()
+        .getQueryParams().getFirst(TOKEN_PARAMETER);
+  }
+}
@@ -0,0 +1,243 @@
+package com.esdc.gameapi.service;
+
+import com.esdc.gameapi.config.DbConcurrencyBudget;
+import com.esdc.gameapi.domain.JobType;
+import com.esdc.gameapi.domain.entity.Achievement;
+import com.esdc.gameapi.domain.entity.BackgroundJob;
+import com.esdc.gameapi.domain.event.AchievementChangedEvent;
+import com.esdc.gameapi.domain.event.ChangeType;
+import com.esdc.gameapi.repository.AchievementRepository;
+import com.esdc.gameapi.repository.UserAchievementRepository;
+import com.esdc.gameapi.repository.UserRepository;
+import com.esdc.gameapi.repository.UserStatisticsRepository;
+import com.esdc.gameapi.util.AchievementConditionParser;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Grants newly created or changed achievements to players who already meet the condition.
+ *
+ * <p>Conditions that map onto columns of {@code users_statistics} or {@code progress} are
+ * granted with one {@code INSERT ... SELECT} per chunk of user IDs. Other conditions are
+ * evaluated in Java over chunks of statistics rows processed in parallel.
+ *
+ * @see ParallelChunkProcessor
+ */
+@Slf4j
+@Service
+public class AchievementBackfillService implements BackgroundJobRunner {
+
+  private static final int SECONDS_PER_MINUTE = 60;
+  private static final int SECONDS_PER_HOUR = 3600;
+  private static final String TIME_FORMAT = "%02d:%02d:%02d";
+  private static final int MAX_STORED_TIME_SECONDS = 99 * SECONDS_PER_HOUR
+      + 59 * SECONDS_PER_MINUTE + 59;
+
+  private static final String STATISTICS_SQL = "SELECT s.user_id FROM users_statistics s "
+      + "WHERE s.user_id > :fromUserId AND s.user_id <= :toUserId AND s.%s >= :requiredValue";
+
+  private static final String PROGRESS_SQL = "SELECT DISTINCT p.user_id FROM progress p "
+      + "WHERE p.user_id > :fromUserId AND p.user_id <= :toUserId AND %s";
+
+  private static final String BOSS_LEVEL_SQL = "SELECT DISTINCT p.user_id FROM progress p "
+      + "JOIN levels l ON l.level_id = p.level_id "
+      + "WHERE p.user_id > :fromUserId AND p.user_id <= :toUserId AND l.boss_on_level = TRUE";
+
+  private final BackgroundJobService jobService;
+  private final AchievementService achievementService;
+  private final AchievementRepository achievementRepository;
+  private final UserAchievementRepository userAchievementRepository;
+  private final UserRepository userRepository;
+  private final UserStatisticsRepository statisticsRepository;
+  private final ParallelChunkProcessor chunkProcessor;
+  private final DbConcurrencyBudget dbBudget;
+  private final UserDataVersions userDataVersions;
+  private final TransactionTemplate transactionTemplate;
+  private final int chunkSize;
+
+  /**
+   * Creates backfill service.
+   */
+  public AchievementBackfillService(BackgroundJobService jobService,
+                                    AchievementService achievementService,
+                                    AchievementRepository achievementRepository,
+                                    UserAchievementRepository userAchievementRepository,
+                                    UserRepository userRepository,
+                                    UserStatisticsRepository statisticsRepository,
+                                    ParallelChunkProcessor chunkProcessor,
+                                    DbConcurrencyBudget dbBudget,
+                                    UserDataVersions userDataVersions,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${app.jobs.chunk-size:1000}") int chunkSize) {
+    this.jobService = jobService;
+    this.achievementService = achievementService;
+    this.achievementRepository = achievementRepository;
+    this.userAchievementRepository = userAchievementRepository;
+    this.userRepository = userRepository;
+    this.statisticsRepository = statisticsRepository;
+    this.chunkProcessor = chunkProcessor;
+    this.dbBudget = dbBudget;
+    this.userDataVersions = userDataVersions;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.chunkSize = chunkSize;
+  }
+
+  /**
+   * Schedules a backfill after an achievement change has been committed.
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onAchievementChanged(AchievementChangedEvent event) {
+    if (event.changeType() == ChangeType.DELETED) {
+      jobService.cancel(JobType.ACHIEVEMENT_BACKFILL, event.achievementId());
+      return;
+    }
+    jobService.schedule(JobType.ACHIEVEMENT_BACKFILL, event.achievementId());
+  }
+
+  @Override
+  public JobType getJobType() {
+    return JobType.ACHIEVEMENT_BACKFILL;
+  }
+
+  @Override
+  public long estimateTotal(BackgroundJob job) {
+    return userRepository.count();
+  }
+
+  @Override
+  public boolean run(BackgroundJob job) {
+    Achievement achievement = achievementRepository.findById(job.getTargetId()).orElse(null);
+    if (achievement == null) {
+      log.info("Achievement {} no longer exists, nothing to backfill", job.getTargetId());
+      return true;
+    }
+
+    AchievementConditionParser condition =
+        AchievementConditionParser.parse(achievement.getAchievementDescription());
+    if (condition == null) {
+      log.warn("Could not parse condition for achievement: {} - Description: {}",
+          achievement.getAchievementName(), achievement.getAchievementDescription());
+      return true;
+    }
+
+    log.info("Backfilling achievement {} ({}) from user {}",
+        achievement.getId(), condition.getType(), job.getCursorId());
+
+    try {
+      return eligibleUsersQuery(condition)
+          .map(query -> runSetBased(job, query))
+          .orElseGet(() -> runParallel(job, condition));
+    } finally {
+      // Grants bypass the per-user versions, so invalidate every user's achievements
+      userDataVersions.bumpAchievements();
+    }
+  }
+
+  /**
+   * Translates the condition into a native query selecting eligible user IDs in a chunk.
+   *
+   * @return query or empty if the condition cannot be expressed in portable SQL
+   */
+  Optional<EligibleUsersQuery> eligibleUsersQuery(AchievementConditionParser condition) {
+    Integer requiredValue = condition.getRequiredValue();
+    return switch (condition.getType()) {
+      case TOTAL_LEVELS -> statisticsAtLeast("total_levels_completed", requiredValue);
+      case TOTAL_ENEMIES -> statisticsAtLeast("total_killed_enemies", requiredValue);
+      case TOTAL_PUZZLES -> statisticsAtLeast("total_solved_puzzles", requiredValue);
+      case TOTAL_STARS -> statisticsAtLeast("total_stars", requiredValue);
+      case LEVEL_ENEMIES ->
+          progressMatching("p.killed_enemies_number >= :requiredValue", requiredValue);
+      case LEVEL_PUZZLES ->
+          progressMatching("p.solved_puzzles_number >= :requiredValue", requiredValue);
+      case LEVEL_STARS -> progressMatching("p.stars >= :requiredValue", requiredValue);
+      case SPECIFIC_LEVEL -> progressMatching("p.level_id = :requiredValue", requiredValue);
+      // Stored times are validated as HH:MM:SS, so string comparison orders them correctly
+      case LEVEL_TIME -> progressMatching("p.time_spent <= :requiredValue",
+          formatSeconds(Math.min(requiredValue, MAX_STORED_TIME_SECONDS)));
+      case DEFEAT_BOSS -> Optional.of(new EligibleUsersQuery(BOSS_LEVEL_SQL, Map.of()));
+      // Total time may exceed two hour digits and rounds up to minutes; evaluated in Java
+      case TOTAL_TIME -> Optional.empty();
+    };
+  }
+
+  private boolean runSetBased(BackgroundJob job, EligibleUsersQuery query) {
+    long cursor = job.getCursorId();
+    while (true) {
+      List<Long> userIds = userRepository.findIdsAfter(cursor, PageRequest.of(0, chunkSize));
+      if (userIds.isEmpty()) {
+        return true;
+      }
+
+      long fromUserId = cursor;
+      long toUserId = userIds.getLast();
+      Map<String, Object> params = new HashMap<>(query.params());
+      params.put("fromUserId", fromUserId);
+      params.put("toUserId", toUserId);
+
+      Boolean advanced = dbBudget.call(() -> transactionTemplate.execute(status -> {
+        int granted = userAchievementRepository.grantToEligibleUsers(
+            job.getTargetId(), query.sql(), params);
+        if (!jobService.advance(job.getId(), toUserId, userIds.size(), granted)) {
+          status.setRollbackOnly();
+          return false;
+        }
+        log.debug("Job {}: users ({}, {}] processed, {} granted",
+            job.getId(), fromUserId, toUserId, granted);
+        return true;
+      }));
+
+      if (!Boolean.TRUE.equals(advanced)) {
+        log.info("Job {} stopped at cursor {}", job.getId(), cursor);
+        return false;
+      }
+      cursor = toUserId;
+    }
+  }
+
+  private boolean runParallel(BackgroundJob job, AchievementConditionParser condition) {
+    return chunkProcessor.process(job,
+        (afterId, limit) -> userRepository.findIdsAfter(afterId, PageRequest.of(0, limit)),
+        (afterId, userIds) -> {
+          List<Long> eligible = statisticsRepository
+              .findByUserIdRange(afterId, userIds.getLast())
+              .stream()
+              .filter(stats -> achievementService.checkCondition(condition, stats, null, null))
+              .map(stats -> stats.getUser().getId())
+              .toList();
+          return userAchievementRepository.grantToUsers(job.getTargetId(), eligible);
+        });
+  }
+
+  private Optional<EligibleUsersQuery> statisticsAtLeast(String column, Integer requiredValue) {
+    return Optional.of(new EligibleUsersQuery(
+        String.format(STATISTICS_SQL, column), Map.of("requiredValue", requiredValue)));
+  }
+
+  private Optional<EligibleUsersQuery> progressMatching(String predicate, Object requiredValue) {
+    return Optional.of(new EligibleUsersQuery(
+        String.format(PROGRESS_SQL, predicate), Map.of("requiredValue", requiredValue)));
+  }
+
+  private String formatSeconds(int totalSeconds) {
+    return String.format(TIME_FORMAT,
+        totalSeconds / SECONDS_PER_HOUR,
+        (totalSeconds % SECONDS_PER_HOUR) / SECONDS_PER_MINUTE,
+        totalSeconds % SECONDS_PER_MINUTE);
+  }
+
+  /**
+   * Native query selecting eligible user IDs with its named parameters.
+   */
+  record EligibleUsersQuery(String sql, Map<String, ?> params) {
+  }
+}
@@ -1,5 +1,6 @@
 package com.esdc.gameapi.service;
 
+import com.esdc.gameapi.config.SingleFlight;
 import com.esdc.gameapi.domain.dto.AchievementDto;
 import com.esdc.gameapi.domain.dto.UserAchievementDto;
 import com.esdc.gameapi.domain.entity.Achievement;
@@ -8,7 +9,11 @@ import com.esdc.gameapi.domain.entity.Progress;
 import com.esdc.gameapi.domain.entity.User;
 import com.esdc.gameapi.domain.entity.UserAchievement;
 import com.esdc.gameapi.domain.entity.UserStatistics;
+import com.esdc.gameapi.domain.event.AchievementChangedEvent;
+import com.esdc.gameapi.domain.event.AchievementUnlockedEvent;
+import com.esdc.gameapi.domain.event.ChangeType;
 import com.esdc.gameapi.exception.ResourceNotFoundException;
+import com.esdc.gameapi.jfr.AchievementEvaluationEvent;
 import com.esdc.gameapi.repository.AchievementRepository;
 import com.esdc.gameapi.repository.LevelRepository;
 import com.esdc.gameapi.repository.UserAchievementRepository;
@@ -22,6 +27,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -50,11 +56,13 @@ public class AchievementService {
   private final UserRepository userRepository;
   private final UserStatisticsRepository userStatisticsRepository;
   private final LevelRepository levelRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
   /**
    * Gets all achievements.
    */
   @Transactional(readOnly = true)
+  @SingleFlight
   public List<AchievementDto> getAllAchievements() {
     log.debug("Fetching all achievements");
     List<AchievementDto> achievements = achievementRepository.findAll()
@@ -69,6 +77,7 @@ public class AchievementService {
    * Gets user achievements by ID.
    */
   @Transactional(readOnly = true)
+  @SingleFlight
   public List<UserAchievementDto> getAchievementsByUserId(Long userId) {
     log.debug("Fetching achievements for user: {}", userId);
     List<UserAchievementDto> userAchievements = userAchievementRepository.findByUserId(userId)
@@ -89,6 +98,8 @@ public class AchievementService {
       Progress currentProgress
   ) {
     log.info("Checking achievements for userId: {}, levelId: {}", userId, levelId);
+    AchievementEvaluationEvent evaluation = new AchievementEvaluationEvent();
+    evaluation.begin();
 
     User user = userRepository.findById(userId)
         .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
@@ -139,6 +150,7 @@ public class AchievementService {
 
       log.debug("Parsed condition - Type: {}, Required value: {}",
           condition.getType(), condition.getRequiredValue());
+      evaluation.rulesTested++;
 
       boolean conditionMet = checkCondition(condition, stats, latestProgress, levelId);
       log.debug("Condition met: {}", conditionMet);
@@ -148,9 +160,16 @@ public class AchievementService {
         userAchievementRepository.save(userAchievement);
         log.info("Achievement unlocked for user {}: {}", userId, achievement.getAchievementName());
         newlyUnlocked.add(toUserAchievementDto(userAchievement));
+        eventPublisher.publishEvent(new AchievementUnlockedEvent(userId, achievement.getId(),
+            achievement.getAchievementName(), achievement.getAchievementDescription(),
+            userAchievement.getCreatedAt()));
       }
     }
 
+    evaluation.userId = userId;
+    evaluation.levelId = levelId != null ? levelId : 0;
+    evaluation.unlocked = newlyUnlocked.size();
+    evaluation.commit();
     log.info("Newly unlocked achievements for user {}: {}", userId, newlyUnlocked.size());
     return newlyUnlocked;
   }
@@ -169,6 +188,7 @@ public class AchievementService {
 
     Achievement saved = achievementRepository.save(achievement);
     log.info("Achievement created: {}", saved.getId());
+    eventPublisher.publishEvent(new AchievementChangedEvent(saved.getId(), ChangeType.CREATED));
     return toDto(saved);
   }
 
@@ -187,6 +207,7 @@ public class AchievementService {
 
     Achievement updated = achievementRepository.save(achievement);
     log.info("Achievement updated: {}", updated.getId());
+    eventPublisher.publishEvent(new AchievementChangedEvent(updated.getId(), ChangeType.UPDATED));
     return toDto(updated);
   }
 
@@ -202,10 +223,11 @@ public class AchievementService {
 
     achievementRepository.delete(achievement);
     log.info("Achievement deleted: {}", id);
+    eventPublisher.publishEvent(new AchievementChangedEvent(id, ChangeType.DELETED));
   }
 
-  private boolean checkCondition(AchievementConditionParser condition, UserStatistics stats,
-                                 Progress latestProgress, Long levelId) {
+  boolean checkCondition(AchievementConditionParser condition, UserStatistics stats,
+                         Progress latestProgress, Long levelId) {
     switch (condition.getType()) {
       case TOTAL_LEVELS:
         return stats != null && stats.getTotalLevelsCompleted() >= condition.getRequiredValue();
@@ -272,7 +294,7 @@ public class AchievementService {
     }
   }
 
-  private int convertTimeToMinutes(String time) {
+  int convertTimeToMinutes(String time) {
     String[] parts = time.split(TIME_DELIMITER);
     int hours = Integer.parseInt(parts[TIME_HOURS_INDEX]);
     int minutes = Integer.parseInt(parts[TIME_MINUTES_INDEX]);
@@ -280,7 +302,7 @@ public class AchievementService {
     return hours * MINUTES_PER_HOUR + minutes + (seconds > MIN_SECONDS_FOR_MINUTE_ROUND_UP ? 1 : 0);
   }
 
-  private int convertTimeToSeconds(String time) {
+  int convertTimeToSeconds(String time) {
     String[] parts = time.split(TIME_DELIMITER);
     int hours = Integer.parseInt(parts[TIME_HOURS_INDEX]);
     int minutes = Integer.parseInt(parts[TIME_MINUTES_INDEX]);
@@ -0,0 +1,30 @@
+package com.esdc.gameapi.service;
+
+import com.esdc.gameapi.domain.JobType;
+import com.esdc.gameapi.domain.entity.BackgroundJob;
+
+/**
+ * Executes background jobs of a single type.
+ *
+ * <p>Implementations process work in chunks ordered by user ID and report each committed
+ * chunk through {@link BackgroundJobService#advance}, which makes the job resumable.
+ */
+public interface BackgroundJobRunner {
+
+  /**
+   * Job type handled by this runner.
+   */
+  JobType getJobType();
+
+  /**
+   * Estimates the number of items the job will process, used for progress reporting.
+   */
+  long estimateTotal(BackgroundJob job);
+
+  /**
+   * Processes the job starting right after its cursor.
+   *
+   * @return true if all work was done, false if the job was stopped externally
+   */
+  boolean run(BackgroundJob job);
+}
@@ -0,0 +1,261 @@
+package com.esdc.gameapi.service;
+
+import com.esdc.gameapi.config.AsyncExecutors;
+import com.esdc.gameapi.domain.JobStatus;
+import com.esdc.gameapi.domain.JobType;
+import com.esdc.gameapi.domain.dto.BackgroundJobDto;
+import com.esdc.gameapi.domain.entity.BackgroundJob;
+import com.esdc.gameapi.domain.event.BackgroundJobEnqueuedEvent;
+import com.esdc.gameapi.exception.ResourceNotFoundException;
+import com.esdc.gameapi.repository.BackgroundJobItemRepository;
+import com.esdc.gameapi.repository.BackgroundJobRepository;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service for scheduling, tracking and resuming background jobs.
+ */
+@Slf4j
+@Service
+public class BackgroundJobService {
+
+  private static final Set<JobStatus> ACTIVE_STATUSES =
+      EnumSet.of(JobStatus.PENDING, JobStatus.RUNNING);
+
+  private static final long INITIAL_CURSOR = 0L;
+  private static final int MAX_ERROR_LENGTH = 1000;
+  private static final double PERCENTAGE_MULTIPLIER = 100.0;
+  private static final double ROUNDING_PRECISION = 100.0;
+
+  private final BackgroundJobRepository jobRepository;
+  private final BackgroundJobItemRepository itemRepository;
+  private final ObjectProvider<BackgroundJobRunner> runners;
+  private final ApplicationEventPublisher eventPublisher;
+  private final AsyncExecutors executors;
+  private final TransactionTemplate newTransaction;
+
+  /**
+   * Creates service; runners are resolved lazily because they depend on this service.
+   */
+  public BackgroundJobService(BackgroundJobRepository jobRepository,
+                              BackgroundJobItemRepository itemRepository,
+                              ObjectProvider<BackgroundJobRunner> runners,
+                              ApplicationEventPublisher eventPublisher,
+                              AsyncExecutors executors,
+                              PlatformTransactionManager transactionManager) {
+    this.jobRepository = jobRepository;
+    this.itemRepository = itemRepository;
+    this.runners = runners;
+    this.eventPublisher = eventPublisher;
+    this.executors = executors;
+    this.newTransaction = new TransactionTemplate(transactionManager);
+    this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  /**
+   * Creates a job and starts it asynchronously, cancelling older active jobs for the target.
+   */
+  public BackgroundJobDto schedule(JobType jobType, Long targetId) {
+    BackgroundJob job = newTransaction.execute(status -> createJob(jobType, targetId));
+    log.info("Scheduled {} job {} for target {}", jobType, job.getId(), targetId);
+    submit(job.getId());
+    return toDto(job);
+  }
+
+  /**
+   * Creates a job in the caller's transaction; it starts once that transaction commits.
+   *
+   * <p>Lets the caller snapshot job items atomically with the change that triggered the job.
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public BackgroundJob enqueue(JobType jobType, Long targetId) {
+    BackgroundJob job = createJob(jobType, targetId);
+    eventPublisher.publishEvent(new BackgroundJobEnqueuedEvent(job.getId()));
+    log.info("Enqueued {} job {} for target {}", jobType, job.getId(), targetId);
+    return job;
+  }
+
+  /**
+   * Starts an enqueued job after the creating transaction commits.
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onJobEnqueued(BackgroundJobEnqueuedEvent event) {
+    submit(event.jobId());
+  }
+
+  /**
+   * Cancels all active jobs of the given type for the target.
+   */
+  public void cancel(JobType jobType, Long targetId) {
+    newTransaction.executeWithoutResult(status -> cancelActiveJobs(jobType, targetId));
+  }
+
+  /**
+   * Moves the job cursor forward as part of the caller's chunk transaction.
+   *
+   * @return false if the job is no longer running and the chunk must be rolled back
+   */
+  @Transactional
+  public boolean advance(Long jobId, Long cursorId, long processed, long affected) {
+    return jobRepository.advanceCursor(jobId, JobStatus.RUNNING, cursorId, processed, affected)
+        > 0;
+  }
+
+  /**
+   * Gets the most recent jobs.
+   */
+  @Transactional(readOnly = true)
+  public List<BackgroundJobDto> getRecentJobs() {
+    return jobRepository.findTop50ByOrderByIdDesc().stream()
+        .map(this::toDto)
+        .toList();
+  }
+
+  /**
+   * Gets job by ID.
+   */
+  @Transactional(readOnly = true)
+  public BackgroundJobDto getJob(Long jobId) {
+    return jobRepository.findById(jobId)
+        .map(this::toDto)
+        .orElseThrow(() -> new ResourceNotFoundException("Job", "id", jobId));
+  }
+
+  /**
+   * Resumes jobs left pending or running by a previous application instance.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void resumeActiveJobs() {
+    List<BackgroundJob> activeJobs = jobRepository.findByStatusInOrderByIdAsc(ACTIVE_STATUSES);
+    for (BackgroundJob job : activeJobs) {
+      log.info("Resuming {} job {} from cursor {}", job.getJobType(), job.getId(),
+          job.getCursorId());
+      submit(job.getId());
+    }
+  }
+
+  private BackgroundJob createJob(JobType jobType, Long targetId) {
+    cancelActiveJobs(jobType, targetId);
+    return jobRepository.save(BackgroundJob.builder()
+        .jobType(jobType)
+        .targetId(targetId)
+        .status(JobStatus.PENDING)
+        .cursorId(INITIAL_CURSOR)
+        .processedItems(0L)
+        .affectedItems(0L)
+        .build());
+  }
+
+  private void submit(Long jobId) {
+    executors.jobs().execute(() -> execute(jobId));
+  }
+
+  private void execute(Long jobId) {
+    BackgroundJob job = newTransaction.execute(status -> start(jobId));
+    if (job == null) {
+      return;
+    }
+
+    try {
+      boolean finished = findRunner(job.getJobType()).run(job);
+      newTransaction.executeWithoutResult(status -> finish(jobId, finished));
+    } catch (Exception e) {
+      log.error("Job {} failed: {}", jobId, e.getMessage(), e);
+      newTransaction.executeWithoutResult(status -> fail(jobId, e));
+    }
+  }
+
+  private BackgroundJob start(Long jobId) {
+    BackgroundJob job = jobRepository.findById(jobId).orElse(null);
+    if (job == null || !job.getStatus().isActive()) {
+      log.debug("Job {} is not active, skipping", jobId);
+      return null;
+    }
+
+    BackgroundJobRunner runner = findRunner(job.getJobType());
+    job.setStatus(JobStatus.RUNNING);
+    if (job.getStartedAt() == null) {
+      job.setStartedAt(LocalDateTime.now());
+    }
+    job.setTotalItems(runner.estimateTotal(job));
+    return jobRepository.save(job);
+  }
+
+  private void finish(Long jobId, boolean finished) {
+    jobRepository.findById(jobId)
+        .filter(job -> job.getStatus() == JobStatus.RUNNING)
+        .ifPresent(job -> {
+          job.setStatus(finished ? JobStatus.COMPLETED : JobStatus.CANCELLED);
+          job.setFinishedAt(LocalDateTime.now());
+          itemRepository.deleteByJobId(jobId);
+          log.info("Job {} {}: {} processed, {} affected", jobId, job.getStatus(),
+              job.getProcessedItems(), job.getAffectedItems());
+        });
+  }
+
+  private void fail(Long jobId, Exception e) {
+    jobRepository.findById(jobId).ifPresent(job -> {
+      String message = String.valueOf(e.getMessage());
+      job.setStatus(JobStatus.FAILED);
+      job.setErrorMessage(message.length() > MAX_ERROR_LENGTH
+          ? message.substring(0, MAX_ERROR_LENGTH) : message);
+      job.setFinishedAt(LocalDateTime.now());
+    });
+  }
+
+  private void cancelActiveJobs(JobType jobType, Long targetId) {
+    jobRepository.findByJobTypeAndTargetIdAndStatusIn(jobType, targetId, ACTIVE_STATUSES)
+        .forEach(job -> {
+          log.info("Cancelling {} job {} for target {}", jobType, job.getId(), targetId);
+          job.setStatus(JobStatus.CANCELLED);
+          job.setFinishedAt(LocalDateTime.now());
+          itemRepository.deleteByJobId(job.getId());
+        });
+  }
+
+  private BackgroundJobRunner findRunner(JobType jobType) {
+    return runners.orderedStream()
+        .filter(runner -> runner.getJobType() == jobType)
+        .findFirst()
+        .orElseThrow(() -> new IllegalStateException("No runner for job type " + jobType));
+  }
+
+  private BackgroundJobDto toDto(BackgroundJob job) {
+    Double percentage = null;
+    if (job.getTotalItems() != null && job.getTotalItems() > 0) {
+      double raw = job.getProcessedItems() * PERCENTAGE_MULTIPLIER / job.getTotalItems();
+      percentage = Math.round(Math.min(raw, PERCENTAGE_MULTIPLIER) * ROUNDING_PRECISION)
+          / ROUNDING_PRECISION;
+    }
+
+    return BackgroundJobDto.builder()
+        .id(job.getId())
+        .jobType(job.getJobType().name())
+        .targetId(job.getTargetId())
+        .status(job.getStatus().name())
+        .totalItems(job.getTotalItems())
+        .processedItems(job.getProcessedItems())
+        .affectedItems(job.getAffectedItems())
+        .progressPercentage(percentage)
+        .errorMessage(job.getErrorMessage())
+        .createdAt(job.getCreatedAt() != null ? job.getCreatedAt().toString() : null)
+        .startedAt(job.getStartedAt() != null ? job.getStartedAt().toString() : null)
+        .finishedAt(job.getFinishedAt() != null ? job.getFinishedAt().toString() : null)
+        .build();
+  }
+}
@@ -0,0 +1,146 @@
+package com.esdc.gameapi.service;
+
+import com.esdc.gameapi.config.ReadRouting;
+import com.esdc.gameapi.domain.event.AchievementChangedEvent;
+import com.esdc.gameapi.domain.event.LevelChangedEvent;
+import com.esdc.gameapi.jfr.CacheAccessEvent;
+import com.esdc.gameapi.util.RenderedBody;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * Level and achievement catalogs rendered once per wire format.
+ *
+ * <p>A catalog is rendered on first request in the format the client accepts (JSON unless
+ * it asks for one of the binary Jackson formats) and kept until a committed level or
+ * achievement change drops all its formats. Callers already inside a transaction may see
+ * uncommitted catalog changes, so for them the catalog is rendered fresh and not cached.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CatalogResponseCache {
+
+  private final LevelService levelService;
+  private final AchievementService achievementService;
+  private final List<AbstractJackson2HttpMessageConverter> converters;
+
+  private final Catalog levels = new Catalog("levels");
+  private final Catalog achievements = new Catalog("achievements");
+
+  /**
+   * Gets rendered list of all levels in the format best matching the Accept header.
+   */
+  public RenderedBody getLevels(String accept) {
+    return levels.get(select(accept), levelService::getAllLevels);
+  }
+
+  /**
+   * Gets rendered list of all achievements in the format best matching the Accept header.
+   */
+  public RenderedBody getAchievements(String accept) {
+    return achievements.get(select(accept), achievementService::getAllAchievements);
+  }
+
+  /**
+   * Drops rendered levels after committed level change.
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onLevelChanged(LevelChangedEvent event) {
+    levels.invalidate();
+  }
+
+  /**
+   * Drops rendered achievements after committed achievement change.
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onAchievementChanged(AchievementChangedEvent event) {
+    achievements.invalidate();
+  }
+
+  private AbstractJackson2HttpMessageConverter select(String accept) {
+    if (accept != null) {
+      try {
+        List<MediaType> accepted = MediaType.parseMediaTypes(accept);
+        MimeTypeUtils.sortBySpecificity(accepted);
+        for (MediaType mediaType : accepted) {
+          if (mediaType.isWildcardType() || mediaType.isWildcardSubtype()) {
+            break;
+          }
+          for (AbstractJackson2HttpMessageConverter converter : converters) {
+            if (converter.canWrite(List.class, mediaType)) {
+              return converter;
+            }
+          }
+        }
+      } catch (InvalidMediaTypeException e) {
+        log.debug("Ignoring invalid Accept header: {}", accept);
+      }
+    }
+    return converters.stream()
+        .filter(converter -> converter.canWrite(List.class, MediaType.APPLICATION_JSON))
+        .findFirst()
+        .orElseThrow(() -> new IllegalStateException("No JSON message converter registered"));
+  }
+
+  private final class Catalog {
+
+    private final String name;
+    private final String cacheName;
+    private final Map<MediaType, RenderedBody> rendered = new HashMap<>();
+
+    private Catalog(String name) {
+      this.name = name;
+      this.cacheName = name + "-catalog";
+    }
+
+    RenderedBody get(AbstractJackson2HttpMessageConverter converter,
+                     Supplier<List<?>> loader) {
+      MediaType format = converter.getSupportedMediaTypes().getFirst();
+      if (TransactionSynchronizationManager.isActualTransactionActive()) {
+        return render(converter, format, loader);
+      }
+      CacheAccessEvent access = new CacheAccessEvent();
+      access.begin();
+      synchronized (this) {
+        access.hit = true;
+        RenderedBody cached = rendered.computeIfAbsent(format, key -> {
+          access.hit = false;
+          RenderedBody body = render(converter, format, loader);
+          log.debug("Rendered {} catalog as {}, ETag {}", name, format, body.etag());
+          return body;
+        });
+        access.cache = cacheName;
+        access.commit();
+        return cached;
+      }
+    }
+
+    synchronized void invalidate() {
+      rendered.clear();
+    }
+
+    private RenderedBody render(AbstractJackson2HttpMessageConverter converter,
+                                MediaType format, Supplier<List<?>> loader) {
+      List<?> catalog = ReadRouting.onPrimary(loader);
+      try {
+        return RenderedBody.of(format, converter.getObjectMapper().writeValueAsBytes(catalog));
+      } catch (JsonProcessingException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+}
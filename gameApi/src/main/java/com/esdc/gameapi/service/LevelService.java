@@ -2,11 +2,16 @@ package com.esdc.gameapi.service;
 
 import com.esdc.gameapi.domain.dto.LevelDto;
 import com.esdc.gameapi.domain.entity.Level;
+import com.esdc.gameapi.domain.event.ChangeType;
+import com.esdc.gameapi.domain.event.LevelChangedEvent;
 import com.esdc.gameapi.exception.ResourceNotFoundException;
 import com.esdc.gameapi.repository.LevelRepository;
+import com.esdc.gameapi.repository.ProgressRepository;
 import java.util.List;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,6 +24,9 @@ import org.springframework.transaction.annotation.Transactional;
 public class LevelService {
 
   private final LevelRepository levelRepository;
+  private final ProgressRepository progressRepository;
+  private final ApplicationEventPublisher eventPublisher;
+  private final MissingResourceCache missingResources;
 
   /**
    * Gets all levels.
@@ -39,7 +47,8 @@ public class LevelService {
   @Transactional(readOnly = true)
   public LevelDto getLevelById(Long id) {
     log.debug("Fetching level by id: {}", id);
-    Level level = levelRepository.findById(id)
+    Level level = missingResources.find(MissingResourceCache.Kind.LEVEL, id,
+            () -> levelRepository.findById(id))
         .orElseThrow(() -> {
           log.warn("Level not found: {}", id);
           return new ResourceNotFoundException("Level", "id", id);
@@ -62,6 +71,7 @@ public class LevelService {
 
     Level saved = levelRepository.save(level);
     log.info("Level created: {}", saved.getId());
+    eventPublisher.publishEvent(new LevelChangedEvent(saved.getId(), ChangeType.CREATED, false));
     return toDto(saved);
   }
 
@@ -75,17 +85,21 @@ public class LevelService {
     Level level = levelRepository.findById(id)
         .orElseThrow(() -> new ResourceNotFoundException("Level", "id", id));
 
+    final boolean starsChanged = !Objects.equals(level.getStarsOnLevel(), dto.getStarsOnLevel());
+
     level.setLevelName(dto.getLevelName());
     level.setStarsOnLevel(dto.getStarsOnLevel());
     level.setBossOnLevel(dto.getBossOnLevel());
 
     Level updated = levelRepository.save(level);
     log.info("Level updated: {}", updated.getId());
+    eventPublisher.publishEvent(
+        new LevelChangedEvent(updated.getId(), ChangeType.UPDATED, starsChanged));
     return toDto(updated);
   }
 
   /**
-   * Deletes level by ID.
+   * Deletes level by ID together with its progress records.
    */
   @Transactional
   public void deleteLevel(Long id) {
@@ -94,8 +108,12 @@ public class LevelService {
     Level level = levelRepository.findById(id)
         .orElseThrow(() -> new ResourceNotFoundException("Level", "id", id));
 
+    // Published before the progress is removed so listeners can still see who played it
+    eventPublisher.publishEvent(new LevelChangedEvent(id, ChangeType.DELETED, true));
+    int removedProgress = progressRepository.deleteByLevelId(id);
+
     levelRepository.delete(level);
-    log.info("Level deleted: {}", id);
+    log.info("Level deleted: {} ({} progress records removed)", id, removedProgress);
   }
 
   private LevelDto toDto(Level level) {
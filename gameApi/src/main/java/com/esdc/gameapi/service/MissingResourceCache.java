@@ -0,0 +1,204 @@
+package com.esdc.gameapi.service;
+
+import com.esdc.gameapi.domain.event.ChangeType;
+import com.esdc.gameapi.domain.event.LevelChangedEvent;
+import com.esdc.gameapi.domain.event.UserRegisteredEvent;
+import com.esdc.gameapi.domain.event.UserStatisticsChangedEvent;
+import com.esdc.gameapi.exception.ResourceNotFoundException;
+import com.esdc.gameapi.jfr.CacheAccessEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Short-lived, bounded cache of IDs known not to exist.
+ *
+ * <p>Repeated lookups of a missing user, level or statistics row are answered without a
+ * database round trip until the entry expires or the resource is created. Only reads
+ * outside write transactions use the cache, so a write never fails on a stale miss. When a
+ * kind is full, expired entries are purged and new misses are not cached until there is
+ * room again.
+ */
+@Slf4j
+@Service
+public class MissingResourceCache implements MeterBinder {
+
+  /**
+   * Kind of resource looked up by ID.
+   */
+  public enum Kind {
+    USER("User", "id"),
+    LEVEL("Level", "id"),
+    STATISTICS("Statistics", "userId");
+
+    private final String resource;
+    private final String field;
+    private final String cacheName;
+
+    Kind(String resource, String field) {
+      this.resource = resource;
+      this.field = field;
+      this.cacheName = "missing-" + name().toLowerCase();
+    }
+
+    ResourceNotFoundException notFound(Long id) {
+      return new ResourceNotFoundException(resource, field, id);
+    }
+  }
+
+  private final long ttlNanos;
+  private final int maxEntries;
+  private final Map<Kind, Map<Long, Long>> expiriesByKind = new EnumMap<>(Kind.class);
+
+  private volatile Counter hits;
+  private volatile Counter misses;
+
+  /**
+   * Creates cache.
+   */
+  public MissingResourceCache(@Value("${app.missing-cache.ttl:PT10S}") Duration ttl,
+                              @Value("${app.missing-cache.max-entries:10000}") int maxEntries) {
+    this.ttlNanos = ttl.toNanos();
+    this.maxEntries = maxEntries;
+    for (Kind kind : Kind.values()) {
+      expiriesByKind.put(kind, new ConcurrentHashMap<>());
+    }
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    hits = Counter.builder("missing.cache.hits")
+        .description("Lookups answered as not found without querying the database")
+        .register(registry);
+    misses = Counter.builder("missing.cache.misses")
+        .description("Lookups of missing IDs that queried the database")
+        .register(registry);
+    Gauge.builder("missing.cache.size", this, MissingResourceCache::size)
+        .description("Missing IDs currently cached")
+        .register(registry);
+  }
+
+  /**
+   * Looks up resource unless its ID is known to be missing.
+   */
+  public <T> Optional<T> find(Kind kind, Long id, Supplier<Optional<T>> lookup) {
+    boolean cacheable = id != null && isCacheableRead();
+    if (!cacheable) {
+      return lookup.get();
+    }
+    CacheAccessEvent access = new CacheAccessEvent();
+    access.begin();
+    access.cache = kind.cacheName;
+    if (isKnownMissing(kind, id)) {
+      increment(hits);
+      access.hit = true;
+      access.commit();
+      return Optional.empty();
+    }
+    Optional<T> found = lookup.get();
+    if (found.isEmpty()) {
+      increment(misses);
+      remember(kind, id);
+    }
+    access.commit();
+    return found;
+  }
+
+  /**
+   * Looks up resource unless its ID is known to be missing.
+   *
+   * @throws ResourceNotFoundException if the resource does not exist
+   */
+  public <T> T require(Kind kind, Long id, Supplier<Optional<T>> lookup) {
+    return find(kind, id, lookup).orElseThrow(() -> kind.notFound(id));
+  }
+
+  /**
+   * Forgets that ID was missing.
+   */
+  public void invalidate(Kind kind, Long id) {
+    expiriesByKind.get(kind).remove(id);
+  }
+
+  /**
+   * Forgets registered user.
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onUserRegistered(UserRegisteredEvent event) {
+    invalidate(Kind.USER, event.userId());
+  }
+
+  /**
+   * Forgets created level.
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onLevelChanged(LevelChangedEvent event) {
+    if (event.changeType() == ChangeType.CREATED) {
+      invalidate(Kind.LEVEL, event.levelId());
+    }
+  }
+
+  /**
+   * Forgets user whose statistics were written.
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onStatisticsChanged(UserStatisticsChangedEvent event) {
+    invalidate(Kind.STATISTICS, event.userId());
+  }
+
+  /**
+   * Number of cached IDs.
+   */
+  public int size() {
+    return expiriesByKind.values().stream().mapToInt(Map::size).sum();
+  }
+
+  private boolean isKnownMissing(Kind kind, Long id) {
+    Map<Long, Long> expiries = expiriesByKind.get(kind);
+    Long expiry = expiries.get(id);
+    if (expiry == null) {
+      return false;
+    }
+    if (expiry - System.nanoTime() > 0) {
+      return true;
+    }
+    expiries.remove(id, expiry);
+    return false;
+  }
+
+  private void remember(Kind kind, Long id) {
+    Map<Long, Long> expiries = expiriesByKind.get(kind);
+    long now = System.nanoTime();
+    if (expiries.size() >= maxEntries) {
+      expiries.values().removeIf(expiry -> expiry - now <= 0);
+      if (expiries.size() >= maxEntries) {
+        log.debug("Missing {} cache full, not caching id {}", kind, id);
+        return;
+      }
+    }
+    expiries.put(id, now + ttlNanos);
+  }
+
+  private boolean isCacheableRead() {
+    return !TransactionSynchronizationManager.isActualTransactionActive()
+        || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+  }
+
+  private void increment(Counter counter) {
+    if (counter != null) {
+      counter.increment();
+    }
+  }
+}
@@ -0,0 +1,120 @@
+package com.esdc.gameapi.service;
+
+import com.esdc.gameapi.config.AsyncExecutors;
+import com.esdc.gameapi.config.DbConcurrencyBudget;
+import com.esdc.gameapi.domain.entity.BackgroundJob;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs job work over ascending IDs in waves of chunks processed in parallel.
+ *
+ * <p>Each chunk commits in its own transaction while holding a permit of the shared
+ * {@link DbConcurrencyBudget}. The job cursor moves only after a whole wave has committed,
+ * so chunk work must be idempotent: a wave interrupted by a crash is replayed on resume.
+ */
+@Slf4j
+@Component
+public class ParallelChunkProcessor {
+
+  private final BackgroundJobService jobService;
+  private final AsyncExecutors executors;
+  private final DbConcurrencyBudget dbBudget;
+  private final TransactionTemplate transactionTemplate;
+  private final int chunkSize;
+  private final int parallelism;
+
+  /**
+   * Creates processor.
+   */
+  public ParallelChunkProcessor(BackgroundJobService jobService,
+                                AsyncExecutors executors,
+                                DbConcurrencyBudget dbBudget,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${app.jobs.chunk-size:1000}") int chunkSize,
+                                @Value("${app.jobs.parallelism:4}") int parallelism) {
+    this.jobService = jobService;
+    this.executors = executors;
+    this.dbBudget = dbBudget;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.chunkSize = chunkSize;
+    this.parallelism = parallelism;
+  }
+
+  /**
+   * Loads IDs following the cursor.
+   */
+  @FunctionalInterface
+  public interface IdSource {
+
+    /**
+     * Returns up to {@code limit} IDs greater than {@code afterId} in ascending order.
+     */
+    List<Long> nextIds(long afterId, int limit);
+  }
+
+  /**
+   * Processes one chunk of IDs.
+   */
+  @FunctionalInterface
+  public interface ChunkHandler {
+
+    /**
+     * Processes IDs in range ({@code afterId}, last of {@code ids}].
+     *
+     * @return number of affected items
+     */
+    int process(long afterId, List<Long> ids);
+  }
+
+  /**
+   * Processes all IDs after the job cursor.
+   *
+   * @return true if all IDs were processed, false if the job was stopped externally
+   */
+  public boolean process(BackgroundJob job, IdSource source, ChunkHandler handler) {
+    long cursor = job.getCursorId();
+    while (true) {
+      List<Long> ids = source.nextIds(cursor, chunkSize * parallelism);
+      if (ids.isEmpty()) {
+        return true;
+      }
+
+      List<CompletableFuture<Integer>> chunks = new ArrayList<>();
+      long afterId = cursor;
+      for (int start = 0; start < ids.size(); start += chunkSize) {
+        List<Long> chunk = ids.subList(start, Math.min(start + chunkSize, ids.size()));
+        long chunkAfterId = afterId;
+        chunks.add(CompletableFuture.supplyAsync(
+            () -> processChunk(handler, chunkAfterId, chunk), executors.workers()));
+        afterId = chunk.getLast();
+      }
+
+      int affected = chunks.stream().mapToInt(CompletableFuture::join).sum();
+      long toId = ids.getLast();
+
+      Boolean advanced = transactionTemplate.execute(status ->
+          jobService.advance(job.getId(), toId, ids.size(), affected));
+      if (!Boolean.TRUE.equals(advanced)) {
+        log.info("Job {} stopped at cursor {}", job.getId(), cursor);
+        return false;
+      }
+      log.debug("Job {}: items ({}, {}] processed, {} affected",
+          job.getId(), cursor, toId, affected);
+      cursor = toId;
+    }
+  }
+
+  private int processChunk(ChunkHandler handler, long afterId, List<Long> ids) {
+    return dbBudget.call(() -> {
+      Integer affected = transactionTemplate.execute(status -> handler.process(afterId, ids));
+      return affected != null ? affected : 0;
+    });
+  }
+}
@@ -0,0 +1,212 @@
+package com.esdc.gameapi.service;
+
+import com.esdc.gameapi.domain.event.AchievementChangedEvent;
+import com.esdc.gameapi.domain.event.AchievementUnlockedEvent;
+import com.esdc.gameapi.domain.event.ChangeType;
+import com.esdc.gameapi.domain.event.LevelChangedEvent;
+import com.esdc.gameapi.domain.event.ProgressCreatedEvent;
+import com.esdc.gameapi.slowrequest.RequestTrace;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Latency and business metrics of the progress pipeline.
+ *
+ * <p>Stage timers publish histograms so percentiles can be aggregated across instances.
+ * Submissions and unlocks are counted after commit, tagged by level and achievement ID. Those
+ * catalogs are admin-managed, but the number of distinct IDs tagged is still capped and the
+ * rest are counted under {@value #OTHER_TAG}; meters of deleted catalog entries are removed.
+ */
+@Service
+public class PipelineMetrics implements MeterBinder {
+
+  static final String STAGE_TIMER = "progress.pipeline.stage";
+  static final String SUBMISSIONS_COUNTER = "progress.submissions";
+  static final String UNLOCKS_COUNTER = "achievements.unlocked";
+  static final String RECOMPUTE_ROWS_SUMMARY = "statistics.recompute.rows";
+  static final String OTHER_TAG = "other";
+
+  private static final String LEVEL_TAG = "level";
+  private static final String ACHIEVEMENT_TAG = "achievement";
+
+  /**
+   * Stage of {@link ProgressService#createProgress}.
+   */
+  public enum Stage {
+    VALIDATE,
+    PERSIST,
+    STATS,
+    ACHIEVEMENTS;
+
+    String tag() {
+      return name().toLowerCase(Locale.ROOT);
+    }
+  }
+
+  /**
+   * How statistics were recomputed.
+   */
+  public enum RecomputeMode {
+    SINGLE,
+    BATCH;
+
+    String tag() {
+      return name().toLowerCase(Locale.ROOT);
+    }
+  }
+
+  private final int maxTaggedIds;
+  private final Set<Long> taggedLevels = ConcurrentHashMap.newKeySet();
+  private final Set<Long> taggedAchievements = ConcurrentHashMap.newKeySet();
+
+  private volatile MeterRegistry registry;
+  private volatile Map<Stage, Timer> stageTimers = Map.of();
+  private volatile Map<RecomputeMode, DistributionSummary> recomputeRows = Map.of();
+
+  /**
+   * Creates metrics tagging at most the given number of distinct levels and achievements.
+   */
+  public PipelineMetrics(@Value("${app.metrics.max-tagged-ids:500}") int maxTaggedIds) {
+    this.maxTaggedIds = maxTaggedIds;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Map<Stage, Timer> timers = new EnumMap<>(Stage.class);
+    for (Stage stage : Stage.values()) {
+      timers.put(stage, Timer.builder(STAGE_TIMER)
+          .description("Time spent in each stage of recording a level run")
+          .tag("stage", stage.tag())
+          .publishPercentileHistogram()
+          .minimumExpectedValue(Duration.ofMillis(1))
+          .maximumExpectedValue(Duration.ofSeconds(10))
+          .register(registry));
+    }
+    Map<RecomputeMode, DistributionSummary> summaries = new EnumMap<>(RecomputeMode.class);
+    for (RecomputeMode mode : RecomputeMode.values()) {
+      summaries.put(mode, DistributionSummary.builder(RECOMPUTE_ROWS_SUMMARY)
+          .description("Progress rows read per statistics recompute")
+          .baseUnit("rows")
+          .tag("mode", mode.tag())
+          .publishPercentileHistogram()
+          .minimumExpectedValue(1.0)
+          .maximumExpectedValue(1_000_000.0)
+          .register(registry));
+    }
+    stageTimers = timers;
+    recomputeRows = summaries;
+    this.registry = registry;
+  }
+
+  /**
+   * Records stage that started at the given {@link System#nanoTime()} and just finished, also
+   * in the trace of the current request.
+   */
+  public void recordStage(Stage stage, long startNanos) {
+    long nanos = System.nanoTime() - startNanos;
+    RequestTrace.recordStage(stage.tag(), nanos);
+    Timer timer = stageTimers.get(stage);
+    if (timer != null) {
+      timer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  /**
+   * Records number of progress rows read by a statistics recompute.
+   */
+  public void recordRecompute(RecomputeMode mode, int progressRows) {
+    DistributionSummary summary = recomputeRows.get(mode);
+    if (summary != null) {
+      summary.record(progressRows);
+    }
+  }
+
+  /**
+   * Counts committed level run.
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onProgressCreated(ProgressCreatedEvent event) {
+    increment(SUBMISSIONS_COUNTER, "Level runs recorded", LEVEL_TAG,
+        tagValue(taggedLevels, event.levelId()));
+  }
+
+  /**
+   * Counts committed achievement unlock.
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onAchievementUnlocked(AchievementUnlockedEvent event) {
+    increment(UNLOCKS_COUNTER, "Achievements unlocked by players", ACHIEVEMENT_TAG,
+        tagValue(taggedAchievements, event.achievementId()));
+  }
+
+  /**
+   * Drops submission counter of deleted level.
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onLevelChanged(LevelChangedEvent event) {
+    if (event.changeType() == ChangeType.DELETED) {
+      forget(taggedLevels, event.levelId(), SUBMISSIONS_COUNTER, LEVEL_TAG);
+    }
+  }
+
+  /**
+   * Drops unlock counter of deleted achievement.
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onAchievementChanged(AchievementChangedEvent event) {
+    if (event.changeType() == ChangeType.DELETED) {
+      forget(taggedAchievements, event.achievementId(), UNLOCKS_COUNTER, ACHIEVEMENT_TAG);
+    }
+  }
+
+  private String tagValue(Set<Long> tagged, Long id) {
+    if (id == null) {
+      return OTHER_TAG;
+    }
+    if (tagged.contains(id)) {
+      return id.toString();
+    }
+    // The cap may be overshot by a few concurrent callers, which keeps it lock-free
+    if (tagged.size() < maxTaggedIds && tagged.add(id)) {
+      return id.toString();
+    }
+    return tagged.contains(id) ? id.toString() : OTHER_TAG;
+  }
+
+  private void increment(String name, String description, String tagKey, String tagValue) {
+    MeterRegistry current = registry;
+    if (current != null) {
+      Counter.builder(name)
+          .description(description)
+          .tag(tagKey, tagValue)
+          .register(current)
+          .increment();
+    }
+  }
+
+  private void forget(Set<Long> tagged, Long id, String name, String tagKey) {
+    if (id == null || !tagged.remove(id)) {
+      return;
+    }
+    MeterRegistry current = registry;
+    if (current != null) {
+      Counter counter = current.find(name).tag(tagKey, id.toString()).counter();
+      if (counter != null) {
+        current.remove(counter);
+      }
+    }
+  }
+}
@@ -0,0 +1,265 @@
+package com.esdc.gameapi.service;
+
+import com.esdc.gameapi.config.AsyncExecutors;
+import com.esdc.gameapi.domain.dto.UserAchievementDto;
+import com.esdc.gameapi.domain.event.AchievementUnlockedEvent;
+import com.esdc.gameapi.domain.event.UserDeletedEvent;
+import com.esdc.gameapi.domain.event.UserStatisticsChangedEvent;
+import com.esdc.gameapi.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * In-process fan-out of player events to Server-Sent Events streams.
+ *
+ * <p>Publishing never blocks on a client: events are offered to a bounded buffer per
+ * subscriber, and a buffer is drained to its stream by at most one task on the event pool at
+ * a time. When a buffer is full the overflow policy either drops the oldest buffered event or
+ * disconnects the slow subscriber, who is expected to reconnect and refetch state. Open streams
+ * hold no thread between events.
+ */
+@Slf4j
+@Service
+public class PlayerEventBroadcaster implements MeterBinder {
+
+  static final String STATISTICS_EVENT = "statistics";
+  static final String ACHIEVEMENT_UNLOCKED_EVENT = "achievement-unlocked";
+  private static final String HEARTBEAT_COMMENT = "heartbeat";
+
+  /**
+   * What to do with a new event when a subscriber's buffer is full.
+   */
+  public enum OverflowPolicy {
+    DROP_OLDEST,
+    DISCONNECT
+  }
+
+  private final TaskExecutor executor;
+  private final int bufferSize;
+  private final int maxSubscribers;
+  private final Duration timeout;
+  private final OverflowPolicy overflowPolicy;
+
+  private final Map<Long, Set<Subscriber>> subscribersByUser = new ConcurrentHashMap<>();
+  private final AtomicInteger subscriberCount = new AtomicInteger();
+
+  private volatile Counter droppedEvents;
+  private volatile Counter slowDisconnects;
+
+  /**
+   * Creates broadcaster.
+   */
+  public PlayerEventBroadcaster(AsyncExecutors executors,
+                                @Value("${app.events.buffer-size:32}") int bufferSize,
+                                @Value("${app.events.max-subscribers:10000}") int maxSubscribers,
+                                @Value("${app.events.timeout:PT30M}") Duration timeout,
+                                @Value("${app.events.overflow-policy:DISCONNECT}")
+                                OverflowPolicy overflowPolicy) {
+    this.executor = executors.events();
+    this.bufferSize = bufferSize;
+    this.maxSubscribers = maxSubscribers;
+    this.timeout = timeout;
+    this.overflowPolicy = overflowPolicy;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("player.events.subscribers", subscriberCount, AtomicInteger::get)
+        .description("Open player event streams")
+        .register(registry);
+    droppedEvents = Counter.builder("player.events.dropped")
+        .description("Player events dropped because a subscriber buffer was full")
+        .register(registry);
+    slowDisconnects = Counter.builder("player.events.slow.disconnects")
+        .description("Player event streams closed because the subscriber fell behind")
+        .register(registry);
+  }
+
+  /**
+   * Opens event stream of the player.
+   *
+   * @throws ServiceUnavailableException if the subscriber limit is reached
+   */
+  public SseEmitter subscribe(Long userId) {
+    if (subscriberCount.incrementAndGet() > maxSubscribers) {
+      subscriberCount.decrementAndGet();
+      throw new ServiceUnavailableException("Too many open event streams, please retry later");
+    }
+
+    SseEmitter emitter = new SseEmitter(timeout.toMillis());
+    Subscriber subscriber = new Subscriber(userId, emitter);
+    subscribersByUser.computeIfAbsent(userId, key -> ConcurrentHashMap.newKeySet())
+        .add(subscriber);
+    emitter.onCompletion(subscriber::close);
+    emitter.onTimeout(subscriber::close);
+    emitter.onError(error -> subscriber.close());
+
+    // Flushes response headers so the client sees the stream open immediately
+    subscriber.offer(SseEmitter.event().comment("connected").build());
+    log.debug("Player {} subscribed to events", userId);
+    return emitter;
+  }
+
+  /**
+   * Streams committed statistics change.
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onStatisticsChanged(UserStatisticsChangedEvent event) {
+    publish(event.userId(), SseEmitter.event()
+        .name(STATISTICS_EVENT)
+        .data(event.statistics()));
+  }
+
+  /**
+   * Streams committed achievement unlock.
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onAchievementUnlocked(AchievementUnlockedEvent event) {
+    LocalDateTime unlockedAt = event.unlockedAt() != null
+        ? event.unlockedAt() : LocalDateTime.now();
+    publish(event.userId(), SseEmitter.event()
+        .name(ACHIEVEMENT_UNLOCKED_EVENT)
+        .data(UserAchievementDto.builder()
+            .achievementId(event.achievementId())
+            .achievementName(event.achievementName())
+            .achievementDescription(event.achievementDescription())
+            .createdAt(unlockedAt.toString())
+            .build()));
+  }
+
+  /**
+   * Closes streams of deleted user.
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onUserDeleted(UserDeletedEvent event) {
+    Set<Subscriber> subscribers = subscribersByUser.get(event.userId());
+    if (subscribers != null) {
+      subscribers.forEach(subscriber -> {
+        subscriber.emitter.complete();
+        subscriber.close();
+      });
+    }
+  }
+
+  /**
+   * Sends comment to every stream so dead connections are detected and proxies keep idle
+   * streams open.
+   */
+  @Scheduled(fixedDelayString = "${app.events.heartbeat-interval:PT15S}")
+  public void heartbeat() {
+    Set<ResponseBodyEmitter.DataWithMediaType> heartbeat =
+        SseEmitter.event().comment(HEARTBEAT_COMMENT).build();
+    subscribersByUser.values().forEach(subscribers -> subscribers
+        .forEach(subscriber -> subscriber.offer(heartbeat)));
+  }
+
+  /**
+   * Number of open streams.
+   */
+  public int subscriberCount() {
+    return subscriberCount.get();
+  }
+
+  private void publish(Long userId, SseEmitter.SseEventBuilder event) {
+    Set<Subscriber> subscribers = subscribersByUser.get(userId);
+    if (subscribers != null) {
+      // Built once, so all subscribers share the same immutable frame
+      Set<ResponseBodyEmitter.DataWithMediaType> frame = event.build();
+      subscribers.forEach(subscriber -> subscriber.offer(frame));
+    }
+  }
+
+  private void increment(Counter counter) {
+    if (counter != null) {
+      counter.increment();
+    }
+  }
+
+  private final class Subscriber {
+
+    private final Long userId;
+    private final SseEmitter emitter;
+    private final BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> buffer;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private Subscriber(Long userId, SseEmitter emitter) {
+      this.userId = userId;
+      this.emitter = emitter;
+      this.buffer = new ArrayBlockingQueue<>(bufferSize);
+    }
+
+    void offer(Set<ResponseBodyEmitter.DataWithMediaType> event) {
+      if (closed.get()) {
+        return;
+      }
+      while (!buffer.offer(event)) {
+        increment(droppedEvents);
+        if (overflowPolicy == OverflowPolicy.DISCONNECT) {
+          log.info("Player {} event stream fell behind, disconnecting", userId);
+          increment(slowDisconnects);
+          emitter.complete();
+          close();
+          return;
+        }
+        buffer.poll();
+      }
+      scheduleDrain();
+    }
+
+    private void scheduleDrain() {
+      if (draining.compareAndSet(false, true)) {
+        executor.execute(this::drain);
+      }
+    }
+
+    private void drain() {
+      try {
+        Set<ResponseBodyEmitter.DataWithMediaType> event;
+        while (!closed.get() && (event = buffer.poll()) != null) {
+          emitter.send(event);
+        }
+      } catch (IOException | IllegalStateException e) {
+        log.debug("Player {} event stream closed: {}", userId, e.getMessage());
+        close();
+      } finally {
+        draining.set(false);
+      }
+      if (!closed.get() && !buffer.isEmpty()) {
+        scheduleDrain();
+      }
+    }
+
+    void close() {
+      if (!closed.compareAndSet(false, true)) {
+        return;
+      }
+      buffer.clear();
+      subscriberCount.decrementAndGet();
+      subscribersByUser.computeIfPresent(userId, (key, subscribers) -> {
+        subscribers.remove(this);
+        return subscribers.isEmpty() ? null : subscribers;
+      });
+    }
+  }
+}
@@ -0,0 +1,130 @@
+package com.esdc.gameapi.service;
+
+import com.esdc.gameapi.config.AsyncExecutors;
+import com.esdc.gameapi.domain.dto.LevelDto;
+import com.esdc.gameapi.domain.dto.PlayerLevelDto;
+import com.esdc.gameapi.domain.dto.PlayerSnapshotDto;
+import com.esdc.gameapi.domain.dto.StarsProgressDto;
+import com.esdc.gameapi.domain.dto.UserAchievementDto;
+import com.esdc.gameapi.domain.dto.UserResponseDto;
+import com.esdc.gameapi.domain.dto.UserStatisticsDto;
+import com.esdc.gameapi.repository.ProgressRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Builds the document the game client loads on boot.
+ *
+ * <p>The independent reads run concurrently on the fixed-size snapshot pool, each in its own
+ * read-only transaction, so the parts are individually consistent but may straddle a
+ * concurrent write. The pool size bounds how many connections snapshots hold at once.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PlayerSnapshotService {
+
+  private static final double PERCENTAGE_MULTIPLIER = 100.0;
+  private static final double ROUNDING_PRECISION = 100.0;
+  private static final double DEFAULT_PERCENTAGE = 0.0;
+
+  private final UserService userService;
+  private final UserStatisticsService userStatisticsService;
+  private final AchievementService achievementService;
+  private final LevelService levelService;
+  private final ProgressRepository progressRepository;
+  private final AsyncExecutors executors;
+
+  /**
+   * Gets user, statistics, stars progress, unlocked achievements and per-level bests.
+   */
+  public PlayerSnapshotDto getSnapshot(Long userId) {
+    log.debug("Building snapshot for user: {}", userId);
+
+    CompletableFuture<UserResponseDto> user = read(() -> userService.getUserById(userId));
+    CompletableFuture<Optional<UserStatisticsDto>> statistics =
+        read(() -> userStatisticsService.getStatisticsByUserId(userId));
+    CompletableFuture<List<UserAchievementDto>> achievements =
+        read(() -> achievementService.getAchievementsByUserId(userId));
+    CompletableFuture<List<LevelDto>> levels = read(levelService::getAllLevels);
+    CompletableFuture<List<ProgressRepository.LevelBest>> bests =
+        read(() -> progressRepository.findLevelBestsByUserId(userId));
+
+    UserResponseDto userDto = join(user);
+    UserStatisticsDto statisticsDto = join(statistics).orElse(null);
+    List<LevelDto> allLevels = join(levels);
+
+    return PlayerSnapshotDto.builder()
+        .user(userDto)
+        .statistics(statisticsDto)
+        .starsProgress(toStarsProgress(statisticsDto, allLevels))
+        .achievements(join(achievements))
+        .levels(toPlayerLevels(allLevels, join(bests)))
+        .build();
+  }
+
+  private <T> CompletableFuture<T> read(Supplier<T> query) {
+    return CompletableFuture.supplyAsync(query, executors.snapshots());
+  }
+
+  private <T> T join(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  private StarsProgressDto toStarsProgress(UserStatisticsDto statistics, List<LevelDto> levels) {
+    int currentStars = statistics != null && statistics.getTotalStars() != null
+        ? statistics.getTotalStars() : 0;
+    int maxStars = levels.stream()
+        .mapToInt(level -> level.getStarsOnLevel() != null ? level.getStarsOnLevel() : 0)
+        .sum();
+    double percentage = maxStars == 0 ? DEFAULT_PERCENTAGE
+        : roundToTwoDecimals(currentStars * PERCENTAGE_MULTIPLIER / maxStars);
+
+    return StarsProgressDto.builder()
+        .currentStars(currentStars)
+        .maxPossibleStars(maxStars)
+        .progressPercentage(percentage)
+        .build();
+  }
+
+  private List<PlayerLevelDto> toPlayerLevels(List<LevelDto> levels,
+                                              List<ProgressRepository.LevelBest> bests) {
+    Map<Long, ProgressRepository.LevelBest> bestByLevel = bests.stream()
+        .collect(Collectors.toMap(ProgressRepository.LevelBest::getLevelId, Function.identity()));
+
+    return levels.stream()
+        .map(level -> {
+          ProgressRepository.LevelBest best = bestByLevel.get(level.getId());
+          return PlayerLevelDto.builder()
+              .levelId(level.getId())
+              .levelName(level.getLevelName())
+              .bossOnLevel(level.getBossOnLevel())
+              .starsOnLevel(level.getStarsOnLevel())
+              .bestStars(best != null ? best.getBestStars() : null)
+              .bestTime(best != null ? best.getBestTime() : null)
+              .attempts(best != null ? best.getAttempts() : 0)
+              .build();
+        })
+        .toList();
+  }
+
+  private double roundToTwoDecimals(double value) {
+    return Math.round(value * ROUNDING_PRECISION) / ROUNDING_PRECISION;
+  }
+}
@@ -1,10 +1,13 @@
 package com.esdc.gameapi.service;
 
+import com.esdc.gameapi.config.SingleFlight;
 import com.esdc.gameapi.domain.dto.ProgressDto;
 import com.esdc.gameapi.domain.entity.Level;
 import com.esdc.gameapi.domain.entity.Progress;
 import com.esdc.gameapi.domain.entity.User;
+import com.esdc.gameapi.domain.event.ProgressCreatedEvent;
 import com.esdc.gameapi.exception.ResourceNotFoundException;
+import com.esdc.gameapi.jfr.ProgressPersistedEvent;
 import com.esdc.gameapi.repository.LevelRepository;
 import com.esdc.gameapi.repository.ProgressRepository;
 import com.esdc.gameapi.repository.UserRepository;
@@ -12,6 +15,7 @@ import java.time.format.DateTimeFormatter;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,6 +37,9 @@ public class ProgressService {
   private final LevelRepository levelRepository;
   private final UserStatisticsService userStatisticsService;
   private final AchievementService achievementService;
+  private final ApplicationEventPublisher eventPublisher;
+  private final MissingResourceCache missingResources;
+  private final PipelineMetrics pipelineMetrics;
 
   /**
    * Creates new progress record and updates statistics.
@@ -40,6 +47,7 @@ public class ProgressService {
   @Transactional
   public ProgressDto createProgress(Long userId, ProgressDto request) {
     log.info("Creating progress for user: {}, level: {}", userId, request.getLevelId());
+    long stageStart = System.nanoTime();
 
     User user = userRepository.findById(userId)
         .orElseThrow(() -> {
@@ -60,6 +68,7 @@ public class ProgressService {
       log.warn("Validation failed for user {}: {}", userId, e.getMessage());
       throw e;
     }
+    pipelineMetrics.recordStage(PipelineMetrics.Stage.VALIDATE, stageStart);
 
     Progress progress = new Progress();
     progress.setUser(user);
@@ -69,13 +78,28 @@ public class ProgressService {
     progress.setTimeSpent(request.getTimeSpent());
     progress.setStars(request.getStars());
 
+    stageStart = System.nanoTime();
+    ProgressPersistedEvent persisted = new ProgressPersistedEvent();
+    persisted.begin();
     Progress savedProgress = progressRepository.save(progress);
+    persisted.userId = userId;
+    persisted.levelId = level.getId();
+    persisted.stars = savedProgress.getStars();
+    persisted.commit();
+    pipelineMetrics.recordStage(PipelineMetrics.Stage.PERSIST, stageStart);
     log.info("Progress saved for user: {}, level: {}, stars: {}, enemies: {}, puzzles: {}",
         userId, level.getId(), savedProgress.getStars(),
         savedProgress.getKilledEnemiesNumber(), savedProgress.getSolvedPuzzlesNumber());
 
+    stageStart = System.nanoTime();
     userStatisticsService.recalculateUserStatistics(user.getId());
+    pipelineMetrics.recordStage(PipelineMetrics.Stage.STATS, stageStart);
+
+    stageStart = System.nanoTime();
     achievementService.checkAndUnlockAchievements(user.getId(), level.getId(), savedProgress);
+    pipelineMetrics.recordStage(PipelineMetrics.Stage.ACHIEVEMENTS, stageStart);
+    eventPublisher.publishEvent(new ProgressCreatedEvent(user.getId(), user.getNickname(),
+        level.getId(), savedProgress.getTimeSpent(), savedProgress.getCreatedAt()));
 
     return toDto(savedProgress);
   }
@@ -84,16 +108,19 @@ public class ProgressService {
    * Gets latest progress for user and level.
    */
   @Transactional(readOnly = true)
+  @SingleFlight
   public ProgressDto getLatestProgressByUserAndLevel(Long userId, Long levelId) {
     log.debug("Fetching latest progress for user: {}, level: {}", userId, levelId);
 
-    userRepository.findById(userId)
+    missingResources.find(MissingResourceCache.Kind.USER, userId,
+            () -> userRepository.findById(userId))
         .orElseThrow(() -> {
           log.warn("User not found: {}", userId);
           return new ResourceNotFoundException("User", "id", userId);
         });
 
-    Level level = levelRepository.findById(levelId)
+    Level level = missingResources.find(MissingResourceCache.Kind.LEVEL, levelId,
+            () -> levelRepository.findById(levelId))
         .orElseThrow(() -> {
           log.warn("Level not found: {}", levelId);
           return new ResourceNotFoundException("Level", "id", levelId);
@@ -120,6 +147,7 @@ public class ProgressService {
    * Gets all progress for user.
    */
   @Transactional(readOnly = true)
+  @SingleFlight
   public List<ProgressDto> getProgressByUserId(Long userId) {
     log.debug("Fetching all progress for user: {}", userId);
     List<ProgressDto> progressList = progressRepository.findByUserId(userId).stream()
@@ -133,6 +161,7 @@ public class ProgressService {
    * Gets total stars for user on specific level.
    */
   @Transactional(readOnly = true)
+  @SingleFlight
   public Integer getTotalStarsByUserAndLevel(Long userId, Long levelId) {
     log.debug("Calculating total stars for user: {}, level: {}", userId, levelId);
     Integer totalStars = progressRepository.getTotalStarsByUserIdAndLevelId(userId, levelId);
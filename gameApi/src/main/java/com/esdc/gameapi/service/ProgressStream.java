@@ -0,0 +1,98 @@
+package com.esdc.gameapi.service;
+
+import com.esdc.gameapi.domain.dto.AchievementDto;
+import com.esdc.gameapi.util.AchievementConditionParser;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Coalesced state of one WebSocket progress connection.
+ *
+ * <p>Holds the running totals of the current attempt and the per-level achievements the player
+ * has not unlocked yet. Frames of a connection are handled one at a time; only the pending
+ * achievements are also touched by unlock notifications from other threads.
+ */
+public class ProgressStream {
+
+  private final Long userId;
+  private final Map<Long, PendingAchievement> pending = new ConcurrentHashMap<>();
+  private final Set<Long> reported = new HashSet<>();
+
+  private Long levelId;
+  private int killedEnemies;
+  private int solvedPuzzles;
+
+  ProgressStream(Long userId, Collection<PendingAchievement> pending) {
+    this.userId = userId;
+    pending.forEach(achievement -> this.pending.put(achievement.achievement().getId(),
+        achievement));
+  }
+
+  /**
+   * Player the connection was authenticated as.
+   */
+  public Long getUserId() {
+    return userId;
+  }
+
+  /**
+   * Level of the current attempt, or null between attempts.
+   */
+  public Long getLevelId() {
+    return levelId;
+  }
+
+  int getKilledEnemies() {
+    return killedEnemies;
+  }
+
+  int getSolvedPuzzles() {
+    return solvedPuzzles;
+  }
+
+  Collection<PendingAchievement> getPending() {
+    return pending.values();
+  }
+
+  /**
+   * Merges running totals; totals only grow within an attempt, so late or reordered frames
+   * cannot lower them. A frame for another level starts a new attempt.
+   */
+  void merge(Long level, Integer killed, Integer puzzles) {
+    if (!level.equals(levelId)) {
+      reset();
+      levelId = level;
+    }
+    killedEnemies = Math.max(killedEnemies, killed != null ? killed : 0);
+    solvedPuzzles = Math.max(solvedPuzzles, puzzles != null ? puzzles : 0);
+  }
+
+  /**
+   * Marks achievement as reported in the current attempt.
+   *
+   * @return true if it was not reported before
+   */
+  boolean markReported(Long achievementId) {
+    return reported.add(achievementId);
+  }
+
+  void unlocked(Long achievementId) {
+    pending.remove(achievementId);
+  }
+
+  void reset() {
+    levelId = null;
+    killedEnemies = 0;
+    solvedPuzzles = 0;
+    reported.clear();
+  }
+
+  /**
+   * Achievement that can still be reached during an attempt.
+   */
+  record PendingAchievement(AchievementDto achievement, AchievementConditionParser condition) {
+  }
+}
@@ -0,0 +1,150 @@
+package com.esdc.gameapi.service;
+
+import com.esdc.gameapi.domain.AchievementConditionType;
+import com.esdc.gameapi.domain.dto.AchievementDto;
+import com.esdc.gameapi.domain.dto.ProgressDto;
+import com.esdc.gameapi.domain.dto.ProgressFrameDto;
+import com.esdc.gameapi.domain.entity.Progress;
+import com.esdc.gameapi.repository.AchievementRepository;
+import com.esdc.gameapi.repository.UserAchievementRepository;
+import com.esdc.gameapi.util.AchievementConditionParser;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Coalesces incremental progress frames of a WebSocket connection.
+ *
+ * <p>Checkpoints only update in-memory totals and report per-level achievements the attempt
+ * has reached so far; nothing is written until the attempt finishes, which is then saved
+ * through {@link ProgressService} like any other progress.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProgressStreamService {
+
+  private static final Set<AchievementConditionType> LIVE_CONDITIONS =
+      EnumSet.of(AchievementConditionType.LEVEL_ENEMIES, AchievementConditionType.LEVEL_PUZZLES);
+
+  private final AchievementRepository achievementRepository;
+  private final UserAchievementRepository userAchievementRepository;
+  private final AchievementService achievementService;
+  private final ProgressService progressService;
+  private final Validator validator;
+
+  /**
+   * Opens stream of the player, loading the achievements checkpoints can reach.
+   */
+  @Transactional(readOnly = true)
+  public ProgressStream open(Long userId) {
+    Set<Long> unlockedIds = userAchievementRepository.findByUserId(userId).stream()
+        .map(ua -> ua.getAchievement().getId())
+        .collect(Collectors.toSet());
+
+    List<ProgressStream.PendingAchievement> pending = new ArrayList<>();
+    achievementRepository.findAll().forEach(achievement -> {
+      if (unlockedIds.contains(achievement.getId())) {
+        return;
+      }
+      AchievementConditionParser condition = AchievementConditionParser.parse(
+          achievement.getAchievementDescription());
+      if (condition != null && LIVE_CONDITIONS.contains(condition.getType())) {
+        pending.add(new ProgressStream.PendingAchievement(AchievementDto.builder()
+            .id(achievement.getId())
+            .achievementName(achievement.getAchievementName())
+            .achievementDescription(achievement.getAchievementDescription())
+            .build(), condition));
+      }
+    });
+    log.debug("Progress stream opened for user {} with {} live achievements",
+        userId, pending.size());
+    return new ProgressStream(userId, pending);
+  }
+
+  /**
+   * Merges checkpoint into the current attempt.
+   *
+   * @return achievements the attempt reached with this checkpoint, each reported once
+   */
+  public List<AchievementDto> checkpoint(ProgressStream stream, ProgressFrameDto frame) {
+    requireLevel(frame);
+    stream.merge(frame.getLevelId(), frame.getKilledEnemiesNumber(),
+        frame.getSolvedPuzzlesNumber());
+
+    Progress current = new Progress();
+    current.setKilledEnemiesNumber(stream.getKilledEnemies());
+    current.setSolvedPuzzlesNumber(stream.getSolvedPuzzles());
+
+    List<AchievementDto> reached = new ArrayList<>();
+    for (ProgressStream.PendingAchievement pending : stream.getPending()) {
+      if (achievementService.checkCondition(pending.condition(), null, current,
+          stream.getLevelId())
+          && stream.markReported(pending.achievement().getId())) {
+        reached.add(pending.achievement());
+      }
+    }
+    return reached;
+  }
+
+  /**
+   * Saves the attempt merged with its final frame and starts a new one.
+   *
+   * @throws IllegalArgumentException if the merged progress is invalid
+   */
+  public ProgressDto finish(ProgressStream stream, ProgressFrameDto frame) {
+    requireLevel(frame);
+    stream.merge(frame.getLevelId(), frame.getKilledEnemiesNumber(),
+        frame.getSolvedPuzzlesNumber());
+
+    ProgressDto progress = ProgressDto.builder()
+        .levelId(stream.getLevelId())
+        .killedEnemiesNumber(stream.getKilledEnemies())
+        .solvedPuzzlesNumber(stream.getSolvedPuzzles())
+        .timeSpent(frame.getTimeSpent())
+        .stars(frame.getStars())
+        .build();
+    Set<ConstraintViolation<ProgressDto>> violations = validator.validate(progress);
+    if (!violations.isEmpty()) {
+      throw new IllegalArgumentException(violations.stream()
+          .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+          .sorted()
+          .collect(Collectors.joining(", ")));
+    }
+
+    try {
+      return progressService.createProgress(stream.getUserId(), progress);
+    } finally {
+      stream.reset();
+    }
+  }
+
+  /**
+   * Discards the current attempt.
+   */
+  public void abandon(ProgressStream stream) {
+    log.debug("User {} abandoned attempt on level {}", stream.getUserId(), stream.getLevelId());
+    stream.reset();
+  }
+
+  /**
+   * Stops checking achievement the player has unlocked.
+   */
+  public void unlocked(ProgressStream stream, Long achievementId) {
+    stream.unlocked(achievementId);
+  }
+
+  private void requireLevel(ProgressFrameDto frame) {
+    if (frame.getLevelId() == null) {
+      throw new IllegalArgumentException("levelId is required");
+    }
+  }
+}
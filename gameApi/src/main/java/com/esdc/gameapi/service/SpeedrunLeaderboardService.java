@@ -0,0 +1,216 @@
+package com.esdc.gameapi.service;
+
+import com.esdc.gameapi.domain.dto.SpeedrunEntryDto;
+import com.esdc.gameapi.domain.event.ChangeType;
+import com.esdc.gameapi.domain.event.LevelChangedEvent;
+import com.esdc.gameapi.domain.event.ProgressCreatedEvent;
+import com.esdc.gameapi.domain.event.UserDeletedEvent;
+import com.esdc.gameapi.domain.event.UserRenamedEvent;
+import com.esdc.gameapi.repository.LevelRepository;
+import com.esdc.gameapi.repository.ProgressRepository;
+import com.esdc.gameapi.util.PersonalBestBoard;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Per-level leaderboards of fastest clears.
+ *
+ * <p>Each level keeps a {@link PersonalBestBoard} of its K fastest players. Boards are filled
+ * by a streaming scan of {@code progress} at startup and by every committed run afterwards.
+ * Entries carry the player's nickname, kept current on rename and delete, so reads are served
+ * from memory; only a level without a board is looked up, through {@link MissingResourceCache}.
+ */
+@Slf4j
+@Service
+public class SpeedrunLeaderboardService {
+
+  private static final String DATETIME_PATTERN = "yyyy-MM-dd HH:mm:ss";
+  private static final String TIME_FORMAT = "%02d:%02d:%02d";
+  private static final String TIME_DELIMITER = ":";
+  private static final int SECONDS_PER_MINUTE = 60;
+  private static final int SECONDS_PER_HOUR = 3600;
+  private static final int TIME_PARTS = 3;
+
+  private final ProgressRepository progressRepository;
+  private final LevelRepository levelRepository;
+  private final MissingResourceCache missingResources;
+  private final TransactionTemplate readOnlyTransaction;
+  private final int boardSize;
+
+  private final Map<Long, PersonalBestBoard> boards = new ConcurrentHashMap<>();
+
+  /**
+   * Creates service.
+   */
+  public SpeedrunLeaderboardService(ProgressRepository progressRepository,
+                                    LevelRepository levelRepository,
+                                    MissingResourceCache missingResources,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${app.leaderboard.speedrun-size:10}") int boardSize) {
+    this.progressRepository = progressRepository;
+    this.levelRepository = levelRepository;
+    this.missingResources = missingResources;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+    this.boardSize = boardSize;
+  }
+
+  /**
+   * Fills boards from all recorded runs on startup.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void initialize() {
+    AtomicLong runs = new AtomicLong();
+    readOnlyTransaction.executeWithoutResult(status -> {
+      try (Stream<ProgressRepository.RunTime> rows = progressRepository.streamRunTimes()) {
+        rows.forEach(row -> {
+          offer(boards, row.getLevelId(), row.getUserId(), row.getNickname(),
+              row.getTimeSpent(), row.getCreatedAt());
+          runs.incrementAndGet();
+        });
+      }
+    });
+    log.info("Speedrun leaderboards loaded from {} runs on {} levels", runs.get(), boards.size());
+  }
+
+  /**
+   * Offers committed run to the level board.
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onProgressCreated(ProgressCreatedEvent event) {
+    offer(boards, event.levelId(), event.userId(), event.nickname(), event.timeSpent(),
+        event.createdAt());
+  }
+
+  /**
+   * Drops board of a deleted level.
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onLevelChanged(LevelChangedEvent event) {
+    if (event.changeType() == ChangeType.DELETED) {
+      boards.remove(event.levelId());
+    }
+  }
+
+  /**
+   * Reloads boards the deleted user was on, so the next fastest players move up.
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onUserDeleted(UserDeletedEvent event) {
+    List<Long> affectedLevels = boards.entrySet().stream()
+        .filter(entry -> entry.getValue().contains(event.userId()))
+        .map(Map.Entry::getKey)
+        .toList();
+    affectedLevels.forEach(levelId -> reloadLevel(levelId, event.userId()));
+  }
+
+  /**
+   * Updates nickname of a renamed user on every board.
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onUserRenamed(UserRenamedEvent event) {
+    boards.values().forEach(board -> board.rename(event.userId(), event.nickname()));
+  }
+
+  /**
+   * Gets fastest players of a level.
+   */
+  public List<SpeedrunEntryDto> getLeaderboard(Long levelId) {
+    PersonalBestBoard board = boards.get(levelId);
+    if (board == null) {
+      missingResources.require(MissingResourceCache.Kind.LEVEL, levelId,
+          () -> levelRepository.findById(levelId));
+      return List.of();
+    }
+    List<PersonalBestBoard.Entry> entries = board.entries();
+
+    DateTimeFormatter formatter = DateTimeFormatter.ofPattern(DATETIME_PATTERN);
+    List<SpeedrunEntryDto> result = new ArrayList<>(entries.size());
+    for (PersonalBestBoard.Entry entry : entries) {
+      result.add(SpeedrunEntryDto.builder()
+          .rank(result.size() + 1)
+          .userId(entry.userId())
+          .nickname(entry.nickname())
+          .timeSpent(formatSeconds(entry.seconds()))
+          .achievedAt(entry.achievedAt() != null ? entry.achievedAt().format(formatter) : null)
+          .build());
+    }
+    return result;
+  }
+
+  /**
+   * Rebuilds a level board without the deleted user. The scan runs outside the map so offers
+   * to other levels are not blocked by it; runs offered to the old board meanwhile are carried
+   * over on the swap, and a board dropped meanwhile stays dropped.
+   */
+  private void reloadLevel(Long levelId, Long deletedUserId) {
+    Map<Long, PersonalBestBoard> reloaded = new ConcurrentHashMap<>();
+    readOnlyTransaction.executeWithoutResult(status -> {
+      try (Stream<ProgressRepository.RunTime> rows =
+               progressRepository.streamRunTimesByLevelId(levelId)) {
+        rows.forEach(row -> offer(reloaded, row.getLevelId(), row.getUserId(),
+            row.getNickname(), row.getTimeSpent(), row.getCreatedAt()));
+      }
+    });
+    PersonalBestBoard replacement = reloaded.getOrDefault(levelId,
+        new PersonalBestBoard(boardSize));
+    boards.computeIfPresent(levelId, (id, previous) -> {
+      previous.entries().stream()
+          .filter(entry -> entry.userId() != deletedUserId)
+          .forEach(entry -> replacement.offer(entry.userId(), entry.nickname(),
+              entry.seconds(), entry.achievedAt()));
+      return replacement;
+    });
+    log.debug("Speedrun leaderboard of level {} reloaded", levelId);
+  }
+
+  private void offer(Map<Long, PersonalBestBoard> target, Long levelId, Long userId,
+                     String nickname, String timeSpent, LocalDateTime achievedAt) {
+    int seconds = parseSeconds(timeSpent);
+    if (seconds < 0) {
+      log.warn("Skipping run of user {} on level {} with invalid time: {}",
+          userId, levelId, timeSpent);
+      return;
+    }
+    target.computeIfAbsent(levelId, id -> new PersonalBestBoard(boardSize))
+        .offer(userId, nickname, seconds, achievedAt);
+  }
+
+  private int parseSeconds(String time) {
+    if (time == null) {
+      return -1;
+    }
+    String[] parts = time.split(TIME_DELIMITER);
+    if (parts.length != TIME_PARTS) {
+      return -1;
+    }
+    try {
+      return Integer.parseInt(parts[0]) * SECONDS_PER_HOUR
+          + Integer.parseInt(parts[1]) * SECONDS_PER_MINUTE
+          + Integer.parseInt(parts[2]);
+    } catch (NumberFormatException e) {
+      return -1;
+    }
+  }
+
+  private String formatSeconds(int totalSeconds) {
+    return String.format(TIME_FORMAT,
+        totalSeconds / SECONDS_PER_HOUR,
+        (totalSeconds % SECONDS_PER_HOUR) / SECONDS_PER_MINUTE,
+        totalSeconds % SECONDS_PER_MINUTE);
+  }
+}
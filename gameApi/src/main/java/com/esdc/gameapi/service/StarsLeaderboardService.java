@@ -0,0 +1,255 @@
+package com.esdc.gameapi.service;
+
+import com.esdc.gameapi.domain.dto.LeaderboardEntryDto;
+import com.esdc.gameapi.domain.entity.User;
+import com.esdc.gameapi.domain.event.UserDeletedEvent;
+import com.esdc.gameapi.domain.event.UserStatisticsChangedEvent;
+import com.esdc.gameapi.exception.BadRequestException;
+import com.esdc.gameapi.exception.ResourceNotFoundException;
+import com.esdc.gameapi.repository.UserRepository;
+import com.esdc.gameapi.repository.UserStatisticsRepository;
+import com.esdc.gameapi.util.ScoreRankIndex;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Global leaderboard of players by total stars.
+ *
+ * <p>Ranks are served from an in-memory {@link ScoreRankIndex} that is loaded from
+ * {@code users_statistics} at startup and kept current by committed statistics changes.
+ * The index is periodically rebuilt from the database; changes committed while a rebuild
+ * is loading are replayed onto the new index before it replaces the old one.
+ */
+@Slf4j
+@Service
+public class StarsLeaderboardService {
+
+  private final UserStatisticsRepository statisticsRepository;
+  private final UserRepository userRepository;
+  private final int loadPageSize;
+  private final int maxTopSize;
+
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+  private final Lock rebuildLock = new ReentrantLock();
+  private ScoreRankIndex index = new ScoreRankIndex();
+  private Map<Long, Integer> pendingUpdates;
+  private boolean loadedOnce;
+
+  /**
+   * Creates service.
+   */
+  public StarsLeaderboardService(UserStatisticsRepository statisticsRepository,
+                                 UserRepository userRepository,
+                                 @Value("${app.leaderboard.load-page-size:10000}") int loadPageSize,
+                                 @Value("${app.leaderboard.max-top-size:100}") int maxTopSize) {
+    this.statisticsRepository = statisticsRepository;
+    this.userRepository = userRepository;
+    this.loadPageSize = loadPageSize;
+    this.maxTopSize = maxTopSize;
+  }
+
+  /**
+   * Loads leaderboard on startup.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void initialize() {
+    rebuild();
+  }
+
+  /**
+   * Periodically rebuilds leaderboard from the database to repair any drift.
+   */
+  @Scheduled(fixedDelayString = "${app.leaderboard.reconcile-interval:PT10M}",
+      initialDelayString = "${app.leaderboard.reconcile-interval:PT10M}")
+  public void reconcile() {
+    rebuild();
+  }
+
+  /**
+   * Applies committed statistics change.
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onStatisticsChanged(UserStatisticsChangedEvent event) {
+    apply(event.userId(), event.totalStars());
+  }
+
+  /**
+   * Removes deleted user from leaderboard.
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onUserDeleted(UserDeletedEvent event) {
+    apply(event.userId(), null);
+  }
+
+  /**
+   * Gets best players by total stars.
+   */
+  public List<LeaderboardEntryDto> getTopPlayers(int limit) {
+    if (limit < 1 || limit > maxTopSize) {
+      throw new BadRequestException("Limit must be between 1 and " + maxTopSize);
+    }
+
+    List<ScoreRankIndex.Entry> entries;
+    lock.readLock().lock();
+    try {
+      entries = index.top(limit);
+    } finally {
+      lock.readLock().unlock();
+    }
+
+    Map<Long, String> nicknames = userRepository.findAllById(
+            entries.stream().map(ScoreRankIndex.Entry::userId).toList())
+        .stream()
+        .collect(Collectors.toMap(User::getId, User::getNickname));
+
+    return entries.stream()
+        .map(entry -> toDto(entry, nicknames.get(entry.userId())))
+        .toList();
+  }
+
+  /**
+   * Gets leaderboard position of a player.
+   */
+  public LeaderboardEntryDto getPlayerRank(Long userId) {
+    ScoreRankIndex.Entry entry;
+    lock.readLock().lock();
+    try {
+      entry = index.get(userId);
+    } finally {
+      lock.readLock().unlock();
+    }
+
+    if (entry == null) {
+      throw new ResourceNotFoundException("Leaderboard entry", "userId", userId);
+    }
+    String nickname = userRepository.findById(userId)
+        .map(User::getNickname)
+        .orElse(null);
+    return toDto(entry, nickname);
+  }
+
+  /**
+   * Gets number of ranked players.
+   */
+  public int getPlayerCount() {
+    lock.readLock().lock();
+    try {
+      return index.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Replaces leaderboard with a fresh copy loaded from the database.
+   */
+  public void rebuild() {
+    if (!rebuildLock.tryLock()) {
+      log.debug("Leaderboard rebuild already in progress");
+      return;
+    }
+    try {
+      lock.writeLock().lock();
+      try {
+        pendingUpdates = new HashMap<>();
+      } finally {
+        lock.writeLock().unlock();
+      }
+
+      ScoreRankIndex loaded = load();
+
+      lock.writeLock().lock();
+      try {
+        pendingUpdates.forEach((userId, stars) -> applyTo(loaded, userId, stars));
+        int drift = loadedOnce ? countDifferences(index, loaded) : 0;
+        index = loaded;
+        loadedOnce = true;
+        if (drift > 0) {
+          log.warn("Leaderboard reconciled: {} entries differed from database", drift);
+        }
+        log.info("Leaderboard loaded with {} players", loaded.size());
+      } finally {
+        pendingUpdates = null;
+        lock.writeLock().unlock();
+      }
+    } catch (RuntimeException e) {
+      log.error("Failed to rebuild leaderboard: {}", e.getMessage(), e);
+      lock.writeLock().lock();
+      try {
+        pendingUpdates = null;
+      } finally {
+        lock.writeLock().unlock();
+      }
+    } finally {
+      rebuildLock.unlock();
+    }
+  }
+
+  private ScoreRankIndex load() {
+    ScoreRankIndex loaded = new ScoreRankIndex();
+    long afterUserId = 0;
+    while (true) {
+      List<UserStatisticsRepository.UserStars> page = statisticsRepository.findStarsAfter(
+          afterUserId, PageRequest.of(0, loadPageSize));
+      if (page.isEmpty()) {
+        return loaded;
+      }
+      page.forEach(row -> loaded.put(row.getUserId(), row.getTotalStars()));
+      afterUserId = page.getLast().getUserId();
+    }
+  }
+
+  private void apply(Long userId, Integer stars) {
+    lock.writeLock().lock();
+    try {
+      applyTo(index, userId, stars);
+      if (pendingUpdates != null) {
+        pendingUpdates.put(userId, stars);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void applyTo(ScoreRankIndex target, Long userId, Integer stars) {
+    if (stars == null) {
+      target.remove(userId);
+    } else {
+      target.put(userId, stars);
+    }
+  }
+
+  private int countDifferences(ScoreRankIndex current, ScoreRankIndex loaded) {
+    Map<Long, Integer> currentScores = current.scores();
+    int differences = (int) currentScores.keySet().stream()
+        .filter(userId -> loaded.score(userId) == null)
+        .count();
+    differences += (int) loaded.scores().entrySet().stream()
+        .filter(entry -> !Objects.equals(currentScores.get(entry.getKey()), entry.getValue()))
+        .count();
+    return differences;
+  }
+
+  private LeaderboardEntryDto toDto(ScoreRankIndex.Entry entry, String nickname) {
+    return LeaderboardEntryDto.builder()
+        .rank(entry.rank())
+        .userId(entry.userId())
+        .nickname(nickname)
+        .totalStars(entry.score())
+        .build();
+  }
+}
@@ -0,0 +1,187 @@
+package com.esdc.gameapi.service;
+
+import com.esdc.gameapi.domain.StatisticsMetric;
+import com.esdc.gameapi.domain.dto.StatisticsPercentilesDto;
+import com.esdc.gameapi.domain.dto.StatisticsPercentilesDto.MetricPercentileDto;
+import com.esdc.gameapi.domain.entity.UserStatistics;
+import com.esdc.gameapi.domain.event.UserDeletedEvent;
+import com.esdc.gameapi.domain.event.UserStatisticsChangedEvent;
+import com.esdc.gameapi.exception.ResourceNotFoundException;
+import com.esdc.gameapi.repository.UserStatisticsRepository;
+import com.esdc.gameapi.util.LogLinearHistogram;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Approximate percentile ranks of player statistics.
+ *
+ * <p>Each {@link StatisticsMetric} has a {@link LogLinearHistogram} that is loaded from
+ * {@code users_statistics} at startup and moved incrementally by committed statistics
+ * changes, so a lookup costs one pass over the buckets and no aggregation query. Changes
+ * racing with the periodic rebuild may be off by a player until the next rebuild.
+ */
+@Slf4j
+@Service
+public class StatisticsPercentileService {
+
+  private static final String TIME_DELIMITER = ":";
+  private static final int TIME_PARTS = 3;
+  private static final int SECONDS_PER_MINUTE = 60;
+  private static final int SECONDS_PER_HOUR = 3600;
+  private static final double ROUNDING_PRECISION = 100.0;
+
+  private final UserStatisticsRepository statisticsRepository;
+  private final int precisionBits;
+  private final int loadPageSize;
+
+  private volatile Map<StatisticsMetric, LogLinearHistogram> histograms;
+
+  /**
+   * Creates service.
+   */
+  public StatisticsPercentileService(
+      UserStatisticsRepository statisticsRepository,
+      @Value("${app.percentiles.precision-bits:5}") int precisionBits,
+      @Value("${app.percentiles.load-page-size:10000}") int loadPageSize) {
+    this.statisticsRepository = statisticsRepository;
+    this.precisionBits = precisionBits;
+    this.loadPageSize = loadPageSize;
+    this.histograms = createHistograms();
+  }
+
+  /**
+   * Loads histograms on startup.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void initialize() {
+    rebuild();
+  }
+
+  /**
+   * Periodically rebuilds histograms from the database to repair any drift.
+   */
+  @Scheduled(fixedDelayString = "${app.percentiles.rebuild-interval:PT30M}",
+      initialDelayString = "${app.percentiles.rebuild-interval:PT30M}")
+  public void rebuild() {
+    try {
+      Map<StatisticsMetric, LogLinearHistogram> loaded = createHistograms();
+      long afterUserId = 0;
+      long players = 0;
+      while (true) {
+        List<UserStatisticsRepository.UserMetrics> page = statisticsRepository.findMetricsAfter(
+            afterUserId, PageRequest.of(0, loadPageSize));
+        if (page.isEmpty()) {
+          break;
+        }
+        for (UserStatisticsRepository.UserMetrics row : page) {
+          UserStatisticsChangedEvent.Snapshot snapshot = new UserStatisticsChangedEvent.Snapshot(
+              row.getTotalStars(), row.getTotalLevelsCompleted(), row.getTotalKilledEnemies(),
+              parseSeconds(row.getTotalTimePlayed()));
+          loaded.forEach((metric, histogram) -> histogram.record(metric.valueOf(snapshot)));
+        }
+        players += page.size();
+        afterUserId = page.getLast().getUserId();
+      }
+      histograms = loaded;
+      log.info("Statistics histograms loaded for {} players", players);
+    } catch (RuntimeException e) {
+      log.error("Failed to rebuild statistics histograms: {}", e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Moves player between buckets after committed statistics change.
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onStatisticsChanged(UserStatisticsChangedEvent event) {
+    histograms.forEach((metric, histogram) -> {
+      int current = metric.valueOf(event.current());
+      if (event.previous() == null) {
+        histogram.record(current);
+      } else {
+        histogram.replace(metric.valueOf(event.previous()), current);
+      }
+    });
+  }
+
+  /**
+   * Removes deleted player from the buckets of their last statistics.
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onUserDeleted(UserDeletedEvent event) {
+    if (event.statistics() != null) {
+      histograms.forEach((metric, histogram) ->
+          histogram.remove(metric.valueOf(event.statistics())));
+    }
+  }
+
+  /**
+   * Gets approximate percentile ranks of a player's statistics.
+   */
+  public StatisticsPercentilesDto getPercentiles(Long userId) {
+    UserStatistics statistics = statisticsRepository.findByUserId(userId)
+        .orElseThrow(() -> new ResourceNotFoundException("Statistics", "userId", userId));
+    UserStatisticsChangedEvent.Snapshot snapshot = new UserStatisticsChangedEvent.Snapshot(
+        statistics.getTotalStars(), statistics.getTotalLevelsCompleted(),
+        statistics.getTotalKilledEnemies(), parseSeconds(statistics.getTotalTimePlayed()));
+
+    Map<StatisticsMetric, LogLinearHistogram> current = histograms;
+    return StatisticsPercentilesDto.builder()
+        .totalPlayers(current.get(StatisticsMetric.STARS).count())
+        .stars(toDto(current, StatisticsMetric.STARS, snapshot))
+        .levelsCompleted(toDto(current, StatisticsMetric.LEVELS_COMPLETED, snapshot))
+        .killedEnemies(toDto(current, StatisticsMetric.KILLED_ENEMIES, snapshot))
+        .timePlayed(toDto(current, StatisticsMetric.TIME_PLAYED, snapshot))
+        .build();
+  }
+
+  private MetricPercentileDto toDto(Map<StatisticsMetric, LogLinearHistogram> current,
+                                    StatisticsMetric metric,
+                                    UserStatisticsChangedEvent.Snapshot snapshot) {
+    int value = metric.valueOf(snapshot);
+    LogLinearHistogram.Rank rank = current.get(metric).rank(value);
+    return MetricPercentileDto.builder()
+        .value(value)
+        .percentile(rank != null ? roundToTwoDecimals(rank.percentile()) : 0.0)
+        .topPercent(rank != null ? roundToTwoDecimals(rank.topPercent()) : 100.0)
+        .build();
+  }
+
+  private Map<StatisticsMetric, LogLinearHistogram> createHistograms() {
+    Map<StatisticsMetric, LogLinearHistogram> created = new EnumMap<>(StatisticsMetric.class);
+    for (StatisticsMetric metric : StatisticsMetric.values()) {
+      created.put(metric, new LogLinearHistogram(precisionBits));
+    }
+    return created;
+  }
+
+  private int parseSeconds(String time) {
+    if (time == null) {
+      return 0;
+    }
+    String[] parts = time.split(TIME_DELIMITER);
+    if (parts.length != TIME_PARTS) {
+      return 0;
+    }
+    try {
+      return Integer.parseInt(parts[0]) * SECONDS_PER_HOUR
+          + Integer.parseInt(parts[1]) * SECONDS_PER_MINUTE
+          + Integer.parseInt(parts[2]);
+    } catch (NumberFormatException e) {
+      return 0;
+    }
+  }
+
+  private double roundToTwoDecimals(double value) {
+    return Math.round(value * ROUNDING_PRECISION) / ROUNDING_PRECISION;
+  }
+}
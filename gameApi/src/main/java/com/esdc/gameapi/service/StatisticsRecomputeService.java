@@ -0,0 +1,62 @@
+package com.esdc.gameapi.service;
+
+import com.esdc.gameapi.domain.JobType;
+import com.esdc.gameapi.domain.entity.BackgroundJob;
+import com.esdc.gameapi.domain.event.LevelChangedEvent;
+import com.esdc.gameapi.repository.BackgroundJobItemRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+/**
+ * Recomputes statistics of players affected by a change to a level.
+ *
+ * <p>Players are snapshotted through the {@code (level_id, user_id)} progress index in the
+ * transaction that changes the level, so a deleted level's players are known even after
+ * its progress is gone. Their statistics are then rebuilt in parallel chunks.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StatisticsRecomputeService implements BackgroundJobRunner {
+
+  private final BackgroundJobService jobService;
+  private final BackgroundJobItemRepository itemRepository;
+  private final UserStatisticsService statisticsService;
+  private final ParallelChunkProcessor chunkProcessor;
+
+  /**
+   * Enqueues a recompute of players who played the level, if the change affects them.
+   */
+  @EventListener
+  public void onLevelChanged(LevelChangedEvent event) {
+    if (!event.affectsPlayerStatistics()) {
+      return;
+    }
+
+    BackgroundJob job = jobService.enqueue(JobType.STATISTICS_RECOMPUTE, event.levelId());
+    int users = itemRepository.snapshotUsersWithProgressOnLevel(job.getId(), event.levelId());
+    log.info("Level {} {}: {} players queued for statistics recompute in job {}",
+        event.levelId(), event.changeType(), users, job.getId());
+  }
+
+  @Override
+  public JobType getJobType() {
+    return JobType.STATISTICS_RECOMPUTE;
+  }
+
+  @Override
+  public long estimateTotal(BackgroundJob job) {
+    return itemRepository.countByJobId(job.getId());
+  }
+
+  @Override
+  public boolean run(BackgroundJob job) {
+    return chunkProcessor.process(job,
+        (afterId, limit) -> itemRepository.findItemIdsAfter(
+            job.getId(), afterId, PageRequest.of(0, limit)),
+        (afterId, userIds) -> statisticsService.recalculateUserStatistics(userIds));
+  }
+}
@@ -0,0 +1,95 @@
+package com.esdc.gameapi.service;
+
+import com.esdc.gameapi.domain.event.AchievementChangedEvent;
+import com.esdc.gameapi.domain.event.ProgressCreatedEvent;
+import com.esdc.gameapi.domain.event.UserDeletedEvent;
+import com.esdc.gameapi.domain.event.UserStatisticsChangedEvent;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * In-memory version counters that turn per-user reads into conditional GETs.
+ *
+ * <p>A user's version is bumped after every committed change of their progress or statistics,
+ * and the shared achievement generation after every committed achievement change and
+ * backfill. ETags combine these with a per-instance epoch, so a restart never answers 304 for
+ * a version counted by the previous process. Versions are not shared between instances;
+ * with several instances, a user's writes must reach the instance that serves their reads.
+ */
+@Service
+public class UserDataVersions {
+
+  private static final int RADIX = 36;
+
+  private final String epoch = Long.toString(System.currentTimeMillis(), RADIX);
+  private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+  private final AtomicLong achievementGeneration = new AtomicLong();
+
+  /**
+   * Gets ETag of the user's statistics.
+   */
+  public String statisticsEtag(Long userId) {
+    return "\"s-" + epoch + "-" + userId + "-" + version(userId) + "\"";
+  }
+
+  /**
+   * Gets ETag of the user's unlocked achievements.
+   */
+  public String achievementsEtag(Long userId) {
+    return "\"a-" + epoch + "-" + userId + "-" + version(userId)
+        + "-" + achievementGeneration.get() + "\"";
+  }
+
+  /**
+   * Marks all data of the user as changed.
+   */
+  public void bump(Long userId) {
+    versions.merge(userId, 1L, Long::sum);
+  }
+
+  /**
+   * Marks achievements of all users as changed.
+   */
+  public void bumpAchievements() {
+    achievementGeneration.incrementAndGet();
+  }
+
+  /**
+   * Bumps user after committed progress submission.
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onProgressCreated(ProgressCreatedEvent event) {
+    bump(event.userId());
+  }
+
+  /**
+   * Bumps user after committed statistics change.
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onStatisticsChanged(UserStatisticsChangedEvent event) {
+    bump(event.userId());
+  }
+
+  /**
+   * Bumps deleted user so cached representations are not confirmed.
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onUserDeleted(UserDeletedEvent event) {
+    bump(event.userId());
+  }
+
+  /**
+   * Bumps achievement generation after committed achievement change.
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onAchievementChanged(AchievementChangedEvent event) {
+    bumpAchievements();
+  }
+
+  private long version(Long userId) {
+    return versions.getOrDefault(userId, 0L);
+  }
+}
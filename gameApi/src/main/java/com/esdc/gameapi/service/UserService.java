@@ -5,12 +5,17 @@ import com.esdc.gameapi.domain.dto.UserLoginDto;
 import com.esdc.gameapi.domain.dto.UserRegistrationDto;
 import com.esdc.gameapi.domain.dto.UserResponseDto;
 import com.esdc.gameapi.domain.entity.User;
+import com.esdc.gameapi.domain.event.UserDeletedEvent;
+import com.esdc.gameapi.domain.event.UserRegisteredEvent;
+import com.esdc.gameapi.domain.event.UserRenamedEvent;
+import com.esdc.gameapi.domain.event.UserStatisticsChangedEvent;
 import com.esdc.gameapi.exception.DuplicateResourceException;
 import com.esdc.gameapi.exception.ResourceNotFoundException;
 import com.esdc.gameapi.repository.UserRepository;
 import com.esdc.gameapi.security.JwtUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -29,6 +34,9 @@ public class UserService {
   private final PasswordEncoder passwordEncoder;
   private final JwtUtil jwtUtil;
   private final AuthenticationManager authenticationManager;
+  private final ApplicationEventPublisher eventPublisher;
+  private final MissingResourceCache missingResources;
+  private final UserStatisticsService userStatisticsService;
 
   /**
    * Registers new user and generates JWT token.
@@ -49,6 +57,7 @@ public class UserService {
 
     user = userRepository.save(user);
     log.info("User registered successfully: {}", user.getNickname());
+    eventPublisher.publishEvent(new UserRegisteredEvent(user.getId()));
 
     String token = jwtUtil.generateToken(user.getNickname(), user.getId());
 
@@ -92,12 +101,16 @@ public class UserService {
     User user = userRepository.findById(userId)
         .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
 
+    final boolean renamed = !dto.getNickname().equals(user.getNickname());
     user.setNickname(dto.getNickname());
     user.setPasswordHash(passwordEncoder.encode(dto.getPassword()));
     user.setAge(dto.getAge());
 
     User updatedUser = userRepository.save(user);
     log.info("User updated successfully: {}", updatedUser.getId());
+    if (renamed) {
+      eventPublisher.publishEvent(new UserRenamedEvent(userId, updatedUser.getNickname()));
+    }
 
     return toResponseDto(updatedUser);
   }
@@ -112,18 +125,32 @@ public class UserService {
     User user = userRepository.findById(userId)
         .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
 
+    UserStatisticsChangedEvent.Snapshot statistics =
+        userStatisticsService.findSnapshot(userId).orElse(null);
     userRepository.delete(user);
+    eventPublisher.publishEvent(new UserDeletedEvent(userId, statistics));
     log.info("User deleted successfully: {}", userId);
   }
 
+  /**
+   * Gets user by ID.
+   */
+  @Transactional(readOnly = true)
+  public UserResponseDto getUserById(Long userId) {
+    log.debug("Fetching user: {}", userId);
+    User user = missingResources.require(MissingResourceCache.Kind.USER, userId,
+        () -> userRepository.findById(userId));
+    return toResponseDto(user);
+  }
+
   /**
    * Gets user nickname by ID.
    */
   @Transactional(readOnly = true)
   public String getUserNickname(Long userId) {
     log.debug("Fetching nickname for user: {}", userId);
-    User user = userRepository.findById(userId)
-        .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+    User user = missingResources.require(MissingResourceCache.Kind.USER, userId,
+        () -> userRepository.findById(userId));
     return user.getNickname();
   }
 
@@ -1,21 +1,29 @@
 package com.esdc.gameapi.service;
 
+import com.esdc.gameapi.config.SingleFlight;
 import com.esdc.gameapi.domain.dto.StarsProgressDto;
 import com.esdc.gameapi.domain.dto.UserStatisticsDto;
 import com.esdc.gameapi.domain.entity.Level;
 import com.esdc.gameapi.domain.entity.Progress;
 import com.esdc.gameapi.domain.entity.User;
 import com.esdc.gameapi.domain.entity.UserStatistics;
+import com.esdc.gameapi.domain.event.UserStatisticsChangedEvent;
 import com.esdc.gameapi.exception.ResourceNotFoundException;
+import com.esdc.gameapi.jfr.StatisticsRecomputedEvent;
 import com.esdc.gameapi.repository.LevelRepository;
 import com.esdc.gameapi.repository.ProgressRepository;
 import com.esdc.gameapi.repository.UserRepository;
 import com.esdc.gameapi.repository.UserStatisticsRepository;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -48,16 +56,29 @@ public class UserStatisticsService {
   private final ProgressRepository progressRepository;
   private final UserRepository userRepository;
   private final LevelRepository levelRepository;
+  private final ApplicationEventPublisher eventPublisher;
+  private final MissingResourceCache missingResources;
+  private final PipelineMetrics pipelineMetrics;
 
   /**
    * Gets user statistics by ID.
    */
   @Transactional(readOnly = true)
+  @SingleFlight
   public Optional<UserStatisticsDto> getStatisticsByUserId(Long userId) {
-    return statisticsRepository.findByUserId(userId)
+    return missingResources.find(MissingResourceCache.Kind.STATISTICS, userId,
+            () -> statisticsRepository.findByUserId(userId))
         .map(this::toDto);
   }
 
+  /**
+   * Gets saved statistics values of a user, e.g. to publish them before the user is deleted.
+   */
+  @Transactional(readOnly = true)
+  public Optional<UserStatisticsChangedEvent.Snapshot> findSnapshot(Long userId) {
+    return statisticsRepository.findByUserId(userId).map(this::snapshot);
+  }
+
   /**
    * Recalculates and saves user statistics.
    */
@@ -68,8 +89,89 @@ public class UserStatisticsService {
     User user = userRepository.findById(userId)
         .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
 
+    StatisticsRecomputedEvent recomputed = new StatisticsRecomputedEvent();
+    recomputed.begin();
     List<Progress> allProgress = progressRepository.findByUserId(userId);
 
+    UserStatistics statistics = statisticsRepository.findByUserId(userId)
+        .orElseGet(() -> new UserStatistics(user));
+    UserStatisticsChangedEvent.Snapshot previous = snapshotOfSaved(statistics);
+    applyProgress(statistics, userId, allProgress);
+
+    UserStatistics savedStatistics = statisticsRepository.save(statistics);
+    eventPublisher.publishEvent(
+        new UserStatisticsChangedEvent(userId, previous, snapshot(savedStatistics),
+            toDto(savedStatistics)));
+    recomputed.users = 1;
+    recomputed.progressRows = allProgress.size();
+    recomputed.commit();
+    pipelineMetrics.recordRecompute(PipelineMetrics.RecomputeMode.SINGLE, allProgress.size());
+    log.info("Stats updated for user{}:{}levels,{}stars", userId,
+        statistics.getTotalLevelsCompleted(), statistics.getTotalStars());
+
+    return toDto(savedStatistics);
+  }
+
+  /**
+   * Recalculates and saves statistics for a batch of users with a constant number of queries.
+   *
+   * @return number of users whose statistics were saved; unknown IDs are skipped
+   */
+  @Transactional
+  public int recalculateUserStatistics(Collection<Long> userIds) {
+    if (userIds.isEmpty()) {
+      return 0;
+    }
+    log.debug("Recalculating statistics for {} users", userIds.size());
+    StatisticsRecomputedEvent recomputed = new StatisticsRecomputedEvent();
+    recomputed.begin();
+
+    List<Progress> progress = progressRepository.findByUserIdInWithLevel(userIds);
+    Map<Long, List<Progress>> progressByUser = progress.stream()
+        .collect(Collectors.groupingBy(row -> row.getUser().getId()));
+
+    Map<Long, UserStatistics> statisticsByUser = statisticsRepository.findByUserIdIn(userIds)
+        .stream()
+        .collect(Collectors.toMap(stats -> stats.getUser().getId(), Function.identity()));
+
+    List<Long> withoutStatistics = userIds.stream()
+        .filter(userId -> !statisticsByUser.containsKey(userId))
+        .toList();
+    if (!withoutStatistics.isEmpty()) {
+      userRepository.findAllById(withoutStatistics)
+          .forEach(user -> statisticsByUser.put(user.getId(), new UserStatistics(user)));
+    }
+
+    Map<Long, UserStatisticsChangedEvent.Snapshot> previousByUser = new HashMap<>();
+    statisticsByUser.forEach((userId, statistics) -> {
+      previousByUser.put(userId, snapshotOfSaved(statistics));
+      applyProgress(statistics, userId, progressByUser.getOrDefault(userId, List.of()));
+    });
+    statisticsRepository.saveAll(statisticsByUser.values());
+    recomputed.users = statisticsByUser.size();
+    recomputed.progressRows = progress.size();
+    recomputed.commit();
+    pipelineMetrics.recordRecompute(PipelineMetrics.RecomputeMode.BATCH, progress.size());
+    statisticsByUser.forEach((userId, statistics) -> eventPublisher.publishEvent(
+        new UserStatisticsChangedEvent(userId, previousByUser.get(userId), snapshot(statistics),
+            toDto(statistics))));
+
+    return statisticsByUser.size();
+  }
+
+  private UserStatisticsChangedEvent.Snapshot snapshotOfSaved(UserStatistics statistics) {
+    return statistics.getId() != null ? snapshot(statistics) : null;
+  }
+
+  private UserStatisticsChangedEvent.Snapshot snapshot(UserStatistics statistics) {
+    return new UserStatisticsChangedEvent.Snapshot(
+        statistics.getTotalStars(),
+        statistics.getTotalLevelsCompleted(),
+        statistics.getTotalKilledEnemies(),
+        convertTimeToSeconds(statistics.getTotalTimePlayed()));
+  }
+
+  private void applyProgress(UserStatistics statistics, Long userId, List<Progress> allProgress) {
     int totalLevelsCompleted = (int) allProgress.stream()
         .map(progress -> progress.getLevel().getId())
         .distinct()
@@ -87,25 +189,17 @@ public class UserStatisticsService {
 
     String totalTimePlayed = calculateTotalTime(allProgress);
 
-    UserStatistics statistics = statisticsRepository.findByUserId(userId)
-        .orElseGet(() -> new UserStatistics(user));
-
     statistics.setTotalLevelsCompleted(totalLevelsCompleted);
     statistics.setTotalTimePlayed(totalTimePlayed);
     statistics.setTotalKilledEnemies(totalKilledEnemies);
     statistics.setTotalSolvedPuzzles(totalSolvedPuzzles);
     statistics.setTotalStars(totalStars);
-
-    UserStatistics savedStatistics = statisticsRepository.save(statistics);
-    log.info("Stats updated for user{}:{}levels,{}stars", userId, totalLevelsCompleted, totalStars);
-
-    return toDto(savedStatistics);
   }
 
   /**
    * Calculates total stars across all levels.
    */
-  private int calculateTotalStars(Long userId, List<Progress> allProgress) {
+  int calculateTotalStars(Long userId, List<Progress> allProgress) {
     int totalStars = DEFAULT_STARS;
 
     var progressByLevel = allProgress.stream()
@@ -140,6 +234,7 @@ public class UserStatisticsService {
    * Gets maximum possible stars for all levels.
    */
   @Transactional(readOnly = true)
+  @SingleFlight
   public int getMaxPossibleStars() {
     List<Level> allLevels = levelRepository.findAll();
     return allLevels.stream()
@@ -151,9 +246,10 @@ public class UserStatisticsService {
    * Calculates stars progress percentage.
    */
   @Transactional(readOnly = true)
+  @SingleFlight
   public double getStarsProgressPercentage(Long userId) {
-    UserStatistics statistics = statisticsRepository.findByUserId(userId)
-        .orElseThrow(() -> new ResourceNotFoundException("Statistics", "userId", userId));
+    UserStatistics statistics = missingResources.require(MissingResourceCache.Kind.STATISTICS,
+        userId, () -> statisticsRepository.findByUserId(userId));
 
     int maxPossibleStars = getMaxPossibleStars();
     if (maxPossibleStars == DEFAULT_MAX_STARS) {
@@ -168,9 +264,10 @@ public class UserStatisticsService {
    * Gets detailed stars progress info.
    */
   @Transactional(readOnly = true)
+  @SingleFlight
   public StarsProgressDto getStarsProgress(Long userId) {
-    UserStatistics statistics = statisticsRepository.findByUserId(userId)
-        .orElseThrow(() -> new ResourceNotFoundException("Statistics", "userId", userId));
+    UserStatistics statistics = missingResources.require(MissingResourceCache.Kind.STATISTICS,
+        userId, () -> statisticsRepository.findByUserId(userId));
 
     int maxStars = getMaxPossibleStars();
     double percentage = getStarsProgressPercentage(userId);
@@ -0,0 +1,71 @@
+package com.esdc.gameapi.slowrequest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-thread details of the request being handled, reported with slow requests.
+ *
+ * <p>Code on the request thread adds to the trace through the static methods, which do nothing
+ * when no trace is open, e.g. in background jobs.
+ */
+public final class RequestTrace implements AutoCloseable {
+
+  private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+
+  private final Map<String, Long> stageNanos = new LinkedHashMap<>();
+  private Long userId;
+
+  private RequestTrace() {
+  }
+
+  /**
+   * Starts tracing this thread until the returned trace is closed.
+   */
+  public static RequestTrace open() {
+    RequestTrace trace = new RequestTrace();
+    CURRENT.set(trace);
+    return trace;
+  }
+
+  /**
+   * Adds time spent in a named stage; repeated stages are summed.
+   */
+  public static void recordStage(String stage, long nanos) {
+    RequestTrace trace = CURRENT.get();
+    if (trace != null) {
+      trace.stageNanos.merge(stage, nanos, Long::sum);
+    }
+  }
+
+  /**
+   * Records the authenticated user.
+   */
+  public static void recordUser(Long userId) {
+    RequestTrace trace = CURRENT.get();
+    if (trace != null) {
+      trace.userId = userId;
+    }
+  }
+
+  /**
+   * Time per stage in the order stages were first recorded.
+   */
+  public Map<String, Long> stageNanos() {
+    return stageNanos;
+  }
+
+  /**
+   * Authenticated user, or {@code null} for anonymous requests.
+   */
+  public Long userId() {
+    return userId;
+  }
+
+  @Override
+  public void close() {
+    if (CURRENT.get() == this) {
+      CURRENT.remove();
+    }
+  }
+}
@@ -0,0 +1,36 @@
+package com.esdc.gameapi.slowrequest;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Request kept by {@link SlowRequestLog}.
+ *
+ * @param completedAt when handling finished
+ * @param method HTTP method
+ * @param uri matched URI pattern, so path variables such as user IDs are not repeated
+ * @param handler controller method as {@code Controller#method}
+ * @param status response status; 500 if an exception escaped the filter chain
+ * @param userId authenticated user, or {@code null}
+ * @param durationMs wall time of the request
+ * @param sqlStatements SQL statements executed on the request thread
+ * @param sqlTimeMs time spent executing those statements
+ * @param stagesMs time per pipeline stage, in execution order
+ * @param thread request thread at completion
+ */
+public record SlowRequest(Instant completedAt, String method, String uri, String handler,
+                          int status, Long userId, double durationMs, long sqlStatements,
+                          double sqlTimeMs, Map<String, Double> stagesMs, ThreadSnapshot thread) {
+
+  /**
+   * Request thread at completion.
+   *
+   * @param name thread name
+   * @param virtual whether the request ran on a virtual thread
+   * @param cpuMs CPU time of the request, or {@code null} if the JVM does not measure it
+   * @param offCpuMs wall time not spent on CPU, i.e. waiting for locks, I/O or the database,
+   *     or {@code null} if CPU time is not measured
+   */
+  public record ThreadSnapshot(String name, boolean virtual, Double cpuMs, Double offCpuMs) {
+  }
+}
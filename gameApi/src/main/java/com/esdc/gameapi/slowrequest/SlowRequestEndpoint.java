@@ -0,0 +1,49 @@
+package com.esdc.gameapi.slowrequest;
+
+import com.esdc.gameapi.service.AdminAuthService;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+
+/**
+ * Actuator endpoint listing the slowest recent requests per time window.
+ *
+ * <p>The report names users, handlers and threads, so it requires the admin password, sent in
+ * the body of a POST like the flight recording dump rather than in the query string.
+ */
+@Endpoint(id = "slowrequests")
+public class SlowRequestEndpoint {
+
+  private final SlowRequestLog slowRequests;
+  private final AdminAuthService adminAuthService;
+
+  /**
+   * Creates endpoint reading the given log.
+   */
+  public SlowRequestEndpoint(SlowRequestLog slowRequests, AdminAuthService adminAuthService) {
+    this.slowRequests = slowRequests;
+    this.adminAuthService = adminAuthService;
+  }
+
+  /**
+   * Lists kept requests, newest window first.
+   */
+  @WriteOperation
+  public SlowRequestReport slowRequests(String adminPassword) {
+    adminAuthService.validateAdminPassword(adminPassword);
+    return new SlowRequestReport(slowRequests.perWindow(), slowRequests.window(),
+        slowRequests.windows());
+  }
+
+  /**
+   * Slowest recent requests.
+   *
+   * @param perWindow requests kept per window
+   * @param window length of a window
+   * @param windows windows that kept requests, newest first
+   */
+  public record SlowRequestReport(int perWindow, Duration window,
+                                  List<SlowRequestLog.WindowReport> windows) {
+  }
+}
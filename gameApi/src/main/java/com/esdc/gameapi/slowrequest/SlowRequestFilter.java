@@ -0,0 +1,101 @@
+package com.esdc.gameapi.slowrequest;
+
+import com.esdc.gameapi.config.RequestResourceFilter;
+import com.esdc.gameapi.config.SqlStatementCounter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Offers every request to the {@link SlowRequestLog}.
+ *
+ * <p>Details are only assembled for requests the log will keep. SQL statements are counted
+ * only when statement counting is enabled, and only work on the request thread is seen.
+ */
+public class SlowRequestFilter extends OncePerRequestFilter {
+
+  private static final String UNKNOWN_URI = "UNKNOWN";
+  private static final double NANOS_PER_MILLI = 1_000_000.0;
+  private static final int FAILED_STATUS = HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+  private static final long UNAVAILABLE = -1;
+
+  private final SlowRequestLog slowRequests;
+  private final ThreadMXBean threads;
+  private final boolean cpuTimeSupported;
+
+  /**
+   * Creates filter reading the platform thread counters.
+   */
+  public SlowRequestFilter(SlowRequestLog slowRequests) {
+    this(slowRequests, ManagementFactory.getThreadMXBean());
+  }
+
+  SlowRequestFilter(SlowRequestLog slowRequests, ThreadMXBean threads) {
+    this.slowRequests = slowRequests;
+    this.threads = threads;
+    this.cpuTimeSupported = threads.isCurrentThreadCpuTimeSupported()
+        && threads.isThreadCpuTimeEnabled();
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request,
+                                  HttpServletResponse response,
+                                  FilterChain chain) throws ServletException, IOException {
+    long start = System.nanoTime();
+    long cpuBefore = cpuTime();
+    boolean failed = true;
+    try (RequestTrace trace = RequestTrace.open();
+         SqlStatementCounter.Scope sql = SqlStatementCounter.open()) {
+      try {
+        chain.doFilter(request, response);
+        failed = false;
+      } finally {
+        long nanos = System.nanoTime() - start;
+        Instant completedAt = slowRequests.now();
+        if (slowRequests.isSlow(completedAt, nanos / NANOS_PER_MILLI)) {
+          slowRequests.offer(new SlowRequest(completedAt, request.getMethod(), uri(request),
+              RequestResourceFilter.handlerName(request),
+              failed ? FAILED_STATUS : response.getStatus(), trace.userId(),
+              nanos / NANOS_PER_MILLI, sql.statements(), sql.time().toNanos() / NANOS_PER_MILLI,
+              stagesMs(trace), thread(nanos, cpuBefore)));
+        }
+      }
+    }
+  }
+
+  private SlowRequest.ThreadSnapshot thread(long nanos, long cpuBefore) {
+    Thread current = Thread.currentThread();
+    long cpuAfter = cpuTime();
+    // Also unavailable on virtual threads
+    if (cpuBefore == UNAVAILABLE || cpuAfter == UNAVAILABLE) {
+      return new SlowRequest.ThreadSnapshot(current.getName(), current.isVirtual(), null, null);
+    }
+    long cpuNanos = cpuAfter - cpuBefore;
+    return new SlowRequest.ThreadSnapshot(current.getName(), current.isVirtual(),
+        cpuNanos / NANOS_PER_MILLI, Math.max(0, nanos - cpuNanos) / NANOS_PER_MILLI);
+  }
+
+  private long cpuTime() {
+    return cpuTimeSupported ? threads.getCurrentThreadCpuTime() : UNAVAILABLE;
+  }
+
+  private static Map<String, Double> stagesMs(RequestTrace trace) {
+    Map<String, Double> stages = new LinkedHashMap<>();
+    trace.stageNanos().forEach((stage, nanos) -> stages.put(stage, nanos / NANOS_PER_MILLI));
+    return stages;
+  }
+
+  private static String uri(HttpServletRequest request) {
+    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    return pattern != null ? pattern.toString() : UNKNOWN_URI;
+  }
+}
@@ -0,0 +1,167 @@
+package com.esdc.gameapi.slowrequest;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * In-memory ring of time windows, each keeping the slowest requests completed in it.
+ *
+ * <p>A request faster than the slowest ones already kept in its window is rejected with a
+ * single volatile read, so offering every request stays cheap. Windows older than the
+ * retention are overwritten in place.
+ */
+public class SlowRequestLog {
+
+  private static final Comparator<SlowRequest> BY_DURATION =
+      Comparator.comparingDouble(SlowRequest::durationMs);
+
+  private final int perWindow;
+  private final Duration window;
+  private final Clock clock;
+  private final AtomicReferenceArray<Window> windows;
+
+  /**
+   * Creates log keeping {@code perWindow} requests for each window within the retention.
+   */
+  public SlowRequestLog(int perWindow, Duration window, Duration retention, Clock clock) {
+    if (perWindow < 1 || window.toMillis() < 1) {
+      throw new IllegalArgumentException("Slow request log needs a positive size and window");
+    }
+    this.perWindow = perWindow;
+    this.window = window;
+    this.clock = clock;
+    this.windows = new AtomicReferenceArray<>(
+        (int) Math.max(1, retention.toMillis() / window.toMillis()));
+  }
+
+  /**
+   * Current time of the log's clock.
+   */
+  public Instant now() {
+    return clock.instant();
+  }
+
+  /**
+   * Whether a request that completed at the given time with the given duration would be kept.
+   */
+  public boolean isSlow(Instant completedAt, double durationMs) {
+    Window target = windowAt(indexOf(completedAt));
+    return target != null && durationMs > target.floorMs;
+  }
+
+  /**
+   * Keeps request if it is among the slowest of its window.
+   */
+  public void offer(SlowRequest request) {
+    Window target = windowAt(indexOf(request.completedAt()));
+    if (target != null) {
+      target.offer(request);
+    }
+  }
+
+  /**
+   * Windows within the retention that kept requests, newest first, slowest request first.
+   */
+  public List<WindowReport> windows() {
+    long current = indexOf(now());
+    List<WindowReport> reports = new ArrayList<>();
+    for (long index = current; index > current - windows.length(); index--) {
+      Window kept = windows.get(slotOf(index));
+      if (kept != null && kept.index == index) {
+        List<SlowRequest> requests = kept.slowest();
+        if (!requests.isEmpty()) {
+          Instant start = Instant.ofEpochMilli(index * window.toMillis());
+          reports.add(new WindowReport(start, start.plus(window), requests));
+        }
+      }
+    }
+    return reports;
+  }
+
+  /**
+   * Number of requests kept per window.
+   */
+  public int perWindow() {
+    return perWindow;
+  }
+
+  /**
+   * Length of a window.
+   */
+  public Duration window() {
+    return window;
+  }
+
+  private long indexOf(Instant instant) {
+    return Math.floorDiv(instant.toEpochMilli(), window.toMillis());
+  }
+
+  private int slotOf(long index) {
+    return (int) Math.floorMod(index, (long) windows.length());
+  }
+
+  private Window windowAt(long index) {
+    int slot = slotOf(index);
+    while (true) {
+      Window kept = windows.get(slot);
+      if (kept != null && kept.index == index) {
+        return kept;
+      }
+      if (kept != null && kept.index > index) {
+        // Completed so long ago that its window was already recycled
+        return null;
+      }
+      Window fresh = new Window(index);
+      if (windows.compareAndSet(slot, kept, fresh)) {
+        return fresh;
+      }
+    }
+  }
+
+  /**
+   * Slow requests of one window.
+   *
+   * @param start window start, inclusive
+   * @param end window end, exclusive
+   * @param requests kept requests, slowest first
+   */
+  public record WindowReport(Instant start, Instant end, List<SlowRequest> requests) {
+  }
+
+  private final class Window {
+
+    private final long index;
+    private final PriorityQueue<SlowRequest> heap = new PriorityQueue<>(BY_DURATION);
+    private volatile double floorMs = -1;
+
+    private Window(long index) {
+      this.index = index;
+    }
+
+    synchronized void offer(SlowRequest request) {
+      if (heap.size() < perWindow) {
+        heap.add(request);
+      } else if (request.durationMs() > heap.peek().durationMs()) {
+        heap.poll();
+        heap.add(request);
+      } else {
+        return;
+      }
+      if (heap.size() == perWindow) {
+        floorMs = heap.peek().durationMs();
+      }
+    }
+
+    synchronized List<SlowRequest> slowest() {
+      List<SlowRequest> requests = new ArrayList<>(heap);
+      requests.sort(BY_DURATION.reversed());
+      return requests;
+    }
+  }
+}
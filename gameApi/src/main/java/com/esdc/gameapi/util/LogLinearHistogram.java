@@ -0,0 +1,129 @@
+package com.esdc.gameapi.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram of non-negative int values with log-linear buckets.
+ *
+ * <p>Values below {@code 2^precisionBits} get a bucket each; every higher power-of-two range
+ * is split into {@code 2^precisionBits} equal buckets, so bucket width stays within
+ * {@code 2^-precisionBits} of the value. Recording is lock-free and O(1); a percentile
+ * lookup scans the buckets once.
+ */
+public class LogLinearHistogram {
+
+  private static final int VALUE_BITS = Integer.SIZE - 1;
+  private static final double PERCENT = 100.0;
+
+  private final int precisionBits;
+  private final int subBuckets;
+  private final AtomicLongArray counts;
+
+  /**
+   * Creates empty histogram.
+   *
+   * @throws IllegalArgumentException if precision is outside 1..16 bits
+   */
+  public LogLinearHistogram(int precisionBits) {
+    if (precisionBits < 1 || precisionBits > 16) {
+      throw new IllegalArgumentException("Precision must be 1..16 bits: " + precisionBits);
+    }
+    this.precisionBits = precisionBits;
+    this.subBuckets = 1 << precisionBits;
+    this.counts = new AtomicLongArray((VALUE_BITS - precisionBits + 1) * subBuckets);
+  }
+
+  /**
+   * Percentile position of a value.
+   *
+   * @param percentile share of values below, in percent
+   * @param topPercent share of values at or above, in percent
+   */
+  public record Rank(double percentile, double topPercent) {
+  }
+
+  /**
+   * Records a value; negative values count as zero.
+   */
+  public void record(int value) {
+    counts.incrementAndGet(bucketOf(value));
+  }
+
+  /**
+   * Removes a previously recorded value.
+   */
+  public void remove(int value) {
+    counts.updateAndGet(bucketOf(value), count -> Math.max(0, count - 1));
+  }
+
+  /**
+   * Moves a recorded value, e.g. when a player's statistic changes.
+   */
+  public void replace(int previous, int current) {
+    if (bucketOf(previous) != bucketOf(current)) {
+      remove(previous);
+      record(current);
+    }
+  }
+
+  /**
+   * Estimates rank of a value, assuming values are spread evenly within a bucket.
+   *
+   * @return rank, or null if the histogram is empty
+   */
+  public Rank rank(int value) {
+    int bucket = bucketOf(value);
+    long total = 0;
+    long below = 0;
+    long inBucket = 0;
+    for (int i = 0; i < counts.length(); i++) {
+      long count = counts.get(i);
+      total += count;
+      if (i < bucket) {
+        below += count;
+      } else if (i == bucket) {
+        inBucket = count;
+      }
+    }
+    if (total == 0) {
+      return null;
+    }
+
+    double belowInBucket = inBucket * (double) (Math.max(value, 0) - lowerBound(bucket))
+        / width(bucket);
+    double belowTotal = Math.min(below + belowInBucket, total);
+    return new Rank(belowTotal * PERCENT / total, (total - belowTotal) * PERCENT / total);
+  }
+
+  /**
+   * Returns number of recorded values.
+   */
+  public long count() {
+    long total = 0;
+    for (int i = 0; i < counts.length(); i++) {
+      total += counts.get(i);
+    }
+    return total;
+  }
+
+  private int bucketOf(int value) {
+    if (value < subBuckets) {
+      return Math.max(value, 0);
+    }
+    int exponent = Integer.SIZE - 1 - Integer.numberOfLeadingZeros(value);
+    int shift = exponent - precisionBits;
+    return (shift + 1) * subBuckets + ((value >>> shift) - subBuckets);
+  }
+
+  private long lowerBound(int bucket) {
+    if (bucket < subBuckets) {
+      return bucket;
+    }
+    int shift = bucket / subBuckets - 1;
+    return (long) (subBuckets + bucket % subBuckets) << shift;
+  }
+
+  private long width(int bucket) {
+    return bucket < subBuckets ? 1 : 1L << (bucket / subBuckets - 1);
+  }
+}
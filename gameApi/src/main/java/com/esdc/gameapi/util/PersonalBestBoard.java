@@ -0,0 +1,109 @@
+package com.esdc.gameapi.util;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * Bounded board of the fastest personal bests.
+ *
+ * <p>Holds at most {@code capacity} players, each with only their best time. A run is
+ * rejected in O(1) when it is not better than the player's best or the slowest entry of a
+ * full board; otherwise it is inserted in O(log capacity) and the slowest entry is evicted.
+ * Equal times are ordered by who achieved them first. Since personal bests only improve,
+ * offering every run in any order yields the exact top of all personal bests.
+ *
+ * <p>Thread-safe.
+ */
+public class PersonalBestBoard {
+
+  private static final Comparator<Entry> ORDER = Comparator
+      .comparingInt(Entry::seconds)
+      .thenComparing(Entry::achievedAt, Comparator.nullsLast(Comparator.naturalOrder()))
+      .thenComparingLong(Entry::userId);
+
+  private final int capacity;
+  private final Map<Long, Entry> bestByUser = new HashMap<>();
+  private final NavigableSet<Entry> ranking = new TreeSet<>(ORDER);
+
+  /**
+   * Creates empty board.
+   *
+   * @throws IllegalArgumentException if capacity is not positive
+   */
+  public PersonalBestBoard(int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+    }
+    this.capacity = capacity;
+  }
+
+  /**
+   * Personal best of a player, with the nickname to show for it.
+   */
+  public record Entry(long userId, String nickname, int seconds, LocalDateTime achievedAt) {
+  }
+
+  /**
+   * Offers a run of a player.
+   *
+   * @return true if the board changed
+   */
+  public synchronized boolean offer(long userId, String nickname, int seconds,
+                                   LocalDateTime achievedAt) {
+    Entry candidate = new Entry(userId, nickname, seconds, achievedAt);
+    Entry current = bestByUser.get(userId);
+    if (current != null) {
+      if (ORDER.compare(candidate, current) >= 0) {
+        return false;
+      }
+      ranking.remove(current);
+    } else if (ranking.size() == capacity && ORDER.compare(candidate, ranking.last()) >= 0) {
+      return false;
+    }
+
+    ranking.add(candidate);
+    bestByUser.put(userId, candidate);
+    if (ranking.size() > capacity) {
+      Entry evicted = ranking.pollLast();
+      bestByUser.remove(evicted.userId());
+    }
+    return true;
+  }
+
+  /**
+   * Changes nickname of a player on the board.
+   *
+   * @return true if the player is on the board
+   */
+  public synchronized boolean rename(long userId, String nickname) {
+    Entry current = bestByUser.get(userId);
+    if (current == null) {
+      return false;
+    }
+    Entry renamed = new Entry(userId, nickname, current.seconds(), current.achievedAt());
+    ranking.remove(current);
+    ranking.add(renamed);
+    bestByUser.put(userId, renamed);
+    return true;
+  }
+
+  /**
+   * Returns entries from fastest to slowest.
+   */
+  public synchronized List<Entry> entries() {
+    return new ArrayList<>(ranking);
+  }
+
+  /**
+   * Returns whether a player is on the board.
+   */
+  public synchronized boolean contains(long userId) {
+    return bestByUser.containsKey(userId);
+  }
+}
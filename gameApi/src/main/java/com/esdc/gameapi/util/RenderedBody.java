@@ -0,0 +1,104 @@
+package com.esdc.gameapi.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+
+/**
+ * Response body serialized once and kept both plain and gzip-compressed.
+ *
+ * <p>Each encoding has its own strong ETag, as required for different representations of
+ * the same resource. Conditional requests are answered by Spring MVC, which turns a
+ * {@link ResponseEntity} with a matching ETag into {@code 304 Not Modified}.
+ */
+public final class RenderedBody {
+
+  private static final String GZIP = "gzip";
+  private static final String GZIP_ETAG_SUFFIX = "-gzip";
+  private static final String ZERO_QUALITY = "q=0";
+
+  private final MediaType contentType;
+  private final byte[] plain;
+  private final byte[] gzipped;
+  private final String plainEtag;
+  private final String gzipEtag;
+
+  private RenderedBody(MediaType contentType, byte[] plain, byte[] gzipped, String hash) {
+    this.contentType = contentType;
+    this.plain = plain;
+    this.gzipped = gzipped;
+    this.plainEtag = "\"" + hash + "\"";
+    this.gzipEtag = "\"" + hash + GZIP_ETAG_SUFFIX + "\"";
+  }
+
+  /**
+   * Compresses serialized body and computes its ETags.
+   */
+  public static RenderedBody of(MediaType contentType, byte[] body) {
+    return new RenderedBody(contentType, body, gzip(body), DigestUtils.md5DigestAsHex(body));
+  }
+
+  /**
+   * Builds response in the best encoding the client accepts.
+   */
+  public ResponseEntity<byte[]> toResponse(String acceptEncoding) {
+    boolean useGzip = acceptsGzip(acceptEncoding);
+    ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+        .contentType(contentType)
+        .eTag(useGzip ? gzipEtag : plainEtag)
+        .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+    if (useGzip) {
+      response.header(HttpHeaders.CONTENT_ENCODING, GZIP);
+    }
+    return response.body(useGzip ? gzipped : plain);
+  }
+
+  /**
+   * Media type of the body.
+   */
+  public MediaType contentType() {
+    return contentType;
+  }
+
+  /**
+   * ETag of the uncompressed representation.
+   */
+  public String etag() {
+    return plainEtag;
+  }
+
+  /**
+   * Uncompressed body.
+   */
+  public byte[] body() {
+    return plain.clone();
+  }
+
+  private static boolean acceptsGzip(String acceptEncoding) {
+    if (acceptEncoding == null) {
+      return false;
+    }
+    for (String coding : acceptEncoding.split(",")) {
+      String[] parts = coding.trim().split(";");
+      if (GZIP.equalsIgnoreCase(parts[0].trim())) {
+        return parts.length < 2 || !ZERO_QUALITY.equals(parts[1].replace(" ", ""));
+      }
+    }
+    return false;
+  }
+
+  private static byte[] gzip(byte[] body) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+    try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+      gzip.write(body);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return out.toByteArray();
+  }
+}
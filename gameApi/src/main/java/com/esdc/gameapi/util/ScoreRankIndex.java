@@ -0,0 +1,162 @@
+package com.esdc.gameapi.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Order-statistic index of player scores.
+ *
+ * <p>A Fenwick tree over score buckets counts players per score, so the rank of a player is
+ * found in O(log maxScore). Players of each score are kept in a descending map of buckets, so
+ * top N is read in O(log n + N). Ties share a rank (1, 2, 2, 4) and are listed by user ID.
+ *
+ * <p>Not thread-safe; callers must synchronize access.
+ */
+public class ScoreRankIndex {
+
+  /**
+   * Highest score accepted; bounds the tree at a few megabytes.
+   */
+  public static final int MAX_SCORE = (1 << 20) - 1;
+
+  private static final int INITIAL_CAPACITY = 64;
+
+  private final Map<Long, Integer> scores = new HashMap<>();
+  private final NavigableMap<Integer, NavigableSet<Long>> buckets =
+      new TreeMap<>(Collections.reverseOrder());
+  private long[] tree = new long[INITIAL_CAPACITY + 1];
+
+  /**
+   * Player position in the index.
+   */
+  public record Entry(long rank, long userId, int score) {
+  }
+
+  /**
+   * Sets score of a player, replacing the previous one.
+   *
+   * @throws IllegalArgumentException if score is negative or above {@link #MAX_SCORE}
+   */
+  public void put(long userId, int score) {
+    if (score < 0 || score > MAX_SCORE) {
+      throw new IllegalArgumentException(
+          "Score must be between 0 and " + MAX_SCORE + ": " + score);
+    }
+    Integer previous = scores.put(userId, score);
+    if (previous != null) {
+      if (previous == score) {
+        return;
+      }
+      detach(userId, previous);
+    }
+    ensureCapacity(score);
+    buckets.computeIfAbsent(score, key -> new TreeSet<>()).add(userId);
+    add(score, 1);
+  }
+
+  /**
+   * Removes player from the index.
+   *
+   * @return true if the player was present
+   */
+  public boolean remove(long userId) {
+    Integer previous = scores.remove(userId);
+    if (previous == null) {
+      return false;
+    }
+    detach(userId, previous);
+    return true;
+  }
+
+  /**
+   * Returns entry of a player, or null if absent.
+   *
+   * <p>Rank is one plus the number of players with a higher score.
+   */
+  public Entry get(long userId) {
+    Integer score = scores.get(userId);
+    if (score == null) {
+      return null;
+    }
+    return new Entry(scores.size() - countAtMost(score) + 1, userId, score);
+  }
+
+  /**
+   * Returns up to {@code limit} best players ordered by score descending, then user ID.
+   */
+  public List<Entry> top(int limit) {
+    List<Entry> result = new ArrayList<>(Math.min(limit, scores.size()));
+    long playersAbove = 0;
+    for (Map.Entry<Integer, NavigableSet<Long>> bucket : buckets.entrySet()) {
+      for (Long userId : bucket.getValue()) {
+        if (result.size() == limit) {
+          return result;
+        }
+        result.add(new Entry(playersAbove + 1, userId, bucket.getKey()));
+      }
+      playersAbove += bucket.getValue().size();
+    }
+    return result;
+  }
+
+  /**
+   * Returns score of a player, or null if absent.
+   */
+  public Integer score(long userId) {
+    return scores.get(userId);
+  }
+
+  /**
+   * Returns scores of all players.
+   */
+  public Map<Long, Integer> scores() {
+    return Collections.unmodifiableMap(scores);
+  }
+
+  /**
+   * Returns number of players in the index.
+   */
+  public int size() {
+    return scores.size();
+  }
+
+  private void detach(long userId, int score) {
+    NavigableSet<Long> bucket = buckets.get(score);
+    bucket.remove(userId);
+    if (bucket.isEmpty()) {
+      buckets.remove(score);
+    }
+    add(score, -1);
+  }
+
+  private void ensureCapacity(int score) {
+    int capacity = tree.length - 1;
+    if (score < capacity) {
+      return;
+    }
+    capacity = (int) Math.min(MAX_SCORE + 1L, Math.max(capacity * 2L, score + 1L));
+    tree = new long[capacity + 1];
+    buckets.forEach((bucketScore, users) -> add(bucketScore, users.size()));
+  }
+
+  private void add(int score, long delta) {
+    for (int i = score + 1; i < tree.length; i += i & -i) {
+      tree[i] += delta;
+    }
+  }
+
+  private long countAtMost(int score) {
+    long count = 0;
+    for (int i = score + 1; i > 0; i -= i & -i) {
+      count += tree[i];
+    }
+    return count;
+  }
+}
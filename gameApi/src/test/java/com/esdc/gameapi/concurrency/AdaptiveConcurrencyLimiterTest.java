@@ -0,0 +1,249 @@
+package com.esdc.gameapi.concurrency;
+
+import com.esdc.gameapi.config.DbAdmissionControl;
+import com.esdc.gameapi.exception.DatabaseBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Tag("unit")
+@DisplayName("Adaptive Concurrency Limiter Tests")
+class AdaptiveConcurrencyLimiterTest {
+
+  private static final long FAST = Duration.ofMillis(10).toNanos();
+  private static final long SLOW = Duration.ofMillis(50).toNanos();
+
+  @Test
+  @DisplayName("Should shed low priority requests before normal and high priority ones")
+  void shouldShedLowPriorityFirst() {
+    // Arrange
+    AdaptiveConcurrencyLimiter limiter = limiter(10, 2, null);
+
+    // Act
+    int low = acquireAll(limiter, Priority.LOW);
+    int normal = acquireAll(limiter, Priority.NORMAL);
+    int high = acquireAll(limiter, Priority.HIGH);
+
+    // Assert
+    assertThat(low).isEqualTo(5);
+    assertThat(normal).isEqualTo(3);
+    assertThat(high).isEqualTo(2);
+    assertThat(limiter.inFlight()).isEqualTo(10);
+  }
+
+  @Test
+  @DisplayName("Should admit requests again once slots are released")
+  void shouldAdmitAfterRelease() {
+    // Arrange
+    AdaptiveConcurrencyLimiter limiter = limiter(10, 2, null);
+    acquireAll(limiter, Priority.LOW);
+
+    // Act
+    limiter.release(FAST);
+
+    // Assert
+    assertThat(limiter.tryAcquire(Priority.LOW)).isTrue();
+    assertThat(limiter.tryAcquire(Priority.LOW)).isFalse();
+  }
+
+  @Test
+  @DisplayName("Should back off when latency exceeds the baseline tolerance")
+  void shouldBackOffOnLatency() {
+    // Arrange
+    AdaptiveConcurrencyLimiter limiter = limiter(10, 2, null);
+    window(limiter, FAST);
+
+    // Act
+    window(limiter, SLOW);
+
+    // Assert
+    assertThat(limiter.limit()).isEqualTo(9);
+    assertThat(limiter.isOverloaded()).isFalse();
+  }
+
+  @Test
+  @DisplayName("Should grow limit by its square root when requests come close to it")
+  void shouldGrowWhenUtilized() {
+    // Arrange
+    AdaptiveConcurrencyLimiter limiter = limiter(16, 2, null);
+    for (int i = 0; i < 8; i++) {
+      limiter.tryAcquire(Priority.HIGH);
+    }
+    for (int i = 0; i < 8; i++) {
+      limiter.release(FAST);
+    }
+
+    // Act
+    limiter.adjust();
+
+    // Assert
+    assertThat(limiter.limit()).isEqualTo(20);
+  }
+
+  @Test
+  @DisplayName("Should keep limit when requests stay far below it")
+  void shouldNotGrowWhenIdle() {
+    // Arrange
+    AdaptiveConcurrencyLimiter limiter = limiter(16, 2, null);
+
+    // Act
+    window(limiter, FAST);
+    limiter.adjust();
+
+    // Assert
+    assertThat(limiter.limit()).isEqualTo(16);
+  }
+
+  @Test
+  @DisplayName("Should not back off below the minimum limit")
+  void shouldStopAtMinimum() {
+    // Arrange
+    AdaptiveConcurrencyLimiter limiter = limiter(10, 100, null);
+    window(limiter, FAST);
+
+    // Act
+    for (int i = 0; i < 20; i++) {
+      window(limiter, SLOW * 10);
+    }
+
+    // Assert
+    assertThat(limiter.limit()).isEqualTo(4);
+  }
+
+  @Test
+  @DisplayName("Should be overloaded after congested windows in a row until one is calm")
+  void shouldReportOverloadUntilRecovered() {
+    // Arrange
+    AdaptiveConcurrencyLimiter limiter = limiter(10, 2, null);
+    window(limiter, FAST);
+
+    // Act
+    window(limiter, SLOW);
+    boolean afterOne = limiter.isOverloaded();
+    window(limiter, SLOW);
+    boolean afterTwo = limiter.isOverloaded();
+    window(limiter, FAST);
+
+    // Assert
+    assertThat(afterOne).isFalse();
+    assertThat(afterTwo).isTrue();
+    assertThat(limiter.isOverloaded()).isFalse();
+  }
+
+  @Test
+  @DisplayName("Should stay overloaded while requests stall at the limit without completing")
+  void shouldStayOverloadedWhileRequestsStall() {
+    // Arrange
+    AdaptiveConcurrencyLimiter limiter = limiter(10, 2, null);
+    window(limiter, FAST);
+    window(limiter, SLOW);
+    acquireAll(limiter, Priority.HIGH);
+
+    // Act
+    limiter.adjust();
+    boolean afterStalledWindow = limiter.isOverloaded();
+    limiter.adjust();
+
+    // Assert
+    assertThat(afterStalledWindow).isTrue();
+    assertThat(limiter.isOverloaded()).isTrue();
+    assertThat(limiter.limit()).isEqualTo(7);
+  }
+
+  @Test
+  @DisplayName("Should treat window without requests in flight as calm")
+  void shouldTreatIdleWindowAsCalm() {
+    // Arrange
+    AdaptiveConcurrencyLimiter limiter = limiter(10, 1, null);
+    window(limiter, FAST);
+    window(limiter, SLOW);
+
+    // Act
+    limiter.adjust();
+
+    // Assert
+    assertThat(limiter.isOverloaded()).isFalse();
+    assertThat(limiter.limit()).isEqualTo(9);
+  }
+
+  @Test
+  @DisplayName("Should back off when database callers give up waiting for a permit")
+  void shouldBackOffOnDatabaseRejections() throws Exception {
+    // Arrange
+    DbAdmissionControl admission = new DbAdmissionControl(1, Duration.ofMillis(1));
+    AdaptiveConcurrencyLimiter limiter = limiter(10, 2, admission);
+    admission.acquire();
+    assertThatThrownBy(admission::acquire).isInstanceOf(DatabaseBusyException.class);
+
+    // Act
+    limiter.adjust();
+
+    // Assert
+    assertThat(limiter.limit()).isEqualTo(9);
+  }
+
+  @Test
+  @DisplayName("Should not back off when database callers are admitted without waiting")
+  void shouldKeepLimitOnShortDatabaseWaits() throws Exception {
+    // Arrange
+    DbAdmissionControl admission = new DbAdmissionControl(1, Duration.ofSeconds(1));
+    AdaptiveConcurrencyLimiter limiter = limiter(10, 2, admission);
+    admission.acquire();
+    admission.release();
+
+    // Act
+    limiter.adjust();
+
+    // Assert
+    assertThat(limiter.limit()).isEqualTo(10);
+  }
+
+  @Test
+  @DisplayName("Should export limit, requests in flight and rejections by priority")
+  void shouldExportMetrics() {
+    // Arrange
+    AdaptiveConcurrencyLimiter limiter = limiter(10, 2, null);
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    limiter.bindTo(registry);
+
+    // Act
+    acquireAll(limiter, Priority.LOW);
+
+    // Assert
+    assertThat(registry.get("concurrency.limit").gauge().value()).isEqualTo(10.0);
+    assertThat(registry.get("concurrency.in.flight").gauge().value()).isEqualTo(5.0);
+    assertThat(registry.get("concurrency.overloaded").gauge().value()).isZero();
+    assertThat(registry.get("concurrency.rejected").tag("priority", "low")
+        .functionCounter().count()).isEqualTo(1.0);
+    assertThat(registry.get("concurrency.rejected").tag("priority", "high")
+        .functionCounter().count()).isZero();
+  }
+
+  private static AdaptiveConcurrencyLimiter limiter(int initialLimit, int overloadWindows,
+                                                    DbAdmissionControl admission) {
+    return new AdaptiveConcurrencyLimiter(new AdaptiveConcurrencyLimiter.Settings(
+        initialLimit, 4, 100, 2.0, 0.9, Duration.ofMillis(100), overloadWindows, 0.5, 0.8),
+        admission != null ? List.of(admission) : List.of());
+  }
+
+  private static int acquireAll(AdaptiveConcurrencyLimiter limiter, Priority priority) {
+    int acquired = 0;
+    while (limiter.tryAcquire(priority)) {
+      acquired++;
+    }
+    return acquired;
+  }
+
+  private static void window(AdaptiveConcurrencyLimiter limiter, long latencyNanos) {
+    limiter.tryAcquire(Priority.HIGH);
+    limiter.release(latencyNanos);
+    limiter.adjust();
+  }
+}
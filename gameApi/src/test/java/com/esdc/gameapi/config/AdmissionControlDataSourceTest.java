@@ -0,0 +1,104 @@
+package com.esdc.gameapi.config;
+
+import com.esdc.gameapi.exception.DatabaseBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Admission Control Data Source Unit Tests")
+class AdmissionControlDataSourceTest {
+
+  @Mock
+  private DataSource targetDataSource;
+
+  @Mock
+  private Connection targetConnection;
+
+  private DbAdmissionControl admissionControl;
+  private SimpleMeterRegistry registry;
+  private AdmissionControlDataSource dataSource;
+
+  @BeforeEach
+  void setUp() throws SQLException {
+    admissionControl = new DbAdmissionControl(1, Duration.ofMillis(50));
+    registry = new SimpleMeterRegistry();
+    admissionControl.bindTo(registry);
+    dataSource = new AdmissionControlDataSource(targetDataSource, admissionControl);
+    lenient().when(targetDataSource.getConnection()).thenReturn(targetConnection);
+  }
+
+  @Test
+  @DisplayName("Should hold permit until connection is closed")
+  void shouldHoldPermitUntilClose() throws SQLException {
+    // Act
+    Connection connection = dataSource.getConnection();
+
+    // Assert
+    assertThat(admissionControl.availablePermits()).isZero();
+    connection.close();
+    connection.close();
+    assertThat(admissionControl.availablePermits()).isEqualTo(1);
+    verify(targetConnection, times(2)).close();
+  }
+
+  @Test
+  @DisplayName("Should reject caller when no permit frees up within timeout")
+  void shouldRejectWhenBusy() throws SQLException {
+    // Arrange
+    dataSource.getConnection();
+
+    // Act & Assert
+    assertThatThrownBy(() -> dataSource.getConnection())
+        .isInstanceOf(DatabaseBusyException.class)
+        .hasMessageContaining("1 database permits");
+    verify(targetDataSource, times(1)).getConnection();
+    assertThat(registry.get("db.admission.wait").tag("outcome", "rejected").timer().count())
+        .isEqualTo(1);
+    assertThat(registry.get("db.admission.wait").tag("outcome", "admitted").timer().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should return permit when pool fails to provide connection")
+  void shouldReleasePermitWhenPoolFails() throws SQLException {
+    // Arrange
+    when(targetDataSource.getConnection()).thenThrow(new SQLException("Pool exhausted"));
+
+    // Act & Assert
+    assertThatThrownBy(() -> dataSource.getConnection())
+        .isInstanceOf(SQLException.class)
+        .hasMessage("Pool exhausted");
+    assertThat(admissionControl.availablePermits()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should delegate other calls to pooled connection")
+  void shouldDelegateToTargetConnection() throws SQLException {
+    // Arrange
+    when(targetConnection.getAutoCommit()).thenReturn(false);
+
+    // Act
+    Connection connection = dataSource.getConnection();
+
+    // Assert
+    assertThat(connection.getAutoCommit()).isFalse();
+    assertThat(connection).isEqualTo(connection);
+    assertThat(registry.get("db.admission.available").gauge().value()).isZero();
+  }
+}
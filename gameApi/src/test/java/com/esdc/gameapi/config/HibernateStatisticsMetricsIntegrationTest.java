@@ -0,0 +1,156 @@
+package com.esdc.gameapi.config;
+
+import com.esdc.gameapi.domain.dto.ProgressDto;
+import com.esdc.gameapi.domain.entity.Level;
+import com.esdc.gameapi.domain.entity.User;
+import com.esdc.gameapi.repository.AchievementRepository;
+import com.esdc.gameapi.repository.LevelRepository;
+import com.esdc.gameapi.repository.ProgressRepository;
+import com.esdc.gameapi.repository.UserAchievementRepository;
+import com.esdc.gameapi.repository.UserRepository;
+import com.esdc.gameapi.repository.UserStatisticsRepository;
+import com.esdc.gameapi.service.ProgressService;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("integration")
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:hibernatestatsdb",
+    "spring.datasource.driverClassName=org.h2.Driver",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "jwt.secret=mySecretKeyForTestingPurposesOnlyMustBeAtLeast256BitsLong",
+    "jwt.expiration=3600000",
+    "admin.password=testAdminPassword123"
+})
+@DisplayName("Hibernate Statistics Metrics Integration Tests")
+class HibernateStatisticsMetricsIntegrationTest {
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @Autowired
+  private HibernateStatisticsMetrics hibernateStatisticsMetrics;
+
+  @Autowired
+  private ProgressService progressService;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private LevelRepository levelRepository;
+
+  @Autowired
+  private ProgressRepository progressRepository;
+
+  @Autowired
+  private AchievementRepository achievementRepository;
+
+  @Autowired
+  private UserStatisticsRepository userStatisticsRepository;
+
+  @Autowired
+  private UserAchievementRepository userAchievementRepository;
+
+  private User user;
+  private Level level;
+
+  @BeforeEach
+  void setUp() {
+    cleanUp();
+    user = userRepository.save(User.builder()
+        .nickname("Counted")
+        .passwordHash("hash")
+        .age(20)
+        .build());
+    level = levelRepository.save(Level.builder()
+        .levelName("Cave")
+        .starsOnLevel(3)
+        .bossOnLevel(false)
+        .build());
+  }
+
+  @AfterEach
+  void tearDown() {
+    cleanUp();
+  }
+
+  @Test
+  @DisplayName("Should export entity operations, query executions and plan cache lookups")
+  void shouldExportHibernateStatistics() {
+    double inserts = entityOperations("Progress", "insert");
+
+    progressService.createProgress(user.getId(), ProgressDto.builder()
+        .levelId(level.getId())
+        .killedEnemiesNumber(2)
+        .solvedPuzzlesNumber(1)
+        .timeSpent("00:01:30")
+        .stars(3)
+        .build());
+    hibernateStatisticsMetrics.registerNewQueries();
+
+    assertThat(entityOperations("Progress", "insert")).isEqualTo(inserts + 1);
+    assertThat(meterRegistry.find("hibernate.query.executions").functionTimers())
+        .isNotEmpty()
+        .anySatisfy(timer -> assertThat(timer.count()).isPositive());
+    double planCacheLookups = meterRegistry.get("hibernate.query.plan.cache")
+        .functionCounters().stream()
+        .mapToDouble(counter -> counter.count())
+        .sum();
+    assertThat(planCacheLookups).isPositive();
+  }
+
+  @Test
+  @DisplayName("Should time repository methods by repository interface, including inherited")
+  void shouldTimeRepositoryMethods() {
+    long findByUserId = repositoryCalls("ProgressRepository", "findByUserId");
+    long findAll = repositoryCalls("AchievementRepository", "findAll");
+
+    progressService.getProgressByUserId(user.getId());
+    achievementRepository.findAll();
+
+    assertThat(repositoryCalls("ProgressRepository", "findByUserId"))
+        .isEqualTo(findByUserId + 1);
+    assertThat(repositoryCalls("AchievementRepository", "findAll")).isEqualTo(findAll + 1);
+    assertThat(meterRegistry.get("repository.sql.statements")
+        .tag("repository", "ProgressRepository")
+        .tag("method", "findByUserId")
+        .summary().max()).isEqualTo(1);
+  }
+
+  private double entityOperations(String entity, String operation) {
+    return meterRegistry.get("hibernate.entity.operations")
+        .tag("entity", entity)
+        .tag("operation", operation)
+        .functionCounter().count();
+  }
+
+  private long repositoryCalls(String repository, String method) {
+    var timer = meterRegistry.find("repository.invocations")
+        .tag("repository", repository)
+        .tag("method", method)
+        .timer();
+    return timer != null ? timer.count() : 0;
+  }
+
+  private void cleanUp() {
+    userAchievementRepository.deleteAll();
+    progressRepository.deleteAll();
+    userStatisticsRepository.deleteAll();
+    levelRepository.deleteAll();
+    userRepository.deleteAll();
+  }
+}
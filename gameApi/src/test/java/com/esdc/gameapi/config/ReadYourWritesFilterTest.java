@@ -0,0 +1,156 @@
+package com.esdc.gameapi.config;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Tag("unit")
+@DisplayName("Read Your Writes Filter Unit Tests")
+class ReadYourWritesFilterTest {
+
+  private ReadYourWritesFilter filter;
+  private List<Boolean> pinnedDuringRequest;
+  private FilterChain chain;
+
+  @BeforeEach
+  void setUp() {
+    filter = new ReadYourWritesFilter(Duration.ofMinutes(1));
+    pinnedDuringRequest = new ArrayList<>();
+    chain = (request, response) -> pinnedDuringRequest.add(ReadRouting.isPinnedToPrimary());
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  @DisplayName("Should pin request with read-your-writes header")
+  void shouldPinRequestWithHeader() throws Exception {
+    // Arrange
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/levels");
+    request.addHeader(ReadYourWritesFilter.HEADER, "true");
+
+    // Act
+    filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+    // Assert
+    assertThat(pinnedDuringRequest).containsExactly(true);
+    assertThat(ReadRouting.isPinnedToPrimary()).isFalse();
+  }
+
+  @Test
+  @DisplayName("Should pin reads of principal after successful write")
+  void shouldPinReadsAfterWrite() throws Exception {
+    // Arrange
+    authenticate("alice");
+
+    // Act
+    filter.doFilter(new MockHttpServletRequest("GET", "/api/statistics/1"),
+        new MockHttpServletResponse(), chain);
+    filter.doFilter(new MockHttpServletRequest("POST", "/api/progress/1"),
+        new MockHttpServletResponse(), chain);
+    filter.doFilter(new MockHttpServletRequest("GET", "/api/statistics/1"),
+        new MockHttpServletResponse(), chain);
+    authenticate("bob");
+    filter.doFilter(new MockHttpServletRequest("GET", "/api/statistics/2"),
+        new MockHttpServletResponse(), chain);
+
+    // Assert
+    assertThat(pinnedDuringRequest).containsExactly(false, false, true, false);
+  }
+
+  @Test
+  @DisplayName("Should not pin reads after failed write")
+  void shouldNotPinReadsAfterFailedWrite() throws Exception {
+    // Arrange
+    authenticate("alice");
+    MockHttpServletResponse failed = new MockHttpServletResponse();
+    failed.setStatus(400);
+
+    // Act
+    filter.doFilter(new MockHttpServletRequest("POST", "/api/progress/1"), failed,
+        (request, response) -> { });
+    filter.doFilter(new MockHttpServletRequest("GET", "/api/statistics/1"),
+        new MockHttpServletResponse(), chain);
+
+    // Assert
+    assertThat(pinnedDuringRequest).containsExactly(false);
+  }
+
+  @Test
+  @DisplayName("Should pin read sent as soon as the write response is committed")
+  void shouldPinReadSentBeforeWriteCompletes() throws Exception {
+    // Arrange
+    authenticate("alice");
+
+    // Act
+    filter.doFilter(new MockHttpServletRequest("POST", "/api/progress/1"),
+        new MockHttpServletResponse(), (request, response) -> {
+          response.flushBuffer();
+          filter.doFilter(new MockHttpServletRequest("GET", "/api/statistics/1"),
+              new MockHttpServletResponse(), chain);
+        });
+
+    // Assert
+    assertThat(pinnedDuringRequest).containsExactly(true);
+  }
+
+  @Test
+  @DisplayName("Should not pin reads after write that threw")
+  void shouldNotPinReadsAfterWriteThatThrew() throws Exception {
+    // Arrange
+    authenticate("alice");
+
+    // Act
+    assertThatThrownBy(() -> filter.doFilter(
+        new MockHttpServletRequest("POST", "/api/progress/1"), new MockHttpServletResponse(),
+        (request, response) -> {
+          throw new IllegalStateException("write failed");
+        })).isInstanceOf(IllegalStateException.class);
+    filter.doFilter(new MockHttpServletRequest("GET", "/api/statistics/1"),
+        new MockHttpServletResponse(), chain);
+
+    // Assert
+    assertThat(pinnedDuringRequest).containsExactly(false);
+  }
+
+  @Test
+  @DisplayName("Should keep earlier write pinned after a later write fails")
+  void shouldKeepEarlierWriteAfterFailedWrite() throws Exception {
+    // Arrange
+    authenticate("alice");
+    filter.doFilter(new MockHttpServletRequest("POST", "/api/progress/1"),
+        new MockHttpServletResponse(), (request, response) -> { });
+    MockHttpServletResponse failed = new MockHttpServletResponse();
+    failed.setStatus(400);
+
+    // Act
+    filter.doFilter(new MockHttpServletRequest("POST", "/api/progress/1"), failed,
+        (request, response) -> { });
+    filter.doFilter(new MockHttpServletRequest("GET", "/api/statistics/1"),
+        new MockHttpServletResponse(), chain);
+
+    // Assert
+    assertThat(pinnedDuringRequest).containsExactly(true);
+  }
+
+  private void authenticate(String nickname) {
+    SecurityContextHolder.getContext().setAuthentication(
+        new UsernamePasswordAuthenticationToken(nickname, null, List.of()));
+  }
+}
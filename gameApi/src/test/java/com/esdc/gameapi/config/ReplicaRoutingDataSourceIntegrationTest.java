@@ -0,0 +1,148 @@
+package com.esdc.gameapi.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("integration")
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:primarydb",
+    "spring.datasource.driverClassName=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "jwt.secret=mySecretKeyForTestingPurposesOnlyMustBeAtLeast256BitsLong",
+    "jwt.expiration=3600000",
+    "admin.password=testAdminPassword123",
+    "app.datasource.replica.enabled=true",
+    "app.datasource.replica.url=jdbc:h2:mem:replicadb",
+    "app.datasource.replica.username=sa",
+    "app.datasource.replica.password=",
+    "app.datasource.replica.lag-query=SELECT lag_seconds FROM replica_lag",
+    "app.datasource.replica.max-lag=PT5S",
+    "app.datasource.replica.check-interval=PT1H"
+})
+@DisplayName("Replica Routing Integration Tests")
+class ReplicaRoutingDataSourceIntegrationTest {
+
+  private static final String CURRENT_DATABASE = "SELECT DATABASE()";
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Autowired
+  private ReplicaLagMonitor replicaLagMonitor;
+
+  @Autowired
+  private DbAdmissionControl primaryAdmission;
+
+  @Autowired
+  @Qualifier("replicaDbAdmissionControl")
+  private DbAdmissionControl replicaAdmission;
+
+  private JdbcTemplate replicaJdbcTemplate;
+
+  @BeforeEach
+  void setUp() {
+    replicaJdbcTemplate = new JdbcTemplate(replicaLagMonitor.replicaDataSource());
+    replicaJdbcTemplate.execute("CREATE TABLE IF NOT EXISTS replica_lag (lag_seconds INT)");
+    replicaJdbcTemplate.update("DELETE FROM replica_lag");
+    replicaJdbcTemplate.update("INSERT INTO replica_lag VALUES (0)");
+    replicaLagMonitor.check();
+  }
+
+  @AfterEach
+  void tearDown() {
+    ReadRouting.setPinnedToPrimary(false);
+    replicaJdbcTemplate.execute("DROP TABLE IF EXISTS replica_lag");
+  }
+
+  @Test
+  @DisplayName("Should send read-only transactions to replica")
+  void shouldRouteReadOnlyTransactionsToReplica() {
+    assertThat(replicaLagMonitor.isReplicaUsable()).isTrue();
+    assertThat(currentDatabase(true)).isEqualTo("REPLICADB");
+    assertThat(currentDatabase(false)).isEqualTo("PRIMARYDB");
+  }
+
+  @Test
+  @DisplayName("Should send reads to primary when replica lags behind")
+  void shouldFallBackToPrimaryWhenReplicaLags() {
+    // Arrange
+    replicaJdbcTemplate.update("UPDATE replica_lag SET lag_seconds = 30");
+
+    // Act
+    replicaLagMonitor.check();
+
+    // Assert
+    assertThat(replicaLagMonitor.isReplicaUsable()).isFalse();
+    assertThat(currentDatabase(true)).isEqualTo("PRIMARYDB");
+  }
+
+  @Test
+  @DisplayName("Should send reads to primary when replica check fails")
+  void shouldFallBackToPrimaryWhenReplicaUnhealthy() {
+    // Arrange
+    replicaJdbcTemplate.execute("DROP TABLE replica_lag");
+
+    // Act
+    replicaLagMonitor.check();
+
+    // Assert
+    assertThat(replicaLagMonitor.isReplicaUsable()).isFalse();
+    assertThat(currentDatabase(true)).isEqualTo("PRIMARYDB");
+  }
+
+  @Test
+  @DisplayName("Should send reads pinned by read-your-writes to primary")
+  void shouldRoutePinnedReadsToPrimary() {
+    // Arrange
+    ReadRouting.setPinnedToPrimary(true);
+
+    // Act & Assert
+    assertThat(currentDatabase(true)).isEqualTo("PRIMARYDB");
+  }
+
+  @Test
+  @DisplayName("Should admit replica reads with replica permits only")
+  void shouldAdmitReplicaReadsSeparately() {
+    // Arrange
+    int primaryFree = primaryAdmission.availablePermits();
+    int replicaFree = replicaAdmission.availablePermits();
+    TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+    readOnly.setReadOnly(true);
+
+    // Act
+    int[] freeDuringRead = readOnly.execute(status -> {
+      jdbcTemplate.queryForObject(CURRENT_DATABASE, String.class);
+      return new int[] {primaryAdmission.availablePermits(), replicaAdmission.availablePermits()};
+    });
+
+    // Assert
+    assertThat(freeDuringRead).containsExactly(primaryFree, replicaFree - 1);
+    assertThat(replicaAdmission.availablePermits()).isEqualTo(replicaFree);
+  }
+
+  private String currentDatabase(boolean readOnly) {
+    TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+    transactionTemplate.setReadOnly(readOnly);
+    return transactionTemplate.execute(status ->
+        jdbcTemplate.queryForObject(CURRENT_DATABASE, String.class));
+  }
+}
@@ -0,0 +1,42 @@
+package com.esdc.gameapi.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+@DisplayName("Repository Timing Aspect Tests")
+class RepositoryTimingAspectTest {
+
+  @Test
+  @DisplayName("Should log argument types only when redacting")
+  void shouldRedactArguments() {
+    // Arrange
+    Object[] args = {42L, "Player@example.com", new ArrayList<>(List.of(1L, 2L, 3L)), null};
+
+    // Act
+    String described = RepositoryTimingAspect.describeArguments(args, true);
+
+    // Assert
+    assertThat(described).isEqualTo("Long, String, ArrayList[3], null");
+    assertThat(described).doesNotContain("Player");
+  }
+
+  @Test
+  @DisplayName("Should log truncated argument values when not redacting")
+  void shouldLogValuesWithoutRedaction() {
+    // Arrange
+    Object[] args = {42L, "x".repeat(150)};
+
+    // Act
+    String described = RepositoryTimingAspect.describeArguments(args, false);
+
+    // Assert
+    assertThat(described).isEqualTo("42, " + "x".repeat(100) + "...");
+  }
+}
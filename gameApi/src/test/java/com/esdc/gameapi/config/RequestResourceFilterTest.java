@@ -0,0 +1,96 @@
+package com.esdc.gameapi.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@Tag("unit")
+@DisplayName("Request Resource Filter Unit Tests")
+class RequestResourceFilterTest {
+
+  private static final int ALLOCATION_SIZE = 4 * 1024 * 1024;
+
+  private final List<byte[]> retained = new ArrayList<>();
+  private SimpleMeterRegistry registry;
+  private RequestResourceFilter filter;
+
+  @BeforeEach
+  void setUp() {
+    registry = new SimpleMeterRegistry();
+    filter = new RequestResourceFilter();
+    filter.bindTo(registry);
+  }
+
+  @Test
+  @DisplayName("Should record allocation and CPU time under handler method")
+  void shouldRecordUnderHandlerMethod() throws Exception {
+    // Arrange
+    HandlerMethod handler = new HandlerMethod(new LevelCatalog(), "list");
+    FilterChain chain = (request, response) -> {
+      request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, handler);
+      retained.add(new byte[ALLOCATION_SIZE]);
+    };
+
+    // Act
+    filter.doFilter(new MockHttpServletRequest("GET", "/api/levels"),
+        new MockHttpServletResponse(), chain);
+
+    // Assert
+    DistributionSummary allocated = registry.get("http.server.requests.allocated")
+        .tag("handler", "LevelCatalog#list").summary();
+    assertThat(allocated.count()).isEqualTo(1);
+    assertThat(allocated.totalAmount()).isGreaterThanOrEqualTo(ALLOCATION_SIZE);
+    assertThat(registry.get("http.server.requests.cpu")
+        .tag("handler", "LevelCatalog#list").summary().count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should tag request without handler as unknown")
+  void shouldTagRequestWithoutHandlerAsUnknown() throws Exception {
+    // Act
+    filter.doFilter(new MockHttpServletRequest("GET", "/missing"),
+        new MockHttpServletResponse(), (request, response) -> { });
+
+    // Assert
+    assertThat(registry.get("http.server.requests.allocated")
+        .tag("handler", "UNKNOWN").summary().count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should record nothing when thread counters are unsupported")
+  void shouldSkipUnsupportedCounters() throws Exception {
+    // Arrange
+    RequestResourceFilter unsupported = new RequestResourceFilter(mock(ThreadMXBean.class));
+    unsupported.bindTo(registry);
+    List<Boolean> called = new ArrayList<>();
+
+    // Act
+    unsupported.doFilter(new MockHttpServletRequest("GET", "/api/levels"),
+        new MockHttpServletResponse(), (request, response) -> called.add(true));
+
+    // Assert
+    assertThat(called).containsExactly(true);
+    assertThat(registry.getMeters()).isEmpty();
+  }
+
+  static class LevelCatalog {
+
+    public void list() {
+    }
+  }
+}
@@ -0,0 +1,238 @@
+package com.esdc.gameapi.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Tag("unit")
+@DisplayName("Single Flight Aspect Unit Tests")
+class SingleFlightAspectTest {
+
+  private static final int CALLERS = 4;
+  private static final long TIMEOUT_SECONDS = 5;
+
+  private SimpleMeterRegistry registry;
+  private SlowReads target;
+  private SlowReads reads;
+  private ExecutorService callers;
+
+  @BeforeEach
+  void setUp() {
+    registry = new SimpleMeterRegistry();
+    SingleFlightAspect aspect = new SingleFlightAspect();
+    aspect.bindTo(registry);
+    target = new SlowReads();
+    AspectJProxyFactory factory = new AspectJProxyFactory(target);
+    factory.addAspect(aspect);
+    reads = factory.getProxy();
+    callers = Executors.newFixedThreadPool(CALLERS);
+  }
+
+  @AfterEach
+  void tearDown() {
+    target.release.countDown();
+    callers.shutdownNow();
+  }
+
+  @Test
+  @DisplayName("Should share one execution between concurrent identical calls")
+  void shouldShareConcurrentIdenticalCalls() throws Exception {
+    // Arrange
+    List<Future<String>> results = new ArrayList<>();
+
+    // Act
+    for (int i = 0; i < CALLERS; i++) {
+      results.add(callers.submit(() -> reads.load(1L)));
+    }
+    awaitWaiting(CALLERS - 1);
+    target.release.countDown();
+
+    // Assert
+    for (Future<String> result : results) {
+      assertThat(result.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isEqualTo("user-1");
+    }
+    assertThat(target.executions.get()).isEqualTo(1);
+    assertThat(count("miss")).isEqualTo(1);
+    assertThat(count("hit")).isEqualTo(CALLERS - 1);
+    assertThat(count("shared")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should not share execution between different arguments")
+  void shouldNotShareDifferentArguments() throws Exception {
+    // Arrange
+    target.release.countDown();
+
+    // Act
+    String first = reads.load(1L);
+    String second = reads.load(2L);
+
+    // Assert
+    assertThat(first).isEqualTo("user-1");
+    assertThat(second).isEqualTo("user-2");
+    assertThat(target.executions.get()).isEqualTo(2);
+    assertThat(count("miss")).isEqualTo(2);
+    assertThat(count("hit")).isZero();
+  }
+
+  @Test
+  @DisplayName("Should propagate exception of shared execution to every caller")
+  void shouldPropagateExceptionToEveryCaller() throws Exception {
+    // Arrange
+    Future<String> leader = callers.submit(() -> reads.fail(1L));
+    awaitStarted();
+    Future<String> follower = callers.submit(() -> reads.fail(1L));
+    awaitWaiting(1);
+
+    // Act
+    target.release.countDown();
+
+    // Assert
+    assertThatThrownBy(() -> leader.get(TIMEOUT_SECONDS, TimeUnit.SECONDS))
+        .hasCauseInstanceOf(IllegalStateException.class);
+    assertThatThrownBy(() -> follower.get(TIMEOUT_SECONDS, TimeUnit.SECONDS))
+        .hasCauseInstanceOf(IllegalStateException.class);
+    assertThat(target.executions.get()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should not join execution started at an older data version")
+  void shouldNotJoinExecutionOfOlderVersion() throws Exception {
+    // Arrange
+    target.body.set("before");
+    Future<String> leader = callers.submit(() ->
+        SingleFlightAspect.atVersion("v1", () -> reads.loadBody(1L)));
+    awaitStarted();
+    target.body.set("after");
+
+    // Act
+    Future<String> follower = callers.submit(() ->
+        SingleFlightAspect.atVersion("v2", () -> reads.loadBody(1L)));
+    awaitCount("miss", 2);
+    target.release.countDown();
+
+    // Assert
+    assertThat(leader.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isEqualTo("before");
+    assertThat(follower.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isEqualTo("after");
+    assertThat(target.executions.get()).isEqualTo(2);
+    assertThat(count("hit")).isZero();
+  }
+
+  @Test
+  @DisplayName("Should share execution between callers at the same data version")
+  void shouldShareExecutionOfSameVersion() throws Exception {
+    // Arrange
+    target.body.set("current");
+    Future<String> leader = callers.submit(() ->
+        SingleFlightAspect.atVersion("v1", () -> reads.loadBody(1L)));
+    awaitStarted();
+
+    // Act
+    Future<String> follower = callers.submit(() ->
+        SingleFlightAspect.atVersion("v1", () -> reads.loadBody(1L)));
+    awaitWaiting(1);
+    target.release.countDown();
+
+    // Assert
+    assertThat(leader.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isEqualTo("current");
+    assertThat(follower.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isEqualTo("current");
+    assertThat(target.executions.get()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should bypass coalescing inside transaction")
+  void shouldBypassInsideTransaction() throws Exception {
+    // Arrange
+    target.release.countDown();
+    TransactionSynchronizationManager.setActualTransactionActive(true);
+
+    // Act
+    try {
+      reads.load(1L);
+    } finally {
+      TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    // Assert
+    assertThat(count("bypass")).isEqualTo(1);
+    assertThat(count("miss")).isZero();
+  }
+
+  private void awaitStarted() throws InterruptedException {
+    assertThat(target.started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+  }
+
+  private void awaitWaiting(int followers) throws InterruptedException {
+    awaitCount("hit", followers);
+  }
+
+  private void awaitCount(String outcome, int calls) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS);
+    while (count(outcome) < calls && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    assertThat(count(outcome)).isEqualTo(calls);
+  }
+
+  private double count(String outcome) {
+    return registry.find("singleflight.calls").tag("outcome", outcome).counters().stream()
+        .mapToDouble(counter -> counter.count())
+        .sum();
+  }
+
+  static class SlowReads {
+
+    final CountDownLatch started = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    final AtomicInteger executions = new AtomicInteger();
+    final AtomicReference<String> body = new AtomicReference<>();
+
+    @SingleFlight
+    public String load(Long userId) throws InterruptedException {
+      executions.incrementAndGet();
+      started.countDown();
+      release.await();
+      return "user-" + userId;
+    }
+
+    @SingleFlight
+    public String loadBody(Long userId) {
+      executions.incrementAndGet();
+      String loaded = body.get();
+      started.countDown();
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("interrupted loading " + userId, e);
+      }
+      return loaded;
+    }
+
+    @SingleFlight
+    public String fail(Long userId) throws InterruptedException {
+      executions.incrementAndGet();
+      started.countDown();
+      release.await();
+      throw new IllegalStateException("load failed for " + userId);
+    }
+  }
+}
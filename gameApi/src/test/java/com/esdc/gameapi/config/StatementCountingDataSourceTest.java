@@ -0,0 +1,133 @@
+package com.esdc.gameapi.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Statement Counting Data Source Unit Tests")
+class StatementCountingDataSourceTest {
+
+  @Mock
+  private DataSource targetDataSource;
+
+  @Mock
+  private Connection targetConnection;
+
+  @Mock
+  private PreparedStatement targetStatement;
+
+  @Mock
+  private Statement targetPlainStatement;
+
+  private StatementCountingDataSource dataSource;
+
+  @BeforeEach
+  void setUp() throws SQLException {
+    dataSource = new StatementCountingDataSource(targetDataSource);
+    lenient().when(targetDataSource.getConnection()).thenReturn(targetConnection);
+    lenient().when(targetConnection.prepareStatement(anyString())).thenReturn(targetStatement);
+    lenient().when(targetConnection.createStatement()).thenReturn(targetPlainStatement);
+  }
+
+  @Test
+  @DisplayName("Should count each execution of prepared and plain statements")
+  void shouldCountExecutions() throws SQLException {
+    // Arrange
+    Connection connection = dataSource.getConnection();
+
+    // Act
+    SqlStatementCounter.Scope scope = SqlStatementCounter.count(() -> {
+      try {
+        PreparedStatement select = connection.prepareStatement("SELECT 1");
+        select.setLong(1, 42L);
+        select.executeQuery();
+        select.executeQuery();
+        Statement update = connection.createStatement();
+        update.addBatch("UPDATE users SET age = 20");
+        update.executeBatch();
+      } catch (SQLException e) {
+        throw new IllegalStateException(e);
+      }
+    });
+
+    // Assert
+    assertThat(scope.statements()).isEqualTo(3);
+    verify(targetStatement, times(2)).executeQuery();
+    verify(targetStatement).setLong(1, 42L);
+    verify(targetPlainStatement).executeBatch();
+  }
+
+  @Test
+  @DisplayName("Should attribute statements to nested scopes and stop counting after close")
+  void shouldCountInNestedScopes() throws SQLException {
+    // Arrange
+    PreparedStatement statement = dataSource.getConnection().prepareStatement("SELECT 1");
+
+    // Act
+    SqlStatementCounter.Scope outer = SqlStatementCounter.open();
+    statement.execute();
+    SqlStatementCounter.Scope inner;
+    try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+      inner = scope;
+      statement.execute();
+    }
+    statement.execute();
+    outer.close();
+    statement.execute();
+
+    // Assert
+    assertThat(inner.statements()).isEqualTo(1);
+    assertThat(outer.statements()).isEqualTo(3);
+    verify(targetStatement, times(4)).execute();
+  }
+
+  @Test
+  @DisplayName("Should count failed statement and rethrow original exception")
+  void shouldCountFailedStatement() throws SQLException {
+    // Arrange
+    when(targetStatement.executeUpdate()).thenThrow(new SQLException("Constraint violated"));
+    PreparedStatement statement = dataSource.getConnection().prepareStatement("INSERT");
+
+    // Act & Assert
+    try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+      assertThatThrownBy(statement::executeUpdate)
+          .isInstanceOf(SQLException.class)
+          .hasMessage("Constraint violated");
+      assertThat(scope.statements()).isEqualTo(1);
+    }
+  }
+
+  @Test
+  @DisplayName("Should pass non-statement connection calls through")
+  void shouldPassConnectionCallsThrough() throws SQLException {
+    // Arrange
+    Connection connection = dataSource.getConnection();
+
+    // Act
+    connection.setAutoCommit(false);
+    connection.commit();
+    connection.close();
+
+    // Assert
+    verify(targetConnection).setAutoCommit(false);
+    verify(targetConnection).commit();
+    verify(targetConnection).close();
+    assertThat(connection).isEqualTo(connection).isNotEqualTo(targetConnection);
+  }
+}
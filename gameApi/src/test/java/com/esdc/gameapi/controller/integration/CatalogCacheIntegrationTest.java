@@ -0,0 +1,156 @@
+package com.esdc.gameapi.controller.integration;
+
+import com.esdc.gameapi.domain.dto.AchievementDto;
+import com.esdc.gameapi.domain.dto.LevelDto;
+import com.esdc.gameapi.repository.AchievementRepository;
+import com.esdc.gameapi.repository.LevelRepository;
+import com.esdc.gameapi.service.AchievementService;
+import com.esdc.gameapi.service.LevelService;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Tag("integration")
+@DisplayName("Catalog Cache Integration Tests")
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:catalogdb",
+    "spring.datasource.driverClassName=org.h2.Driver",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "jwt.secret=mySecretKeyForTestingPurposesOnlyMustBeAtLeast256BitsLong",
+    "jwt.expiration=3600000",
+    "admin.password=testAdminPassword123"
+})
+class CatalogCacheIntegrationTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private LevelService levelService;
+
+  @Autowired
+  private AchievementService achievementService;
+
+  @Autowired
+  private LevelRepository levelRepository;
+
+  @Autowired
+  private AchievementRepository achievementRepository;
+
+  private LevelDto forest;
+
+  @BeforeEach
+  void setUp() {
+    cleanUp();
+    forest = levelService.createLevel(LevelDto.builder()
+        .levelName("Forest")
+        .starsOnLevel(3)
+        .bossOnLevel(false)
+        .build());
+  }
+
+  @AfterEach
+  void tearDown() {
+    cleanUp();
+  }
+
+  @Test
+  @WithMockUser
+  @DisplayName("Should answer matching If-None-Match with 304")
+  void shouldReturnNotModifiedForMatchingEtag() throws Exception {
+    String etag = mockMvc.perform(get("/api/levels"))
+        .andExpect(status().isOk())
+        .andExpect(header().exists(HttpHeaders.ETAG))
+        .andExpect(jsonPath("$", hasSize(1)))
+        .andExpect(jsonPath("$[0].levelName").value("Forest"))
+        .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+    mockMvc.perform(get("/api/levels").header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isNotModified());
+  }
+
+  @Test
+  @WithMockUser
+  @DisplayName("Should serve gzip-compressed catalog")
+  void shouldServeGzipCatalog() throws Exception {
+    byte[] body = mockMvc.perform(get("/api/levels")
+            .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+        .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT_ENCODING)))
+        .andReturn().getResponse().getContentAsByteArray();
+
+    assertThat(gunzip(body)).contains("\"levelName\":\"Forest\"");
+  }
+
+  @Test
+  @WithMockUser
+  @DisplayName("Should render new catalog after level update")
+  void shouldRenderNewCatalogAfterUpdate() throws Exception {
+    String etag = mockMvc.perform(get("/api/levels"))
+        .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+    levelService.updateLevel(forest.getId(), LevelDto.builder()
+        .levelName("Dark Forest")
+        .starsOnLevel(3)
+        .bossOnLevel(false)
+        .build());
+
+    mockMvc.perform(get("/api/levels").header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, not(etag)))
+        .andExpect(jsonPath("$[0].levelName").value("Dark Forest"));
+  }
+
+  @Test
+  @WithMockUser
+  @DisplayName("Should render new achievement catalog after achievement create")
+  void shouldRenderNewAchievementCatalogAfterCreate() throws Exception {
+    mockMvc.perform(get("/api/achievements"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(0)));
+
+    achievementService.createAchievement(AchievementDto.builder()
+        .achievementName("First Steps")
+        .achievementDescription("Complete level 1")
+        .build());
+
+    mockMvc.perform(get("/api/achievements"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(1)))
+        .andExpect(jsonPath("$[0].achievementName").value("First Steps"));
+  }
+
+  private String gunzip(byte[] body) throws IOException {
+    try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+      return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+
+  private void cleanUp() {
+    achievementRepository.deleteAll();
+    levelRepository.deleteAll();
+  }
+}
@@ -0,0 +1,168 @@
+package com.esdc.gameapi.controller.integration;
+
+import com.esdc.gameapi.concurrency.AdaptiveConcurrencyLimiter;
+import com.esdc.gameapi.concurrency.OverloadReadiness;
+import com.esdc.gameapi.concurrency.Priority;
+import com.esdc.gameapi.domain.entity.Level;
+import com.esdc.gameapi.domain.entity.User;
+import com.esdc.gameapi.repository.LevelRepository;
+import com.esdc.gameapi.repository.ProgressRepository;
+import com.esdc.gameapi.repository.UserAchievementRepository;
+import com.esdc.gameapi.repository.UserRepository;
+import com.esdc.gameapi.repository.UserStatisticsRepository;
+import com.esdc.gameapi.security.JwtUtil;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Tag("integration")
+@DisplayName("Concurrency Limit Integration Tests")
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:concurrencydb",
+    "spring.datasource.driverClassName=org.h2.Driver",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "jwt.secret=mySecretKeyForTestingPurposesOnlyMustBeAtLeast256BitsLong",
+    "jwt.expiration=3600000",
+    "admin.password=testAdminPassword123",
+    "app.concurrency-limit.initial-limit=4",
+    "app.concurrency-limit.min-limit=2",
+    "app.concurrency-limit.overload-windows=2",
+    "app.concurrency-limit.window=PT1H"
+})
+class ConcurrencyLimitIntegrationTest {
+
+  private static final String READINESS = "/actuator/health/readiness";
+  private static final long FAST = Duration.ofMillis(1).toNanos();
+  private static final long SLOW = Duration.ofSeconds(10).toNanos();
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private JwtUtil jwtUtil;
+
+  @Autowired
+  private AdaptiveConcurrencyLimiter limiter;
+
+  @Autowired
+  private OverloadReadiness overloadReadiness;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private LevelRepository levelRepository;
+
+  @Autowired
+  private ProgressRepository progressRepository;
+
+  @Autowired
+  private UserStatisticsRepository userStatisticsRepository;
+
+  @Autowired
+  private UserAchievementRepository userAchievementRepository;
+
+  @BeforeEach
+  void setUp() {
+    cleanUp();
+  }
+
+  @AfterEach
+  void tearDown() {
+    cleanUp();
+  }
+
+  @Test
+  @WithMockUser
+  @DisplayName("Should shed leaderboard reads while progress writes still get in")
+  void shouldShedLowPriorityBeforeProgressWrites() throws Exception {
+    User user = userRepository.save(User.builder()
+        .nickname("Crowded")
+        .passwordHash("hash")
+        .age(20)
+        .build());
+    Level level = levelRepository.save(Level.builder()
+        .levelName("Bazaar")
+        .starsOnLevel(3)
+        .bossOnLevel(false)
+        .build());
+    int held = 0;
+    while (limiter.tryAcquire(Priority.LOW)) {
+      held++;
+    }
+
+    try {
+      mockMvc.perform(get("/api/leaderboard/stars"))
+          .andExpect(status().isServiceUnavailable())
+          .andExpect(header().string("Retry-After", "1"))
+          .andExpect(jsonPath("$.status").value(503))
+          .andExpect(jsonPath("$.path").value("/api/leaderboard/stars"));
+
+      mockMvc.perform(post("/api/progress")
+              .param("userId", user.getId().toString())
+              .header("Authorization", "Bearer " + jwtUtil.generateToken("Crowded", user.getId()))
+              .contentType(MediaType.APPLICATION_JSON)
+              .content("{\"levelId\":" + level.getId() + ",\"killedEnemiesNumber\":3,"
+                  + "\"solvedPuzzlesNumber\":1,\"timeSpent\":\"00:02:00\",\"stars\":2}"))
+          .andExpect(status().isCreated());
+    } finally {
+      for (int i = 0; i < held; i++) {
+        limiter.release();
+      }
+    }
+
+    mockMvc.perform(get("/api/leaderboard/stars"))
+        .andExpect(status().isOk());
+  }
+
+  @Test
+  @DisplayName("Should report readiness out of service while overloaded")
+  void shouldRefuseTrafficWhileOverloaded() throws Exception {
+    mockMvc.perform(get(READINESS))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.status").value("UP"));
+
+    limiter.tryAcquire(Priority.HIGH);
+    limiter.release(FAST);
+    overloadReadiness.adjust();
+    for (int i = 0; i < 2; i++) {
+      limiter.tryAcquire(Priority.HIGH);
+      limiter.release(SLOW);
+      overloadReadiness.adjust();
+    }
+
+    mockMvc.perform(get(READINESS))
+        .andExpect(status().isServiceUnavailable())
+        .andExpect(jsonPath("$.status").value("OUT_OF_SERVICE"));
+
+    overloadReadiness.adjust();
+
+    mockMvc.perform(get(READINESS))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.status").value("UP"));
+  }
+
+  private void cleanUp() {
+    userAchievementRepository.deleteAll();
+    progressRepository.deleteAll();
+    userStatisticsRepository.deleteAll();
+    levelRepository.deleteAll();
+    userRepository.deleteAll();
+  }
+}
@@ -0,0 +1,171 @@
+package com.esdc.gameapi.controller.integration;
+
+import com.esdc.gameapi.domain.dto.ProgressDto;
+import com.esdc.gameapi.domain.entity.Level;
+import com.esdc.gameapi.domain.entity.User;
+import com.esdc.gameapi.jfr.FlightRecordingEndpoint;
+import com.esdc.gameapi.repository.LevelRepository;
+import com.esdc.gameapi.repository.ProgressRepository;
+import com.esdc.gameapi.repository.UserAchievementRepository;
+import com.esdc.gameapi.repository.UserRepository;
+import com.esdc.gameapi.repository.UserStatisticsRepository;
+import com.esdc.gameapi.service.ProgressService;
+import com.jayway.jsonpath.JsonPath;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Tag("integration")
+@DisplayName("Flight Recording Endpoint Integration Tests")
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:jfrdb",
+    "spring.datasource.driverClassName=org.h2.Driver",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "jwt.secret=mySecretKeyForTestingPurposesOnlyMustBeAtLeast256BitsLong",
+    "jwt.expiration=3600000",
+    "admin.password=testAdminPassword123"
+})
+class FlightRecordingEndpointIntegrationTest {
+
+  private static final String ENDPOINT = "/actuator/flightrecording";
+  private static final String PASSWORD_BODY = "{\"adminPassword\":\"testAdminPassword123\"}";
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private FlightRecordingEndpoint flightRecordingEndpoint;
+
+  @Autowired
+  private ProgressService progressService;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private LevelRepository levelRepository;
+
+  @Autowired
+  private ProgressRepository progressRepository;
+
+  @Autowired
+  private UserStatisticsRepository userStatisticsRepository;
+
+  @Autowired
+  private UserAchievementRepository userAchievementRepository;
+
+  @BeforeEach
+  void setUp() {
+    cleanUp();
+  }
+
+  @AfterEach
+  void tearDown() {
+    flightRecordingEndpoint.close();
+    cleanUp();
+  }
+
+  @Test
+  @DisplayName("Should reject starting recording without admin password")
+  void shouldRejectStartWithoutAdminPassword() throws Exception {
+    mockMvc.perform(post(ENDPOINT)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"adminPassword\":\"wrong\"}"))
+        .andExpect(status().isUnauthorized());
+
+    mockMvc.perform(get(ENDPOINT))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.state").value("NONE"));
+  }
+
+  @Test
+  @DisplayName("Should record progress pipeline events and dump them")
+  void shouldRecordProgressPipelineEvents() throws Exception {
+    String status = mockMvc.perform(post(ENDPOINT)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"adminPassword\":\"testAdminPassword123\",\"duration\":\"PT1M\"}"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.state").value("RUNNING"))
+        .andReturn().getResponse().getContentAsString();
+    String name = JsonPath.read(status, "$.name");
+
+    User user = userRepository.save(User.builder()
+        .nickname("Recorded")
+        .passwordHash("hash")
+        .age(20)
+        .build());
+    Level level = levelRepository.save(Level.builder()
+        .levelName("Forest")
+        .starsOnLevel(3)
+        .bossOnLevel(false)
+        .build());
+    progressService.createProgress(user.getId(), ProgressDto.builder()
+        .levelId(level.getId())
+        .killedEnemiesNumber(4)
+        .solvedPuzzlesNumber(1)
+        .timeSpent("00:03:00")
+        .stars(2)
+        .build());
+
+    byte[] dump = mockMvc.perform(post(ENDPOINT + "/" + name)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(PASSWORD_BODY))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getContentAsByteArray();
+
+    Path file = Files.createTempFile("recording", ".jfr");
+    try {
+      Files.write(file, dump);
+      List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+      RecordedEvent persisted = events.stream()
+          .filter(event -> event.getEventType().getName()
+              .equals("com.esdc.gameapi.ProgressPersisted"))
+          .filter(event -> event.getLong("userId") == user.getId())
+          .findFirst()
+          .orElseThrow();
+      assertThat(persisted.getInt("stars")).isEqualTo(2);
+      assertThat(events).extracting(event -> event.getEventType().getName())
+          .contains("com.esdc.gameapi.StatisticsRecomputed",
+              "com.esdc.gameapi.AchievementEvaluation");
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  @Test
+  @DisplayName("Should answer 404 when dumping unknown recording")
+  void shouldRejectDumpOfUnknownRecording() throws Exception {
+    mockMvc.perform(post(ENDPOINT + "/missing")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(PASSWORD_BODY))
+        .andExpect(status().isNotFound());
+  }
+
+  private void cleanUp() {
+    userAchievementRepository.deleteAll();
+    progressRepository.deleteAll();
+    userStatisticsRepository.deleteAll();
+    levelRepository.deleteAll();
+    userRepository.deleteAll();
+  }
+}
@@ -0,0 +1,130 @@
+package com.esdc.gameapi.controller.integration;
+
+import com.esdc.gameapi.domain.entity.User;
+import com.esdc.gameapi.domain.entity.UserStatistics;
+import com.esdc.gameapi.repository.ProgressRepository;
+import com.esdc.gameapi.repository.UserRepository;
+import com.esdc.gameapi.repository.UserStatisticsRepository;
+import com.esdc.gameapi.service.StarsLeaderboardService;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Tag("integration")
+@DisplayName("Leaderboard Controller Integration Tests")
+@Transactional
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:testdb",
+    "spring.datasource.driverClassName=org.h2.Driver",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "jwt.secret=mySecretKeyForTestingPurposesOnlyMustBeAtLeast256BitsLong",
+    "jwt.expiration=3600000",
+    "admin.password=testAdminPassword123"
+})
+class LeaderboardControllerIntegrationTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private StarsLeaderboardService starsLeaderboardService;
+
+  @Autowired
+  private UserStatisticsRepository statisticsRepository;
+
+  @Autowired
+  private ProgressRepository progressRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  private User alice;
+  private User bob;
+  private User carol;
+
+  @BeforeEach
+  void setUp() {
+    statisticsRepository.deleteAll();
+    progressRepository.deleteAll();
+    userRepository.deleteAll();
+
+    alice = createPlayer("alice", 30);
+    bob = createPlayer("bob", 12);
+    carol = createPlayer("carol", 30);
+
+    starsLeaderboardService.rebuild();
+  }
+
+  @Test
+  @WithMockUser
+  @DisplayName("Should return top players by stars")
+  void shouldReturnTopPlayers() throws Exception {
+    mockMvc.perform(get("/api/leaderboard/stars").param("limit", "2"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(2)))
+        .andExpect(jsonPath("$[0].nickname").value("alice"))
+        .andExpect(jsonPath("$[0].rank").value(1))
+        .andExpect(jsonPath("$[1].nickname").value("carol"))
+        .andExpect(jsonPath("$[1].rank").value(1));
+  }
+
+  @Test
+  @WithMockUser
+  @DisplayName("Should return rank of a player")
+  void shouldReturnPlayerRank() throws Exception {
+    mockMvc.perform(get("/api/leaderboard/stars/" + bob.getId()))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.nickname").value("bob"))
+        .andExpect(jsonPath("$.totalStars").value(12))
+        .andExpect(jsonPath("$.rank").value(3));
+  }
+
+  @Test
+  @WithMockUser
+  @DisplayName("Should return 404 for player without statistics")
+  void shouldReturn404ForUnrankedPlayer() throws Exception {
+    mockMvc.perform(get("/api/leaderboard/stars/999999"))
+        .andExpect(status().isNotFound());
+  }
+
+  @Test
+  @WithMockUser
+  @DisplayName("Should return 400 for limit above maximum")
+  void shouldReturn400ForLimitAboveMaximum() throws Exception {
+    mockMvc.perform(get("/api/leaderboard/stars").param("limit", "1000"))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  @DisplayName("Should require authentication")
+  void shouldRequireAuthentication() throws Exception {
+    mockMvc.perform(get("/api/leaderboard/stars"))
+        .andExpect(status().isForbidden());
+  }
+
+  private User createPlayer(String nickname, int totalStars) {
+    User user = userRepository.save(User.builder()
+        .nickname(nickname)
+        .passwordHash("hashedPassword")
+        .age(25)
+        .build());
+    UserStatistics statistics = new UserStatistics(user);
+    statistics.setTotalStars(totalStars);
+    statisticsRepository.save(statistics);
+    return user;
+  }
+}
@@ -0,0 +1,146 @@
+package com.esdc.gameapi.controller.integration;
+
+import com.esdc.gameapi.domain.entity.Level;
+import com.esdc.gameapi.domain.entity.Progress;
+import com.esdc.gameapi.domain.entity.User;
+import com.esdc.gameapi.domain.entity.UserStatistics;
+import com.esdc.gameapi.repository.LevelRepository;
+import com.esdc.gameapi.repository.ProgressRepository;
+import com.esdc.gameapi.repository.UserAchievementRepository;
+import com.esdc.gameapi.repository.UserRepository;
+import com.esdc.gameapi.repository.UserStatisticsRepository;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Tag("integration")
+@DisplayName("Player Controller Integration Tests")
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:snapshotdb",
+    "spring.datasource.driverClassName=org.h2.Driver",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "jwt.secret=mySecretKeyForTestingPurposesOnlyMustBeAtLeast256BitsLong",
+    "jwt.expiration=3600000",
+    "admin.password=testAdminPassword123",
+    "app.snapshot.parallelism=2"
+})
+class PlayerControllerIntegrationTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private LevelRepository levelRepository;
+
+  @Autowired
+  private ProgressRepository progressRepository;
+
+  @Autowired
+  private UserStatisticsRepository statisticsRepository;
+
+  @Autowired
+  private UserAchievementRepository userAchievementRepository;
+
+  private User player;
+  private Level forest;
+
+  @BeforeEach
+  void setUp() {
+    cleanUp();
+
+    player = userRepository.save(User.builder()
+        .nickname("alice")
+        .passwordHash("hashedPassword")
+        .age(25)
+        .build());
+    forest = levelRepository.save(Level.builder()
+        .levelName("Forest")
+        .starsOnLevel(3)
+        .bossOnLevel(false)
+        .build());
+    levelRepository.save(Level.builder()
+        .levelName("Castle")
+        .starsOnLevel(3)
+        .bossOnLevel(true)
+        .build());
+
+    saveRun(2, "00:02:00");
+    saveRun(3, "00:02:30");
+    saveRun(1, "00:01:45");
+
+    UserStatistics statistics = new UserStatistics(player);
+    statistics.setTotalStars(3);
+    statisticsRepository.save(statistics);
+  }
+
+  @AfterEach
+  void tearDown() {
+    cleanUp();
+  }
+
+  @Test
+  @WithMockUser
+  @DisplayName("Should return snapshot with per-level bests")
+  void shouldReturnSnapshot() throws Exception {
+    mockMvc.perform(get("/api/players/" + player.getId() + "/snapshot"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.user.nickname").value("alice"))
+        .andExpect(jsonPath("$.statistics.totalStars").value(3))
+        .andExpect(jsonPath("$.starsProgress.maxPossibleStars").value(6))
+        .andExpect(jsonPath("$.starsProgress.progressPercentage").value(50.0))
+        .andExpect(jsonPath("$.achievements", hasSize(0)))
+        .andExpect(jsonPath("$.levels", hasSize(2)))
+        .andExpect(jsonPath("$.levels[?(@.levelId == " + forest.getId() + ")].bestStars")
+            .value(contains(3)))
+        .andExpect(jsonPath("$.levels[?(@.levelId == " + forest.getId() + ")].bestTime")
+            .value(contains("00:01:45")))
+        .andExpect(jsonPath("$.levels[?(@.levelId == " + forest.getId() + ")].attempts")
+            .value(contains(3)));
+  }
+
+  @Test
+  @WithMockUser
+  @DisplayName("Should return 404 for non-existent user")
+  void shouldReturn404ForUnknownUser() throws Exception {
+    mockMvc.perform(get("/api/players/999999/snapshot"))
+        .andExpect(status().isNotFound());
+  }
+
+  @Test
+  @DisplayName("Should require authentication")
+  void shouldRequireAuthentication() throws Exception {
+    mockMvc.perform(get("/api/players/" + player.getId() + "/snapshot"))
+        .andExpect(status().isForbidden());
+  }
+
+  private void saveRun(int stars, String timeSpent) {
+    Progress progress = new Progress(player, forest);
+    progress.setStars(stars);
+    progress.setTimeSpent(timeSpent);
+    progressRepository.save(progress);
+  }
+
+  private void cleanUp() {
+    userAchievementRepository.deleteAll();
+    progressRepository.deleteAll();
+    statisticsRepository.deleteAll();
+    levelRepository.deleteAll();
+    userRepository.deleteAll();
+  }
+}
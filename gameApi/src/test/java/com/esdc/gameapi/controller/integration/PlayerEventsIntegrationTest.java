@@ -0,0 +1,160 @@
+package com.esdc.gameapi.controller.integration;
+
+import com.esdc.gameapi.domain.dto.ProgressDto;
+import com.esdc.gameapi.domain.entity.Achievement;
+import com.esdc.gameapi.domain.entity.Level;
+import com.esdc.gameapi.domain.entity.User;
+import com.esdc.gameapi.repository.*;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Tag("integration")
+@DisplayName("Player Events Integration Tests")
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:eventsdb",
+    "spring.datasource.driverClassName=org.h2.Driver",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "jwt.secret=mySecretKeyForTestingPurposesOnlyMustBeAtLeast256BitsLong",
+    "jwt.expiration=3600000",
+    "admin.password=testAdminPassword123"
+})
+class PlayerEventsIntegrationTest {
+
+  private static final long EVENT_TIMEOUT_MILLIS = 5000;
+  private static final long POLL_INTERVAL_MILLIS = 20;
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private LevelRepository levelRepository;
+
+  @Autowired
+  private ProgressRepository progressRepository;
+
+  @Autowired
+  private UserStatisticsRepository statisticsRepository;
+
+  @Autowired
+  private AchievementRepository achievementRepository;
+
+  @Autowired
+  private UserAchievementRepository userAchievementRepository;
+
+  private User player;
+  private User otherPlayer;
+  private Level forest;
+
+  @BeforeEach
+  void setUp() {
+    cleanUp();
+    player = userRepository.save(User.builder()
+        .nickname("alice")
+        .passwordHash("hashedPassword")
+        .age(25)
+        .build());
+    otherPlayer = userRepository.save(User.builder()
+        .nickname("bob")
+        .passwordHash("hashedPassword")
+        .age(30)
+        .build());
+    forest = levelRepository.save(Level.builder()
+        .levelName("Forest")
+        .starsOnLevel(3)
+        .bossOnLevel(false)
+        .build());
+    achievementRepository.save(Achievement.builder()
+        .achievementName("First Steps")
+        .achievementDescription("Complete 1 levels")
+        .build());
+  }
+
+  @AfterEach
+  void tearDown() {
+    cleanUp();
+  }
+
+  @Test
+  @WithMockUser
+  @DisplayName("Should stream statistics and achievement unlock after progress")
+  void shouldStreamEventsAfterProgress() throws Exception {
+    MvcResult stream = mockMvc.perform(get("/api/players/" + player.getId() + "/events")
+            .accept(MediaType.TEXT_EVENT_STREAM))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+    MvcResult otherStream = mockMvc.perform(get("/api/players/" + otherPlayer.getId() + "/events")
+            .accept(MediaType.TEXT_EVENT_STREAM))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    submitRun();
+
+    String events = awaitContent(stream.getResponse(), "event:achievement-unlocked");
+    assertThat(events).contains("event:statistics").contains("\"totalStars\":2")
+        .contains("\"totalSolvedPuzzles\":1").contains("\"totalTimePlayed\":\"00:01:30\"")
+        .contains("\"achievementName\":\"First Steps\"");
+    assertThat(stream.getResponse().getContentType()).startsWith("text/event-stream");
+    assertThat(otherStream.getResponse().getContentAsString()).doesNotContain("event:");
+  }
+
+  private void submitRun() throws Exception {
+    mockMvc.perform(post("/api/progress")
+            .param("userId", player.getId().toString())
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(ProgressDto.builder()
+                .levelId(forest.getId())
+                .killedEnemiesNumber(4)
+                .solvedPuzzlesNumber(1)
+                .timeSpent("00:01:30")
+                .stars(2)
+                .build())))
+        .andExpect(status().isCreated());
+  }
+
+  private String awaitContent(MockHttpServletResponse response, String expected)
+      throws Exception {
+    long deadline = System.currentTimeMillis() + EVENT_TIMEOUT_MILLIS;
+    while (System.currentTimeMillis() < deadline) {
+      String content = response.getContentAsString();
+      if (content.contains(expected)) {
+        return content;
+      }
+      Thread.sleep(POLL_INTERVAL_MILLIS);
+    }
+    throw new AssertionError("Event not streamed in time: " + response.getContentAsString());
+  }
+
+  private void cleanUp() {
+    userAchievementRepository.deleteAll();
+    progressRepository.deleteAll();
+    statisticsRepository.deleteAll();
+    achievementRepository.deleteAll();
+    levelRepository.deleteAll();
+    userRepository.deleteAll();
+  }
+}
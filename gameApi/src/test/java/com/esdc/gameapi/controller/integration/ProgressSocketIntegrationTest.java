@@ -0,0 +1,199 @@
+package com.esdc.gameapi.controller.integration;
+
+import com.esdc.gameapi.domain.dto.ProgressFrameDto;
+import com.esdc.gameapi.domain.dto.ProgressFrameDto.Type;
+import com.esdc.gameapi.domain.dto.ProgressSocketMessageDto;
+import com.esdc.gameapi.domain.entity.Achievement;
+import com.esdc.gameapi.domain.entity.Level;
+import com.esdc.gameapi.domain.entity.User;
+import com.esdc.gameapi.repository.*;
+import com.esdc.gameapi.security.JwtUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.net.URI;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@Tag("integration")
+@DisplayName("Progress WebSocket Integration Tests")
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:wsdb",
+    "spring.datasource.driverClassName=org.h2.Driver",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "jwt.secret=mySecretKeyForTestingPurposesOnlyMustBeAtLeast256BitsLong",
+    "jwt.expiration=3600000",
+    "admin.password=testAdminPassword123"
+})
+class ProgressSocketIntegrationTest {
+
+  private static final long TIMEOUT_SECONDS = 5;
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Autowired
+  private JwtUtil jwtUtil;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private LevelRepository levelRepository;
+
+  @Autowired
+  private ProgressRepository progressRepository;
+
+  @Autowired
+  private UserStatisticsRepository statisticsRepository;
+
+  @Autowired
+  private AchievementRepository achievementRepository;
+
+  @Autowired
+  private UserAchievementRepository userAchievementRepository;
+
+  private final BlockingQueue<ProgressSocketMessageDto> received = new LinkedBlockingQueue<>();
+
+  private User player;
+  private Level forest;
+
+  @BeforeEach
+  void setUp() {
+    cleanUp();
+    player = userRepository.save(User.builder()
+        .nickname("alice")
+        .passwordHash("hashedPassword")
+        .age(25)
+        .build());
+    forest = levelRepository.save(Level.builder()
+        .levelName("Forest")
+        .starsOnLevel(3)
+        .bossOnLevel(false)
+        .build());
+    achievementRepository.save(Achievement.builder()
+        .achievementName("Slayer")
+        .achievementDescription("Kill 5 enemies in one level")
+        .build());
+  }
+
+  @AfterEach
+  void tearDown() {
+    cleanUp();
+  }
+
+  @Test
+  @DisplayName("Should coalesce checkpoints and persist only the finished attempt")
+  void shouldPersistFinishedAttempt() throws Exception {
+    WebSocketSession session = connect("?access_token="
+        + jwtUtil.generateToken(player.getNickname(), player.getId()));
+
+    send(session, frame(Type.CHECKPOINT, 3, 0));
+    send(session, frame(Type.CHECKPOINT, 6, 1));
+    ProgressSocketMessageDto reached = next();
+    assertThat(reached.getType()).isEqualTo(ProgressSocketMessageDto.ACHIEVEMENT_REACHED);
+    assertThat(reached.getAchievement().getAchievementName()).isEqualTo("Slayer");
+    assertThat(progressRepository.count()).isZero();
+
+    ProgressFrameDto finish = frame(Type.FINISH, 4, 0);
+    finish.setTimeSpent("00:01:30");
+    finish.setStars(2);
+    send(session, finish);
+
+    ProgressSocketMessageDto unlocked = next();
+    ProgressSocketMessageDto saved = next();
+    assertThat(unlocked.getType()).isEqualTo(ProgressSocketMessageDto.ACHIEVEMENT_UNLOCKED);
+    assertThat(saved.getType()).isEqualTo(ProgressSocketMessageDto.SAVED);
+    assertThat(saved.getProgress().getKilledEnemiesNumber()).isEqualTo(6);
+    assertThat(saved.getProgress().getSolvedPuzzlesNumber()).isEqualTo(1);
+    assertThat(progressRepository.count()).isEqualTo(1);
+    session.close();
+  }
+
+  @Test
+  @DisplayName("Should discard abandoned attempt and reply with error to malformed frame")
+  void shouldDiscardAbandonedAttempt() throws Exception {
+    WebSocketSession session = connect("?access_token="
+        + jwtUtil.generateToken(player.getNickname(), player.getId()));
+
+    send(session, frame(Type.CHECKPOINT, 2, 0));
+    send(session, frame(Type.ABANDON, 0, 0));
+    session.sendMessage(new TextMessage("not a frame"));
+
+    ProgressSocketMessageDto error = next();
+    assertThat(error.getType()).isEqualTo(ProgressSocketMessageDto.ERROR);
+    assertThat(progressRepository.count()).isZero();
+    session.close();
+  }
+
+  @Test
+  @DisplayName("Should reject handshake without valid token")
+  void shouldRejectHandshakeWithoutToken() {
+    assertThatThrownBy(() -> connect(""))
+        .isInstanceOf(ExecutionException.class);
+    assertThatThrownBy(() -> connect("?access_token=invalid.token.value"))
+        .isInstanceOf(ExecutionException.class);
+  }
+
+  private WebSocketSession connect(String query) throws Exception {
+    return new StandardWebSocketClient()
+        .execute(new TextWebSocketHandler() {
+          @Override
+          protected void handleTextMessage(WebSocketSession session, TextMessage message)
+              throws Exception {
+            received.add(objectMapper.readValue(message.getPayload(),
+                ProgressSocketMessageDto.class));
+          }
+        }, new WebSocketHttpHeaders(), URI.create("ws://localhost:" + port + "/ws/progress" + query))
+        .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+  }
+
+  private void send(WebSocketSession session, ProgressFrameDto frame) throws Exception {
+    session.sendMessage(new TextMessage(objectMapper.writeValueAsString(frame)));
+  }
+
+  private ProgressFrameDto frame(Type type, int killedEnemies, int solvedPuzzles) {
+    return ProgressFrameDto.builder()
+        .type(type)
+        .levelId(forest.getId())
+        .killedEnemiesNumber(killedEnemies)
+        .solvedPuzzlesNumber(solvedPuzzles)
+        .build();
+  }
+
+  private ProgressSocketMessageDto next() throws InterruptedException {
+    ProgressSocketMessageDto message = received.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    assertThat(message).as("message received in time").isNotNull();
+    return message;
+  }
+
+  private void cleanUp() {
+    userAchievementRepository.deleteAll();
+    progressRepository.deleteAll();
+    statisticsRepository.deleteAll();
+    achievementRepository.deleteAll();
+    levelRepository.deleteAll();
+    userRepository.deleteAll();
+  }
+}
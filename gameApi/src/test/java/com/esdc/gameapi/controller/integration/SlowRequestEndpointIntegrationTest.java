@@ -0,0 +1,157 @@
+package com.esdc.gameapi.controller.integration;
+
+import com.esdc.gameapi.domain.entity.Level;
+import com.esdc.gameapi.domain.entity.User;
+import com.esdc.gameapi.repository.LevelRepository;
+import com.esdc.gameapi.repository.ProgressRepository;
+import com.esdc.gameapi.repository.UserAchievementRepository;
+import com.esdc.gameapi.repository.UserRepository;
+import com.esdc.gameapi.repository.UserStatisticsRepository;
+import com.esdc.gameapi.security.JwtUtil;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Tag("integration")
+@DisplayName("Slow Request Endpoint Integration Tests")
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:slowrequestdb",
+    "spring.datasource.driverClassName=org.h2.Driver",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "jwt.secret=mySecretKeyForTestingPurposesOnlyMustBeAtLeast256BitsLong",
+    "jwt.expiration=3600000",
+    "admin.password=testAdminPassword123",
+    "app.slow-requests.per-window=50"
+})
+class SlowRequestEndpointIntegrationTest {
+
+  private static final String ENDPOINT = "/actuator/slowrequests";
+  private static final String PASSWORD_BODY = "{\"adminPassword\":\"testAdminPassword123\"}";
+  private static final String CREATE_PROGRESS =
+      "$.windows[*].requests[?(@.handler == 'ProgressController#createProgress')]";
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private JwtUtil jwtUtil;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private LevelRepository levelRepository;
+
+  @Autowired
+  private ProgressRepository progressRepository;
+
+  @Autowired
+  private UserStatisticsRepository userStatisticsRepository;
+
+  @Autowired
+  private UserAchievementRepository userAchievementRepository;
+
+  @BeforeEach
+  void setUp() {
+    cleanUp();
+  }
+
+  @AfterEach
+  void tearDown() {
+    cleanUp();
+  }
+
+  @Test
+  @DisplayName("Should report user, SQL and stage breakdown of slow progress request")
+  void shouldReportProgressRequestDetails() throws Exception {
+    User user = userRepository.save(User.builder()
+        .nickname("Outlier")
+        .passwordHash("hash")
+        .age(20)
+        .build());
+    Level level = levelRepository.save(Level.builder()
+        .levelName("Swamp")
+        .starsOnLevel(3)
+        .bossOnLevel(false)
+        .build());
+
+    mockMvc.perform(post("/api/progress")
+            .param("userId", user.getId().toString())
+            .header("Authorization", "Bearer " + jwtUtil.generateToken("Outlier", user.getId()))
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"levelId\":" + level.getId() + ",\"killedEnemiesNumber\":3,"
+                + "\"solvedPuzzlesNumber\":1,\"timeSpent\":\"00:02:00\",\"stars\":2}"))
+        .andExpect(status().isCreated());
+
+    mockMvc.perform(post(ENDPOINT)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(PASSWORD_BODY))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.perWindow").value(50))
+        .andExpect(jsonPath(CREATE_PROGRESS, hasSize(1)))
+        .andExpect(jsonPath(CREATE_PROGRESS + ".method", contains("POST")))
+        .andExpect(jsonPath(CREATE_PROGRESS + ".uri", contains("/api/progress")))
+        .andExpect(jsonPath(CREATE_PROGRESS + ".status", contains(201)))
+        .andExpect(jsonPath(CREATE_PROGRESS + ".userId", contains(user.getId().intValue())))
+        .andExpect(jsonPath(CREATE_PROGRESS + ".sqlStatements", contains(greaterThan(0))))
+        .andExpect(jsonPath(CREATE_PROGRESS + ".stagesMs.validate", hasSize(1)))
+        .andExpect(jsonPath(CREATE_PROGRESS + ".stagesMs.persist", hasSize(1)))
+        .andExpect(jsonPath(CREATE_PROGRESS + ".stagesMs.stats", hasSize(1)))
+        .andExpect(jsonPath(CREATE_PROGRESS + ".stagesMs.achievements", hasSize(1)))
+        .andExpect(jsonPath(CREATE_PROGRESS + ".thread.name", contains(not(emptyString()))));
+  }
+
+  @Test
+  @DisplayName("Should report anonymous requests without user")
+  void shouldReportAnonymousRequest() throws Exception {
+    mockMvc.perform(get("/actuator/health"))
+        .andExpect(status().isOk());
+
+    mockMvc.perform(post(ENDPOINT)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(PASSWORD_BODY))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.windows[*].requests[?(@.uri == '/actuator/health')]",
+            not(empty())))
+        .andExpect(jsonPath("$.windows[*].requests[?(@.uri == '/actuator/health')].userId",
+            everyItem(nullValue())));
+  }
+
+  @Test
+  @DisplayName("Should reject listing slow requests without admin password")
+  void shouldRejectWithoutAdminPassword() throws Exception {
+    mockMvc.perform(get("/actuator/health"))
+        .andExpect(status().isOk());
+
+    mockMvc.perform(post(ENDPOINT)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"adminPassword\":\"wrong\"}"))
+        .andExpect(status().isUnauthorized())
+        .andExpect(jsonPath("$.windows").doesNotExist());
+
+    mockMvc.perform(get(ENDPOINT))
+        .andExpect(status().is4xxClientError());
+  }
+
+  private void cleanUp() {
+    userAchievementRepository.deleteAll();
+    progressRepository.deleteAll();
+    userStatisticsRepository.deleteAll();
+    levelRepository.deleteAll();
+    userRepository.deleteAll();
+  }
+}
@@ -0,0 +1,214 @@
+package com.esdc.gameapi.controller.integration;
+
+import com.esdc.gameapi.config.SqlStatementCounter;
+import com.esdc.gameapi.config.SqlStatementFilter;
+import com.esdc.gameapi.domain.dto.ProgressDto;
+import com.esdc.gameapi.domain.entity.Achievement;
+import com.esdc.gameapi.domain.entity.Level;
+import com.esdc.gameapi.domain.entity.Progress;
+import com.esdc.gameapi.domain.entity.User;
+import com.esdc.gameapi.domain.entity.UserAchievement;
+import com.esdc.gameapi.repository.AchievementRepository;
+import com.esdc.gameapi.repository.LevelRepository;
+import com.esdc.gameapi.repository.ProgressRepository;
+import com.esdc.gameapi.repository.UserAchievementRepository;
+import com.esdc.gameapi.repository.UserRepository;
+import com.esdc.gameapi.repository.UserStatisticsRepository;
+import com.esdc.gameapi.service.AchievementService;
+import com.esdc.gameapi.service.ProgressService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Tag("integration")
+@DisplayName("SQL Statement Budget Integration Tests")
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:sqlbudgetdb",
+    "spring.datasource.driverClassName=org.h2.Driver",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "jwt.secret=mySecretKeyForTestingPurposesOnlyMustBeAtLeast256BitsLong",
+    "jwt.expiration=3600000",
+    "admin.password=testAdminPassword123",
+    "app.sql.statements.headers=true"
+})
+class SqlStatementBudgetIntegrationTest {
+
+  private static final int LEVEL_COUNT = 8;
+  private static final long CREATE_PROGRESS_BUDGET = 12;
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @Autowired
+  private ProgressService progressService;
+
+  @Autowired
+  private AchievementService achievementService;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private LevelRepository levelRepository;
+
+  @Autowired
+  private ProgressRepository progressRepository;
+
+  @Autowired
+  private AchievementRepository achievementRepository;
+
+  @Autowired
+  private UserAchievementRepository userAchievementRepository;
+
+  @Autowired
+  private UserStatisticsRepository userStatisticsRepository;
+
+  private final List<Level> levels = new ArrayList<>();
+  private final List<Achievement> achievements = new ArrayList<>();
+  private User casualPlayer;
+  private User veteranPlayer;
+
+  @BeforeEach
+  void setUp() {
+    cleanUp();
+    for (int i = 1; i <= LEVEL_COUNT; i++) {
+      levels.add(levelRepository.save(Level.builder()
+          .levelName("Level " + i)
+          .starsOnLevel(3)
+          .bossOnLevel(i == LEVEL_COUNT)
+          .build()));
+      achievements.add(achievementRepository.save(Achievement.builder()
+          .achievementName("Finisher " + i)
+          .achievementDescription("Complete level " + i)
+          .build()));
+    }
+    casualPlayer = createPlayer("Casual");
+    veteranPlayer = createPlayer("Veteran");
+
+    saveProgress(casualPlayer, levels.getFirst());
+    userAchievementRepository.save(new UserAchievement(casualPlayer, achievements.getFirst()));
+    for (int i = 0; i < LEVEL_COUNT; i++) {
+      saveProgress(veteranPlayer, levels.get(i));
+      userAchievementRepository.save(new UserAchievement(veteranPlayer, achievements.get(i)));
+    }
+  }
+
+  @AfterEach
+  void tearDown() {
+    cleanUp();
+  }
+
+  @Test
+  @DisplayName("Should load progress history with the same statements for any number of levels")
+  void shouldLoadProgressWithoutQueryPerLevel() {
+    long casual = SqlStatementCounter.count(
+        () -> progressService.getProgressByUserId(casualPlayer.getId())).statements();
+    long veteran = SqlStatementCounter.count(
+        () -> assertThat(progressService.getProgressByUserId(veteranPlayer.getId()))
+            .hasSize(LEVEL_COUNT)).statements();
+
+    assertThat(veteran).isEqualTo(casual).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should load unlocked achievements with the same statements for any number")
+  void shouldLoadAchievementsWithoutQueryPerAchievement() {
+    long casual = SqlStatementCounter.count(
+        () -> achievementService.getAchievementsByUserId(casualPlayer.getId())).statements();
+    long veteran = SqlStatementCounter.count(
+        () -> assertThat(achievementService.getAchievementsByUserId(veteranPlayer.getId()))
+            .hasSize(LEVEL_COUNT)).statements();
+
+    assertThat(veteran).isEqualTo(casual).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should create progress within statement budget regardless of history")
+  void shouldCreateProgressWithinBudget() {
+    long casual = SqlStatementCounter.count(
+        () -> progressService.createProgress(casualPlayer.getId(), progressOn(levels.get(1))))
+        .statements();
+    long veteran = SqlStatementCounter.count(
+        () -> progressService.createProgress(veteranPlayer.getId(), progressOn(levels.get(1))))
+        .statements();
+
+    assertThat(casual).isLessThanOrEqualTo(CREATE_PROGRESS_BUDGET);
+    assertThat(veteran).isLessThanOrEqualTo(casual);
+  }
+
+  @Test
+  @WithMockUser
+  @DisplayName("Should report statements of request in headers and metrics")
+  void shouldReportStatementsOfRequest() throws Exception {
+    mockMvc.perform(get("/api/progress/{userId}", veteranPlayer.getId()))
+        .andExpect(status().isOk())
+        .andExpect(header().string(SqlStatementFilter.STATEMENTS_HEADER, "1"))
+        .andExpect(header().exists(SqlStatementFilter.TIME_HEADER));
+
+    assertThat(meterRegistry.get("http.server.requests.sql.statements")
+        .tag("uri", "/api/progress/{userId}")
+        .summary().max()).isEqualTo(1);
+  }
+
+  private ProgressDto progressOn(Level level) {
+    return ProgressDto.builder()
+        .levelId(level.getId())
+        .killedEnemiesNumber(5)
+        .solvedPuzzlesNumber(2)
+        .timeSpent("00:02:00")
+        .stars(2)
+        .build();
+  }
+
+  private User createPlayer(String nickname) {
+    return userRepository.save(User.builder()
+        .nickname(nickname)
+        .passwordHash("hash")
+        .age(20)
+        .build());
+  }
+
+  private void saveProgress(User user, Level level) {
+    Progress progress = new Progress();
+    progress.setUser(user);
+    progress.setLevel(level);
+    progress.setKilledEnemiesNumber(1);
+    progress.setSolvedPuzzlesNumber(1);
+    progress.setTimeSpent("00:01:00");
+    progress.setStars(1);
+    progress.setCreatedAt(LocalDateTime.now());
+    progressRepository.save(progress);
+  }
+
+  private void cleanUp() {
+    userAchievementRepository.deleteAll();
+    progressRepository.deleteAll();
+    userStatisticsRepository.deleteAll();
+    achievementRepository.deleteAll();
+    levelRepository.deleteAll();
+    userRepository.deleteAll();
+    levels.clear();
+    achievements.clear();
+  }
+}
@@ -0,0 +1,196 @@
+package com.esdc.gameapi.controller.integration;
+
+import com.esdc.gameapi.domain.dto.LevelDto;
+import com.esdc.gameapi.domain.dto.ProgressDto;
+import com.esdc.gameapi.domain.entity.Level;
+import com.esdc.gameapi.domain.entity.User;
+import com.esdc.gameapi.repository.*;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Tag("integration")
+@DisplayName("Wire Format Integration Tests")
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:wireformatdb",
+    "spring.datasource.driverClassName=org.h2.Driver",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "jwt.secret=mySecretKeyForTestingPurposesOnlyMustBeAtLeast256BitsLong",
+    "jwt.expiration=3600000",
+    "admin.password=testAdminPassword123"
+})
+class WireFormatIntegrationTest {
+
+  private static final MediaType CBOR = MediaType.parseMediaType("application/cbor");
+  private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+  private static final int RUNS = 20;
+
+  private final ObjectMapper cborMapper = new CBORMapper();
+  private final ObjectMapper smileMapper = new SmileMapper();
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private LevelRepository levelRepository;
+
+  @Autowired
+  private ProgressRepository progressRepository;
+
+  @Autowired
+  private UserStatisticsRepository statisticsRepository;
+
+  @Autowired
+  private UserAchievementRepository userAchievementRepository;
+
+  private User player;
+  private Level forest;
+
+  @BeforeEach
+  void setUp() {
+    cleanUp();
+    player = userRepository.save(User.builder()
+        .nickname("alice")
+        .passwordHash("hashedPassword")
+        .age(25)
+        .build());
+    forest = levelRepository.save(Level.builder()
+        .levelName("Forest")
+        .starsOnLevel(3)
+        .bossOnLevel(false)
+        .build());
+  }
+
+  @AfterEach
+  void tearDown() {
+    cleanUp();
+  }
+
+  @Test
+  @WithMockUser
+  @DisplayName("Should accept and return CBOR progress")
+  void shouldAcceptAndReturnCborProgress() throws Exception {
+    byte[] body = mockMvc.perform(post("/api/progress")
+            .param("userId", player.getId().toString())
+            .contentType(CBOR)
+            .accept(CBOR)
+            .content(cborMapper.writeValueAsBytes(run(2))))
+        .andExpect(status().isCreated())
+        .andExpect(content().contentType(CBOR))
+        .andReturn().getResponse().getContentAsByteArray();
+
+    ProgressDto created = cborMapper.readValue(body, ProgressDto.class);
+    assertThat(created.getLevelId()).isEqualTo(forest.getId());
+    assertThat(created.getStars()).isEqualTo(2);
+    assertThat(created.getTimeSpent()).isEqualTo("00:01:30");
+  }
+
+  @Test
+  @WithMockUser
+  @DisplayName("Should return Smile statistics and keep JSON as default")
+  void shouldReturnSmileStatistics() throws Exception {
+    submitRuns(1);
+
+    byte[] smile = mockMvc.perform(get("/api/statistics/" + player.getId()).accept(SMILE))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(SMILE))
+        .andReturn().getResponse().getContentAsByteArray();
+
+    assertThat(smileMapper.readTree(smile).get("totalStars").asInt()).isEqualTo(2);
+    mockMvc.perform(get("/api/statistics/" + player.getId()))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(jsonPath("$.totalStars").value(2));
+  }
+
+  @Test
+  @WithMockUser
+  @DisplayName("Should serve CBOR level catalog")
+  void shouldServeCborCatalog() throws Exception {
+    byte[] body = mockMvc.perform(get("/api/levels").accept(CBOR))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(CBOR))
+        .andReturn().getResponse().getContentAsByteArray();
+
+    List<LevelDto> levels = cborMapper.readValue(body, new TypeReference<>() {
+    });
+    assertThat(levels).extracting(LevelDto::getLevelName).containsExactly("Forest");
+  }
+
+  @Test
+  @WithMockUser
+  @DisplayName("Should encode progress history smaller than JSON")
+  void shouldEncodeProgressSmallerThanJson() throws Exception {
+    submitRuns(RUNS);
+    String url = "/api/progress/" + player.getId();
+
+    int json = responseSize(url, MediaType.APPLICATION_JSON);
+    int cbor = responseSize(url, CBOR);
+    int smile = responseSize(url, SMILE);
+
+    assertThat(cbor).isLessThan(json);
+    assertThat(smile).isLessThan(json);
+  }
+
+  private int responseSize(String url, MediaType mediaType) throws Exception {
+    return mockMvc.perform(get(url).accept(mediaType))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(mediaType))
+        .andReturn().getResponse().getContentAsByteArray().length;
+  }
+
+  private void submitRuns(int count) throws Exception {
+    for (int i = 0; i < count; i++) {
+      mockMvc.perform(post("/api/progress")
+              .param("userId", player.getId().toString())
+              .contentType(MediaType.APPLICATION_JSON)
+              .content(objectMapper.writeValueAsString(run(2))))
+          .andExpect(status().isCreated());
+    }
+  }
+
+  private ProgressDto run(int stars) {
+    return ProgressDto.builder()
+        .levelId(forest.getId())
+        .killedEnemiesNumber(12)
+        .solvedPuzzlesNumber(3)
+        .timeSpent("00:01:30")
+        .stars(stars)
+        .build();
+  }
+
+  private void cleanUp() {
+    userAchievementRepository.deleteAll();
+    progressRepository.deleteAll();
+    statisticsRepository.deleteAll();
+    levelRepository.deleteAll();
+    userRepository.deleteAll();
+  }
+}
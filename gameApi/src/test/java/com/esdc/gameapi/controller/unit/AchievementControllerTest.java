@@ -7,16 +7,19 @@ import com.esdc.gameapi.exception.GlobalExceptionHandler;
 import com.esdc.gameapi.exception.ResourceNotFoundException;
 import com.esdc.gameapi.service.AchievementService;
 import com.esdc.gameapi.service.AdminAuthService;
+import com.esdc.gameapi.service.CatalogResponseCache;
+import com.esdc.gameapi.service.LevelService;
+import com.esdc.gameapi.service.UserDataVersions;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
@@ -45,7 +48,9 @@ class AchievementControllerTest {
   @Mock
   private AdminAuthService adminAuthService;
 
-  @InjectMocks
+  @Mock
+  private LevelService levelService;
+
   private AchievementController achievementController;
 
   private ObjectMapper objectMapper;
@@ -61,6 +66,11 @@ class AchievementControllerTest {
   void setUp() {
     objectMapper = new ObjectMapper();
 
+    achievementController = new AchievementController(achievementService, adminAuthService,
+        new CatalogResponseCache(levelService, achievementService,
+            List.of(new MappingJackson2HttpMessageConverter(objectMapper))),
+        new UserDataVersions());
+
     mockMvc = MockMvcBuilders.standaloneSetup(achievementController)
         .setControllerAdvice(new GlobalExceptionHandler())
         .build();
@@ -143,6 +153,21 @@ class AchievementControllerTest {
     verify(achievementService, times(1)).getAchievementsByUserId(1L);
   }
 
+  @Test
+  @DisplayName("Should return 304 for current user achievements ETag")
+  void shouldReturn304ForCurrentUserAchievementsEtag() throws Exception {
+    when(achievementService.getAchievementsByUserId(1L))
+        .thenReturn(List.of(testUserAchievementDto));
+    String etag = mockMvc.perform(get("/api/achievements/user/1"))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getHeader("ETag");
+
+    mockMvc.perform(get("/api/achievements/user/1").header("If-None-Match", etag))
+        .andExpect(status().isNotModified());
+
+    verify(achievementService, times(1)).getAchievementsByUserId(1L);
+  }
+
   @Test
   @DisplayName("Should return empty list when user has no achievements")
   void shouldReturnEmptyListWhenUserHasNoAchievements() throws Exception {
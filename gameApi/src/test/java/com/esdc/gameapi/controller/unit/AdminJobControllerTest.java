@@ -0,0 +1,120 @@
+package com.esdc.gameapi.controller.unit;
+
+import com.esdc.gameapi.controller.AdminJobController;
+import com.esdc.gameapi.domain.dto.BackgroundJobDto;
+import com.esdc.gameapi.exception.GlobalExceptionHandler;
+import com.esdc.gameapi.exception.ResourceNotFoundException;
+import com.esdc.gameapi.exception.UnauthorizedException;
+import com.esdc.gameapi.service.AdminAuthService;
+import com.esdc.gameapi.service.BackgroundJobService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Admin Job Controller Unit Tests")
+class AdminJobControllerTest {
+
+  private MockMvc mockMvc;
+
+  @Mock
+  private BackgroundJobService backgroundJobService;
+
+  @Mock
+  private AdminAuthService adminAuthService;
+
+  @InjectMocks
+  private AdminJobController adminJobController;
+
+  private static final String ADMIN_PASSWORD_HEADER = "Admin-Password";
+  private static final String CORRECT_ADMIN_PASSWORD = "testAdminPassword123";
+  private static final String INCORRECT_ADMIN_PASSWORD = "wrongPassword";
+
+  private BackgroundJobDto testJobDto;
+
+  @BeforeEach
+  void setUp() {
+    mockMvc = MockMvcBuilders.standaloneSetup(adminJobController)
+        .setControllerAdvice(new GlobalExceptionHandler())
+        .build();
+
+    testJobDto = BackgroundJobDto.builder()
+        .id(1L)
+        .jobType("ACHIEVEMENT_BACKFILL")
+        .targetId(5L)
+        .status("RUNNING")
+        .totalItems(200L)
+        .processedItems(50L)
+        .affectedItems(7L)
+        .progressPercentage(25.0)
+        .build();
+  }
+
+  @Test
+  @DisplayName("Should return recent jobs")
+  void shouldReturnRecentJobs() throws Exception {
+    when(backgroundJobService.getRecentJobs()).thenReturn(List.of(testJobDto));
+
+    mockMvc.perform(get("/api/admin/jobs")
+            .header(ADMIN_PASSWORD_HEADER, CORRECT_ADMIN_PASSWORD))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(1)))
+        .andExpect(jsonPath("$[0].jobType").value("ACHIEVEMENT_BACKFILL"))
+        .andExpect(jsonPath("$[0].status").value("RUNNING"));
+
+    verify(adminAuthService, times(1)).validateAdminPassword(CORRECT_ADMIN_PASSWORD);
+  }
+
+  @Test
+  @DisplayName("Should return job status by id")
+  void shouldReturnJobById() throws Exception {
+    when(backgroundJobService.getJob(1L)).thenReturn(testJobDto);
+
+    mockMvc.perform(get("/api/admin/jobs/1")
+            .header(ADMIN_PASSWORD_HEADER, CORRECT_ADMIN_PASSWORD))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.id").value(1))
+        .andExpect(jsonPath("$.processedItems").value(50))
+        .andExpect(jsonPath("$.affectedItems").value(7))
+        .andExpect(jsonPath("$.progressPercentage").value(25.0));
+  }
+
+  @Test
+  @DisplayName("Should return 404 when job not found")
+  void shouldReturn404WhenJobNotFound() throws Exception {
+    when(backgroundJobService.getJob(999L))
+        .thenThrow(new ResourceNotFoundException("Job", "id", 999L));
+
+    mockMvc.perform(get("/api/admin/jobs/999")
+            .header(ADMIN_PASSWORD_HEADER, CORRECT_ADMIN_PASSWORD))
+        .andExpect(status().isNotFound());
+  }
+
+  @Test
+  @DisplayName("Should reject request with incorrect admin password")
+  void shouldRejectIncorrectAdminPassword() throws Exception {
+    doThrow(new UnauthorizedException("Invalid admin password"))
+        .when(adminAuthService).validateAdminPassword(INCORRECT_ADMIN_PASSWORD);
+
+    mockMvc.perform(get("/api/admin/jobs")
+            .header(ADMIN_PASSWORD_HEADER, INCORRECT_ADMIN_PASSWORD))
+        .andExpect(status().isUnauthorized());
+
+    verify(backgroundJobService, never()).getRecentJobs();
+  }
+}
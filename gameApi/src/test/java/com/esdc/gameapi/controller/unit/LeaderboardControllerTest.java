@@ -0,0 +1,99 @@
+package com.esdc.gameapi.controller.unit;
+
+import com.esdc.gameapi.controller.LeaderboardController;
+import com.esdc.gameapi.domain.dto.LeaderboardEntryDto;
+import com.esdc.gameapi.exception.BadRequestException;
+import com.esdc.gameapi.exception.GlobalExceptionHandler;
+import com.esdc.gameapi.exception.ResourceNotFoundException;
+import com.esdc.gameapi.service.StarsLeaderboardService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Leaderboard Controller Unit Tests")
+class LeaderboardControllerTest {
+
+  private MockMvc mockMvc;
+
+  @Mock
+  private StarsLeaderboardService starsLeaderboardService;
+
+  @InjectMocks
+  private LeaderboardController leaderboardController;
+
+  private LeaderboardEntryDto testEntry;
+
+  @BeforeEach
+  void setUp() {
+    mockMvc = MockMvcBuilders.standaloneSetup(leaderboardController)
+        .setControllerAdvice(new GlobalExceptionHandler())
+        .build();
+
+    testEntry = LeaderboardEntryDto.builder()
+        .rank(1)
+        .userId(7L)
+        .nickname("Alice")
+        .totalStars(42)
+        .build();
+  }
+
+  @Test
+  @DisplayName("Should return top players with default limit")
+  void shouldReturnTopPlayers() throws Exception {
+    when(starsLeaderboardService.getTopPlayers(100)).thenReturn(List.of(testEntry));
+
+    mockMvc.perform(get("/api/leaderboard/stars"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(1)))
+        .andExpect(jsonPath("$[0].rank").value(1))
+        .andExpect(jsonPath("$[0].nickname").value("Alice"))
+        .andExpect(jsonPath("$[0].totalStars").value(42));
+  }
+
+  @Test
+  @DisplayName("Should return 400 when limit is out of range")
+  void shouldReturnBadRequestForInvalidLimit() throws Exception {
+    when(starsLeaderboardService.getTopPlayers(500))
+        .thenThrow(new BadRequestException("Limit must be between 1 and 100"));
+
+    mockMvc.perform(get("/api/leaderboard/stars").param("limit", "500"))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  @DisplayName("Should return player rank")
+  void shouldReturnPlayerRank() throws Exception {
+    when(starsLeaderboardService.getPlayerRank(7L)).thenReturn(testEntry);
+
+    mockMvc.perform(get("/api/leaderboard/stars/7"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.userId").value(7))
+        .andExpect(jsonPath("$.rank").value(1));
+  }
+
+  @Test
+  @DisplayName("Should return 404 when player is not ranked")
+  void shouldReturnNotFoundForUnrankedPlayer() throws Exception {
+    when(starsLeaderboardService.getPlayerRank(999L))
+        .thenThrow(new ResourceNotFoundException("Leaderboard entry", "userId", 999L));
+
+    mockMvc.perform(get("/api/leaderboard/stars/999"))
+        .andExpect(status().isNotFound());
+  }
+}
@@ -2,10 +2,14 @@ package com.esdc.gameapi.controller.unit;
 
 import com.esdc.gameapi.controller.LevelController;
 import com.esdc.gameapi.domain.dto.LevelDto;
+import com.esdc.gameapi.domain.dto.SpeedrunEntryDto;
 import com.esdc.gameapi.exception.GlobalExceptionHandler;
 import com.esdc.gameapi.exception.ResourceNotFoundException;
+import com.esdc.gameapi.service.AchievementService;
+import com.esdc.gameapi.service.CatalogResponseCache;
 import com.esdc.gameapi.service.LevelService;
 import com.esdc.gameapi.service.AdminAuthService;
+import com.esdc.gameapi.service.SpeedrunLeaderboardService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,10 +17,10 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
@@ -44,7 +48,12 @@ class LevelControllerTest {
   @Mock
   private AdminAuthService adminAuthService;
 
-  @InjectMocks
+  @Mock
+  private SpeedrunLeaderboardService speedrunLeaderboardService;
+
+  @Mock
+  private AchievementService achievementService;
+
   private LevelController levelController;
 
   private ObjectMapper objectMapper;
@@ -60,6 +69,11 @@ class LevelControllerTest {
   void setUp() {
     objectMapper = new ObjectMapper();
 
+    levelController = new LevelController(levelService, adminAuthService,
+        speedrunLeaderboardService,
+        new CatalogResponseCache(levelService, achievementService,
+            List.of(new MappingJackson2HttpMessageConverter(objectMapper))));
+
     mockMvc = MockMvcBuilders.standaloneSetup(levelController)
         .setControllerAdvice(new GlobalExceptionHandler())
         .build();
@@ -160,6 +174,43 @@ class LevelControllerTest {
     }
   }
 
+  // ========== GET Level Leaderboard Tests ==========
+
+  @Nested
+  @DisplayName("GET /api/levels/{id}/leaderboard")
+  class GetLevelLeaderboardTests {
+
+    @Test
+    @DisplayName("Should return fastest players of level")
+    void shouldReturnLevelLeaderboard() throws Exception {
+      SpeedrunEntryDto entry = SpeedrunEntryDto.builder()
+          .rank(1)
+          .userId(7L)
+          .nickname("speedy")
+          .timeSpent("00:01:30")
+          .achievedAt("2025-01-01 10:00:00")
+          .build();
+      when(speedrunLeaderboardService.getLeaderboard(1L)).thenReturn(List.of(entry));
+
+      mockMvc.perform(get("/api/levels/1/leaderboard"))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$", hasSize(1)))
+          .andExpect(jsonPath("$[0].rank").value(1))
+          .andExpect(jsonPath("$[0].nickname").value("speedy"))
+          .andExpect(jsonPath("$[0].timeSpent").value("00:01:30"));
+    }
+
+    @Test
+    @DisplayName("Should return 404 when level not found")
+    void shouldReturn404WhenLevelNotFound() throws Exception {
+      when(speedrunLeaderboardService.getLeaderboard(999L))
+          .thenThrow(new ResourceNotFoundException("Level", "id", 999L));
+
+      mockMvc.perform(get("/api/levels/999/leaderboard"))
+          .andExpect(status().isNotFound());
+    }
+  }
+
   // ========== POST Create Level Tests ==========
 
   @Nested
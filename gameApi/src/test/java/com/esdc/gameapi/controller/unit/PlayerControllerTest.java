@@ -0,0 +1,133 @@
+package com.esdc.gameapi.controller.unit;
+
+import com.esdc.gameapi.controller.PlayerController;
+import com.esdc.gameapi.domain.dto.PlayerLevelDto;
+import com.esdc.gameapi.domain.dto.PlayerSnapshotDto;
+import com.esdc.gameapi.domain.dto.StarsProgressDto;
+import com.esdc.gameapi.domain.dto.UserResponseDto;
+import com.esdc.gameapi.exception.DatabaseBusyException;
+import com.esdc.gameapi.exception.GlobalExceptionHandler;
+import com.esdc.gameapi.exception.ResourceNotFoundException;
+import com.esdc.gameapi.exception.ServiceUnavailableException;
+import com.esdc.gameapi.service.PlayerEventBroadcaster;
+import com.esdc.gameapi.service.PlayerSnapshotService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Player Controller Unit Tests")
+class PlayerControllerTest {
+
+  private MockMvc mockMvc;
+
+  @Mock
+  private PlayerSnapshotService playerSnapshotService;
+
+  @Mock
+  private PlayerEventBroadcaster playerEventBroadcaster;
+
+  @InjectMocks
+  private PlayerController playerController;
+
+  @BeforeEach
+  void setUp() {
+    mockMvc = MockMvcBuilders.standaloneSetup(playerController)
+        .setControllerAdvice(new GlobalExceptionHandler())
+        .build();
+  }
+
+  @Test
+  @DisplayName("Should return player snapshot")
+  void shouldReturnSnapshot() throws Exception {
+    PlayerSnapshotDto snapshot = PlayerSnapshotDto.builder()
+        .user(UserResponseDto.builder().id(1L).nickname("alice").build())
+        .starsProgress(new StarsProgressDto(3, 8, 37.5))
+        .achievements(Collections.emptyList())
+        .levels(List.of(PlayerLevelDto.builder()
+            .levelId(1L).levelName("Forest").bestStars(3).bestTime("00:01:10").attempts(4)
+            .build()))
+        .build();
+    when(playerSnapshotService.getSnapshot(1L)).thenReturn(snapshot);
+
+    mockMvc.perform(get("/api/players/1/snapshot"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.user.nickname").value("alice"))
+        .andExpect(jsonPath("$.starsProgress.progressPercentage").value(37.5))
+        .andExpect(jsonPath("$.levels", hasSize(1)))
+        .andExpect(jsonPath("$.levels[0].bestTime").value("00:01:10"));
+  }
+
+  @Test
+  @DisplayName("Should return 404 when user not found")
+  void shouldReturn404WhenUserNotFound() throws Exception {
+    when(playerSnapshotService.getSnapshot(999L))
+        .thenThrow(new ResourceNotFoundException("User", "id", 999L));
+
+    mockMvc.perform(get("/api/players/999/snapshot"))
+        .andExpect(status().isNotFound());
+  }
+
+  @Test
+  @DisplayName("Should return 503 when database admission is rejected")
+  void shouldReturn503WhenDatabaseBusy() throws Exception {
+    when(playerSnapshotService.getSnapshot(1L)).thenThrow(new CannotCreateTransactionException(
+        "Could not open JPA EntityManager for transaction",
+        new DatabaseBusyException("All 10 database permits busy for 2000 ms")));
+
+    mockMvc.perform(get("/api/players/1/snapshot"))
+        .andExpect(status().isServiceUnavailable())
+        .andExpect(header().string("Retry-After", "1"))
+        .andExpect(jsonPath("$.message").value("Service is busy, please retry"));
+  }
+
+  @Test
+  @DisplayName("Should return 500 for other connection failures")
+  void shouldReturn500ForOtherConnectionFailures() throws Exception {
+    when(playerSnapshotService.getSnapshot(1L)).thenThrow(new CannotCreateTransactionException(
+        "Could not open JPA EntityManager for transaction",
+        new IllegalStateException("Connection refused")));
+
+    mockMvc.perform(get("/api/players/1/snapshot"))
+        .andExpect(status().isInternalServerError());
+  }
+
+  @Test
+  @DisplayName("Should open player event stream")
+  void shouldOpenEventStream() throws Exception {
+    when(playerEventBroadcaster.subscribe(1L)).thenReturn(new SseEmitter());
+
+    mockMvc.perform(get("/api/players/1/events"))
+        .andExpect(request().asyncStarted());
+
+    verify(playerEventBroadcaster).subscribe(1L);
+  }
+
+  @Test
+  @DisplayName("Should return 503 when event stream limit is reached")
+  void shouldReturn503WhenStreamLimitReached() throws Exception {
+    when(playerEventBroadcaster.subscribe(1L))
+        .thenThrow(new ServiceUnavailableException("Too many open event streams"));
+
+    mockMvc.perform(get("/api/players/1/events"))
+        .andExpect(status().isServiceUnavailable());
+  }
+}
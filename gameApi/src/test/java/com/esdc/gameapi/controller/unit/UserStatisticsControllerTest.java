@@ -2,9 +2,12 @@ package com.esdc.gameapi.controller.unit;
 
 import com.esdc.gameapi.controller.UserStatisticsController;
 import com.esdc.gameapi.domain.dto.StarsProgressDto;
+import com.esdc.gameapi.domain.dto.StatisticsPercentilesDto;
 import com.esdc.gameapi.domain.dto.UserStatisticsDto;
 import com.esdc.gameapi.exception.GlobalExceptionHandler;
 import com.esdc.gameapi.exception.ResourceNotFoundException;
+import com.esdc.gameapi.service.StatisticsPercentileService;
+import com.esdc.gameapi.service.UserDataVersions;
 import com.esdc.gameapi.service.UserStatisticsService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,6 +18,7 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
@@ -36,6 +40,12 @@ class UserStatisticsControllerTest {
   @Mock
   private UserStatisticsService statisticsService;
 
+  @Mock
+  private StatisticsPercentileService percentileService;
+
+  @Spy
+  private UserDataVersions userDataVersions = new UserDataVersions();
+
   @InjectMocks
   private UserStatisticsController statisticsController;
 
@@ -96,6 +106,44 @@ class UserStatisticsControllerTest {
       verify(statisticsService, times(1)).getStatisticsByUserId(1L);
     }
 
+    @Test
+    @Tag("unit")
+    @DisplayName("Should return 304 for current ETag without reading statistics")
+    void shouldReturn304ForCurrentEtag() throws Exception {
+      // Arrange
+      when(statisticsService.getStatisticsByUserId(1L))
+          .thenReturn(Optional.of(testStatistics));
+      String etag = mockMvc.perform(get("/api/statistics/1"))
+          .andExpect(status().isOk())
+          .andExpect(header().exists("ETag"))
+          .andReturn().getResponse().getHeader("ETag");
+
+      // Act & Assert
+      mockMvc.perform(get("/api/statistics/1").header("If-None-Match", etag))
+          .andExpect(status().isNotModified());
+
+      verify(statisticsService, times(1)).getStatisticsByUserId(1L);
+    }
+
+    @Test
+    @Tag("unit")
+    @DisplayName("Should return statistics again after user data changed")
+    void shouldReturnStatisticsAfterUserDataChanged() throws Exception {
+      // Arrange
+      when(statisticsService.getStatisticsByUserId(1L))
+          .thenReturn(Optional.of(testStatistics));
+      String etag = mockMvc.perform(get("/api/statistics/1"))
+          .andReturn().getResponse().getHeader("ETag");
+      userDataVersions.bump(1L);
+
+      // Act & Assert
+      mockMvc.perform(get("/api/statistics/1").header("If-None-Match", etag))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.totalStars").value(120));
+
+      verify(statisticsService, times(2)).getStatisticsByUserId(1L);
+    }
+
     @Test
     @Tag("unit")
     @DisplayName("Should return 404 when statistics not found")
@@ -434,6 +482,47 @@ class UserStatisticsControllerTest {
     }
   }
 
+  // ========== GET Percentiles Tests ==========
+
+  @Nested
+  @DisplayName("GET /api/statistics/{userId}/percentiles")
+  class GetPercentilesTests {
+
+    @Test
+    @DisplayName("Should return statistics percentiles")
+    void shouldReturnPercentiles() throws Exception {
+      StatisticsPercentilesDto.MetricPercentileDto stars =
+          StatisticsPercentilesDto.MetricPercentileDto.builder()
+              .value(30)
+              .percentile(88.0)
+              .topPercent(12.0)
+              .build();
+      when(percentileService.getPercentiles(1L)).thenReturn(StatisticsPercentilesDto.builder()
+          .totalPlayers(50)
+          .stars(stars)
+          .levelsCompleted(stars)
+          .killedEnemies(stars)
+          .timePlayed(stars)
+          .build());
+
+      mockMvc.perform(get("/api/statistics/1/percentiles"))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.totalPlayers").value(50))
+          .andExpect(jsonPath("$.stars.value").value(30))
+          .andExpect(jsonPath("$.stars.topPercent").value(12.0));
+    }
+
+    @Test
+    @DisplayName("Should return 404 when statistics not found")
+    void shouldReturn404WhenStatisticsNotFound() throws Exception {
+      when(percentileService.getPercentiles(999L))
+          .thenThrow(new ResourceNotFoundException("Statistics", "userId", 999L));
+
+      mockMvc.perform(get("/api/statistics/999/percentiles"))
+          .andExpect(status().isNotFound());
+    }
+  }
+
   // ========== Edge Cases Tests ==========
 
   @Nested
@@ -0,0 +1,123 @@
+package com.esdc.gameapi.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+@DisplayName("Counting Async Appender Tests")
+class CountingAsyncAppenderTest {
+
+  private LoggerContext context;
+  private BlockingAppender delegate;
+  private CountingAsyncAppender appender;
+
+  @BeforeEach
+  void setUp() {
+    context = new LoggerContext();
+    context.setMDCAdapter(new LogbackMDCAdapter());
+    delegate = new BlockingAppender();
+    delegate.setContext(context);
+    delegate.start();
+    appender = new CountingAsyncAppender();
+    appender.setContext(context);
+    appender.addAppender(delegate);
+  }
+
+  @AfterEach
+  void tearDown() {
+    delegate.release.countDown();
+    appender.stop();
+  }
+
+  @Test
+  @DisplayName("Should drop and count events arriving at full queue without blocking")
+  void shouldCountOverflow() throws InterruptedException {
+    // Arrange
+    appender.setQueueSize(2);
+    appender.setNeverBlock(true);
+    appender.start();
+    occupyWorker();
+
+    // Act
+    for (int i = 0; i < 5; i++) {
+      appender.doAppend(event(Level.WARN, "Event " + i));
+    }
+    delegate.release.countDown();
+    appender.stop();
+
+    // Assert
+    assertThat(appender.getOverflowCount()).isEqualTo(3);
+    assertThat(delegate.received).hasSize(3);
+  }
+
+  @Test
+  @DisplayName("Should count below-warn events discarded when queue is nearly full")
+  void shouldCountDiscarded() throws InterruptedException {
+    // Arrange
+    appender.setQueueSize(5);
+    appender.setDiscardingThreshold(3);
+    appender.start();
+    occupyWorker();
+    for (int i = 0; i < 3; i++) {
+      appender.doAppend(event(Level.INFO, "Queued " + i));
+    }
+
+    // Act
+    appender.doAppend(event(Level.INFO, "Discarded"));
+    appender.doAppend(event(Level.WARN, "Kept"));
+    delegate.release.countDown();
+    appender.stop();
+
+    // Assert
+    assertThat(appender.getDiscardedCount()).isEqualTo(1);
+    assertThat(appender.getOverflowCount()).isZero();
+    assertThat(delegate.received).extracting(ILoggingEvent::getMessage)
+        .doesNotContain("Discarded")
+        .contains("Kept");
+  }
+
+  private void occupyWorker() throws InterruptedException {
+    appender.doAppend(event(Level.WARN, "Blocking"));
+    assertThat(delegate.started.await(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  private ILoggingEvent event(Level level, String message) {
+    Logger logger = context.getLogger("test");
+    return new LoggingEvent(Logger.class.getName(), logger, level, message, null, null);
+  }
+
+  private static final class BlockingAppender extends AppenderBase<ILoggingEvent> {
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final List<ILoggingEvent> received = new CopyOnWriteArrayList<>();
+
+    @Override
+    protected void append(ILoggingEvent event) {
+      received.add(event);
+      started.countDown();
+      try {
+        release.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+}
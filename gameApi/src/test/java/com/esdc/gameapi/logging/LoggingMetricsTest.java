@@ -0,0 +1,57 @@
+package com.esdc.gameapi.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.read.ListAppender;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+@DisplayName("Logging Metrics Tests")
+class LoggingMetricsTest {
+
+  @Test
+  @DisplayName("Should export drops of async appenders and sampled out events")
+  void shouldExportDropsAndSampling() {
+    // Arrange
+    LoggerContext context = new LoggerContext();
+    context.setMDCAdapter(new LogbackMDCAdapter());
+    context.setMDCAdapter(new LogbackMDCAdapter());
+    ListAppender<ILoggingEvent> file = new ListAppender<>();
+    file.setContext(context);
+    file.start();
+    CountingAsyncAppender appender = new CountingAsyncAppender();
+    appender.setContext(context);
+    appender.setName("ASYNC_FILE");
+    appender.addAppender(file);
+    appender.start();
+    context.getLogger(Logger.ROOT_LOGGER_NAME).addAppender(appender);
+    SamplingTurboFilter filter = new SamplingTurboFilter();
+    filter.setContext(context);
+    filter.setLoggers("com.example.hot");
+    filter.setEventsPerSecond(1);
+    filter.start();
+    context.addTurboFilter(filter);
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    // Act
+    new LoggingMetrics(context).bindTo(registry);
+    context.getLogger("com.example.hot").debug("Passed");
+    context.getLogger("com.example.hot").debug("Sampled out");
+
+    // Assert
+    assertThat(registry.get("logging.events.dropped").tag("appender", "ASYNC_FILE")
+        .functionCounters()).hasSize(2);
+    assertThat(registry.find("logging.queue.size").tag("appender", "ASYNC_FILE").gauge())
+        .isNotNull();
+    assertThat(registry.get("logging.events.sampled.out").tag("logger", "com.example.hot")
+        .functionCounter().count()).isEqualTo(1);
+    appender.stop();
+  }
+}
@@ -0,0 +1,111 @@
+package com.esdc.gameapi.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+@DisplayName("Sampling Turbo Filter Tests")
+class SamplingTurboFilterTest {
+
+  private static final String SAMPLED = "com.example.hot";
+  private static final int RATE = 3;
+
+  private LoggerContext context;
+  private SamplingTurboFilter filter;
+  private ListAppender<ILoggingEvent> events;
+
+  @BeforeEach
+  void setUp() {
+    context = new LoggerContext();
+    filter = new SamplingTurboFilter();
+    filter.setContext(context);
+    filter.setLoggers(SAMPLED + ", com.example.other");
+    filter.setEventsPerSecond(RATE);
+    filter.start();
+    context.addTurboFilter(filter);
+
+    events = new ListAppender<>();
+    events.setContext(context);
+    events.start();
+    Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+    root.setLevel(Level.TRACE);
+    root.addAppender(events);
+  }
+
+  @Test
+  @DisplayName("Should pass only the configured rate of debug events")
+  void shouldSampleDebugEvents() {
+    // Arrange
+    Logger logger = context.getLogger(SAMPLED);
+
+    // Act
+    for (int i = 0; i < 10; i++) {
+      logger.debug("Evaluating rule {}", i);
+    }
+
+    // Assert
+    assertThat(events.list).hasSize(RATE);
+    assertThat(filter.getSampledOutCount(SAMPLED)).isEqualTo(10 - RATE);
+  }
+
+  @Test
+  @DisplayName("Should share budget of configured logger with its children")
+  void shouldShareBudgetWithChildren() {
+    // Act
+    for (int i = 0; i < 5; i++) {
+      context.getLogger(SAMPLED + ".First").trace("First {}", i);
+      context.getLogger(SAMPLED + ".Second").debug("Second {}", i);
+    }
+
+    // Assert
+    assertThat(events.list).hasSize(RATE);
+    assertThat(filter.getSampledOutCount(SAMPLED)).isEqualTo(10 - RATE);
+  }
+
+  @Test
+  @DisplayName("Should not sample info events, level checks or other loggers")
+  void shouldLeaveOtherEventsAlone() {
+    // Arrange
+    Logger sampled = context.getLogger(SAMPLED);
+    Logger unsampled = context.getLogger("com.example.cold");
+
+    // Act
+    for (int i = 0; i < 10; i++) {
+      assertThat(sampled.isDebugEnabled()).isTrue();
+      sampled.info("Unlocked {}", i);
+      unsampled.debug("Cold {}", i);
+    }
+
+    // Assert
+    assertThat(events.list).hasSize(20);
+    assertThat(filter.getSampledOutCount(SAMPLED)).isZero();
+    assertThat(filter.getSampledLoggers()).containsExactly(SAMPLED, "com.example.other");
+  }
+
+  @Test
+  @DisplayName("Should not spend budget on events below logger level")
+  void shouldIgnoreDisabledEvents() {
+    // Arrange
+    Logger logger = context.getLogger(SAMPLED);
+    logger.setLevel(Level.DEBUG);
+
+    // Act
+    for (int i = 0; i < 10; i++) {
+      logger.trace("Disabled {}", i);
+    }
+    logger.debug("Enabled");
+
+    // Assert
+    assertThat(events.list).extracting(ILoggingEvent::getMessage).containsExactly("Enabled");
+    assertThat(filter.getSampledOutCount(SAMPLED)).isZero();
+  }
+}
@@ -0,0 +1,233 @@
+package com.esdc.gameapi.service.integration;
+
+import com.esdc.gameapi.domain.JobStatus;
+import com.esdc.gameapi.domain.JobType;
+import com.esdc.gameapi.domain.dto.AchievementDto;
+import com.esdc.gameapi.domain.entity.BackgroundJob;
+import com.esdc.gameapi.domain.entity.Level;
+import com.esdc.gameapi.domain.entity.Progress;
+import com.esdc.gameapi.domain.entity.User;
+import com.esdc.gameapi.domain.entity.UserStatistics;
+import com.esdc.gameapi.repository.AchievementRepository;
+import com.esdc.gameapi.repository.BackgroundJobRepository;
+import com.esdc.gameapi.repository.LevelRepository;
+import com.esdc.gameapi.repository.ProgressRepository;
+import com.esdc.gameapi.repository.UserAchievementRepository;
+import com.esdc.gameapi.repository.UserRepository;
+import com.esdc.gameapi.repository.UserStatisticsRepository;
+import com.esdc.gameapi.service.AchievementService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("integration")
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:backfilldb",
+    "spring.datasource.driverClassName=org.h2.Driver",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "jwt.secret=mySecretKeyForTestingPurposesOnlyMustBeAtLeast256BitsLong",
+    "jwt.expiration=3600000",
+    "admin.password=testAdminPassword123",
+    "app.jobs.chunk-size=2",
+    "app.jobs.parallelism=2"
+})
+@DisplayName("Achievement Backfill Integration Tests")
+class AchievementBackfillServiceIntegrationTest {
+
+  private static final long JOB_TIMEOUT_MILLIS = 10_000;
+  private static final long POLL_INTERVAL_MILLIS = 50;
+
+  @Autowired
+  private AchievementService achievementService;
+
+  @Autowired
+  private AchievementRepository achievementRepository;
+
+  @Autowired
+  private UserAchievementRepository userAchievementRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private UserStatisticsRepository userStatisticsRepository;
+
+  @Autowired
+  private LevelRepository levelRepository;
+
+  @Autowired
+  private ProgressRepository progressRepository;
+
+  @Autowired
+  private BackgroundJobRepository jobRepository;
+
+  private final List<User> users = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    cleanUp();
+
+    Level bossLevel = levelRepository.save(Level.builder()
+        .levelName("Boss Level")
+        .starsOnLevel(3)
+        .bossOnLevel(true)
+        .build());
+
+    // Five players so that chunks of two leave a partial last chunk
+    String[] timesPlayed = {"02:00:00", "00:10:00", "01:30:00", "00:00:00", "03:00:00"};
+    int[] levelsCompleted = {12, 3, 10, 0, 25};
+    for (int i = 0; i < timesPlayed.length; i++) {
+      User user = userRepository.save(User.builder()
+          .nickname("Player" + i)
+          .passwordHash("hash")
+          .age(20)
+          .build());
+      users.add(user);
+
+      userStatisticsRepository.save(UserStatistics.builder()
+          .user(user)
+          .totalLevelsCompleted(levelsCompleted[i])
+          .totalKilledEnemies(0)
+          .totalSolvedPuzzles(0)
+          .totalTimePlayed(timesPlayed[i])
+          .totalStars(0)
+          .build());
+    }
+
+    Progress progress = new Progress();
+    progress.setUser(users.get(1));
+    progress.setLevel(bossLevel);
+    progress.setKilledEnemiesNumber(1);
+    progress.setSolvedPuzzlesNumber(0);
+    progress.setTimeSpent("00:01:00");
+    progress.setStars(1);
+    progress.setCreatedAt(LocalDateTime.now());
+    progressRepository.save(progress);
+  }
+
+  @AfterEach
+  void tearDown() {
+    cleanUp();
+  }
+
+  @Test
+  @DisplayName("Should grant new statistics achievement to existing eligible players")
+  void shouldBackfillStatisticsAchievement() throws InterruptedException {
+    // Act
+    AchievementDto created = achievementService.createAchievement(AchievementDto.builder()
+        .achievementName("Veteran")
+        .achievementDescription("Complete 10 levels")
+        .build());
+    BackgroundJob job = awaitJob(created.getId());
+
+    // Assert
+    assertThat(job.getStatus()).isEqualTo(JobStatus.COMPLETED);
+    assertThat(job.getProcessedItems()).isEqualTo(5L);
+    assertThat(job.getAffectedItems()).isEqualTo(3L);
+    assertThat(unlockedBy(created.getId()))
+        .containsExactlyInAnyOrder(users.get(0).getId(), users.get(2).getId(),
+            users.get(4).getId());
+  }
+
+  @Test
+  @DisplayName("Should grant boss achievement from progress history")
+  void shouldBackfillProgressAchievement() throws InterruptedException {
+    // Act
+    AchievementDto created = achievementService.createAchievement(AchievementDto.builder()
+        .achievementName("Boss Slayer")
+        .achievementDescription("Defeat boss")
+        .build());
+    BackgroundJob job = awaitJob(created.getId());
+
+    // Assert
+    assertThat(job.getStatus()).isEqualTo(JobStatus.COMPLETED);
+    assertThat(unlockedBy(created.getId())).containsExactly(users.get(1).getId());
+  }
+
+  @Test
+  @DisplayName("Should evaluate total time achievement in parallel chunks")
+  void shouldBackfillTotalTimeAchievement() throws InterruptedException {
+    // Act
+    AchievementDto created = achievementService.createAchievement(AchievementDto.builder()
+        .achievementName("Dedicated")
+        .achievementDescription("Play for 90 minutes")
+        .build());
+    BackgroundJob job = awaitJob(created.getId());
+
+    // Assert
+    assertThat(job.getStatus()).isEqualTo(JobStatus.COMPLETED);
+    assertThat(job.getAffectedItems()).isEqualTo(3L);
+    assertThat(unlockedBy(created.getId()))
+        .containsExactlyInAnyOrder(users.get(0).getId(), users.get(2).getId(),
+            users.get(4).getId());
+  }
+
+  @Test
+  @DisplayName("Should not duplicate already unlocked achievements on update")
+  void shouldNotDuplicateOnUpdate() throws InterruptedException {
+    // Arrange
+    AchievementDto created = achievementService.createAchievement(AchievementDto.builder()
+        .achievementName("Veteran")
+        .achievementDescription("Complete 10 levels")
+        .build());
+    awaitJob(created.getId());
+
+    // Act
+    achievementService.updateAchievement(created.getId(), AchievementDto.builder()
+        .achievementName("Veteran")
+        .achievementDescription("Complete 3 levels")
+        .build());
+    BackgroundJob job = awaitJob(created.getId());
+
+    // Assert
+    assertThat(job.getAffectedItems()).isEqualTo(1L);
+    assertThat(unlockedBy(created.getId())).hasSize(4);
+  }
+
+  private BackgroundJob awaitJob(Long achievementId) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + JOB_TIMEOUT_MILLIS;
+    while (System.currentTimeMillis() < deadline) {
+      List<BackgroundJob> jobs = jobRepository.findAll().stream()
+          .filter(job -> job.getJobType() == JobType.ACHIEVEMENT_BACKFILL)
+          .filter(job -> job.getTargetId().equals(achievementId))
+          .toList();
+      if (!jobs.isEmpty() && jobs.stream().noneMatch(job -> job.getStatus().isActive())) {
+        return jobs.stream().max(Comparator.comparing(BackgroundJob::getId)).orElseThrow();
+      }
+      Thread.sleep(POLL_INTERVAL_MILLIS);
+    }
+    throw new AssertionError("Backfill job did not finish in time");
+  }
+
+  private List<Long> unlockedBy(Long achievementId) {
+    return userAchievementRepository.findAll().stream()
+        .filter(ua -> ua.getAchievement().getId().equals(achievementId))
+        .map(ua -> ua.getUser().getId())
+        .toList();
+  }
+
+  private void cleanUp() {
+    jobRepository.deleteAll();
+    userAchievementRepository.deleteAll();
+    progressRepository.deleteAll();
+    userStatisticsRepository.deleteAll();
+    achievementRepository.deleteAll();
+    levelRepository.deleteAll();
+    userRepository.deleteAll();
+    users.clear();
+  }
+}
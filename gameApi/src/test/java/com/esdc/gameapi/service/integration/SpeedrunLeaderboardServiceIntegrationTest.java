@@ -0,0 +1,144 @@
+package com.esdc.gameapi.service.integration;
+
+import com.esdc.gameapi.domain.dto.ProgressDto;
+import com.esdc.gameapi.domain.dto.SpeedrunEntryDto;
+import com.esdc.gameapi.domain.entity.Level;
+import com.esdc.gameapi.domain.entity.Progress;
+import com.esdc.gameapi.domain.entity.User;
+import com.esdc.gameapi.repository.LevelRepository;
+import com.esdc.gameapi.repository.ProgressRepository;
+import com.esdc.gameapi.repository.UserAchievementRepository;
+import com.esdc.gameapi.repository.UserRepository;
+import com.esdc.gameapi.repository.UserStatisticsRepository;
+import com.esdc.gameapi.service.ProgressService;
+import com.esdc.gameapi.service.SpeedrunLeaderboardService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("integration")
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:speedrundb",
+    "spring.datasource.driverClassName=org.h2.Driver",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "jwt.secret=mySecretKeyForTestingPurposesOnlyMustBeAtLeast256BitsLong",
+    "jwt.expiration=3600000",
+    "admin.password=testAdminPassword123",
+    "app.leaderboard.speedrun-size=2"
+})
+@DisplayName("Speedrun Leaderboard Integration Tests")
+class SpeedrunLeaderboardServiceIntegrationTest {
+
+  @Autowired
+  private SpeedrunLeaderboardService leaderboardService;
+
+  @Autowired
+  private ProgressService progressService;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private LevelRepository levelRepository;
+
+  @Autowired
+  private ProgressRepository progressRepository;
+
+  @Autowired
+  private UserStatisticsRepository userStatisticsRepository;
+
+  @Autowired
+  private UserAchievementRepository userAchievementRepository;
+
+  private Level level;
+  private User alice;
+  private User bob;
+  private User carol;
+
+  @BeforeEach
+  void setUp() {
+    cleanUp();
+
+    level = levelRepository.save(Level.builder()
+        .levelName("Speedway")
+        .starsOnLevel(3)
+        .bossOnLevel(false)
+        .build());
+    alice = createPlayer("alice");
+    bob = createPlayer("bob");
+    carol = createPlayer("carol");
+
+    saveRun(alice, "00:02:00");
+    saveRun(alice, "00:01:40");
+    saveRun(bob, "00:01:50");
+    saveRun(carol, "00:03:00");
+    leaderboardService.initialize();
+  }
+
+  @AfterEach
+  void tearDown() {
+    cleanUp();
+  }
+
+  @Test
+  @DisplayName("Should load fastest personal bests by streaming progress")
+  void shouldLoadFastestPersonalBests() {
+    // Act
+    List<SpeedrunEntryDto> result = leaderboardService.getLeaderboard(level.getId());
+
+    // Assert
+    assertThat(result).extracting(SpeedrunEntryDto::getNickname).containsExactly("alice", "bob");
+    assertThat(result).extracting(SpeedrunEntryDto::getTimeSpent)
+        .containsExactly("00:01:40", "00:01:50");
+  }
+
+  @Test
+  @DisplayName("Should place new personal best after progress is committed")
+  void shouldUpdateBoardOnCreateProgress() {
+    // Act
+    progressService.createProgress(carol.getId(), ProgressDto.builder()
+        .levelId(level.getId())
+        .killedEnemiesNumber(0)
+        .solvedPuzzlesNumber(0)
+        .timeSpent("00:01:05")
+        .stars(1)
+        .build());
+
+    // Assert
+    assertThat(leaderboardService.getLeaderboard(level.getId()))
+        .extracting(SpeedrunEntryDto::getNickname).containsExactly("carol", "alice");
+  }
+
+  private User createPlayer(String nickname) {
+    return userRepository.save(User.builder()
+        .nickname(nickname)
+        .passwordHash("hash")
+        .age(20)
+        .build());
+  }
+
+  private void saveRun(User user, String timeSpent) {
+    Progress progress = new Progress(user, level);
+    progress.setTimeSpent(timeSpent);
+    progressRepository.save(progress);
+  }
+
+  private void cleanUp() {
+    userAchievementRepository.deleteAll();
+    progressRepository.deleteAll();
+    userStatisticsRepository.deleteAll();
+    levelRepository.deleteAll();
+    userRepository.deleteAll();
+  }
+}
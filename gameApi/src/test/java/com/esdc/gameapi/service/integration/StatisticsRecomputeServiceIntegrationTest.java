@@ -0,0 +1,234 @@
+package com.esdc.gameapi.service.integration;
+
+import com.esdc.gameapi.domain.JobStatus;
+import com.esdc.gameapi.domain.JobType;
+import com.esdc.gameapi.domain.dto.LevelDto;
+import com.esdc.gameapi.domain.entity.BackgroundJob;
+import com.esdc.gameapi.domain.entity.Level;
+import com.esdc.gameapi.domain.entity.Progress;
+import com.esdc.gameapi.domain.entity.User;
+import com.esdc.gameapi.domain.entity.UserStatistics;
+import com.esdc.gameapi.repository.BackgroundJobItemRepository;
+import com.esdc.gameapi.repository.BackgroundJobRepository;
+import com.esdc.gameapi.repository.LevelRepository;
+import com.esdc.gameapi.repository.ProgressRepository;
+import com.esdc.gameapi.repository.UserRepository;
+import com.esdc.gameapi.repository.UserStatisticsRepository;
+import com.esdc.gameapi.service.LevelService;
+import com.esdc.gameapi.service.UserStatisticsService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("integration")
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:recomputedb",
+    "spring.datasource.driverClassName=org.h2.Driver",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "jwt.secret=mySecretKeyForTestingPurposesOnlyMustBeAtLeast256BitsLong",
+    "jwt.expiration=3600000",
+    "admin.password=testAdminPassword123",
+    "app.jobs.chunk-size=2",
+    "app.jobs.parallelism=2"
+})
+@DisplayName("Statistics Recompute Integration Tests")
+class StatisticsRecomputeServiceIntegrationTest {
+
+  private static final long JOB_TIMEOUT_MILLIS = 10_000;
+  private static final long POLL_INTERVAL_MILLIS = 50;
+
+  @Autowired
+  private LevelService levelService;
+
+  @Autowired
+  private UserStatisticsService userStatisticsService;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private UserStatisticsRepository userStatisticsRepository;
+
+  @Autowired
+  private LevelRepository levelRepository;
+
+  @Autowired
+  private ProgressRepository progressRepository;
+
+  @Autowired
+  private BackgroundJobRepository jobRepository;
+
+  @Autowired
+  private BackgroundJobItemRepository itemRepository;
+
+  private Level forestLevel;
+  private User firstPlayer;
+  private User secondPlayer;
+  private User thirdPlayer;
+  private User bystander;
+
+  @BeforeEach
+  void setUp() {
+    cleanUp();
+
+    forestLevel = levelRepository.save(Level.builder()
+        .levelName("Forest")
+        .starsOnLevel(3)
+        .bossOnLevel(false)
+        .build());
+    Level castleLevel = levelRepository.save(Level.builder()
+        .levelName("Castle")
+        .starsOnLevel(5)
+        .bossOnLevel(true)
+        .build());
+
+    firstPlayer = createPlayer("First");
+    secondPlayer = createPlayer("Second");
+    thirdPlayer = createPlayer("Third");
+    bystander = createPlayer("Bystander");
+
+    saveProgress(firstPlayer, forestLevel, 3);
+    saveProgress(firstPlayer, forestLevel, 2);
+    saveProgress(secondPlayer, forestLevel, 3);
+    saveProgress(thirdPlayer, forestLevel, 2);
+    saveProgress(thirdPlayer, castleLevel, 4);
+    saveProgress(bystander, castleLevel, 5);
+
+    List.of(firstPlayer, secondPlayer, thirdPlayer, bystander)
+        .forEach(player -> userStatisticsService.recalculateUserStatistics(player.getId()));
+  }
+
+  @AfterEach
+  void tearDown() {
+    cleanUp();
+  }
+
+  @Test
+  @DisplayName("Should recompute only players of a level whose stars were lowered")
+  void shouldRecomputePlayersWhenStarsLowered() throws InterruptedException {
+    // Arrange
+    LevelDto update = LevelDto.builder()
+        .levelName("Forest")
+        .starsOnLevel(1)
+        .bossOnLevel(false)
+        .build();
+
+    // Act
+    levelService.updateLevel(forestLevel.getId(), update);
+    BackgroundJob job = awaitJob(forestLevel.getId());
+
+    // Assert
+    assertThat(job.getStatus()).isEqualTo(JobStatus.COMPLETED);
+    assertThat(job.getTotalItems()).isEqualTo(3L);
+    assertThat(job.getProcessedItems()).isEqualTo(3L);
+    assertThat(totalStars(firstPlayer)).isEqualTo(1);
+    assertThat(totalStars(secondPlayer)).isEqualTo(1);
+    assertThat(totalStars(thirdPlayer)).isEqualTo(5);
+    assertThat(totalStars(bystander)).isEqualTo(5);
+    assertThat(itemRepository.countByJobId(job.getId())).isZero();
+  }
+
+  @Test
+  @DisplayName("Should not start a job when level stars are unchanged")
+  void shouldNotRecomputeWhenStarsUnchanged() {
+    // Arrange
+    LevelDto update = LevelDto.builder()
+        .levelName("Enchanted Forest")
+        .starsOnLevel(3)
+        .bossOnLevel(false)
+        .build();
+
+    // Act
+    levelService.updateLevel(forestLevel.getId(), update);
+
+    // Assert
+    assertThat(jobRepository.findAll()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Should remove deleted level from its players' statistics")
+  void shouldRecomputePlayersWhenLevelDeleted() throws InterruptedException {
+    // Act
+    levelService.deleteLevel(forestLevel.getId());
+    BackgroundJob job = awaitJob(forestLevel.getId());
+
+    // Assert
+    assertThat(job.getStatus()).isEqualTo(JobStatus.COMPLETED);
+    assertThat(job.getProcessedItems()).isEqualTo(3L);
+    assertThat(levelRepository.findById(forestLevel.getId())).isEmpty();
+
+    UserStatistics firstStats = statistics(firstPlayer);
+    assertThat(firstStats.getTotalStars()).isZero();
+    assertThat(firstStats.getTotalLevelsCompleted()).isZero();
+    assertThat(firstStats.getTotalTimePlayed()).isEqualTo("00:00:00");
+
+    UserStatistics thirdStats = statistics(thirdPlayer);
+    assertThat(thirdStats.getTotalStars()).isEqualTo(4);
+    assertThat(thirdStats.getTotalLevelsCompleted()).isEqualTo(1);
+  }
+
+  private BackgroundJob awaitJob(Long levelId) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + JOB_TIMEOUT_MILLIS;
+    while (System.currentTimeMillis() < deadline) {
+      List<BackgroundJob> jobs = jobRepository.findAll().stream()
+          .filter(job -> job.getJobType() == JobType.STATISTICS_RECOMPUTE)
+          .filter(job -> job.getTargetId().equals(levelId))
+          .toList();
+      if (!jobs.isEmpty() && jobs.stream().noneMatch(job -> job.getStatus().isActive())) {
+        return jobs.stream().max(Comparator.comparing(BackgroundJob::getId)).orElseThrow();
+      }
+      Thread.sleep(POLL_INTERVAL_MILLIS);
+    }
+    throw new AssertionError("Recompute job did not finish in time");
+  }
+
+  private User createPlayer(String nickname) {
+    return userRepository.save(User.builder()
+        .nickname(nickname)
+        .passwordHash("hash")
+        .age(20)
+        .build());
+  }
+
+  private void saveProgress(User user, Level level, int stars) {
+    Progress progress = new Progress();
+    progress.setUser(user);
+    progress.setLevel(level);
+    progress.setKilledEnemiesNumber(1);
+    progress.setSolvedPuzzlesNumber(1);
+    progress.setTimeSpent("00:01:00");
+    progress.setStars(stars);
+    progress.setCreatedAt(LocalDateTime.now());
+    progressRepository.save(progress);
+  }
+
+  private UserStatistics statistics(User user) {
+    return userStatisticsRepository.findByUserId(user.getId()).orElseThrow();
+  }
+
+  private int totalStars(User user) {
+    return statistics(user).getTotalStars();
+  }
+
+  private void cleanUp() {
+    itemRepository.deleteAll();
+    jobRepository.deleteAll();
+    progressRepository.deleteAll();
+    userStatisticsRepository.deleteAll();
+    levelRepository.deleteAll();
+    userRepository.deleteAll();
+  }
+}
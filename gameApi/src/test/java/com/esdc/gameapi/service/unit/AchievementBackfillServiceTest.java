@@ -0,0 +1,288 @@
+package com.esdc.gameapi.service.unit;
+
+import com.esdc.gameapi.config.AsyncExecutors;
+import com.esdc.gameapi.config.DbConcurrencyBudget;
+import com.esdc.gameapi.domain.JobStatus;
+import com.esdc.gameapi.domain.JobType;
+import com.esdc.gameapi.domain.entity.Achievement;
+import com.esdc.gameapi.domain.entity.BackgroundJob;
+import com.esdc.gameapi.domain.entity.User;
+import com.esdc.gameapi.domain.entity.UserStatistics;
+import com.esdc.gameapi.domain.event.AchievementChangedEvent;
+import com.esdc.gameapi.domain.event.ChangeType;
+import com.esdc.gameapi.repository.AchievementRepository;
+import com.esdc.gameapi.repository.LevelRepository;
+import com.esdc.gameapi.repository.UserAchievementRepository;
+import com.esdc.gameapi.repository.UserRepository;
+import com.esdc.gameapi.repository.UserStatisticsRepository;
+import com.esdc.gameapi.service.AchievementBackfillService;
+import com.esdc.gameapi.service.AchievementService;
+import com.esdc.gameapi.service.BackgroundJobService;
+import com.esdc.gameapi.service.ParallelChunkProcessor;
+import com.esdc.gameapi.service.UserDataVersions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Achievement Backfill Service Unit Tests")
+class AchievementBackfillServiceTest {
+
+  private static final int CHUNK_SIZE = 2;
+  private static final int PARALLELISM = 2;
+
+  @Mock
+  private BackgroundJobService jobService;
+
+  @Mock
+  private AchievementRepository achievementRepository;
+
+  @Mock
+  private UserAchievementRepository userAchievementRepository;
+
+  @Mock
+  private UserRepository userRepository;
+
+  @Mock
+  private UserStatisticsRepository statisticsRepository;
+
+  @Mock
+  private LevelRepository levelRepository;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @Mock
+  private AsyncExecutors executors;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private AchievementBackfillService backfillService;
+  private BackgroundJob testJob;
+
+  @BeforeEach
+  void setUp() {
+    AchievementService achievementService = new AchievementService(achievementRepository,
+        userAchievementRepository, userRepository, statisticsRepository, levelRepository,
+        eventPublisher);
+
+    DbConcurrencyBudget dbBudget = new DbConcurrencyBudget(PARALLELISM);
+    ParallelChunkProcessor chunkProcessor = new ParallelChunkProcessor(jobService, executors,
+        dbBudget, transactionManager, CHUNK_SIZE, PARALLELISM);
+
+    backfillService = new AchievementBackfillService(jobService, achievementService,
+        achievementRepository, userAchievementRepository, userRepository, statisticsRepository,
+        chunkProcessor, dbBudget, new UserDataVersions(), transactionManager, CHUNK_SIZE);
+
+    lenient().when(transactionManager.getTransaction(any()))
+        .thenAnswer(invocation -> new SimpleTransactionStatus());
+
+    testJob = BackgroundJob.builder()
+        .id(1L)
+        .jobType(JobType.ACHIEVEMENT_BACKFILL)
+        .targetId(5L)
+        .status(JobStatus.RUNNING)
+        .cursorId(0L)
+        .processedItems(0L)
+        .affectedItems(0L)
+        .build();
+  }
+
+  @Test
+  @DisplayName("Should schedule backfill when achievement created")
+  void shouldScheduleBackfillWhenAchievementCreated() {
+    // Act
+    backfillService.onAchievementChanged(new AchievementChangedEvent(5L, ChangeType.CREATED));
+
+    // Assert
+    verify(jobService, times(1)).schedule(JobType.ACHIEVEMENT_BACKFILL, 5L);
+    verify(jobService, never()).cancel(any(), any());
+  }
+
+  @Test
+  @DisplayName("Should cancel backfill when achievement deleted")
+  void shouldCancelBackfillWhenAchievementDeleted() {
+    // Act
+    backfillService.onAchievementChanged(new AchievementChangedEvent(5L, ChangeType.DELETED));
+
+    // Assert
+    verify(jobService, times(1)).cancel(JobType.ACHIEVEMENT_BACKFILL, 5L);
+    verify(jobService, never()).schedule(any(), any());
+  }
+
+  @Test
+  @DisplayName("Should finish immediately when achievement no longer exists")
+  void shouldFinishWhenAchievementMissing() {
+    // Arrange
+    when(achievementRepository.findById(5L)).thenReturn(Optional.empty());
+
+    // Act
+    boolean finished = backfillService.run(testJob);
+
+    // Assert
+    assertThat(finished).isTrue();
+    verifyNoInteractions(userAchievementRepository);
+  }
+
+  @Test
+  @DisplayName("Should grant statistics-based achievement chunk by chunk in SQL")
+  @SuppressWarnings("unchecked")
+  void shouldGrantStatisticsAchievementInChunks() {
+    // Arrange
+    mockAchievement("Complete 10 levels");
+    when(userRepository.findIdsAfter(0L, PageRequest.of(0, CHUNK_SIZE)))
+        .thenReturn(List.of(1L, 2L));
+    when(userRepository.findIdsAfter(2L, PageRequest.of(0, CHUNK_SIZE)))
+        .thenReturn(List.of(4L));
+    when(userRepository.findIdsAfter(4L, PageRequest.of(0, CHUNK_SIZE)))
+        .thenReturn(Collections.emptyList());
+    when(userAchievementRepository.grantToEligibleUsers(eq(5L), anyString(), anyMap()))
+        .thenReturn(1, 0);
+    when(jobService.advance(eq(1L), anyLong(), anyLong(), anyLong())).thenReturn(true);
+
+    // Act
+    boolean finished = backfillService.run(testJob);
+
+    // Assert
+    assertThat(finished).isTrue();
+
+    ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+    ArgumentCaptor<Map<String, Object>> params = ArgumentCaptor.forClass(Map.class);
+    verify(userAchievementRepository, times(2))
+        .grantToEligibleUsers(eq(5L), sql.capture(), params.capture());
+    assertThat(sql.getValue()).contains("users_statistics", "total_levels_completed");
+    assertThat(params.getAllValues().get(0)).containsEntry("fromUserId", 0L)
+        .containsEntry("toUserId", 2L)
+        .containsEntry("requiredValue", 10);
+    assertThat(params.getAllValues().get(1)).containsEntry("fromUserId", 2L)
+        .containsEntry("toUserId", 4L);
+
+    verify(jobService).advance(1L, 2L, 2L, 1L);
+    verify(jobService).advance(1L, 4L, 1L, 0L);
+  }
+
+  @Test
+  @DisplayName("Should resume from stored cursor")
+  void shouldResumeFromStoredCursor() {
+    // Arrange
+    testJob.setCursorId(40L);
+    mockAchievement("Kill 100 enemies");
+    when(userRepository.findIdsAfter(40L, PageRequest.of(0, CHUNK_SIZE)))
+        .thenReturn(Collections.emptyList());
+
+    // Act
+    boolean finished = backfillService.run(testJob);
+
+    // Assert
+    assertThat(finished).isTrue();
+    verify(userRepository, never()).findIdsAfter(eq(0L), any());
+  }
+
+  @Test
+  @DisplayName("Should stop when job was cancelled during chunk")
+  void shouldStopWhenJobCancelled() {
+    // Arrange
+    mockAchievement("Collect 3 stars in one level");
+    when(userRepository.findIdsAfter(0L, PageRequest.of(0, CHUNK_SIZE)))
+        .thenReturn(List.of(1L, 2L));
+    when(jobService.advance(eq(1L), anyLong(), anyLong(), anyLong())).thenReturn(false);
+
+    // Act
+    boolean finished = backfillService.run(testJob);
+
+    // Assert
+    assertThat(finished).isFalse();
+    verify(transactionManager).commit(argThat(TransactionStatus::isRollbackOnly));
+    verify(userRepository, never()).findIdsAfter(eq(2L), any());
+  }
+
+  @Test
+  @DisplayName("Should translate level time limit into stored time format")
+  @SuppressWarnings("unchecked")
+  void shouldTranslateLevelTimeCondition() {
+    // Arrange
+    mockAchievement("Complete level under 90 seconds");
+    when(userRepository.findIdsAfter(0L, PageRequest.of(0, CHUNK_SIZE)))
+        .thenReturn(List.of(1L));
+    when(userRepository.findIdsAfter(1L, PageRequest.of(0, CHUNK_SIZE)))
+        .thenReturn(Collections.emptyList());
+    when(jobService.advance(eq(1L), anyLong(), anyLong(), anyLong())).thenReturn(true);
+
+    // Act
+    backfillService.run(testJob);
+
+    // Assert
+    ArgumentCaptor<Map<String, Object>> params = ArgumentCaptor.forClass(Map.class);
+    verify(userAchievementRepository)
+        .grantToEligibleUsers(eq(5L), contains("time_spent"), params.capture());
+    assertThat(params.getValue()).containsEntry("requiredValue", "00:01:30");
+  }
+
+  @Test
+  @DisplayName("Should evaluate total time achievement in parallel chunks")
+  @SuppressWarnings("unchecked")
+  void shouldEvaluateTotalTimeInParallelChunks() {
+    // Arrange
+    mockAchievement("Play for 60 minutes");
+    when(executors.workers()).thenReturn(new SyncTaskExecutor());
+    when(userRepository.findIdsAfter(0L, PageRequest.of(0, CHUNK_SIZE * PARALLELISM)))
+        .thenReturn(List.of(1L, 2L, 3L));
+    when(userRepository.findIdsAfter(3L, PageRequest.of(0, CHUNK_SIZE * PARALLELISM)))
+        .thenReturn(Collections.emptyList());
+    when(statisticsRepository.findByUserIdRange(0L, 2L))
+        .thenReturn(List.of(stats(1L, "01:30:00"), stats(2L, "00:20:00")));
+    when(statisticsRepository.findByUserIdRange(2L, 3L))
+        .thenReturn(List.of(stats(3L, "01:05:00")));
+    when(userAchievementRepository.grantToUsers(eq(5L), anyCollection()))
+        .thenAnswer(invocation -> ((Collection<Long>) invocation.getArgument(1)).size());
+    when(jobService.advance(eq(1L), anyLong(), anyLong(), anyLong())).thenReturn(true);
+
+    // Act
+    boolean finished = backfillService.run(testJob);
+
+    // Assert
+    assertThat(finished).isTrue();
+    verify(userAchievementRepository).grantToUsers(5L, List.of(1L));
+    verify(userAchievementRepository).grantToUsers(5L, List.of(3L));
+    verify(jobService).advance(1L, 3L, 3L, 2L);
+    verify(userAchievementRepository, never())
+        .grantToEligibleUsers(anyLong(), anyString(), anyMap());
+  }
+
+  private void mockAchievement(String description) {
+    when(achievementRepository.findById(5L)).thenReturn(Optional.of(Achievement.builder()
+        .id(5L)
+        .achievementName("Test Achievement")
+        .achievementDescription(description)
+        .build()));
+  }
+
+  private UserStatistics stats(Long userId, String totalTimePlayed) {
+    UserStatistics stats = new UserStatistics(User.builder().id(userId).build());
+    stats.setTotalTimePlayed(totalTimePlayed);
+    return stats;
+  }
+}
@@ -3,6 +3,9 @@ package com.esdc.gameapi.service.unit;
 import com.esdc.gameapi.domain.dto.AchievementDto;
 import com.esdc.gameapi.domain.dto.UserAchievementDto;
 import com.esdc.gameapi.domain.entity.*;
+import com.esdc.gameapi.domain.event.AchievementChangedEvent;
+import com.esdc.gameapi.domain.event.AchievementUnlockedEvent;
+import com.esdc.gameapi.domain.event.ChangeType;
 import com.esdc.gameapi.exception.ResourceNotFoundException;
 import com.esdc.gameapi.repository.*;
 import com.esdc.gameapi.service.AchievementService;
@@ -14,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -46,6 +50,9 @@ class AchievementServiceTest {
   @Mock
   private LevelRepository levelRepository;
 
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
   @InjectMocks
   private AchievementService achievementService;
 
@@ -198,6 +205,7 @@ class AchievementServiceTest {
     assertThat(result.getId()).isEqualTo(2L);
     assertThat(result.getAchievementName()).isEqualTo("Speed Runner");
     verify(achievementRepository, times(1)).save(any(Achievement.class));
+    verify(eventPublisher).publishEvent(new AchievementChangedEvent(2L, ChangeType.CREATED));
   }
 
   @Test
@@ -227,6 +235,7 @@ class AchievementServiceTest {
     assertThat(result.getAchievementDescription()).isEqualTo("Updated description");
     verify(achievementRepository, times(1)).findById(1L);
     verify(achievementRepository, times(1)).save(any(Achievement.class));
+    verify(eventPublisher).publishEvent(new AchievementChangedEvent(1L, ChangeType.UPDATED));
   }
 
   @Test
@@ -248,6 +257,7 @@ class AchievementServiceTest {
 
     verify(achievementRepository, times(1)).findById(999L);
     verify(achievementRepository, never()).save(any(Achievement.class));
+    verifyNoInteractions(eventPublisher);
   }
 
   @Test
@@ -264,6 +274,7 @@ class AchievementServiceTest {
     // Assert
     verify(achievementRepository, times(1)).findById(1L);
     verify(achievementRepository, times(1)).delete(testAchievement);
+    verify(eventPublisher).publishEvent(new AchievementChangedEvent(1L, ChangeType.DELETED));
   }
 
   @Test
@@ -308,6 +319,9 @@ class AchievementServiceTest {
     assertThat(result).hasSize(1);
     assertThat(result.getFirst().getAchievementName()).isEqualTo("Explorer");
     verify(userAchievementRepository, times(1)).save(any(UserAchievement.class));
+    verify(eventPublisher).publishEvent(argThat((Object event) ->
+        event instanceof AchievementUnlockedEvent unlocked
+            && unlocked.userId().equals(1L) && unlocked.achievementId().equals(2L)));
   }
 
   @Test
@@ -0,0 +1,245 @@
+package com.esdc.gameapi.service.unit;
+
+import com.esdc.gameapi.config.AsyncExecutors;
+import com.esdc.gameapi.domain.JobStatus;
+import com.esdc.gameapi.domain.JobType;
+import com.esdc.gameapi.domain.dto.BackgroundJobDto;
+import com.esdc.gameapi.domain.entity.BackgroundJob;
+import com.esdc.gameapi.domain.event.BackgroundJobEnqueuedEvent;
+import com.esdc.gameapi.exception.ResourceNotFoundException;
+import com.esdc.gameapi.repository.BackgroundJobItemRepository;
+import com.esdc.gameapi.repository.BackgroundJobRepository;
+import com.esdc.gameapi.service.BackgroundJobRunner;
+import com.esdc.gameapi.service.BackgroundJobService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Background Job Service Unit Tests")
+class BackgroundJobServiceTest {
+
+  @Mock
+  private BackgroundJobRepository jobRepository;
+
+  @Mock
+  private BackgroundJobItemRepository itemRepository;
+
+  @Mock
+  private ObjectProvider<BackgroundJobRunner> runners;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @Mock
+  private BackgroundJobRunner runner;
+
+  @Mock
+  private AsyncExecutors executors;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private BackgroundJobService jobService;
+  private BackgroundJob testJob;
+
+  @BeforeEach
+  void setUp() {
+    jobService = new BackgroundJobService(jobRepository, itemRepository, runners, eventPublisher,
+        executors, transactionManager);
+
+    lenient().when(transactionManager.getTransaction(any()))
+        .thenAnswer(invocation -> new SimpleTransactionStatus());
+    lenient().when(executors.jobs()).thenReturn(new SyncTaskExecutor());
+    lenient().when(runners.orderedStream()).thenAnswer(invocation -> Stream.of(runner));
+    lenient().when(runner.getJobType()).thenReturn(JobType.ACHIEVEMENT_BACKFILL);
+
+    testJob = BackgroundJob.builder()
+        .id(1L)
+        .jobType(JobType.ACHIEVEMENT_BACKFILL)
+        .targetId(5L)
+        .status(JobStatus.PENDING)
+        .cursorId(0L)
+        .processedItems(0L)
+        .affectedItems(0L)
+        .build();
+  }
+
+  @Test
+  @DisplayName("Should schedule job and run it to completion")
+  void shouldScheduleAndCompleteJob() {
+    // Arrange
+    when(jobRepository.findByJobTypeAndTargetIdAndStatusIn(
+        eq(JobType.ACHIEVEMENT_BACKFILL), eq(5L), anyCollection()))
+        .thenReturn(Collections.emptyList());
+    when(jobRepository.save(any(BackgroundJob.class))).thenAnswer(invocation -> {
+      BackgroundJob job = invocation.getArgument(0);
+      if (job.getId() == null) {
+        job.setId(1L);
+        testJob = job;
+      }
+      return job;
+    });
+    when(jobRepository.findById(1L)).thenAnswer(invocation -> Optional.of(testJob));
+    when(runner.estimateTotal(any())).thenReturn(10L);
+    when(runner.run(any())).thenReturn(true);
+
+    // Act
+    BackgroundJobDto result = jobService.schedule(JobType.ACHIEVEMENT_BACKFILL, 5L);
+
+    // Assert
+    assertThat(result.getId()).isEqualTo(1L);
+    assertThat(testJob.getStatus()).isEqualTo(JobStatus.COMPLETED);
+    assertThat(testJob.getTotalItems()).isEqualTo(10L);
+    assertThat(testJob.getStartedAt()).isNotNull();
+    assertThat(testJob.getFinishedAt()).isNotNull();
+    verify(runner, times(1)).run(testJob);
+    verify(itemRepository, times(1)).deleteByJobId(1L);
+  }
+
+  @Test
+  @DisplayName("Should cancel active job for the same target before scheduling")
+  void shouldCancelActiveJobBeforeScheduling() {
+    // Arrange
+    testJob.setStatus(JobStatus.RUNNING);
+    when(jobRepository.findByJobTypeAndTargetIdAndStatusIn(
+        eq(JobType.ACHIEVEMENT_BACKFILL), eq(5L), anyCollection()))
+        .thenReturn(List.of(testJob));
+    when(jobRepository.save(any(BackgroundJob.class))).thenAnswer(invocation -> {
+      BackgroundJob job = invocation.getArgument(0);
+      job.setId(2L);
+      return job;
+    });
+
+    // Act
+    jobService.schedule(JobType.ACHIEVEMENT_BACKFILL, 5L);
+
+    // Assert
+    assertThat(testJob.getStatus()).isEqualTo(JobStatus.CANCELLED);
+    assertThat(testJob.getFinishedAt()).isNotNull();
+    verify(itemRepository, times(1)).deleteByJobId(1L);
+  }
+
+  @Test
+  @DisplayName("Should enqueue job and start it only after commit")
+  void shouldEnqueueJobAndStartAfterCommit() {
+    // Arrange
+    when(jobRepository.findByJobTypeAndTargetIdAndStatusIn(
+        eq(JobType.STATISTICS_RECOMPUTE), eq(7L), anyCollection()))
+        .thenReturn(Collections.emptyList());
+    when(jobRepository.save(any(BackgroundJob.class))).thenAnswer(invocation -> {
+      BackgroundJob job = invocation.getArgument(0);
+      job.setId(3L);
+      return job;
+    });
+
+    // Act
+    BackgroundJob job = jobService.enqueue(JobType.STATISTICS_RECOMPUTE, 7L);
+
+    // Assert
+    assertThat(job.getStatus()).isEqualTo(JobStatus.PENDING);
+    verify(eventPublisher).publishEvent(new BackgroundJobEnqueuedEvent(3L));
+    verify(executors, never()).jobs();
+  }
+
+  @Test
+  @DisplayName("Should mark job as failed when runner throws")
+  void shouldMarkJobFailedWhenRunnerThrows() {
+    // Arrange
+    when(jobRepository.findByStatusInOrderByIdAsc(anyCollection())).thenReturn(List.of(testJob));
+    when(jobRepository.findById(1L)).thenReturn(Optional.of(testJob));
+    when(jobRepository.save(testJob)).thenReturn(testJob);
+    when(runner.run(testJob)).thenThrow(new IllegalStateException("Database unavailable"));
+
+    // Act
+    jobService.resumeActiveJobs();
+
+    // Assert
+    assertThat(testJob.getStatus()).isEqualTo(JobStatus.FAILED);
+    assertThat(testJob.getErrorMessage()).isEqualTo("Database unavailable");
+  }
+
+  @Test
+  @DisplayName("Should resume active jobs from stored cursor")
+  void shouldResumeActiveJobs() {
+    // Arrange
+    testJob.setStatus(JobStatus.RUNNING);
+    testJob.setCursorId(100L);
+    when(jobRepository.findByStatusInOrderByIdAsc(anyCollection())).thenReturn(List.of(testJob));
+    when(jobRepository.findById(1L)).thenReturn(Optional.of(testJob));
+    when(jobRepository.save(testJob)).thenReturn(testJob);
+    when(runner.run(testJob)).thenReturn(true);
+
+    // Act
+    jobService.resumeActiveJobs();
+
+    // Assert
+    verify(runner).run(argThat(job -> job.getCursorId() == 100L));
+    assertThat(testJob.getStatus()).isEqualTo(JobStatus.COMPLETED);
+  }
+
+  @Test
+  @DisplayName("Should skip job that is no longer active")
+  void shouldSkipInactiveJob() {
+    // Arrange
+    testJob.setStatus(JobStatus.CANCELLED);
+    when(jobRepository.findByStatusInOrderByIdAsc(anyCollection())).thenReturn(List.of(testJob));
+    when(jobRepository.findById(1L)).thenReturn(Optional.of(testJob));
+
+    // Act
+    jobService.resumeActiveJobs();
+
+    // Assert
+    verify(runner, never()).run(any());
+    assertThat(testJob.getStatus()).isEqualTo(JobStatus.CANCELLED);
+  }
+
+  @Test
+  @DisplayName("Should calculate progress percentage")
+  void shouldCalculateProgressPercentage() {
+    // Arrange
+    testJob.setStatus(JobStatus.RUNNING);
+    testJob.setTotalItems(3L);
+    testJob.setProcessedItems(1L);
+    when(jobRepository.findById(1L)).thenReturn(Optional.of(testJob));
+
+    // Act
+    BackgroundJobDto result = jobService.getJob(1L);
+
+    // Assert
+    assertThat(result.getStatus()).isEqualTo("RUNNING");
+    assertThat(result.getProgressPercentage()).isEqualTo(33.33);
+  }
+
+  @Test
+  @DisplayName("Should throw exception when job not found")
+  void shouldThrowExceptionWhenJobNotFound() {
+    // Arrange
+    when(jobRepository.findById(999L)).thenReturn(Optional.empty());
+
+    // Act & Assert
+    assertThatThrownBy(() -> jobService.getJob(999L))
+        .isInstanceOf(ResourceNotFoundException.class)
+        .hasMessageContaining("Job");
+  }
+}
@@ -2,18 +2,26 @@ package com.esdc.gameapi.service.unit;
 
 import com.esdc.gameapi.domain.dto.LevelDto;
 import com.esdc.gameapi.domain.entity.Level;
+import com.esdc.gameapi.domain.event.ChangeType;
+import com.esdc.gameapi.domain.event.LevelChangedEvent;
 import com.esdc.gameapi.exception.ResourceNotFoundException;
 import com.esdc.gameapi.repository.LevelRepository;
+import com.esdc.gameapi.repository.ProgressRepository;
+import com.esdc.gameapi.service.MissingResourceCache;
 import com.esdc.gameapi.service.LevelService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -31,6 +39,16 @@ class LevelServiceTest {
   @Mock
   private LevelRepository levelRepository;
 
+  @Mock
+  private ProgressRepository progressRepository;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @Spy
+  private MissingResourceCache missingResources =
+      new MissingResourceCache(Duration.ofSeconds(10), 100);
+
   @InjectMocks
   private LevelService levelService;
 
@@ -203,6 +221,28 @@ class LevelServiceTest {
     assertThat(result.getBossOnLevel()).isFalse();
     verify(levelRepository, times(1)).findById(1L);
     verify(levelRepository, times(1)).save(any(Level.class));
+    verify(eventPublisher).publishEvent(new LevelChangedEvent(1L, ChangeType.UPDATED, true));
+  }
+
+  @Test
+  @Tag("unit")
+  @DisplayName("Should report unchanged stars when updating other level fields")
+  void shouldReportUnchangedStarsOnUpdate() {
+    // Arrange
+    LevelDto updateDto = LevelDto.builder()
+        .levelName("Renamed Level")
+        .starsOnLevel(3)
+        .bossOnLevel(true)
+        .build();
+
+    when(levelRepository.findById(1L)).thenReturn(Optional.of(testLevel));
+    when(levelRepository.save(any(Level.class))).thenReturn(testLevel);
+
+    // Act
+    levelService.updateLevel(1L, updateDto);
+
+    // Assert
+    verify(eventPublisher).publishEvent(new LevelChangedEvent(1L, ChangeType.UPDATED, false));
   }
 
   @Test
@@ -236,6 +276,25 @@ class LevelServiceTest {
     verify(levelRepository, times(1)).delete(testLevel);
   }
 
+  @Test
+  @Tag("unit")
+  @DisplayName("Should publish deletion before removing level progress")
+  void shouldPublishDeletionBeforeRemovingProgress() {
+    // Arrange
+    when(levelRepository.findById(1L)).thenReturn(Optional.of(testLevel));
+    when(progressRepository.deleteByLevelId(1L)).thenReturn(4);
+
+    // Act
+    levelService.deleteLevel(1L);
+
+    // Assert
+    InOrder inOrder = inOrder(eventPublisher, progressRepository, levelRepository);
+    inOrder.verify(eventPublisher)
+        .publishEvent(new LevelChangedEvent(1L, ChangeType.DELETED, true));
+    inOrder.verify(progressRepository).deleteByLevelId(1L);
+    inOrder.verify(levelRepository).delete(testLevel);
+  }
+
   @Test
   @Tag("unit")
   @DisplayName("Should throw exception when deleting non-existent level")
@@ -0,0 +1,152 @@
+package com.esdc.gameapi.service.unit;
+
+import com.esdc.gameapi.domain.event.ChangeType;
+import com.esdc.gameapi.domain.event.LevelChangedEvent;
+import com.esdc.gameapi.domain.event.UserRegisteredEvent;
+import com.esdc.gameapi.domain.event.UserStatisticsChangedEvent;
+import com.esdc.gameapi.exception.ResourceNotFoundException;
+import com.esdc.gameapi.service.MissingResourceCache;
+import com.esdc.gameapi.service.MissingResourceCache.Kind;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Tag("unit")
+@DisplayName("Missing Resource Cache Tests")
+class MissingResourceCacheTest {
+
+  private static final int MAX_ENTRIES = 2;
+
+  private MissingResourceCache cache;
+  private SimpleMeterRegistry registry;
+  private AtomicInteger lookups;
+
+  @BeforeEach
+  void setUp() {
+    cache = new MissingResourceCache(Duration.ofMinutes(1), MAX_ENTRIES);
+    registry = new SimpleMeterRegistry();
+    cache.bindTo(registry);
+    lookups = new AtomicInteger();
+  }
+
+  @Test
+  @DisplayName("Should answer repeated lookups of missing ID without querying")
+  void shouldCacheMissingId() {
+    // Act
+    for (int i = 0; i < 3; i++) {
+      assertThatThrownBy(() -> cache.require(Kind.USER, 1L, missing()))
+          .isInstanceOf(ResourceNotFoundException.class)
+          .hasMessage("User not found with id: '1'");
+    }
+
+    // Assert
+    assertThat(lookups.get()).isEqualTo(1);
+    assertThat(registry.get("missing.cache.hits").counter().count()).isEqualTo(2);
+    assertThat(registry.get("missing.cache.misses").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should throw not found exception without stack trace")
+  void shouldThrowStacklessException() {
+    // Act & Assert
+    assertThatThrownBy(() -> cache.require(Kind.LEVEL, 1L, missing()))
+        .isInstanceOfSatisfying(ResourceNotFoundException.class,
+            ex -> assertThat(ex.getStackTrace()).isEmpty());
+  }
+
+  @Test
+  @DisplayName("Should keep kinds apart and not cache found resources")
+  void shouldKeepKindsApart() {
+    // Act
+    cache.find(Kind.USER, 1L, missing());
+    Optional<String> level = cache.find(Kind.LEVEL, 1L, found());
+    cache.find(Kind.LEVEL, 1L, found());
+
+    // Assert
+    assertThat(level).contains("value");
+    assertThat(lookups.get()).isEqualTo(3);
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should forget missing IDs when resources are created")
+  void shouldInvalidateOnCreation() {
+    // Arrange
+    cache.find(Kind.USER, 1L, missing());
+    cache.find(Kind.LEVEL, 2L, missing());
+    cache.find(Kind.STATISTICS, 3L, missing());
+
+    // Act
+    cache.onUserRegistered(new UserRegisteredEvent(1L));
+    cache.onLevelChanged(new LevelChangedEvent(2L, ChangeType.CREATED, false));
+    cache.onStatisticsChanged(new UserStatisticsChangedEvent(3L, null,
+        new UserStatisticsChangedEvent.Snapshot(1, 1, 0, 60), null));
+
+    // Assert
+    assertThat(cache.size()).isZero();
+    assertThat(cache.find(Kind.USER, 1L, found())).isPresent();
+  }
+
+  @Test
+  @DisplayName("Should stop caching when full and expire entries after TTL")
+  void shouldBoundAndExpireEntries() throws InterruptedException {
+    // Arrange
+    MissingResourceCache shortLived = new MissingResourceCache(Duration.ofMillis(20), MAX_ENTRIES);
+
+    // Act
+    for (long id = 1; id <= MAX_ENTRIES + 1; id++) {
+      shortLived.find(Kind.USER, id, missing());
+    }
+    int sizeWhenFull = shortLived.size();
+    Thread.sleep(40);
+    shortLived.find(Kind.USER, 1L, missing());
+
+    // Assert
+    assertThat(sizeWhenFull).isEqualTo(MAX_ENTRIES);
+    assertThat(lookups.get()).isEqualTo(MAX_ENTRIES + 2);
+  }
+
+  @Test
+  @DisplayName("Should bypass cache inside write transaction")
+  void shouldBypassInsideWriteTransaction() {
+    // Arrange
+    TransactionSynchronizationManager.setActualTransactionActive(true);
+
+    // Act
+    try {
+      cache.find(Kind.USER, 1L, missing());
+      cache.find(Kind.USER, 1L, missing());
+    } finally {
+      TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    // Assert
+    assertThat(lookups.get()).isEqualTo(2);
+    assertThat(cache.size()).isZero();
+  }
+
+  private Supplier<Optional<String>> missing() {
+    return () -> {
+      lookups.incrementAndGet();
+      return Optional.empty();
+    };
+  }
+
+  private Supplier<Optional<String>> found() {
+    return () -> {
+      lookups.incrementAndGet();
+      return Optional.of("value");
+    };
+  }
+}
@@ -0,0 +1,146 @@
+package com.esdc.gameapi.service.unit;
+
+import com.esdc.gameapi.domain.event.AchievementChangedEvent;
+import com.esdc.gameapi.domain.event.AchievementUnlockedEvent;
+import com.esdc.gameapi.domain.event.ChangeType;
+import com.esdc.gameapi.domain.event.LevelChangedEvent;
+import com.esdc.gameapi.domain.event.ProgressCreatedEvent;
+import com.esdc.gameapi.service.PipelineMetrics;
+import com.esdc.gameapi.service.PipelineMetrics.RecomputeMode;
+import com.esdc.gameapi.service.PipelineMetrics.Stage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+@Tag("unit")
+@DisplayName("Pipeline Metrics Tests")
+class PipelineMetricsTest {
+
+  private static final int MAX_TAGGED_IDS = 2;
+
+  private PipelineMetrics metrics;
+  private SimpleMeterRegistry registry;
+
+  @BeforeEach
+  void setUp() {
+    metrics = new PipelineMetrics(MAX_TAGGED_IDS);
+    registry = new SimpleMeterRegistry();
+    metrics.bindTo(registry);
+  }
+
+  @Test
+  @DisplayName("Should register timer for every stage up front")
+  void shouldRegisterStageTimers() {
+    // Act
+    metrics.recordStage(Stage.PERSIST, System.nanoTime());
+
+    // Assert
+    assertThat(registry.find("progress.pipeline.stage").timers()).hasSize(Stage.values().length);
+    assertThat(registry.get("progress.pipeline.stage").tag("stage", "persist").timer().count())
+        .isEqualTo(1);
+    assertThat(registry.get("progress.pipeline.stage").tag("stage", "validate").timer().count())
+        .isZero();
+  }
+
+  @Test
+  @DisplayName("Should record progress rows per recompute mode")
+  void shouldRecordRecomputeRows() {
+    // Act
+    metrics.recordRecompute(RecomputeMode.SINGLE, 3);
+    metrics.recordRecompute(RecomputeMode.BATCH, 40);
+    metrics.recordRecompute(RecomputeMode.BATCH, 60);
+
+    // Assert
+    assertThat(registry.get("statistics.recompute.rows").tag("mode", "single").summary()
+        .totalAmount()).isEqualTo(3);
+    assertThat(registry.get("statistics.recompute.rows").tag("mode", "batch").summary()
+        .count()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("Should count submissions per level")
+  void shouldCountSubmissionsPerLevel() {
+    // Act
+    metrics.onProgressCreated(progressCreated(1L));
+    metrics.onProgressCreated(progressCreated(1L));
+    metrics.onProgressCreated(progressCreated(2L));
+
+    // Assert
+    assertThat(registry.get("progress.submissions").tag("level", "1").counter().count())
+        .isEqualTo(2);
+    assertThat(registry.get("progress.submissions").tag("level", "2").counter().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should count IDs over the cap as other")
+  void shouldCapTaggedIds() {
+    // Act
+    metrics.onAchievementUnlocked(unlocked(1L));
+    metrics.onAchievementUnlocked(unlocked(2L));
+    metrics.onAchievementUnlocked(unlocked(3L));
+    metrics.onAchievementUnlocked(unlocked(4L));
+    metrics.onAchievementUnlocked(unlocked(1L));
+
+    // Assert
+    assertThat(registry.find("achievements.unlocked").counters()).hasSize(3);
+    assertThat(registry.get("achievements.unlocked").tag("achievement", "1").counter().count())
+        .isEqualTo(2);
+    assertThat(registry.get("achievements.unlocked").tag("achievement", "other").counter()
+        .count()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("Should remove counter and free tag slot of deleted catalog entry")
+  void shouldForgetDeletedEntries() {
+    // Arrange
+    metrics.onProgressCreated(progressCreated(1L));
+    metrics.onProgressCreated(progressCreated(2L));
+    metrics.onAchievementUnlocked(unlocked(5L));
+
+    // Act
+    metrics.onLevelChanged(new LevelChangedEvent(1L, ChangeType.DELETED, false));
+    metrics.onLevelChanged(new LevelChangedEvent(2L, ChangeType.UPDATED, true));
+    metrics.onAchievementChanged(new AchievementChangedEvent(5L, ChangeType.DELETED));
+    metrics.onProgressCreated(progressCreated(3L));
+
+    // Assert
+    assertThat(registry.find("progress.submissions").tag("level", "1").counter()).isNull();
+    assertThat(registry.get("progress.submissions").tag("level", "2").counter().count())
+        .isEqualTo(1);
+    assertThat(registry.get("progress.submissions").tag("level", "3").counter().count())
+        .isEqualTo(1);
+    assertThat(registry.find("achievements.unlocked").counters()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Should ignore records before binding")
+  void shouldIgnoreRecordsBeforeBinding() {
+    // Arrange
+    PipelineMetrics unbound = new PipelineMetrics(MAX_TAGGED_IDS);
+
+    // Act & Assert
+    assertThatCode(() -> {
+      unbound.recordStage(Stage.STATS, System.nanoTime());
+      unbound.recordRecompute(RecomputeMode.SINGLE, 1);
+      unbound.onProgressCreated(progressCreated(1L));
+      unbound.onAchievementUnlocked(unlocked(1L));
+    }).doesNotThrowAnyException();
+  }
+
+  private ProgressCreatedEvent progressCreated(Long levelId) {
+    return new ProgressCreatedEvent(10L, "player", levelId, "00:01:00", LocalDateTime.now());
+  }
+
+  private AchievementUnlockedEvent unlocked(Long achievementId) {
+    return new AchievementUnlockedEvent(10L, achievementId, "Name", "Description",
+        LocalDateTime.now());
+  }
+}
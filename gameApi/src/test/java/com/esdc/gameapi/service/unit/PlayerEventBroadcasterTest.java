@@ -0,0 +1,177 @@
+package com.esdc.gameapi.service.unit;
+
+import com.esdc.gameapi.config.AsyncExecutors;
+import com.esdc.gameapi.domain.dto.UserStatisticsDto;
+import com.esdc.gameapi.domain.event.AchievementUnlockedEvent;
+import com.esdc.gameapi.domain.event.UserDeletedEvent;
+import com.esdc.gameapi.domain.event.UserStatisticsChangedEvent;
+import com.esdc.gameapi.exception.ServiceUnavailableException;
+import com.esdc.gameapi.service.PlayerEventBroadcaster;
+import com.esdc.gameapi.service.PlayerEventBroadcaster.OverflowPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.lenient;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Player Event Broadcaster Tests")
+class PlayerEventBroadcasterTest {
+
+  private static final int BUFFER_SIZE = 2;
+
+  @Mock
+  private AsyncExecutors executors;
+
+  private final List<Runnable> pendingDrains = new ArrayList<>();
+  private SimpleMeterRegistry registry;
+
+  @BeforeEach
+  void setUp() {
+    // Drains are queued but never run, as if the client stopped reading
+    lenient().when(executors.events()).thenReturn(pendingDrains::add);
+    registry = new SimpleMeterRegistry();
+  }
+
+  @Test
+  @DisplayName("Should disconnect subscriber whose buffer overflows")
+  void shouldDisconnectSlowSubscriber() {
+    // Arrange
+    PlayerEventBroadcaster broadcaster = broadcaster(OverflowPolicy.DISCONNECT, 10);
+    broadcaster.subscribe(1L);
+
+    // Act
+    for (int i = 0; i < BUFFER_SIZE + 1; i++) {
+      broadcaster.onStatisticsChanged(statisticsChanged(1L, i));
+    }
+
+    // Assert
+    assertThat(broadcaster.subscriberCount()).isZero();
+    assertThat(registry.get("player.events.slow.disconnects").counter().count()).isEqualTo(1);
+    assertThat(pendingDrains).hasSize(1);
+  }
+
+  @Test
+  @DisplayName("Should stream statistics as the API returns them")
+  void shouldStreamStatisticsDto() {
+    // Arrange
+    PlayerEventBroadcaster broadcaster = broadcaster(OverflowPolicy.DISCONNECT, 10);
+    SseEmitter emitter = broadcaster.subscribe(1L);
+
+    // Act
+    broadcaster.onStatisticsChanged(statisticsChanged(1L, 3));
+    pendingDrains.forEach(Runnable::run);
+
+    // Assert
+    // Sent before the emitter is bound to a response, so Spring holds them as early sends
+    @SuppressWarnings("unchecked")
+    Set<ResponseBodyEmitter.DataWithMediaType> sent = (Set<ResponseBodyEmitter.DataWithMediaType>)
+        ReflectionTestUtils.getField(emitter, "earlySendAttempts");
+    assertThat(sent).extracting(ResponseBodyEmitter.DataWithMediaType::getData)
+        .filteredOn(UserStatisticsDto.class::isInstance)
+        .singleElement()
+        .usingRecursiveComparison()
+        .isEqualTo(UserStatisticsDto.builder()
+            .totalLevelsCompleted(1)
+            .totalTimePlayed("00:01:00")
+            .totalKilledEnemies(0)
+            .totalSolvedPuzzles(2)
+            .totalStars(3)
+            .build());
+  }
+
+  @Test
+  @DisplayName("Should drop oldest events and keep subscriber")
+  void shouldDropOldestEvents() {
+    // Arrange
+    PlayerEventBroadcaster broadcaster = broadcaster(OverflowPolicy.DROP_OLDEST, 10);
+    broadcaster.subscribe(1L);
+
+    // Act
+    for (int i = 0; i < BUFFER_SIZE + 3; i++) {
+      broadcaster.onAchievementUnlocked(new AchievementUnlockedEvent(1L, (long) i, "Name",
+          "Complete level 1", LocalDateTime.now()));
+    }
+
+    // Assert
+    assertThat(broadcaster.subscriberCount()).isEqualTo(1);
+    assertThat(registry.get("player.events.dropped").counter().count()).isEqualTo(4);
+  }
+
+  @Test
+  @DisplayName("Should not buffer events of other players")
+  void shouldIgnoreOtherPlayers() {
+    // Arrange
+    PlayerEventBroadcaster broadcaster = broadcaster(OverflowPolicy.DISCONNECT, 10);
+    broadcaster.subscribe(1L);
+
+    // Act
+    for (int i = 0; i < BUFFER_SIZE + 1; i++) {
+      broadcaster.onStatisticsChanged(statisticsChanged(2L, i));
+    }
+
+    // Assert
+    assertThat(broadcaster.subscriberCount()).isEqualTo(1);
+    assertThat(registry.get("player.events.dropped").counter().count()).isZero();
+  }
+
+  @Test
+  @DisplayName("Should reject subscribers over the limit")
+  void shouldRejectSubscribersOverLimit() {
+    // Arrange
+    PlayerEventBroadcaster broadcaster = broadcaster(OverflowPolicy.DISCONNECT, 1);
+    broadcaster.subscribe(1L);
+
+    // Act & Assert
+    assertThatThrownBy(() -> broadcaster.subscribe(2L))
+        .isInstanceOf(ServiceUnavailableException.class);
+    assertThat(broadcaster.subscriberCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should close streams of deleted user")
+  void shouldCloseStreamsOfDeletedUser() {
+    // Arrange
+    PlayerEventBroadcaster broadcaster = broadcaster(OverflowPolicy.DISCONNECT, 10);
+    broadcaster.subscribe(1L);
+    broadcaster.subscribe(1L);
+    broadcaster.subscribe(2L);
+
+    // Act
+    broadcaster.onUserDeleted(new UserDeletedEvent(1L, null));
+
+    // Assert
+    assertThat(broadcaster.subscriberCount()).isEqualTo(1);
+    assertThat(registry.get("player.events.slow.disconnects").counter().count()).isZero();
+  }
+
+  private PlayerEventBroadcaster broadcaster(OverflowPolicy policy, int maxSubscribers) {
+    PlayerEventBroadcaster broadcaster = new PlayerEventBroadcaster(executors, BUFFER_SIZE,
+        maxSubscribers, Duration.ofMinutes(1), policy);
+    broadcaster.bindTo(registry);
+    return broadcaster;
+  }
+
+  private UserStatisticsChangedEvent statisticsChanged(Long userId, int stars) {
+    return new UserStatisticsChangedEvent(userId, null,
+        new UserStatisticsChangedEvent.Snapshot(stars, 1, 0, 60),
+        new UserStatisticsDto(1, "00:01:00", 0, 2, stars));
+  }
+}
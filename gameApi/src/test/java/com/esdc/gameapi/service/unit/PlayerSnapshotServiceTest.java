@@ -0,0 +1,167 @@
+package com.esdc.gameapi.service.unit;
+
+import com.esdc.gameapi.config.AsyncExecutors;
+import com.esdc.gameapi.domain.dto.LevelDto;
+import com.esdc.gameapi.domain.dto.PlayerLevelDto;
+import com.esdc.gameapi.domain.dto.PlayerSnapshotDto;
+import com.esdc.gameapi.domain.dto.UserAchievementDto;
+import com.esdc.gameapi.domain.dto.UserResponseDto;
+import com.esdc.gameapi.domain.dto.UserStatisticsDto;
+import com.esdc.gameapi.exception.ResourceNotFoundException;
+import com.esdc.gameapi.repository.ProgressRepository;
+import com.esdc.gameapi.service.AchievementService;
+import com.esdc.gameapi.service.LevelService;
+import com.esdc.gameapi.service.PlayerSnapshotService;
+import com.esdc.gameapi.service.UserService;
+import com.esdc.gameapi.service.UserStatisticsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Player Snapshot Service Unit Tests")
+class PlayerSnapshotServiceTest {
+
+  @Mock
+  private UserService userService;
+
+  @Mock
+  private UserStatisticsService userStatisticsService;
+
+  @Mock
+  private AchievementService achievementService;
+
+  @Mock
+  private LevelService levelService;
+
+  @Mock
+  private ProgressRepository progressRepository;
+
+  @Mock
+  private AsyncExecutors executors;
+
+  @InjectMocks
+  private PlayerSnapshotService snapshotService;
+
+  @BeforeEach
+  void setUp() {
+    lenient().when(executors.snapshots()).thenReturn(new SyncTaskExecutor());
+    lenient().when(levelService.getAllLevels()).thenReturn(List.of(
+        level(1L, "Forest", 3), level(2L, "Castle", 5)));
+    lenient().when(achievementService.getAchievementsByUserId(anyLong()))
+        .thenReturn(Collections.emptyList());
+    lenient().when(progressRepository.findLevelBestsByUserId(anyLong()))
+        .thenReturn(Collections.emptyList());
+  }
+
+  @Test
+  @DisplayName("Should combine all parts of player snapshot")
+  void shouldBuildSnapshot() {
+    // Arrange
+    when(userService.getUserById(1L)).thenReturn(UserResponseDto.builder()
+        .id(1L).nickname("alice").age(20).build());
+    when(userStatisticsService.getStatisticsByUserId(1L)).thenReturn(Optional.of(
+        UserStatisticsDto.builder().totalStars(3).totalLevelsCompleted(1).build()));
+    when(achievementService.getAchievementsByUserId(1L)).thenReturn(List.of(
+        UserAchievementDto.builder().achievementId(5L).achievementName("First Steps").build()));
+    when(progressRepository.findLevelBestsByUserId(1L)).thenReturn(List.of(
+        best(1L, 3, "00:01:10", 4)));
+
+    // Act
+    PlayerSnapshotDto result = snapshotService.getSnapshot(1L);
+
+    // Assert
+    assertThat(result.getUser().getNickname()).isEqualTo("alice");
+    assertThat(result.getStatistics().getTotalStars()).isEqualTo(3);
+    assertThat(result.getStarsProgress().getCurrentStars()).isEqualTo(3);
+    assertThat(result.getStarsProgress().getMaxPossibleStars()).isEqualTo(8);
+    assertThat(result.getStarsProgress().getProgressPercentage()).isEqualTo(37.5);
+    assertThat(result.getAchievements()).extracting(UserAchievementDto::getAchievementId)
+        .containsExactly(5L);
+    assertThat(result.getLevels()).extracting(PlayerLevelDto::getLevelId).containsExactly(1L, 2L);
+    assertThat(result.getLevels().get(0).getBestTime()).isEqualTo("00:01:10");
+    assertThat(result.getLevels().get(0).getAttempts()).isEqualTo(4);
+    assertThat(result.getLevels().get(1).getBestStars()).isNull();
+    assertThat(result.getLevels().get(1).getAttempts()).isZero();
+  }
+
+  @Test
+  @DisplayName("Should report zero progress for player without statistics")
+  void shouldBuildSnapshotWithoutStatistics() {
+    // Arrange
+    when(userService.getUserById(2L)).thenReturn(UserResponseDto.builder()
+        .id(2L).nickname("bob").build());
+    when(userStatisticsService.getStatisticsByUserId(2L)).thenReturn(Optional.empty());
+
+    // Act
+    PlayerSnapshotDto result = snapshotService.getSnapshot(2L);
+
+    // Assert
+    assertThat(result.getStatistics()).isNull();
+    assertThat(result.getStarsProgress().getCurrentStars()).isZero();
+    assertThat(result.getStarsProgress().getProgressPercentage()).isZero();
+  }
+
+  @Test
+  @DisplayName("Should propagate not found exception for unknown user")
+  void shouldThrowExceptionWhenUserNotFound() {
+    // Arrange
+    when(userService.getUserById(999L))
+        .thenThrow(new ResourceNotFoundException("User", "id", 999L));
+    lenient().when(userStatisticsService.getStatisticsByUserId(999L))
+        .thenReturn(Optional.empty());
+
+    // Act & Assert
+    assertThatThrownBy(() -> snapshotService.getSnapshot(999L))
+        .isInstanceOf(ResourceNotFoundException.class)
+        .hasMessageContaining("999");
+  }
+
+  private LevelDto level(Long id, String name, int stars) {
+    return LevelDto.builder()
+        .id(id)
+        .levelName(name)
+        .bossOnLevel(false)
+        .starsOnLevel(stars)
+        .build();
+  }
+
+  private ProgressRepository.LevelBest best(Long levelId, int stars, String time, long attempts) {
+    return new ProgressRepository.LevelBest() {
+      @Override
+      public Long getLevelId() {
+        return levelId;
+      }
+
+      @Override
+      public Integer getBestStars() {
+        return stars;
+      }
+
+      @Override
+      public String getBestTime() {
+        return time;
+      }
+
+      @Override
+      public Long getAttempts() {
+        return attempts;
+      }
+    };
+  }
+}
@@ -4,10 +4,13 @@ import com.esdc.gameapi.domain.dto.ProgressDto;
 import com.esdc.gameapi.domain.entity.Level;
 import com.esdc.gameapi.domain.entity.Progress;
 import com.esdc.gameapi.domain.entity.User;
+import com.esdc.gameapi.domain.event.ProgressCreatedEvent;
 import com.esdc.gameapi.exception.ResourceNotFoundException;
 import com.esdc.gameapi.repository.LevelRepository;
 import com.esdc.gameapi.repository.ProgressRepository;
 import com.esdc.gameapi.repository.UserRepository;
+import com.esdc.gameapi.service.MissingResourceCache;
+import com.esdc.gameapi.service.PipelineMetrics;
 import com.esdc.gameapi.service.AchievementService;
 import com.esdc.gameapi.service.ProgressService;
 import com.esdc.gameapi.service.UserStatisticsService;
@@ -18,8 +21,11 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
@@ -52,6 +58,16 @@ class ProgressServiceTest {
   @Mock
   private AchievementService achievementService;
 
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @Spy
+  private MissingResourceCache missingResources =
+      new MissingResourceCache(Duration.ofSeconds(10), 100);
+
+  @Spy
+  private PipelineMetrics pipelineMetrics = new PipelineMetrics(100);
+
   @InjectMocks
   private ProgressService progressService;
 
@@ -124,6 +140,9 @@ class ProgressServiceTest {
     verify(progressRepository, times(1)).save(any(Progress.class));
     verify(userStatisticsService, times(1)).recalculateUserStatistics(1L);
     verify(achievementService, times(1)).checkAndUnlockAchievements(eq(1L), eq(1L), any(Progress.class));
+    verify(eventPublisher, times(1)).publishEvent(argThat((Object event) ->
+        event instanceof ProgressCreatedEvent created
+            && created.levelId().equals(1L) && created.timeSpent().equals("00:30:15")));
   }
 
   @Test
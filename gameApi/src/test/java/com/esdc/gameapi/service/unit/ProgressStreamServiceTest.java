@@ -0,0 +1,215 @@
+package com.esdc.gameapi.service.unit;
+
+import com.esdc.gameapi.domain.dto.AchievementDto;
+import com.esdc.gameapi.domain.dto.ProgressDto;
+import com.esdc.gameapi.domain.dto.ProgressFrameDto;
+import com.esdc.gameapi.domain.dto.ProgressFrameDto.Type;
+import com.esdc.gameapi.domain.entity.Achievement;
+import com.esdc.gameapi.domain.entity.User;
+import com.esdc.gameapi.domain.entity.UserAchievement;
+import com.esdc.gameapi.repository.*;
+import com.esdc.gameapi.service.AchievementService;
+import com.esdc.gameapi.service.ProgressService;
+import com.esdc.gameapi.service.ProgressStream;
+import com.esdc.gameapi.service.ProgressStreamService;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Progress Stream Service Unit Tests")
+class ProgressStreamServiceTest {
+
+  private static final Long USER_ID = 1L;
+  private static final Long LEVEL_ID = 7L;
+
+  @Mock
+  private AchievementRepository achievementRepository;
+
+  @Mock
+  private UserAchievementRepository userAchievementRepository;
+
+  @Mock
+  private UserRepository userRepository;
+
+  @Mock
+  private UserStatisticsRepository userStatisticsRepository;
+
+  @Mock
+  private LevelRepository levelRepository;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @Mock
+  private ProgressService progressService;
+
+  private ProgressStreamService progressStreamService;
+  private Achievement tenEnemies;
+  private Achievement threePuzzles;
+
+  @BeforeEach
+  void setUp() {
+    AchievementService achievementService = new AchievementService(achievementRepository,
+        userAchievementRepository, userRepository, userStatisticsRepository, levelRepository,
+        eventPublisher);
+    progressStreamService = new ProgressStreamService(achievementRepository,
+        userAchievementRepository, achievementService, progressService,
+        Validation.buildDefaultValidatorFactory().getValidator());
+
+    tenEnemies = Achievement.builder()
+        .id(1L)
+        .achievementName("Slayer")
+        .achievementDescription("Kill 10 enemies in one level")
+        .build();
+    threePuzzles = Achievement.builder()
+        .id(2L)
+        .achievementName("Thinker")
+        .achievementDescription("Solve 3 puzzles in one level")
+        .build();
+    Achievement totalLevels = Achievement.builder()
+        .id(3L)
+        .achievementName("Veteran")
+        .achievementDescription("Complete 10 levels")
+        .build();
+    lenient().when(achievementRepository.findAll())
+        .thenReturn(List.of(tenEnemies, threePuzzles, totalLevels));
+    lenient().when(userAchievementRepository.findByUserId(USER_ID)).thenReturn(List.of());
+  }
+
+  @Test
+  @DisplayName("Should report per-level achievement once when checkpoints reach it")
+  void shouldReportReachedAchievementOnce() {
+    // Arrange
+    ProgressStream stream = progressStreamService.open(USER_ID);
+
+    // Act
+    List<AchievementDto> first = progressStreamService.checkpoint(stream, checkpoint(6, 1));
+    List<AchievementDto> second = progressStreamService.checkpoint(stream, checkpoint(10, 1));
+    List<AchievementDto> third = progressStreamService.checkpoint(stream, checkpoint(12, 1));
+
+    // Assert
+    assertThat(first).isEmpty();
+    assertThat(second).extracting(AchievementDto::getAchievementName).containsExactly("Slayer");
+    assertThat(third).isEmpty();
+    verifyNoInteractions(progressService);
+  }
+
+  @Test
+  @DisplayName("Should not check achievements already unlocked by the player")
+  void shouldSkipUnlockedAchievements() {
+    // Arrange
+    when(userAchievementRepository.findByUserId(USER_ID))
+        .thenReturn(List.of(new UserAchievement(User.builder().id(USER_ID).build(), tenEnemies)));
+    ProgressStream stream = progressStreamService.open(USER_ID);
+
+    // Act
+    List<AchievementDto> reached = progressStreamService.checkpoint(stream, checkpoint(20, 3));
+
+    // Assert
+    assertThat(reached).extracting(AchievementDto::getAchievementName)
+        .containsExactly("Thinker");
+  }
+
+  @Test
+  @DisplayName("Should keep highest totals when checkpoints arrive out of order")
+  void shouldCoalesceCheckpointsIntoFinish() {
+    // Arrange
+    ProgressStream stream = progressStreamService.open(USER_ID);
+    progressStreamService.checkpoint(stream, checkpoint(5, 2));
+    progressStreamService.checkpoint(stream, checkpoint(3, 1));
+    when(progressService.createProgress(eq(USER_ID), any(ProgressDto.class)))
+        .thenAnswer(invocation -> invocation.getArgument(1));
+
+    // Act
+    progressStreamService.finish(stream, ProgressFrameDto.builder()
+        .type(Type.FINISH)
+        .levelId(LEVEL_ID)
+        .timeSpent("00:02:10")
+        .stars(3)
+        .build());
+
+    // Assert
+    ArgumentCaptor<ProgressDto> saved = ArgumentCaptor.forClass(ProgressDto.class);
+    verify(progressService).createProgress(eq(USER_ID), saved.capture());
+    assertThat(saved.getValue().getLevelId()).isEqualTo(LEVEL_ID);
+    assertThat(saved.getValue().getKilledEnemiesNumber()).isEqualTo(5);
+    assertThat(saved.getValue().getSolvedPuzzlesNumber()).isEqualTo(2);
+    assertThat(saved.getValue().getTimeSpent()).isEqualTo("00:02:10");
+    assertThat(stream.getLevelId()).isNull();
+  }
+
+  @Test
+  @DisplayName("Should discard abandoned attempt")
+  void shouldDiscardAbandonedAttempt() {
+    // Arrange
+    ProgressStream stream = progressStreamService.open(USER_ID);
+    progressStreamService.checkpoint(stream, checkpoint(9, 0));
+
+    // Act
+    progressStreamService.abandon(stream);
+    List<AchievementDto> reached = progressStreamService.checkpoint(stream, checkpoint(1, 0));
+
+    // Assert
+    assertThat(reached).isEmpty();
+    assertThat(stream.getLevelId()).isEqualTo(LEVEL_ID);
+    verifyNoInteractions(progressService);
+  }
+
+  @Test
+  @DisplayName("Should reject finish with invalid time without saving")
+  void shouldRejectInvalidFinish() {
+    // Arrange
+    ProgressStream stream = progressStreamService.open(USER_ID);
+    ProgressFrameDto finish = ProgressFrameDto.builder()
+        .type(Type.FINISH)
+        .levelId(LEVEL_ID)
+        .timeSpent("2 minutes")
+        .stars(1)
+        .build();
+
+    // Act & Assert
+    assertThatThrownBy(() -> progressStreamService.finish(stream, finish))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("timeSpent");
+    verifyNoInteractions(progressService);
+  }
+
+  @Test
+  @DisplayName("Should reject frame without level")
+  void shouldRejectFrameWithoutLevel() {
+    // Arrange
+    ProgressStream stream = progressStreamService.open(USER_ID);
+    ProgressFrameDto frame = ProgressFrameDto.builder().type(Type.CHECKPOINT).build();
+
+    // Act & Assert
+    assertThatThrownBy(() -> progressStreamService.checkpoint(stream, frame))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("levelId is required");
+  }
+
+  private ProgressFrameDto checkpoint(int killedEnemies, int solvedPuzzles) {
+    return ProgressFrameDto.builder()
+        .type(Type.CHECKPOINT)
+        .levelId(LEVEL_ID)
+        .killedEnemiesNumber(killedEnemies)
+        .solvedPuzzlesNumber(solvedPuzzles)
+        .build();
+  }
+}
@@ -0,0 +1,242 @@
+package com.esdc.gameapi.service.unit;
+
+import com.esdc.gameapi.domain.dto.SpeedrunEntryDto;
+import com.esdc.gameapi.domain.entity.Level;
+import com.esdc.gameapi.domain.event.ChangeType;
+import com.esdc.gameapi.domain.event.LevelChangedEvent;
+import com.esdc.gameapi.domain.event.ProgressCreatedEvent;
+import com.esdc.gameapi.domain.event.UserDeletedEvent;
+import com.esdc.gameapi.domain.event.UserRenamedEvent;
+import com.esdc.gameapi.exception.ResourceNotFoundException;
+import com.esdc.gameapi.repository.LevelRepository;
+import com.esdc.gameapi.repository.ProgressRepository;
+import com.esdc.gameapi.service.MissingResourceCache;
+import com.esdc.gameapi.service.SpeedrunLeaderboardService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Speedrun Leaderboard Service Unit Tests")
+class SpeedrunLeaderboardServiceTest {
+
+  private static final LocalDateTime START = LocalDateTime.of(2025, 3, 1, 18, 30);
+
+  @Mock
+  private ProgressRepository progressRepository;
+
+  @Mock
+  private LevelRepository levelRepository;
+
+  private MissingResourceCache missingResources =
+      new MissingResourceCache(Duration.ofSeconds(10), 100);
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private SpeedrunLeaderboardService leaderboardService;
+
+  @BeforeEach
+  void setUp() {
+    leaderboardService = new SpeedrunLeaderboardService(progressRepository, levelRepository,
+        missingResources, transactionManager, 2);
+
+    lenient().when(transactionManager.getTransaction(any()))
+        .thenAnswer(invocation -> new SimpleTransactionStatus());
+    lenient().when(levelRepository.findById(anyLong()))
+        .thenAnswer(invocation -> Optional.of(level(invocation.getArgument(0))));
+  }
+
+  @Test
+  @DisplayName("Should load personal bests from progress at startup")
+  void shouldLoadPersonalBestsAtStartup() {
+    // Arrange
+    when(progressRepository.streamRunTimes()).thenReturn(Stream.of(
+        run(1L, 1L, "alice", "00:02:00", START),
+        run(1L, 1L, "alice", "00:01:10", START.plusDays(1)),
+        run(1L, 2L, "bob", "00:01:30", START),
+        run(1L, 3L, "carol", "00:05:00", START),
+        run(2L, 3L, "carol", "00:00:45", START)));
+
+    // Act
+    leaderboardService.initialize();
+    List<SpeedrunEntryDto> result = leaderboardService.getLeaderboard(1L);
+
+    // Assert
+    assertThat(result).extracting(SpeedrunEntryDto::getNickname).containsExactly("alice", "bob");
+    assertThat(result.get(0).getRank()).isEqualTo(1);
+    assertThat(result.get(0).getTimeSpent()).isEqualTo("00:01:10");
+    assertThat(result.get(0).getAchievedAt()).isEqualTo("2025-03-02 18:30:00");
+    assertThat(leaderboardService.getLeaderboard(2L)).hasSize(1);
+    verifyNoInteractions(levelRepository);
+  }
+
+  @Test
+  @DisplayName("Should update board from new runs")
+  void shouldUpdateBoardFromNewRuns() {
+    // Arrange
+    leaderboardService.onProgressCreated(progress(2L, "bob", "00:03:00", START));
+    leaderboardService.onProgressCreated(progress(1L, "alice", "00:04:00", START));
+
+    // Act
+    leaderboardService.onProgressCreated(progress(1L, "alice", "00:02:59", START.plusHours(1)));
+
+    // Assert
+    assertThat(leaderboardService.getLeaderboard(1L))
+        .extracting(SpeedrunEntryDto::getUserId).containsExactly(1L, 2L);
+  }
+
+  @Test
+  @DisplayName("Should skip runs with invalid time")
+  void shouldSkipInvalidTime() {
+    // Act
+    leaderboardService.onProgressCreated(progress(1L, "alice", "fast", START));
+
+    // Assert
+    assertThat(leaderboardService.getLeaderboard(1L)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Should drop board of deleted level")
+  void shouldDropBoardOfDeletedLevel() {
+    // Arrange
+    leaderboardService.onProgressCreated(progress(1L, "alice", "00:01:00", START));
+
+    // Act
+    leaderboardService.onLevelChanged(new LevelChangedEvent(1L, ChangeType.DELETED, true));
+
+    // Assert
+    assertThat(leaderboardService.getLeaderboard(1L)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Should reload board when a ranked user is deleted")
+  void shouldReloadBoardWhenUserDeleted() {
+    // Arrange
+    leaderboardService.onProgressCreated(progress(1L, "alice", "00:01:00", START));
+    leaderboardService.onProgressCreated(progress(2L, "bob", "00:02:00", START));
+    leaderboardService.onProgressCreated(progress(3L, "carol", "00:03:00", START));
+    when(progressRepository.streamRunTimesByLevelId(1L)).thenReturn(Stream.of(
+        run(1L, 2L, "bob", "00:02:00", START),
+        run(1L, 3L, "carol", "00:03:00", START)));
+
+    // Act
+    leaderboardService.onUserDeleted(new UserDeletedEvent(1L, null));
+
+    // Assert
+    assertThat(leaderboardService.getLeaderboard(1L))
+        .extracting(SpeedrunEntryDto::getNickname).containsExactly("bob", "carol");
+    verify(progressRepository, times(1)).streamRunTimesByLevelId(1L);
+  }
+
+  @Test
+  @DisplayName("Should keep runs recorded while a board is reloaded")
+  void shouldKeepRunsRecordedDuringReload() {
+    // Arrange
+    leaderboardService.onProgressCreated(progress(1L, "alice", "00:01:00", START));
+    leaderboardService.onProgressCreated(progress(2L, "bob", "00:02:00", START));
+    when(progressRepository.streamRunTimesByLevelId(1L)).thenAnswer(invocation -> {
+      leaderboardService.onProgressCreated(progress(3L, "carol", "00:00:30", START));
+      return Stream.of(run(1L, 2L, "bob", "00:02:00", START));
+    });
+
+    // Act
+    leaderboardService.onUserDeleted(new UserDeletedEvent(1L, null));
+
+    // Assert
+    assertThat(leaderboardService.getLeaderboard(1L))
+        .extracting(SpeedrunEntryDto::getUserId).containsExactly(3L, 2L);
+  }
+
+  @Test
+  @DisplayName("Should show new nickname of a renamed user")
+  void shouldShowNewNicknameAfterRename() {
+    // Arrange
+    leaderboardService.onProgressCreated(progress(1L, "alice", "00:01:00", START));
+    leaderboardService.onProgressCreated(progress(2L, "bob", "00:02:00", START));
+
+    // Act
+    leaderboardService.onUserRenamed(new UserRenamedEvent(2L, "robert"));
+
+    // Assert
+    assertThat(leaderboardService.getLeaderboard(1L))
+        .extracting(SpeedrunEntryDto::getNickname).containsExactly("alice", "robert");
+  }
+
+  @Test
+  @DisplayName("Should throw exception when level not found")
+  void shouldThrowExceptionWhenLevelNotFound() {
+    // Arrange
+    when(levelRepository.findById(999L)).thenReturn(Optional.empty());
+
+    // Act & Assert
+    assertThatThrownBy(() -> leaderboardService.getLeaderboard(999L))
+        .isInstanceOf(ResourceNotFoundException.class)
+        .hasMessageContaining("Level");
+    assertThatThrownBy(() -> leaderboardService.getLeaderboard(999L))
+        .isInstanceOf(ResourceNotFoundException.class);
+    verify(levelRepository, times(1)).findById(999L);
+  }
+
+  private ProgressCreatedEvent progress(Long userId, String nickname, String timeSpent,
+                                        LocalDateTime createdAt) {
+    return new ProgressCreatedEvent(userId, nickname, 1L, timeSpent, createdAt);
+  }
+
+  private ProgressRepository.RunTime run(Long levelId, Long userId, String nickname,
+                                         String timeSpent, LocalDateTime createdAt) {
+    return new ProgressRepository.RunTime() {
+      @Override
+      public Long getLevelId() {
+        return levelId;
+      }
+
+      @Override
+      public Long getUserId() {
+        return userId;
+      }
+
+      @Override
+      public String getNickname() {
+        return nickname;
+      }
+
+      @Override
+      public String getTimeSpent() {
+        return timeSpent;
+      }
+
+      @Override
+      public LocalDateTime getCreatedAt() {
+        return createdAt;
+      }
+    };
+  }
+
+  private Level level(Long id) {
+    return Level.builder()
+        .id(id)
+        .levelName("Level " + id)
+        .starsOnLevel(3)
+        .bossOnLevel(false)
+        .build();
+  }
+}
@@ -0,0 +1,193 @@
+package com.esdc.gameapi.service.unit;
+
+import com.esdc.gameapi.domain.dto.LeaderboardEntryDto;
+import com.esdc.gameapi.domain.entity.User;
+import com.esdc.gameapi.domain.event.UserDeletedEvent;
+import com.esdc.gameapi.domain.event.UserStatisticsChangedEvent;
+import com.esdc.gameapi.exception.BadRequestException;
+import com.esdc.gameapi.exception.ResourceNotFoundException;
+import com.esdc.gameapi.repository.UserRepository;
+import com.esdc.gameapi.repository.UserStatisticsRepository;
+import com.esdc.gameapi.service.StarsLeaderboardService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Stars Leaderboard Service Unit Tests")
+class StarsLeaderboardServiceTest {
+
+  @Mock
+  private UserStatisticsRepository statisticsRepository;
+
+  @Mock
+  private UserRepository userRepository;
+
+  private StarsLeaderboardService leaderboardService;
+
+  @BeforeEach
+  void setUp() {
+    leaderboardService = new StarsLeaderboardService(statisticsRepository, userRepository, 2, 100);
+  }
+
+  @Test
+  @DisplayName("Should load leaderboard from statistics page by page")
+  void shouldLoadLeaderboardInPages() {
+    // Arrange
+    when(statisticsRepository.findStarsAfter(eq(0L), any(Pageable.class)))
+        .thenReturn(List.of(stars(1L, 10), stars(2L, 30)));
+    when(statisticsRepository.findStarsAfter(eq(2L), any(Pageable.class)))
+        .thenReturn(List.of(stars(3L, 20)));
+    when(statisticsRepository.findStarsAfter(eq(3L), any(Pageable.class)))
+        .thenReturn(Collections.emptyList());
+    when(userRepository.findAllById(List.of(2L, 3L)))
+        .thenReturn(List.of(user(2L, "Alice"), user(3L, "Bob")));
+
+    // Act
+    leaderboardService.initialize();
+    List<LeaderboardEntryDto> top = leaderboardService.getTopPlayers(2);
+
+    // Assert
+    assertThat(leaderboardService.getPlayerCount()).isEqualTo(3);
+    assertThat(top).extracting(LeaderboardEntryDto::getNickname).containsExactly("Alice", "Bob");
+    assertThat(top).extracting(LeaderboardEntryDto::getRank).containsExactly(1L, 2L);
+  }
+
+  @Test
+  @DisplayName("Should apply statistics changes and user deletion")
+  void shouldApplyChanges() {
+    // Arrange
+    when(userRepository.findById(2L)).thenReturn(Optional.of(user(2L, "Alice")));
+    leaderboardService.onStatisticsChanged(changed(1L, 10));
+    leaderboardService.onStatisticsChanged(changed(2L, 5));
+    leaderboardService.onStatisticsChanged(changed(3L, 7));
+
+    // Act
+    leaderboardService.onStatisticsChanged(changed(2L, 12));
+    leaderboardService.onUserDeleted(new UserDeletedEvent(3L, null));
+
+    // Assert
+    LeaderboardEntryDto rank = leaderboardService.getPlayerRank(2L);
+    assertThat(rank.getRank()).isEqualTo(1);
+    assertThat(rank.getTotalStars()).isEqualTo(12);
+    assertThat(rank.getNickname()).isEqualTo("Alice");
+    assertThat(leaderboardService.getPlayerCount()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("Should replace drifted entries on reconcile")
+  void shouldReconcileWithDatabase() {
+    // Arrange
+    when(statisticsRepository.findStarsAfter(anyLong(), any(Pageable.class)))
+        .thenReturn(Collections.emptyList());
+    leaderboardService.initialize();
+    leaderboardService.onStatisticsChanged(changed(1L, 10));
+    leaderboardService.onStatisticsChanged(changed(9L, 50));
+    when(statisticsRepository.findStarsAfter(eq(0L), any(Pageable.class)))
+        .thenReturn(List.of(stars(1L, 15)));
+
+    // Act
+    leaderboardService.reconcile();
+
+    // Assert
+    assertThat(leaderboardService.getPlayerCount()).isEqualTo(1);
+    assertThatThrownBy(() -> leaderboardService.getPlayerRank(9L))
+        .isInstanceOf(ResourceNotFoundException.class);
+  }
+
+  @Test
+  @DisplayName("Should keep changes committed while rebuild is loading")
+  void shouldReplayChangesDuringRebuild() {
+    // Arrange
+    when(statisticsRepository.findStarsAfter(eq(0L), any(Pageable.class))).thenAnswer(inv -> {
+      leaderboardService.onStatisticsChanged(changed(1L, 40));
+      return List.of(stars(1L, 10), stars(2L, 20));
+    });
+    when(statisticsRepository.findStarsAfter(eq(2L), any(Pageable.class)))
+        .thenReturn(Collections.emptyList());
+    when(userRepository.findById(1L)).thenReturn(Optional.empty());
+
+    // Act
+    leaderboardService.rebuild();
+
+    // Assert
+    LeaderboardEntryDto rank = leaderboardService.getPlayerRank(1L);
+    assertThat(rank.getTotalStars()).isEqualTo(40);
+    assertThat(rank.getRank()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should keep current leaderboard when rebuild fails")
+  void shouldKeepLeaderboardWhenRebuildFails() {
+    // Arrange
+    leaderboardService.onStatisticsChanged(changed(1L, 10));
+    when(statisticsRepository.findStarsAfter(anyLong(), any(Pageable.class)))
+        .thenThrow(new IllegalStateException("Database unavailable"));
+
+    // Act
+    leaderboardService.rebuild();
+
+    // Assert
+    assertThat(leaderboardService.getPlayerCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should reject limit out of range")
+  void shouldRejectInvalidLimit() {
+    assertThatThrownBy(() -> leaderboardService.getTopPlayers(0))
+        .isInstanceOf(BadRequestException.class);
+    assertThatThrownBy(() -> leaderboardService.getTopPlayers(101))
+        .isInstanceOf(BadRequestException.class);
+  }
+
+  @Test
+  @DisplayName("Should throw exception when player is not ranked")
+  void shouldThrowExceptionWhenPlayerNotRanked() {
+    assertThatThrownBy(() -> leaderboardService.getPlayerRank(999L))
+        .isInstanceOf(ResourceNotFoundException.class)
+        .hasMessageContaining("999");
+  }
+
+  private UserStatisticsChangedEvent changed(Long userId, int totalStars) {
+    return new UserStatisticsChangedEvent(userId, null,
+        new UserStatisticsChangedEvent.Snapshot(totalStars, 0, 0, 0), null);
+  }
+
+  private UserStatisticsRepository.UserStars stars(Long userId, int totalStars) {
+    return new UserStatisticsRepository.UserStars() {
+      @Override
+      public Long getUserId() {
+        return userId;
+      }
+
+      @Override
+      public Integer getTotalStars() {
+        return totalStars;
+      }
+    };
+  }
+
+  private User user(Long id, String nickname) {
+    return User.builder()
+        .id(id)
+        .nickname(nickname)
+        .passwordHash("hash")
+        .age(20)
+        .build();
+  }
+}
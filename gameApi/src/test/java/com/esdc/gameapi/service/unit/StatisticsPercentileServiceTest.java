@@ -0,0 +1,183 @@
+package com.esdc.gameapi.service.unit;
+
+import com.esdc.gameapi.domain.dto.StatisticsPercentilesDto;
+import com.esdc.gameapi.domain.entity.UserStatistics;
+import com.esdc.gameapi.domain.event.UserDeletedEvent;
+import com.esdc.gameapi.domain.event.UserStatisticsChangedEvent;
+import com.esdc.gameapi.exception.ResourceNotFoundException;
+import com.esdc.gameapi.repository.UserStatisticsRepository;
+import com.esdc.gameapi.service.StatisticsPercentileService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Statistics Percentile Service Unit Tests")
+class StatisticsPercentileServiceTest {
+
+  @Mock
+  private UserStatisticsRepository statisticsRepository;
+
+  private StatisticsPercentileService percentileService;
+
+  @BeforeEach
+  void setUp() {
+    percentileService = new StatisticsPercentileService(statisticsRepository, 5, 2);
+  }
+
+  @Test
+  @DisplayName("Should load histograms page by page and rank player")
+  void shouldLoadHistogramsAndRankPlayer() {
+    // Arrange
+    when(statisticsRepository.findMetricsAfter(eq(0L), any(Pageable.class)))
+        .thenReturn(List.of(metrics(1L, 10, 1, 5, "00:10:00"), metrics(2L, 20, 2, 10, "01:00:00")));
+    when(statisticsRepository.findMetricsAfter(eq(2L), any(Pageable.class)))
+        .thenReturn(List.of(metrics(3L, 30, 3, 15, "02:00:00"), metrics(4L, 40, 4, 20, "03:00:00")));
+    when(statisticsRepository.findMetricsAfter(eq(4L), any(Pageable.class)))
+        .thenReturn(Collections.emptyList());
+    when(statisticsRepository.findByUserId(4L))
+        .thenReturn(Optional.of(statistics(40, 4, 20, "03:00:00")));
+
+    // Act
+    percentileService.initialize();
+    StatisticsPercentilesDto result = percentileService.getPercentiles(4L);
+
+    // Assert
+    assertThat(result.getTotalPlayers()).isEqualTo(4);
+    assertThat(result.getStars().getValue()).isEqualTo(40);
+    assertThat(result.getStars().getPercentile()).isEqualTo(75.0);
+    assertThat(result.getStars().getTopPercent()).isEqualTo(25.0);
+    assertThat(result.getLevelsCompleted().getTopPercent()).isEqualTo(25.0);
+    assertThat(result.getTimePlayed().getValue()).isEqualTo(10800);
+  }
+
+  @Test
+  @DisplayName("Should move player between buckets on statistics change")
+  void shouldApplyStatisticsChanges() {
+    // Arrange
+    percentileService.onStatisticsChanged(changed(1L, null, snapshot(5)));
+    percentileService.onStatisticsChanged(changed(2L, null, snapshot(10)));
+    when(statisticsRepository.findByUserId(1L)).thenReturn(Optional.of(statistics(15, 0, 0, null)));
+
+    // Act
+    percentileService.onStatisticsChanged(changed(1L, snapshot(5), snapshot(15)));
+    StatisticsPercentilesDto result = percentileService.getPercentiles(1L);
+
+    // Assert
+    assertThat(result.getTotalPlayers()).isEqualTo(2);
+    assertThat(result.getStars().getTopPercent()).isEqualTo(50.0);
+    assertThat(result.getStars().getPercentile()).isEqualTo(50.0);
+  }
+
+  @Test
+  @DisplayName("Should remove deleted player from histograms")
+  void shouldRemoveDeletedPlayer() {
+    // Arrange
+    percentileService.onStatisticsChanged(changed(1L, null, snapshot(15)));
+    percentileService.onStatisticsChanged(changed(2L, null, snapshot(10)));
+    percentileService.onStatisticsChanged(changed(3L, null, snapshot(5)));
+    when(statisticsRepository.findByUserId(1L)).thenReturn(Optional.of(statistics(15, 0, 0, null)));
+
+    // Act
+    percentileService.onUserDeleted(new UserDeletedEvent(2L, snapshot(10)));
+    percentileService.onUserDeleted(new UserDeletedEvent(4L, null));
+    StatisticsPercentilesDto result = percentileService.getPercentiles(1L);
+
+    // Assert
+    assertThat(result.getTotalPlayers()).isEqualTo(2);
+    assertThat(result.getStars().getPercentile()).isEqualTo(50.0);
+  }
+
+  @Test
+  @DisplayName("Should keep histograms when rebuild fails")
+  void shouldKeepHistogramsWhenRebuildFails() {
+    // Arrange
+    percentileService.onStatisticsChanged(changed(1L, null, snapshot(5)));
+    when(statisticsRepository.findMetricsAfter(anyLong(), any(Pageable.class)))
+        .thenThrow(new IllegalStateException("Database unavailable"));
+    when(statisticsRepository.findByUserId(1L)).thenReturn(Optional.of(statistics(5, 0, 0, null)));
+
+    // Act
+    percentileService.rebuild();
+
+    // Assert
+    assertThat(percentileService.getPercentiles(1L).getTotalPlayers()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should throw exception when statistics not found")
+  void shouldThrowExceptionWhenStatisticsNotFound() {
+    // Arrange
+    when(statisticsRepository.findByUserId(999L)).thenReturn(Optional.empty());
+
+    // Act & Assert
+    assertThatThrownBy(() -> percentileService.getPercentiles(999L))
+        .isInstanceOf(ResourceNotFoundException.class)
+        .hasMessageContaining("999");
+  }
+
+  private UserStatisticsChangedEvent changed(Long userId,
+                                             UserStatisticsChangedEvent.Snapshot previous,
+                                             UserStatisticsChangedEvent.Snapshot current) {
+    return new UserStatisticsChangedEvent(userId, previous, current, null);
+  }
+
+  private UserStatisticsChangedEvent.Snapshot snapshot(int totalStars) {
+    return new UserStatisticsChangedEvent.Snapshot(totalStars, 0, 0, 0);
+  }
+
+  private UserStatistics statistics(int stars, int levels, int enemies, String time) {
+    return UserStatistics.builder()
+        .totalStars(stars)
+        .totalLevelsCompleted(levels)
+        .totalKilledEnemies(enemies)
+        .totalSolvedPuzzles(0)
+        .totalTimePlayed(time)
+        .build();
+  }
+
+  private UserStatisticsRepository.UserMetrics metrics(Long userId, int stars, int levels,
+                                                       int enemies, String time) {
+    return new UserStatisticsRepository.UserMetrics() {
+      @Override
+      public Long getUserId() {
+        return userId;
+      }
+
+      @Override
+      public Integer getTotalStars() {
+        return stars;
+      }
+
+      @Override
+      public Integer getTotalLevelsCompleted() {
+        return levels;
+      }
+
+      @Override
+      public Integer getTotalKilledEnemies() {
+        return enemies;
+      }
+
+      @Override
+      public String getTotalTimePlayed() {
+        return time;
+      }
+    };
+  }
+}
@@ -0,0 +1,167 @@
+package com.esdc.gameapi.service.unit;
+
+import com.esdc.gameapi.config.AsyncExecutors;
+import com.esdc.gameapi.config.DbConcurrencyBudget;
+import com.esdc.gameapi.domain.JobStatus;
+import com.esdc.gameapi.domain.JobType;
+import com.esdc.gameapi.domain.entity.BackgroundJob;
+import com.esdc.gameapi.domain.event.ChangeType;
+import com.esdc.gameapi.domain.event.LevelChangedEvent;
+import com.esdc.gameapi.repository.BackgroundJobItemRepository;
+import com.esdc.gameapi.service.BackgroundJobService;
+import com.esdc.gameapi.service.ParallelChunkProcessor;
+import com.esdc.gameapi.service.StatisticsRecomputeService;
+import com.esdc.gameapi.service.UserStatisticsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Statistics Recompute Service Unit Tests")
+class StatisticsRecomputeServiceTest {
+
+  private static final int CHUNK_SIZE = 2;
+  private static final int PARALLELISM = 2;
+
+  @Mock
+  private BackgroundJobService jobService;
+
+  @Mock
+  private BackgroundJobItemRepository itemRepository;
+
+  @Mock
+  private UserStatisticsService statisticsService;
+
+  @Mock
+  private AsyncExecutors executors;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private StatisticsRecomputeService recomputeService;
+  private BackgroundJob testJob;
+
+  @BeforeEach
+  void setUp() {
+    ParallelChunkProcessor chunkProcessor = new ParallelChunkProcessor(jobService, executors,
+        new DbConcurrencyBudget(1), transactionManager, CHUNK_SIZE, PARALLELISM);
+    recomputeService = new StatisticsRecomputeService(
+        jobService, itemRepository, statisticsService, chunkProcessor);
+
+    lenient().when(transactionManager.getTransaction(any()))
+        .thenAnswer(invocation -> new SimpleTransactionStatus());
+    lenient().when(executors.workers()).thenReturn(new SyncTaskExecutor());
+
+    testJob = BackgroundJob.builder()
+        .id(3L)
+        .jobType(JobType.STATISTICS_RECOMPUTE)
+        .targetId(7L)
+        .status(JobStatus.RUNNING)
+        .cursorId(0L)
+        .processedItems(0L)
+        .affectedItems(0L)
+        .build();
+  }
+
+  @Test
+  @DisplayName("Should snapshot players of a level whose stars changed")
+  void shouldSnapshotPlayersWhenStarsChanged() {
+    // Arrange
+    when(jobService.enqueue(JobType.STATISTICS_RECOMPUTE, 7L)).thenReturn(testJob);
+    when(itemRepository.snapshotUsersWithProgressOnLevel(3L, 7L)).thenReturn(12);
+
+    // Act
+    recomputeService.onLevelChanged(new LevelChangedEvent(7L, ChangeType.UPDATED, true));
+
+    // Assert
+    verify(itemRepository, times(1)).snapshotUsersWithProgressOnLevel(3L, 7L);
+  }
+
+  @Test
+  @DisplayName("Should snapshot players of a deleted level")
+  void shouldSnapshotPlayersWhenLevelDeleted() {
+    // Arrange
+    when(jobService.enqueue(JobType.STATISTICS_RECOMPUTE, 7L)).thenReturn(testJob);
+
+    // Act
+    recomputeService.onLevelChanged(new LevelChangedEvent(7L, ChangeType.DELETED, true));
+
+    // Assert
+    verify(itemRepository, times(1)).snapshotUsersWithProgressOnLevel(3L, 7L);
+  }
+
+  @Test
+  @DisplayName("Should ignore level changes that keep the star count")
+  void shouldIgnoreChangesWithoutStarChange() {
+    // Act
+    recomputeService.onLevelChanged(new LevelChangedEvent(7L, ChangeType.UPDATED, false));
+    recomputeService.onLevelChanged(new LevelChangedEvent(8L, ChangeType.CREATED, false));
+
+    // Assert
+    verifyNoInteractions(jobService, itemRepository);
+  }
+
+  @Test
+  @DisplayName("Should estimate total from snapshotted players")
+  void shouldEstimateTotalFromSnapshot() {
+    // Arrange
+    when(itemRepository.countByJobId(3L)).thenReturn(5L);
+
+    // Act & Assert
+    assertThat(recomputeService.estimateTotal(testJob)).isEqualTo(5L);
+  }
+
+  @Test
+  @DisplayName("Should recompute snapshotted players in chunks and advance cursor")
+  void shouldRecomputeInChunks() {
+    // Arrange
+    when(itemRepository.findItemIdsAfter(3L, 0L, PageRequest.of(0, CHUNK_SIZE * PARALLELISM)))
+        .thenReturn(List.of(4L, 9L, 15L));
+    when(itemRepository.findItemIdsAfter(3L, 15L, PageRequest.of(0, CHUNK_SIZE * PARALLELISM)))
+        .thenReturn(Collections.emptyList());
+    when(statisticsService.recalculateUserStatistics(anyCollection()))
+        .thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+    when(jobService.advance(eq(3L), anyLong(), anyLong(), anyLong())).thenReturn(true);
+
+    // Act
+    boolean finished = recomputeService.run(testJob);
+
+    // Assert
+    assertThat(finished).isTrue();
+    verify(statisticsService).recalculateUserStatistics(List.of(4L, 9L));
+    verify(statisticsService).recalculateUserStatistics(List.of(15L));
+    verify(jobService).advance(3L, 15L, 3L, 3L);
+  }
+
+  @Test
+  @DisplayName("Should stop when job is cancelled")
+  void shouldStopWhenJobCancelled() {
+    // Arrange
+    when(itemRepository.findItemIdsAfter(3L, 0L, PageRequest.of(0, CHUNK_SIZE * PARALLELISM)))
+        .thenReturn(List.of(4L));
+    when(jobService.advance(eq(3L), anyLong(), anyLong(), anyLong())).thenReturn(false);
+
+    // Act
+    boolean finished = recomputeService.run(testJob);
+
+    // Assert
+    assertThat(finished).isFalse();
+    verify(itemRepository, never()).findItemIdsAfter(eq(3L), eq(4L), any());
+  }
+}
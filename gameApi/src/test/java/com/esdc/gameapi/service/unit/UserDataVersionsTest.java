@@ -0,0 +1,89 @@
+package com.esdc.gameapi.service.unit;
+
+import com.esdc.gameapi.domain.event.AchievementChangedEvent;
+import com.esdc.gameapi.domain.event.ChangeType;
+import com.esdc.gameapi.domain.event.ProgressCreatedEvent;
+import com.esdc.gameapi.domain.event.UserDeletedEvent;
+import com.esdc.gameapi.domain.event.UserStatisticsChangedEvent;
+import com.esdc.gameapi.service.UserDataVersions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+@DisplayName("User Data Versions Tests")
+class UserDataVersionsTest {
+
+  private UserDataVersions versions;
+
+  @BeforeEach
+  void setUp() {
+    versions = new UserDataVersions();
+  }
+
+  @Test
+  @DisplayName("Should keep ETags stable until user data changes")
+  void shouldKeepEtagsStable() {
+    assertThat(versions.statisticsEtag(1L)).isEqualTo(versions.statisticsEtag(1L));
+    assertThat(versions.achievementsEtag(1L)).isEqualTo(versions.achievementsEtag(1L));
+    assertThat(versions.statisticsEtag(1L)).isNotEqualTo(versions.statisticsEtag(2L));
+    assertThat(versions.statisticsEtag(1L)).isNotEqualTo(versions.achievementsEtag(1L));
+  }
+
+  @Test
+  @DisplayName("Should change only affected user's ETags after progress")
+  void shouldChangeEtagsAfterProgress() {
+    // Arrange
+    String statistics = versions.statisticsEtag(1L);
+    String achievements = versions.achievementsEtag(1L);
+    String otherUser = versions.statisticsEtag(2L);
+
+    // Act
+    versions.onProgressCreated(
+        new ProgressCreatedEvent(1L, "player", 10L, "00:01:00", LocalDateTime.now()));
+
+    // Assert
+    assertThat(versions.statisticsEtag(1L)).isNotEqualTo(statistics);
+    assertThat(versions.achievementsEtag(1L)).isNotEqualTo(achievements);
+    assertThat(versions.statisticsEtag(2L)).isEqualTo(otherUser);
+  }
+
+  @Test
+  @DisplayName("Should change ETags after statistics change and user deletion")
+  void shouldChangeEtagsAfterStatisticsChangeAndDeletion() {
+    // Arrange
+    String initial = versions.statisticsEtag(1L);
+
+    // Act
+    versions.onStatisticsChanged(new UserStatisticsChangedEvent(1L, null,
+        new UserStatisticsChangedEvent.Snapshot(3, 1, 5, 60), null));
+    String afterRecalculation = versions.statisticsEtag(1L);
+    versions.onUserDeleted(new UserDeletedEvent(1L, null));
+
+    // Assert
+    assertThat(afterRecalculation).isNotEqualTo(initial);
+    assertThat(versions.statisticsEtag(1L)).isNotIn(initial, afterRecalculation);
+  }
+
+  @Test
+  @DisplayName("Should change every user's achievements ETag after achievement change")
+  void shouldChangeAchievementsEtagsAfterAchievementChange() {
+    // Arrange
+    String statistics = versions.statisticsEtag(1L);
+    String first = versions.achievementsEtag(1L);
+    String second = versions.achievementsEtag(2L);
+
+    // Act
+    versions.onAchievementChanged(new AchievementChangedEvent(7L, ChangeType.UPDATED));
+
+    // Assert
+    assertThat(versions.achievementsEtag(1L)).isNotEqualTo(first);
+    assertThat(versions.achievementsEtag(2L)).isNotEqualTo(second);
+    assertThat(versions.statisticsEtag(1L)).isEqualTo(statistics);
+  }
+}
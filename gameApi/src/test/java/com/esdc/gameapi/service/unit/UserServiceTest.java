@@ -5,11 +5,16 @@ import com.esdc.gameapi.domain.dto.UserLoginDto;
 import com.esdc.gameapi.domain.dto.UserRegistrationDto;
 import com.esdc.gameapi.domain.dto.UserResponseDto;
 import com.esdc.gameapi.domain.entity.User;
+import com.esdc.gameapi.domain.event.UserDeletedEvent;
+import com.esdc.gameapi.domain.event.UserRenamedEvent;
+import com.esdc.gameapi.domain.event.UserStatisticsChangedEvent;
 import com.esdc.gameapi.exception.DuplicateResourceException;
 import com.esdc.gameapi.exception.ResourceNotFoundException;
 import com.esdc.gameapi.repository.UserRepository;
 import com.esdc.gameapi.security.JwtUtil;
+import com.esdc.gameapi.service.MissingResourceCache;
 import com.esdc.gameapi.service.UserService;
+import com.esdc.gameapi.service.UserStatisticsService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,12 +23,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
@@ -50,6 +58,16 @@ class UserServiceTest {
   @Mock
   private AuthenticationManager authenticationManager;
 
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @Spy
+  private MissingResourceCache missingResources =
+      new MissingResourceCache(Duration.ofSeconds(10), 100);
+
+  @Mock
+  private UserStatisticsService userStatisticsService;
+
   @InjectMocks
   private UserService userService;
 
@@ -334,6 +352,7 @@ class UserServiceTest {
     verify(userRepository, times(1)).findById(1L);
     verify(passwordEncoder, times(1)).encode("newpassword");
     verify(userRepository, times(1)).save(any(User.class));
+    verify(eventPublisher, times(1)).publishEvent(new UserRenamedEvent(1L, "updateduser"));
   }
 
   @Test
@@ -377,7 +396,7 @@ class UserServiceTest {
     // Assert
     verify(userRepository).save(userCaptor.capture());
     User savedUser = userCaptor.getValue();
-    assertThat(savedUser.getPasswordHash()).isEqualTo("encodedNewPassword");
+    assertThat(savedUser.getPasswordHash()).isEqualTo("encodedNewPassword");    verify(eventPublisher, never()).publishEvent(any(UserRenamedEvent.class));
   }
 
   @Test
@@ -413,7 +432,10 @@ class UserServiceTest {
   @DisplayName("Should delete user successfully")
   void shouldDeleteUserSuccessfully() {
     // Arrange
+    UserStatisticsChangedEvent.Snapshot statistics =
+        new UserStatisticsChangedEvent.Snapshot(5, 2, 10, 600);
     when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+    when(userStatisticsService.findSnapshot(1L)).thenReturn(Optional.of(statistics));
     doNothing().when(userRepository).delete(testUser);
 
     // Act
@@ -422,6 +444,7 @@ class UserServiceTest {
     // Assert
     verify(userRepository, times(1)).findById(1L);
     verify(userRepository, times(1)).delete(testUser);
+    verify(eventPublisher, times(1)).publishEvent(new UserDeletedEvent(1L, statistics));
   }
 
   @Test
@@ -441,6 +464,24 @@ class UserServiceTest {
     verify(userRepository, never()).delete(any(User.class));
   }
 
+  // ========== Get User Tests ==========
+
+  @Test
+  @Tag("unit")
+  @DisplayName("Should get user by ID successfully")
+  void shouldGetUserByIdSuccessfully() {
+    // Arrange
+    when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+
+    // Act
+    UserResponseDto result = userService.getUserById(1L);
+
+    // Assert
+    assertThat(result.getId()).isEqualTo(1L);
+    assertThat(result.getNickname()).isEqualTo("testuser");
+    assertThat(result.getAge()).isEqualTo(25);
+  }
+
   // ========== Get User Nickname Tests ==========
 
   @Test
@@ -6,11 +6,14 @@ import com.esdc.gameapi.domain.entity.Level;
 import com.esdc.gameapi.domain.entity.Progress;
 import com.esdc.gameapi.domain.entity.User;
 import com.esdc.gameapi.domain.entity.UserStatistics;
+import com.esdc.gameapi.domain.event.UserStatisticsChangedEvent;
 import com.esdc.gameapi.exception.ResourceNotFoundException;
 import com.esdc.gameapi.repository.LevelRepository;
 import com.esdc.gameapi.repository.ProgressRepository;
 import com.esdc.gameapi.repository.UserRepository;
 import com.esdc.gameapi.repository.UserStatisticsRepository;
+import com.esdc.gameapi.service.MissingResourceCache;
+import com.esdc.gameapi.service.PipelineMetrics;
 import com.esdc.gameapi.service.UserStatisticsService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -19,9 +22,13 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -49,6 +56,16 @@ class UserStatisticsServiceTest {
   @Mock
   private LevelRepository levelRepository;
 
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @Spy
+  private MissingResourceCache missingResources =
+      new MissingResourceCache(Duration.ofSeconds(10), 100);
+
+  @Spy
+  private PipelineMetrics pipelineMetrics = new PipelineMetrics(100);
+
   @InjectMocks
   private UserStatisticsService statisticsService;
 
@@ -173,6 +190,9 @@ class UserStatisticsServiceTest {
     verify(userRepository, times(1)).findById(1L);
     verify(progressRepository, times(1)).findByUserId(1L);
     verify(statisticsRepository, times(1)).save(any(UserStatistics.class));
+    verify(eventPublisher, times(1)).publishEvent(new UserStatisticsChangedEvent(1L,
+        new UserStatisticsChangedEvent.Snapshot(5, 2, 50, 9045),
+        new UserStatisticsChangedEvent.Snapshot(5, 2, 25, 6345), result));
   }
 
   @Test
@@ -191,6 +211,61 @@ class UserStatisticsServiceTest {
     verify(userRepository, times(1)).findById(999L);
     verify(progressRepository, never()).findByUserId(any());
     verify(statisticsRepository, never()).save(any());
+    verifyNoInteractions(eventPublisher);
+  }
+
+  @Test
+  @Tag("unit")
+  @DisplayName("Should recalculate statistics for a batch of users")
+  void shouldRecalculateStatisticsForBatch() {
+    // Arrange
+    User secondUser = User.builder()
+        .id(2L)
+        .nickname("seconduser")
+        .passwordHash("hash")
+        .age(30)
+        .build();
+
+    when(progressRepository.findByUserIdInWithLevel(List.of(1L, 2L, 3L)))
+        .thenReturn(Arrays.asList(testProgress1, testProgress2));
+    when(statisticsRepository.findByUserIdIn(List.of(1L, 2L, 3L)))
+        .thenReturn(List.of(testStatistics));
+    when(userRepository.findAllById(List.of(2L, 3L))).thenReturn(List.of(secondUser));
+
+    // Act
+    int recalculated = statisticsService.recalculateUserStatistics(List.of(1L, 2L, 3L));
+
+    // Assert
+    assertThat(recalculated).isEqualTo(2);
+    assertThat(testStatistics.getTotalStars()).isEqualTo(5);
+    assertThat(testStatistics.getTotalLevelsCompleted()).isEqualTo(2);
+    assertThat(testStatistics.getTotalTimePlayed()).isEqualTo("01:45:45");
+    verify(statisticsRepository).saveAll(argThat(saved -> {
+      List<UserStatistics> list = new ArrayList<>();
+      saved.forEach(list::add);
+      return list.size() == 2 && list.stream().anyMatch(stats -> stats.getUser() == secondUser
+          && stats.getTotalStars() == 0 && stats.getTotalTimePlayed().equals("00:00:00"));
+    }));
+    verify(progressRepository, never()).findByUserId(any());
+    verify(eventPublisher).publishEvent(new UserStatisticsChangedEvent(1L,
+        new UserStatisticsChangedEvent.Snapshot(5, 2, 50, 9045),
+        new UserStatisticsChangedEvent.Snapshot(5, 2, 25, 6345),
+        new UserStatisticsDto(2, "01:45:45", 25, testStatistics.getTotalSolvedPuzzles(), 5)));
+    verify(eventPublisher).publishEvent(new UserStatisticsChangedEvent(2L, null,
+        new UserStatisticsChangedEvent.Snapshot(0, 0, 0, 0),
+        new UserStatisticsDto(0, "00:00:00", 0, 0, 0)));
+  }
+
+  @Test
+  @Tag("unit")
+  @DisplayName("Should skip batch recalculation for empty input")
+  void shouldSkipEmptyBatch() {
+    // Act
+    int recalculated = statisticsService.recalculateUserStatistics(Collections.emptyList());
+
+    // Assert
+    assertThat(recalculated).isZero();
+    verifyNoInteractions(progressRepository, statisticsRepository, userRepository);
   }
 
   @Test
@@ -0,0 +1,139 @@
+package com.esdc.gameapi.slowrequest;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+@DisplayName("Slow Request Log Tests")
+class SlowRequestLogTest {
+
+  private static final int PER_WINDOW = 3;
+  private static final Duration WINDOW = Duration.ofMinutes(1);
+  private static final Duration RETENTION = Duration.ofMinutes(5);
+
+  private MutableClock clock;
+  private SlowRequestLog log;
+
+  @BeforeEach
+  void setUp() {
+    clock = new MutableClock(Instant.parse("2025-01-01T10:00:00Z"));
+    log = new SlowRequestLog(PER_WINDOW, WINDOW, RETENTION, clock);
+  }
+
+  @Test
+  @DisplayName("Should keep only the slowest requests of a window, slowest first")
+  void shouldKeepSlowestRequests() {
+    // Arrange
+    double[] durations = {5, 120, 40, 3000, 80, 1};
+
+    // Act
+    for (double duration : durations) {
+      offer(duration);
+    }
+
+    // Assert
+    List<SlowRequestLog.WindowReport> windows = log.windows();
+    assertThat(windows).hasSize(1);
+    assertThat(windows.getFirst().start()).isEqualTo(Instant.parse("2025-01-01T10:00:00Z"));
+    assertThat(windows.getFirst().requests())
+        .extracting(SlowRequest::durationMs)
+        .containsExactly(3000.0, 120.0, 80.0);
+  }
+
+  @Test
+  @DisplayName("Should reject requests faster than a full window")
+  void shouldRejectFastRequestsOnceFull() {
+    // Arrange
+    offer(100);
+    offer(200);
+
+    // Act & Assert
+    assertThat(log.isSlow(clock.instant(), 1)).isTrue();
+    offer(300);
+    assertThat(log.isSlow(clock.instant(), 99)).isFalse();
+    assertThat(log.isSlow(clock.instant(), 101)).isTrue();
+  }
+
+  @Test
+  @DisplayName("Should start new window each period and list newest first")
+  void shouldRotateWindows() {
+    // Arrange
+    offer(10);
+    clock.advance(WINDOW);
+    offer(20);
+    clock.advance(WINDOW.multipliedBy(2));
+
+    // Act
+    offer(30);
+
+    // Assert
+    assertThat(log.windows())
+        .extracting(window -> window.requests().getFirst().durationMs())
+        .containsExactly(30.0, 20.0, 10.0);
+    assertThat(log.isSlow(clock.instant(), 1)).isTrue();
+  }
+
+  @Test
+  @DisplayName("Should drop windows older than retention")
+  void shouldDropWindowsOlderThanRetention() {
+    // Arrange
+    offer(10);
+    Instant expired = clock.instant();
+
+    // Act
+    clock.advance(RETENTION);
+    offer(20);
+
+    // Assert
+    assertThat(log.windows())
+        .extracting(window -> window.requests().getFirst().durationMs())
+        .containsExactly(20.0);
+    assertThat(log.isSlow(expired, 1000)).isFalse();
+  }
+
+  private void offer(double durationMs) {
+    log.offer(new SlowRequest(clock.instant(), "POST", "/api/progress",
+        "ProgressController#createProgress", 201, 1L, durationMs, 4, 1.5,
+        Map.of("persist", 0.5), new SlowRequest.ThreadSnapshot("http-nio-1", false, 1.0, 2.0)));
+  }
+
+  private static final class MutableClock extends Clock {
+
+    private Instant now;
+
+    private MutableClock(Instant now) {
+      this.now = now;
+    }
+
+    void advance(Duration duration) {
+      now = now.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+  }
+}
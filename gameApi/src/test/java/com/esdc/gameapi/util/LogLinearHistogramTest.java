@@ -0,0 +1,117 @@
+package com.esdc.gameapi.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@Tag("unit")
+@DisplayName("Log-Linear Histogram Tests")
+class LogLinearHistogramTest {
+
+  @Test
+  @DisplayName("Should rank small values exactly")
+  void shouldRankSmallValuesExactly() {
+    // Arrange
+    LogLinearHistogram histogram = new LogLinearHistogram(5);
+    for (int value = 0; value < 10; value++) {
+      histogram.record(value);
+    }
+
+    // Act
+    LogLinearHistogram.Rank rank = histogram.rank(8);
+
+    // Assert
+    assertThat(rank.percentile()).isEqualTo(80.0);
+    assertThat(rank.topPercent()).isEqualTo(20.0);
+    assertThat(histogram.count()).isEqualTo(10);
+  }
+
+  @Test
+  @DisplayName("Should return null rank for empty histogram")
+  void shouldReturnNullForEmptyHistogram() {
+    assertThat(new LogLinearHistogram(5).rank(10)).isNull();
+  }
+
+  @Test
+  @DisplayName("Should move value between buckets on replace")
+  void shouldReplaceValue() {
+    // Arrange
+    LogLinearHistogram histogram = new LogLinearHistogram(3);
+    histogram.record(1);
+    histogram.record(2);
+    histogram.record(3);
+
+    // Act
+    histogram.replace(1, 4608);
+
+    // Assert
+    assertThat(histogram.count()).isEqualTo(3);
+    assertThat(histogram.rank(4608).topPercent()).isCloseTo(33.33, within(0.01));
+    assertThat(histogram.rank(2).percentile()).isEqualTo(0.0);
+  }
+
+  @Test
+  @DisplayName("Should not go below zero when removing unrecorded value")
+  void shouldIgnoreRemovalOfUnrecordedValue() {
+    // Arrange
+    LogLinearHistogram histogram = new LogLinearHistogram(5);
+    histogram.record(10);
+
+    // Act
+    histogram.remove(20);
+
+    // Assert
+    assertThat(histogram.count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should handle extreme values")
+  void shouldHandleExtremeValues() {
+    // Arrange
+    LogLinearHistogram histogram = new LogLinearHistogram(5);
+
+    // Act
+    histogram.record(Integer.MAX_VALUE);
+    histogram.record(-5);
+
+    // Assert
+    assertThat(histogram.count()).isEqualTo(2);
+    assertThat(histogram.rank(0).percentile()).isEqualTo(0.0);
+    assertThat(histogram.rank(Integer.MAX_VALUE).topPercent()).isGreaterThan(0.0);
+  }
+
+  @Test
+  @DisplayName("Should estimate percentiles of large values within bucket precision")
+  void shouldEstimateLargeValues() {
+    // Arrange
+    Random random = new Random(11);
+    int[] values = new int[10_000];
+    LogLinearHistogram histogram = new LogLinearHistogram(5);
+    for (int i = 0; i < values.length; i++) {
+      values[i] = (int) Math.min(Integer.MAX_VALUE, Math.exp(random.nextDouble() * 15));
+      histogram.record(values[i]);
+    }
+    Arrays.sort(values);
+
+    // Act & Assert
+    for (int probe : new int[] {50, 1_000, 25_000, 400_000}) {
+      long below = Arrays.stream(values).filter(value -> value < probe).count();
+      double exact = below * 100.0 / values.length;
+      assertThat(histogram.rank(probe).percentile()).isCloseTo(exact, within(1.0));
+    }
+  }
+
+  @Test
+  @DisplayName("Should reject invalid precision")
+  void shouldRejectInvalidPrecision() {
+    assertThatThrownBy(() -> new LogLinearHistogram(0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,137 @@
+package com.esdc.gameapi.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Tag("unit")
+@DisplayName("Personal Best Board Tests")
+class PersonalBestBoardTest {
+
+  private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+  @Test
+  @DisplayName("Should keep only personal best of each player")
+  void shouldKeepPersonalBest() {
+    // Arrange
+    PersonalBestBoard board = new PersonalBestBoard(3);
+
+    // Act
+    boolean first = board.offer(1L, "alice", 90, START);
+    boolean slower = board.offer(1L, "alice", 120, START.plusMinutes(1));
+    boolean faster = board.offer(1L, "alice", 60, START.plusMinutes(2));
+
+    // Assert
+    assertThat(first).isTrue();
+    assertThat(slower).isFalse();
+    assertThat(faster).isTrue();
+    assertThat(board.entries()).containsExactly(
+        new PersonalBestBoard.Entry(1L, "alice", 60, START.plusMinutes(2)));
+  }
+
+  @Test
+  @DisplayName("Should evict slowest player when full")
+  void shouldEvictSlowestWhenFull() {
+    // Arrange
+    PersonalBestBoard board = new PersonalBestBoard(2);
+    board.offer(1L, "alice", 100, START);
+    board.offer(2L, "bob", 50, START);
+
+    // Act
+    boolean rejected = board.offer(3L, "carol", 150, START);
+    boolean accepted = board.offer(3L, "carol", 70, START);
+
+    // Assert
+    assertThat(rejected).isFalse();
+    assertThat(accepted).isTrue();
+    assertThat(board.entries()).extracting(PersonalBestBoard.Entry::userId)
+        .containsExactly(2L, 3L);
+    assertThat(board.contains(1L)).isFalse();
+  }
+
+  @Test
+  @DisplayName("Should rank equal times by who achieved them first")
+  void shouldBreakTiesByAchievementTime() {
+    // Arrange
+    PersonalBestBoard board = new PersonalBestBoard(2);
+    board.offer(1L, "alice", 60, START.plusMinutes(5));
+    board.offer(2L, "bob", 60, START);
+
+    // Act
+    boolean lateTie = board.offer(3L, "carol", 60, START.plusMinutes(10));
+
+    // Assert
+    assertThat(lateTie).isFalse();
+    assertThat(board.entries()).extracting(PersonalBestBoard.Entry::userId)
+        .containsExactly(2L, 1L);
+  }
+
+  @Test
+  @DisplayName("Should rename player without changing rank")
+  void shouldRenameInPlace() {
+    // Arrange
+    PersonalBestBoard board = new PersonalBestBoard(2);
+    board.offer(1L, "alice", 60, START);
+    board.offer(2L, "bob", 90, START);
+
+    // Act
+    boolean renamed = board.rename(2L, "robert");
+    boolean absent = board.rename(3L, "carol");
+
+    // Assert
+    assertThat(renamed).isTrue();
+    assertThat(absent).isFalse();
+    assertThat(board.entries()).containsExactly(
+        new PersonalBestBoard.Entry(1L, "alice", 60, START),
+        new PersonalBestBoard.Entry(2L, "robert", 90, START));
+  }
+
+  @Test
+  @DisplayName("Should reject non-positive capacity")
+  void shouldRejectInvalidCapacity() {
+    assertThatThrownBy(() -> new PersonalBestBoard(0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DisplayName("Should match top personal bests regardless of run order")
+  void shouldMatchTopPersonalBests() {
+    // Arrange
+    Random random = new Random(7);
+    List<long[]> runs = new ArrayList<>();
+    for (int i = 0; i < 2000; i++) {
+      runs.add(new long[] {1 + random.nextInt(100), random.nextInt(3600), i});
+    }
+    Collections.shuffle(runs, random);
+    PersonalBestBoard board = new PersonalBestBoard(10);
+    Map<Long, long[]> best = new HashMap<>();
+
+    // Act
+    for (long[] run : runs) {
+      LocalDateTime achievedAt = START.plusSeconds(run[2]);
+      board.offer(run[0], "player" + run[0], (int) run[1], achievedAt);
+      best.merge(run[0], run, (a, b) -> a[1] < b[1] || (a[1] == b[1] && a[2] < b[2]) ? a : b);
+    }
+
+    // Assert
+    List<Long> expected = best.values().stream()
+        .sorted(Comparator.<long[]>comparingLong(run -> run[1]).thenComparingLong(run -> run[2]))
+        .limit(10)
+        .map(run -> run[0])
+        .toList();
+    assertThat(board.entries()).extracting(PersonalBestBoard.Entry::userId)
+        .containsExactlyElementsOf(expected);
+  }
+}
@@ -0,0 +1,91 @@
+package com.esdc.gameapi.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+@DisplayName("Rendered Body Tests")
+class RenderedBodyTest {
+
+  private static final byte[] JSON = "[{\"id\":1,\"levelName\":\"Forest\"}]"
+      .getBytes(StandardCharsets.UTF_8);
+
+  @Test
+  @DisplayName("Should serve plain body when client does not accept gzip")
+  void shouldServePlainBody() {
+    // Arrange
+    RenderedBody rendered = RenderedBody.of(MediaType.APPLICATION_JSON, JSON);
+
+    // Act
+    ResponseEntity<byte[]> response = rendered.toResponse(null);
+
+    // Assert
+    assertThat(response.getBody()).isEqualTo(JSON);
+    assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+    assertThat(response.getHeaders().getETag()).isEqualTo(rendered.etag());
+    assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+    assertThat(response.getHeaders().getVary())
+        .containsExactly(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+  }
+
+  @Test
+  @DisplayName("Should serve gzip body with its own strong ETag")
+  void shouldServeGzipBody() throws IOException {
+    // Arrange
+    RenderedBody rendered = RenderedBody.of(MediaType.APPLICATION_JSON, JSON);
+
+    // Act
+    ResponseEntity<byte[]> response = rendered.toResponse("br, gzip;q=0.8, deflate");
+
+    // Assert
+    assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+    assertThat(response.getHeaders().getETag())
+        .startsWith("\"")
+        .endsWith("-gzip\"")
+        .isNotEqualTo(rendered.etag());
+    try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getBody()))) {
+      assertThat(in.readAllBytes()).isEqualTo(JSON);
+    }
+  }
+
+  @Test
+  @DisplayName("Should not serve gzip when client refuses it")
+  void shouldRespectZeroQuality() {
+    assertThat(RenderedBody.of(MediaType.APPLICATION_JSON, JSON).toResponse("gzip; q=0").getBody()).isEqualTo(JSON);
+  }
+
+  @Test
+  @DisplayName("Should keep content type of rendered format")
+  void shouldKeepContentType() {
+    // Arrange
+    MediaType cbor = MediaType.parseMediaType("application/cbor");
+
+    // Act
+    ResponseEntity<byte[]> response = RenderedBody.of(cbor, JSON).toResponse("gzip");
+
+    // Assert
+    assertThat(response.getHeaders().getContentType()).isEqualTo(cbor);
+  }
+
+  @Test
+  @DisplayName("Should derive ETag from content")
+  void shouldDeriveEtagFromContent() {
+    // Arrange
+    byte[] other = "[]".getBytes(StandardCharsets.UTF_8);
+
+    // Act & Assert
+    assertThat(RenderedBody.of(MediaType.APPLICATION_JSON, JSON.clone()).etag()).isEqualTo(RenderedBody.of(MediaType.APPLICATION_JSON, JSON).etag());
+    assertThat(RenderedBody.of(MediaType.APPLICATION_JSON, other).etag()).isNotEqualTo(RenderedBody.of(MediaType.APPLICATION_JSON, JSON).etag());
+  }
+}
@@ -0,0 +1,171 @@
+package com.esdc.gameapi.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Tag("unit")
+@DisplayName("Score Rank Index Tests")
+class ScoreRankIndexTest {
+
+  private ScoreRankIndex index;
+
+  @BeforeEach
+  void setUp() {
+    index = new ScoreRankIndex();
+  }
+
+  @Test
+  @DisplayName("Should rank players by score with shared rank for ties")
+  void shouldRankPlayersWithTies() {
+    // Arrange
+    index.put(1L, 10);
+    index.put(2L, 30);
+    index.put(3L, 20);
+    index.put(4L, 20);
+
+    // Act & Assert
+    assertThat(index.get(2L).rank()).isEqualTo(1);
+    assertThat(index.get(3L).rank()).isEqualTo(2);
+    assertThat(index.get(4L).rank()).isEqualTo(2);
+    assertThat(index.get(1L).rank()).isEqualTo(4);
+    assertThat(index.get(99L)).isNull();
+  }
+
+  @Test
+  @DisplayName("Should return top players ordered by score then user ID")
+  void shouldReturnTopPlayers() {
+    // Arrange
+    index.put(5L, 20);
+    index.put(1L, 10);
+    index.put(2L, 30);
+    index.put(3L, 20);
+
+    // Act
+    List<ScoreRankIndex.Entry> top = index.top(3);
+
+    // Assert
+    assertThat(top).containsExactly(
+        new ScoreRankIndex.Entry(1, 2L, 30),
+        new ScoreRankIndex.Entry(2, 3L, 20),
+        new ScoreRankIndex.Entry(2, 5L, 20));
+    assertThat(index.top(10)).hasSize(4);
+  }
+
+  @Test
+  @DisplayName("Should move player when score changes")
+  void shouldMovePlayerOnUpdate() {
+    // Arrange
+    index.put(1L, 10);
+    index.put(2L, 20);
+
+    // Act
+    index.put(1L, 25);
+
+    // Assert
+    assertThat(index.get(1L).rank()).isEqualTo(1);
+    assertThat(index.get(2L).rank()).isEqualTo(2);
+    assertThat(index.size()).isEqualTo(2);
+    assertThat(index.top(10)).extracting(ScoreRankIndex.Entry::userId).containsExactly(1L, 2L);
+  }
+
+  @Test
+  @DisplayName("Should remove player")
+  void shouldRemovePlayer() {
+    // Arrange
+    index.put(1L, 10);
+    index.put(2L, 20);
+
+    // Act
+    boolean removed = index.remove(2L);
+
+    // Assert
+    assertThat(removed).isTrue();
+    assertThat(index.remove(2L)).isFalse();
+    assertThat(index.get(1L).rank()).isEqualTo(1);
+    assertThat(index.size()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should keep ranks when scores exceed initial capacity")
+  void shouldGrowBeyondInitialCapacity() {
+    // Arrange
+    index.put(1L, 5);
+    index.put(2L, 63);
+
+    // Act
+    index.put(3L, 1000);
+
+    // Assert
+    assertThat(index.get(3L).rank()).isEqualTo(1);
+    assertThat(index.get(2L).rank()).isEqualTo(2);
+    assertThat(index.get(1L).rank()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("Should reject negative score")
+  void shouldRejectNegativeScore() {
+    assertThatThrownBy(() -> index.put(1L, -1))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DisplayName("Should accept maximum score and reject scores above it")
+  void shouldBoundScores() {
+    // Arrange
+    index.put(1L, 5);
+
+    // Act
+    index.put(2L, ScoreRankIndex.MAX_SCORE);
+
+    // Assert
+    assertThat(index.get(2L).rank()).isEqualTo(1);
+    assertThat(index.get(1L).rank()).isEqualTo(2);
+    assertThatThrownBy(() -> index.put(3L, ScoreRankIndex.MAX_SCORE + 1))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> index.put(3L, Integer.MAX_VALUE))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThat(index.size()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("Should match ranks computed by sorting")
+  void shouldMatchSortedRanks() {
+    // Arrange
+    Random random = new Random(42);
+    List<long[]> players = new ArrayList<>();
+    for (long userId = 1; userId <= 500; userId++) {
+      int score = random.nextInt(200);
+      index.put(userId, score);
+      players.add(new long[] {userId, score});
+    }
+    for (long userId = 1; userId <= 500; userId += 7) {
+      int score = random.nextInt(300);
+      index.put(userId, score);
+      players.set((int) userId - 1, new long[] {userId, score});
+    }
+
+    // Act & Assert
+    for (long[] player : players) {
+      long higher = players.stream().filter(other -> other[1] > player[1]).count();
+      assertThat(index.get(player[0]).rank()).isEqualTo(higher + 1);
+    }
+    List<Long> expectedTop = players.stream()
+        .sorted(Comparator.<long[]>comparingLong(player -> -player[1])
+            .thenComparingLong(player -> player[0]))
+        .limit(20)
+        .map(player -> player[0])
+        .toList();
+    assertThat(index.top(20)).extracting(ScoreRankIndex.Entry::userId)
+        .containsExactlyElementsOf(expectedTop);
+  }
+}